@@ -30,6 +30,9 @@ public class EventBusOptionsConverter {
     if (json.getValue("acceptBacklog") instanceof Number) {
       obj.setAcceptBacklog(((Number)json.getValue("acceptBacklog")).intValue());
     }
+    if (json.getValue("binaryJson") instanceof Boolean) {
+      obj.setBinaryJson((Boolean)json.getValue("binaryJson"));
+    }
     if (json.getValue("clientAuth") instanceof String) {
       obj.setClientAuth(io.vertx.core.http.ClientAuth.valueOf((String)json.getValue("clientAuth")));
     }
@@ -150,10 +153,14 @@ public class EventBusOptionsConverter {
     if (json.getValue("usePooledBuffers") instanceof Boolean) {
       obj.setUsePooledBuffers((Boolean)json.getValue("usePooledBuffers"));
     }
+    if (json.getValue("writeBatching") instanceof Boolean) {
+      obj.setWriteBatching((Boolean)json.getValue("writeBatching"));
+    }
   }
 
   public static void toJson(EventBusOptions obj, JsonObject json) {
     json.put("acceptBacklog", obj.getAcceptBacklog());
+    json.put("binaryJson", obj.isBinaryJson());
     if (obj.getClientAuth() != null) {
       json.put("clientAuth", obj.getClientAuth().name());
     }
@@ -228,5 +235,6 @@ public class EventBusOptionsConverter {
     }
     json.put("useAlpn", obj.isUseAlpn());
     json.put("usePooledBuffers", obj.isUsePooledBuffers());
+    json.put("writeBatching", obj.isWriteBatching());
   }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014 Red Hat, Inc.
+ *
+ * Red Hat licenses this file to you under the Apache License, version 2.0
+ * (the "License"); you may not use this file except in compliance with the
+ * License.  You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Converter for {@link io.vertx.core.http.EndpointGroupOptions}.
+ *
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.http.EndpointGroupOptions} original class using Vert.x codegen.
+ */
+public class EndpointGroupOptionsConverter {
+
+  public static void fromJson(JsonObject json, EndpointGroupOptions obj) {
+    if (json.getValue("ejectionTime") instanceof Number) {
+      obj.setEjectionTime(((Number)json.getValue("ejectionTime")).intValue());
+    }
+    if (json.getValue("failureThreshold") instanceof Number) {
+      obj.setFailureThreshold(((Number)json.getValue("failureThreshold")).intValue());
+    }
+    if (json.getValue("latencyDecay") instanceof Number) {
+      obj.setLatencyDecay(((Number)json.getValue("latencyDecay")).intValue());
+    }
+    if (json.getValue("refreshPeriod") instanceof Number) {
+      obj.setRefreshPeriod(((Number)json.getValue("refreshPeriod")).intValue());
+    }
+  }
+
+  public static void toJson(EndpointGroupOptions obj, JsonObject json) {
+    json.put("ejectionTime", obj.getEjectionTime());
+    json.put("failureThreshold", obj.getFailureThreshold());
+    json.put("latencyDecay", obj.getLatencyDecay());
+    json.put("refreshPeriod", obj.getRefreshPeriod());
+  }
+}
\ No newline at end of file
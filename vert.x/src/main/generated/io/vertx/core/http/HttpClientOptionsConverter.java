@@ -35,6 +35,12 @@ public class HttpClientOptionsConverter {
       });
       obj.setAlpnVersions(list);
     }
+    if (json.getValue("coalescingHeaders") instanceof JsonArray) {
+      json.getJsonArray("coalescingHeaders").forEach(item -> {
+        if (item instanceof String)
+          obj.addCoalescingHeader((String)item);
+      });
+    }
     if (json.getValue("decoderInitialBufferSize") instanceof Number) {
       obj.setDecoderInitialBufferSize(((Number)json.getValue("decoderInitialBufferSize")).intValue());
     }
@@ -47,6 +53,15 @@ public class HttpClientOptionsConverter {
     if (json.getValue("forceSni") instanceof Boolean) {
       obj.setForceSni((Boolean)json.getValue("forceSni"));
     }
+    if (json.getValue("hedgingBudget") instanceof Number) {
+      obj.setHedgingBudget(((Number)json.getValue("hedgingBudget")).intValue());
+    }
+    if (json.getValue("hedgingDelay") instanceof Number) {
+      obj.setHedgingDelay(((Number)json.getValue("hedgingDelay")).intValue());
+    }
+    if (json.getValue("hedgingPercentile") instanceof Number) {
+      obj.setHedgingPercentile(((Number)json.getValue("hedgingPercentile")).intValue());
+    }
     if (json.getValue("http2ClearTextUpgrade") instanceof Boolean) {
       obj.setHttp2ClearTextUpgrade((Boolean)json.getValue("http2ClearTextUpgrade"));
     }
@@ -65,6 +80,9 @@ public class HttpClientOptionsConverter {
     if (json.getValue("keepAlive") instanceof Boolean) {
       obj.setKeepAlive((Boolean)json.getValue("keepAlive"));
     }
+    if (json.getValue("keepAliveTimeout") instanceof Number) {
+      obj.setKeepAliveTimeout(((Number)json.getValue("keepAliveTimeout")).intValue());
+    }
     if (json.getValue("maxChunkSize") instanceof Number) {
       obj.setMaxChunkSize(((Number)json.getValue("maxChunkSize")).intValue());
     }
@@ -74,6 +92,9 @@ public class HttpClientOptionsConverter {
     if (json.getValue("maxInitialLineLength") instanceof Number) {
       obj.setMaxInitialLineLength(((Number)json.getValue("maxInitialLineLength")).intValue());
     }
+    if (json.getValue("maxLifetime") instanceof Number) {
+      obj.setMaxLifetime(((Number)json.getValue("maxLifetime")).intValue());
+    }
     if (json.getValue("maxPoolSize") instanceof Number) {
       obj.setMaxPoolSize(((Number)json.getValue("maxPoolSize")).intValue());
     }
@@ -89,24 +110,63 @@ public class HttpClientOptionsConverter {
     if (json.getValue("maxWebsocketMessageSize") instanceof Number) {
       obj.setMaxWebsocketMessageSize(((Number)json.getValue("maxWebsocketMessageSize")).intValue());
     }
+    if (json.getValue("minIdleSize") instanceof Number) {
+      obj.setMinIdleSize(((Number)json.getValue("minIdleSize")).intValue());
+    }
     if (json.getValue("pipelining") instanceof Boolean) {
       obj.setPipelining((Boolean)json.getValue("pipelining"));
     }
     if (json.getValue("pipeliningLimit") instanceof Number) {
       obj.setPipeliningLimit(((Number)json.getValue("pipeliningLimit")).intValue());
     }
+    if (json.getValue("poolCleanerPeriod") instanceof Number) {
+      obj.setPoolCleanerPeriod(((Number)json.getValue("poolCleanerPeriod")).intValue());
+    }
+    if (json.getValue("poolPerEventLoop") instanceof Boolean) {
+      obj.setPoolPerEventLoop((Boolean)json.getValue("poolPerEventLoop"));
+    }
     if (json.getValue("protocolVersion") instanceof String) {
       obj.setProtocolVersion(io.vertx.core.http.HttpVersion.valueOf((String)json.getValue("protocolVersion")));
     }
+    if (json.getValue("requestCoalescing") instanceof Boolean) {
+      obj.setRequestCoalescing((Boolean)json.getValue("requestCoalescing"));
+    }
+    if (json.getValue("responseCacheDir") instanceof String) {
+      obj.setResponseCacheDir((String)json.getValue("responseCacheDir"));
+    }
+    if (json.getValue("responseCacheMaxSize") instanceof Number) {
+      obj.setResponseCacheMaxSize(((Number)json.getValue("responseCacheMaxSize")).intValue());
+    }
     if (json.getValue("sendUnmaskedFrames") instanceof Boolean) {
       obj.setSendUnmaskedFrames((Boolean)json.getValue("sendUnmaskedFrames"));
     }
     if (json.getValue("tryUseCompression") instanceof Boolean) {
       obj.setTryUseCompression((Boolean)json.getValue("tryUseCompression"));
     }
+    if (json.getValue("tryUsePerMessageWebsocketCompression") instanceof Boolean) {
+      obj.setTryUsePerMessageWebsocketCompression((Boolean)json.getValue("tryUsePerMessageWebsocketCompression"));
+    }
     if (json.getValue("verifyHost") instanceof Boolean) {
       obj.setVerifyHost((Boolean)json.getValue("verifyHost"));
     }
+    if (json.getValue("websocketCompressionAllowClientNoContext") instanceof Boolean) {
+      obj.setWebsocketCompressionAllowClientNoContext((Boolean)json.getValue("websocketCompressionAllowClientNoContext"));
+    }
+    if (json.getValue("websocketCompressionAllowClientWindowBits") instanceof Boolean) {
+      obj.setWebsocketCompressionAllowClientWindowBits((Boolean)json.getValue("websocketCompressionAllowClientWindowBits"));
+    }
+    if (json.getValue("websocketCompressionLevel") instanceof Number) {
+      obj.setWebsocketCompressionLevel(((Number)json.getValue("websocketCompressionLevel")).intValue());
+    }
+    if (json.getValue("websocketCompressionMinFrameSize") instanceof Number) {
+      obj.setWebsocketCompressionMinFrameSize(((Number)json.getValue("websocketCompressionMinFrameSize")).intValue());
+    }
+    if (json.getValue("websocketCompressionRequestServerNoContext") instanceof Boolean) {
+      obj.setWebsocketCompressionRequestServerNoContext((Boolean)json.getValue("websocketCompressionRequestServerNoContext"));
+    }
+    if (json.getValue("websocketCompressionRequestedServerWindowBits") instanceof Number) {
+      obj.setWebsocketCompressionRequestedServerWindowBits(((Number)json.getValue("websocketCompressionRequestedServerWindowBits")).intValue());
+    }
   }
 
   public static void toJson(HttpClientOptions obj, JsonObject json) {
@@ -115,12 +175,20 @@ public class HttpClientOptionsConverter {
       obj.getAlpnVersions().forEach(item -> array.add(item.name()));
       json.put("alpnVersions", array);
     }
+    if (obj.getCoalescingHeaders() != null) {
+      JsonArray array = new JsonArray();
+      obj.getCoalescingHeaders().forEach(item -> array.add(item));
+      json.put("coalescingHeaders", array);
+    }
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
     if (obj.getDefaultHost() != null) {
       json.put("defaultHost", obj.getDefaultHost());
     }
     json.put("defaultPort", obj.getDefaultPort());
     json.put("forceSni", obj.isForceSni());
+    json.put("hedgingBudget", obj.getHedgingBudget());
+    json.put("hedgingDelay", obj.getHedgingDelay());
+    json.put("hedgingPercentile", obj.getHedgingPercentile());
     json.put("http2ClearTextUpgrade", obj.isHttp2ClearTextUpgrade());
     json.put("http2ConnectionWindowSize", obj.getHttp2ConnectionWindowSize());
     json.put("http2MaxPoolSize", obj.getHttp2MaxPoolSize());
@@ -129,21 +197,38 @@ public class HttpClientOptionsConverter {
       json.put("initialSettings", obj.getInitialSettings().toJson());
     }
     json.put("keepAlive", obj.isKeepAlive());
+    json.put("keepAliveTimeout", obj.getKeepAliveTimeout());
     json.put("maxChunkSize", obj.getMaxChunkSize());
     json.put("maxHeaderSize", obj.getMaxHeaderSize());
     json.put("maxInitialLineLength", obj.getMaxInitialLineLength());
+    json.put("maxLifetime", obj.getMaxLifetime());
     json.put("maxPoolSize", obj.getMaxPoolSize());
     json.put("maxRedirects", obj.getMaxRedirects());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
     json.put("maxWebsocketFrameSize", obj.getMaxWebsocketFrameSize());
     json.put("maxWebsocketMessageSize", obj.getMaxWebsocketMessageSize());
+    json.put("minIdleSize", obj.getMinIdleSize());
     json.put("pipelining", obj.isPipelining());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
+    json.put("poolCleanerPeriod", obj.getPoolCleanerPeriod());
+    json.put("poolPerEventLoop", obj.isPoolPerEventLoop());
     if (obj.getProtocolVersion() != null) {
       json.put("protocolVersion", obj.getProtocolVersion().name());
     }
+    json.put("requestCoalescing", obj.isRequestCoalescing());
+    if (obj.getResponseCacheDir() != null) {
+      json.put("responseCacheDir", obj.getResponseCacheDir());
+    }
+    json.put("responseCacheMaxSize", obj.getResponseCacheMaxSize());
     json.put("sendUnmaskedFrames", obj.isSendUnmaskedFrames());
     json.put("tryUseCompression", obj.isTryUseCompression());
+    json.put("tryUsePerMessageWebsocketCompression", obj.isTryUsePerMessageWebsocketCompression());
     json.put("verifyHost", obj.isVerifyHost());
+    json.put("websocketCompressionAllowClientNoContext", obj.isWebsocketCompressionAllowClientNoContext());
+    json.put("websocketCompressionAllowClientWindowBits", obj.isWebsocketCompressionAllowClientWindowBits());
+    json.put("websocketCompressionLevel", obj.getWebsocketCompressionLevel());
+    json.put("websocketCompressionMinFrameSize", obj.getWebsocketCompressionMinFrameSize());
+    json.put("websocketCompressionRequestServerNoContext", obj.isWebsocketCompressionRequestServerNoContext());
+    json.put("websocketCompressionRequestedServerWindowBits", obj.getWebsocketCompressionRequestedServerWindowBits());
   }
 }
\ No newline at end of file
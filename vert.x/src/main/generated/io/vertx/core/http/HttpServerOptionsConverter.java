@@ -38,9 +38,18 @@ public class HttpServerOptionsConverter {
       });
       obj.setAlpnVersions(list);
     }
+    if (json.getValue("compressedContentTypes") instanceof JsonArray) {
+      json.getJsonArray("compressedContentTypes").forEach(item -> {
+        if (item instanceof String)
+          obj.addCompressedContentType((String)item);
+      });
+    }
     if (json.getValue("compressionLevel") instanceof Number) {
       obj.setCompressionLevel(((Number)json.getValue("compressionLevel")).intValue());
     }
+    if (json.getValue("compressionMinSize") instanceof Number) {
+      obj.setCompressionMinSize(((Number)json.getValue("compressionMinSize")).intValue());
+    }
     if (json.getValue("compressionSupported") instanceof Boolean) {
       obj.setCompressionSupported((Boolean)json.getValue("compressionSupported"));
     }
@@ -50,6 +59,12 @@ public class HttpServerOptionsConverter {
     if (json.getValue("decompressionSupported") instanceof Boolean) {
       obj.setDecompressionSupported((Boolean)json.getValue("decompressionSupported"));
     }
+    if (json.getValue("fileCacheSize") instanceof Number) {
+      obj.setFileCacheSize(((Number)json.getValue("fileCacheSize")).intValue());
+    }
+    if (json.getValue("fileCacheValidity") instanceof Number) {
+      obj.setFileCacheValidity(((Number)json.getValue("fileCacheValidity")).longValue());
+    }
     if (json.getValue("handle100ContinueAutomatically") instanceof Boolean) {
       obj.setHandle100ContinueAutomatically((Boolean)json.getValue("handle100ContinueAutomatically"));
     }
@@ -62,18 +77,69 @@ public class HttpServerOptionsConverter {
     if (json.getValue("maxChunkSize") instanceof Number) {
       obj.setMaxChunkSize(((Number)json.getValue("maxChunkSize")).intValue());
     }
+    if (json.getValue("maxConcurrentRequests") instanceof Number) {
+      obj.setMaxConcurrentRequests(((Number)json.getValue("maxConcurrentRequests")).intValue());
+    }
     if (json.getValue("maxHeaderSize") instanceof Number) {
       obj.setMaxHeaderSize(((Number)json.getValue("maxHeaderSize")).intValue());
     }
     if (json.getValue("maxInitialLineLength") instanceof Number) {
       obj.setMaxInitialLineLength(((Number)json.getValue("maxInitialLineLength")).intValue());
     }
+    if (json.getValue("maxMultipartBodySize") instanceof Number) {
+      obj.setMaxMultipartBodySize(((Number)json.getValue("maxMultipartBodySize")).longValue());
+    }
+    if (json.getValue("maxMultipartPartSize") instanceof Number) {
+      obj.setMaxMultipartPartSize(((Number)json.getValue("maxMultipartPartSize")).longValue());
+    }
+    if (json.getValue("maxRequestBodySize") instanceof Number) {
+      obj.setMaxRequestBodySize(((Number)json.getValue("maxRequestBodySize")).longValue());
+    }
     if (json.getValue("maxWebsocketFrameSize") instanceof Number) {
       obj.setMaxWebsocketFrameSize(((Number)json.getValue("maxWebsocketFrameSize")).intValue());
     }
     if (json.getValue("maxWebsocketMessageSize") instanceof Number) {
       obj.setMaxWebsocketMessageSize(((Number)json.getValue("maxWebsocketMessageSize")).intValue());
     }
+    if (json.getValue("perMessageWebsocketCompressionSupported") instanceof Boolean) {
+      obj.setPerMessageWebsocketCompressionSupported((Boolean)json.getValue("perMessageWebsocketCompressionSupported"));
+    }
+    if (json.getValue("precompressedFilesSupported") instanceof Boolean) {
+      obj.setPrecompressedFilesSupported((Boolean)json.getValue("precompressedFilesSupported"));
+    }
+    if (json.getValue("rangeRequestsSupported") instanceof Boolean) {
+      obj.setRangeRequestsSupported((Boolean)json.getValue("rangeRequestsSupported"));
+    }
+    if (json.getValue("registerWebsocketWriteHandlers") instanceof Boolean) {
+      obj.setRegisterWebsocketWriteHandlers((Boolean)json.getValue("registerWebsocketWriteHandlers"));
+    }
+    if (json.getValue("sendDateHeader") instanceof Boolean) {
+      obj.setSendDateHeader((Boolean)json.getValue("sendDateHeader"));
+    }
+    if (json.getValue("uncompressedContentTypes") instanceof JsonArray) {
+      json.getJsonArray("uncompressedContentTypes").forEach(item -> {
+        if (item instanceof String)
+          obj.addUncompressedContentType((String)item);
+      });
+    }
+    if (json.getValue("websocketAllowServerNoContext") instanceof Boolean) {
+      obj.setWebsocketAllowServerNoContext((Boolean)json.getValue("websocketAllowServerNoContext"));
+    }
+    if (json.getValue("websocketAllowServerWindowBits") instanceof Boolean) {
+      obj.setWebsocketAllowServerWindowBits((Boolean)json.getValue("websocketAllowServerWindowBits"));
+    }
+    if (json.getValue("websocketCompressionLevel") instanceof Number) {
+      obj.setWebsocketCompressionLevel(((Number)json.getValue("websocketCompressionLevel")).intValue());
+    }
+    if (json.getValue("websocketCompressionMinFrameSize") instanceof Number) {
+      obj.setWebsocketCompressionMinFrameSize(((Number)json.getValue("websocketCompressionMinFrameSize")).intValue());
+    }
+    if (json.getValue("websocketPreferredClientNoContext") instanceof Boolean) {
+      obj.setWebsocketPreferredClientNoContext((Boolean)json.getValue("websocketPreferredClientNoContext"));
+    }
+    if (json.getValue("websocketPreferredClientWindowBits") instanceof Number) {
+      obj.setWebsocketPreferredClientWindowBits(((Number)json.getValue("websocketPreferredClientWindowBits")).intValue());
+    }
     if (json.getValue("websocketSubProtocols") instanceof String) {
       obj.setWebsocketSubProtocols((String)json.getValue("websocketSubProtocols"));
     }
@@ -86,20 +152,48 @@ public class HttpServerOptionsConverter {
       obj.getAlpnVersions().forEach(item -> array.add(item.name()));
       json.put("alpnVersions", array);
     }
+    if (obj.getCompressedContentTypes() != null) {
+      JsonArray array = new JsonArray();
+      obj.getCompressedContentTypes().forEach(item -> array.add(item));
+      json.put("compressedContentTypes", array);
+    }
     json.put("compressionLevel", obj.getCompressionLevel());
+    json.put("compressionMinSize", obj.getCompressionMinSize());
     json.put("compressionSupported", obj.isCompressionSupported());
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
     json.put("decompressionSupported", obj.isDecompressionSupported());
+    json.put("fileCacheSize", obj.getFileCacheSize());
+    json.put("fileCacheValidity", obj.getFileCacheValidity());
     json.put("handle100ContinueAutomatically", obj.isHandle100ContinueAutomatically());
     json.put("http2ConnectionWindowSize", obj.getHttp2ConnectionWindowSize());
     if (obj.getInitialSettings() != null) {
       json.put("initialSettings", obj.getInitialSettings().toJson());
     }
     json.put("maxChunkSize", obj.getMaxChunkSize());
+    json.put("maxConcurrentRequests", obj.getMaxConcurrentRequests());
     json.put("maxHeaderSize", obj.getMaxHeaderSize());
     json.put("maxInitialLineLength", obj.getMaxInitialLineLength());
+    json.put("maxMultipartBodySize", obj.getMaxMultipartBodySize());
+    json.put("maxMultipartPartSize", obj.getMaxMultipartPartSize());
+    json.put("maxRequestBodySize", obj.getMaxRequestBodySize());
     json.put("maxWebsocketFrameSize", obj.getMaxWebsocketFrameSize());
     json.put("maxWebsocketMessageSize", obj.getMaxWebsocketMessageSize());
+    json.put("perMessageWebsocketCompressionSupported", obj.isPerMessageWebsocketCompressionSupported());
+    json.put("precompressedFilesSupported", obj.isPrecompressedFilesSupported());
+    json.put("rangeRequestsSupported", obj.isRangeRequestsSupported());
+    json.put("registerWebsocketWriteHandlers", obj.isRegisterWebsocketWriteHandlers());
+    json.put("sendDateHeader", obj.isSendDateHeader());
+    if (obj.getUncompressedContentTypes() != null) {
+      JsonArray array = new JsonArray();
+      obj.getUncompressedContentTypes().forEach(item -> array.add(item));
+      json.put("uncompressedContentTypes", array);
+    }
+    json.put("websocketAllowServerNoContext", obj.isWebsocketAllowServerNoContext());
+    json.put("websocketAllowServerWindowBits", obj.isWebsocketAllowServerWindowBits());
+    json.put("websocketCompressionLevel", obj.getWebsocketCompressionLevel());
+    json.put("websocketCompressionMinFrameSize", obj.getWebsocketCompressionMinFrameSize());
+    json.put("websocketPreferredClientNoContext", obj.isWebsocketPreferredClientNoContext());
+    json.put("websocketPreferredClientWindowBits", obj.getWebsocketPreferredClientWindowBits());
     if (obj.getWebsocketSubProtocols() != null) {
       json.put("websocketSubProtocols", obj.getWebsocketSubProtocols());
     }
@@ -39,12 +39,18 @@ public class NetServerOptionsConverter {
     if (json.getValue("host") instanceof String) {
       obj.setHost((String)json.getValue("host"));
     }
+    if (json.getValue("maxConnections") instanceof Number) {
+      obj.setMaxConnections(((Number)json.getValue("maxConnections")).intValue());
+    }
     if (json.getValue("port") instanceof Number) {
       obj.setPort(((Number)json.getValue("port")).intValue());
     }
     if (json.getValue("sni") instanceof Boolean) {
       obj.setSni((Boolean)json.getValue("sni"));
     }
+    if (json.getValue("sniCacheSize") instanceof Number) {
+      obj.setSniCacheSize(((Number)json.getValue("sniCacheSize")).intValue());
+    }
   }
 
   public static void toJson(NetServerOptions obj, JsonObject json) {
@@ -56,7 +62,9 @@ public class NetServerOptionsConverter {
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
+    json.put("maxConnections", obj.getMaxConnections());
     json.put("port", obj.getPort());
     json.put("sni", obj.isSni());
+    json.put("sniCacheSize", obj.getSniCacheSize());
   }
 }
\ No newline at end of file
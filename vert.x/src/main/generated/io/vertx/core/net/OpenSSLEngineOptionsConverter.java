@@ -30,11 +30,22 @@ public class OpenSSLEngineOptionsConverter {
     if (json.getValue("sessionCacheEnabled") instanceof Boolean) {
       obj.setSessionCacheEnabled((Boolean)json.getValue("sessionCacheEnabled"));
     }
+    if (json.getValue("sessionTicketKeys") instanceof JsonArray) {
+      json.getJsonArray("sessionTicketKeys").forEach(item -> {
+        if (item instanceof String)
+          obj.addSessionTicketKey(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)item)));
+      });
+    }
   }
 
   public static void toJson(OpenSSLEngineOptions obj, JsonObject json) {
     json.put("alpnAvailable", obj.isAlpnAvailable());
     json.put("available", obj.isAvailable());
     json.put("sessionCacheEnabled", obj.isSessionCacheEnabled());
+    if (obj.getSessionTicketKeys() != null) {
+      JsonArray array = new JsonArray();
+      obj.getSessionTicketKeys().forEach(item -> array.add(item.getBytes()));
+      json.put("sessionTicketKeys", array);
+    }
   }
 }
\ No newline at end of file
@@ -81,6 +81,15 @@ public class TCPSSLOptionsConverter {
     if (json.getValue("ssl") instanceof Boolean) {
       obj.setSsl((Boolean)json.getValue("ssl"));
     }
+    if (json.getValue("sslHandshakePoolSize") instanceof Number) {
+      obj.setSslHandshakePoolSize(((Number)json.getValue("sslHandshakePoolSize")).intValue());
+    }
+    if (json.getValue("sslSessionCacheSize") instanceof Number) {
+      obj.setSslSessionCacheSize(((Number)json.getValue("sslSessionCacheSize")).intValue());
+    }
+    if (json.getValue("sslSessionTimeout") instanceof Number) {
+      obj.setSslSessionTimeout(((Number)json.getValue("sslSessionTimeout")).intValue());
+    }
     if (json.getValue("tcpKeepAlive") instanceof Boolean) {
       obj.setTcpKeepAlive((Boolean)json.getValue("tcpKeepAlive"));
     }
@@ -96,6 +105,9 @@ public class TCPSSLOptionsConverter {
     if (json.getValue("usePooledBuffers") instanceof Boolean) {
       obj.setUsePooledBuffers((Boolean)json.getValue("usePooledBuffers"));
     }
+    if (json.getValue("writeBatching") instanceof Boolean) {
+      obj.setWriteBatching((Boolean)json.getValue("writeBatching"));
+    }
   }
 
   public static void toJson(TCPSSLOptions obj, JsonObject json) {
@@ -143,6 +155,9 @@ public class TCPSSLOptionsConverter {
     }
     json.put("soLinger", obj.getSoLinger());
     json.put("ssl", obj.isSsl());
+    json.put("sslHandshakePoolSize", obj.getSslHandshakePoolSize());
+    json.put("sslSessionCacheSize", obj.getSslSessionCacheSize());
+    json.put("sslSessionTimeout", obj.getSslSessionTimeout());
     json.put("tcpKeepAlive", obj.isTcpKeepAlive());
     json.put("tcpNoDelay", obj.isTcpNoDelay());
     if (obj.getTrustStoreOptions() != null) {
@@ -150,5 +165,6 @@ public class TCPSSLOptionsConverter {
     }
     json.put("useAlpn", obj.isUseAlpn());
     json.put("usePooledBuffers", obj.isUsePooledBuffers());
+    json.put("writeBatching", obj.isWriteBatching());
   }
 }
\ No newline at end of file
@@ -74,6 +74,15 @@ public class Examples {
     int intVal = jsonObject.getInteger("some-other-key");
   }
 
+  public void exampleLazy(HttpServerRequest request) {
+    request.bodyHandler(buff -> {
+      JsonObject jsonObject = JsonObject.lazy(buff);
+      String type = jsonObject.getString("type");
+      // Forwarded verbatim since the object was not modified
+      request.response().end(jsonObject.toBuffer());
+    });
+  }
+
   public void example3() {
     JsonArray array = new JsonArray();
     array.add("foo").add(123).add(false);
@@ -68,6 +68,37 @@
  * {@link docoverride.json.Examples#example2}
  * ----
  *
+ * ==== Lazily parsed JSON objects
+ *
+ * When a JSON object is mostly forwarded, you can create it with {@link io.vertx.core.json.JsonObject#lazy}. The
+ * fields are only decoded when they are accessed and the original bytes are emitted verbatim when the object is
+ * encoded again without having been modified:
+ *
+ * [source,java]
+ * ----
+ * {@link docoverride.json.Examples#exampleLazy}
+ * ----
+ *
+ * JSON objects received from the event bus are lazily parsed in the same way.
+ *
+ * ==== Immutable JSON objects
+ *
+ * {@link io.vertx.core.json.JsonObject#immutableCopy()} creates a copy of a JSON object that cannot be modified.
+ * Copying an immutable JSON object is cheap: the copy shares the entries of the immutable object and only copies
+ * the parts it modifies. JSON objects published on the event bus or put in a local shared map are stored as
+ * immutable copies, so that each receiver or each `get` only pays for such a copy.
+ *
+ * ==== Binary JSON
+ *
+ * {@link io.vertx.core.json.Json#encodeToBinary(java.lang.Object)} encodes a JSON object, a JSON array or a Java object
+ * as binary JSON (Smile) and {@link io.vertx.core.json.Json#decodeBinary(io.vertx.core.buffer.Buffer, java.lang.Class)}
+ * decodes it. Binary JSON is smaller and faster to parse than text JSON, it requires
+ * `com.fasterxml.jackson.dataformat:jackson-dataformat-smile` on the classpath.
+ *
+ * The event bus can send JSON bodies between cluster nodes as binary JSON, either per message with the
+ * `jsonobject-binary` or `jsonarray-binary` codec name in the delivery options or for all JSON bodies with
+ * {@link io.vertx.core.eventbus.EventBusOptions#setBinaryJson(boolean)}.
+ *
  * ==== Mapping between JSON objects and Java objects
  *
  * You can create a JSON object from the fields of a Java object as follows:
@@ -89,6 +120,10 @@
  * Referenced objects will be transitively serialized/deserialized to/from nested JSON objects as
  * long as the object graph is acyclic.
  *
+ * Data objects annotated with `@DataObject(generateConverter = true)` are mapped with the converter generated by
+ * Vert.x codegen instead, the properties are copied directly without reflection. `mapTo` also needs a public
+ * no-arg constructor for this.
+ *
  * ==== Encoding a JSON object to a String
  *
  * You use {@link io.vertx.core.json.JsonObject#encode} to encode the object to a String form.
@@ -20,13 +20,17 @@ import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.dns.DnsClient;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.http.*;
 import io.vertx.core.net.JksOptions;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.core.streams.Pump;
 
+import java.util.Arrays;
+
 /**
  * Created by tim on 09/01/15.
  */
@@ -51,6 +55,36 @@ public class HTTPExamples {
     HttpServer server = vertx.createHttpServer(options);
   }
 
+  public void exampleServerLimits(Vertx vertx) {
+
+    HttpServerOptions options = new HttpServerOptions()
+      .setMaxConnections(10000)
+      .setMaxConcurrentRequests(1000);
+
+    HttpServer server = vertx.createHttpServer(options);
+  }
+
+  public void exampleCompressionPolicy(Vertx vertx) {
+
+    HttpServerOptions options = new HttpServerOptions()
+      .setCompressionSupported(true)
+      .setCompressionMinSize(1024)
+      .addUncompressedContentType("image/*")
+      .addUncompressedContentType("video/*");
+
+    HttpServer server = vertx.createHttpServer(options);
+  }
+
+  public void exampleResponseCompressionLevel(HttpServerRequest request, Buffer alreadyCompressed) {
+
+    HttpServerResponse response = request.response();
+
+    // The buffer is already compressed
+    response.setCompressionLevel(0);
+
+    response.end(alreadyCompressed);
+  }
+
   public void example3(Vertx vertx) {
 
     HttpServer server = vertx.createHttpServer();
@@ -178,6 +212,41 @@ public class HTTPExamples {
     });
   }
 
+  public void exampleUploadLimits(Vertx vertx) {
+    HttpServerOptions options = new HttpServerOptions()
+      .setMaxMultipartPartSize(200 * 1024 * 1024)
+      .setMaxMultipartBodySize(250 * 1024 * 1024);
+
+    vertx.createHttpServer(options).requestHandler(request -> {
+      request.setExpectMultipart(true);
+      request.uploadHandler(upload -> {
+        upload.streamToFileSystem("myuploads_directory/" + upload.filename());
+      });
+      request.exceptionHandler(err -> {
+        // The form is too large
+        request.response().setStatusCode(413).end();
+        request.connection().close();
+      });
+    });
+  }
+
+  public void exampleMaxBodySize(Vertx vertx) {
+    HttpServerOptions options = new HttpServerOptions().setMaxRequestBodySize(64 * 1024);
+
+    vertx.createHttpServer(options).requestHandler(request -> {
+      if (request.path().startsWith("/uploads/")) {
+        // Allow larger bodies for uploads
+        request.setMaxBodySize(100 * 1024 * 1024);
+      }
+      request.exceptionHandler(err -> {
+        // The body is too large, a 413 response is sent
+      });
+      request.bodyHandler(body -> {
+        request.response().end();
+      });
+    });
+  }
+
   public void example16(HttpServerRequest request, Buffer buffer) {
     HttpServerResponse response = request.response();
     response.write(buffer);
@@ -216,6 +285,17 @@ public class HTTPExamples {
     response.putHeader("content-type", "text/html").putHeader("other-header", "wibble");
   }
 
+  public void exampleHeaderBlock(Vertx vertx) {
+    // Created once
+    HttpHeaderBlock block = HttpHeaderBlock.create(MultiMap.caseInsensitiveMultiMap()
+      .add("content-type", "text/html")
+      .add("cache-control", "no-cache"));
+
+    vertx.createHttpServer(new HttpServerOptions().setSendDateHeader(true)).requestHandler(request -> {
+      request.response().putHeaders(block).end("<html><body>Hello</body></html>");
+    });
+  }
+
   public void example23(HttpServerRequest request) {
     HttpServerResponse response = request.response();
     response.setChunked(true);
@@ -801,4 +881,63 @@ public class HTTPExamples {
       System.out.println("Received response with status code " + response.statusCode());
     });
   }
+
+  public void examplePreconnect(Vertx vertx) {
+    HttpClientOptions options = new HttpClientOptions()
+      .setMaxPoolSize(10)
+      .setMinIdleSize(2)
+      .setKeepAliveTimeout(30)
+      .setMaxLifetime(300);
+    HttpClient client = vertx.createHttpClient(options);
+
+    // Open the connections before the first requests are sent
+    client.preconnect(8080, "backend", 10, ar -> {
+      if (ar.succeeded()) {
+        System.out.println("Connected");
+      } else {
+        System.out.println("Could not connect " + ar.cause().getMessage());
+      }
+    });
+  }
+
+  public void exampleResponseCache(Vertx vertx) {
+    HttpClientOptions options = new HttpClientOptions()
+      .setResponseCacheMaxSize(16 * 1024 * 1024);
+    HttpClient client = vertx.createHttpClient(options);
+
+    client.getNow(80, "api.example.com", "/profile/history.json", response -> {
+      // The response might be served from the cache
+      System.out.println("Received response with status code " + response.statusCode());
+    });
+  }
+
+  public void exampleRequestCoalescing(Vertx vertx) {
+    HttpClientOptions options = new HttpClientOptions()
+      .setRequestCoalescing(true)
+      .addCoalescingHeader("Authorization");
+    HttpClient client = vertx.createHttpClient(options);
+  }
+
+  public void exampleEndpointGroup(Vertx vertx, HttpClient client) {
+    client.endpointGroup("backend", EndpointGroup.create(Arrays.asList(
+      SocketAddress.inetSocketAddress(8080, "10.0.0.1"),
+      SocketAddress.inetSocketAddress(8080, "10.0.0.2"))));
+    client.getNow(8080, "backend", "/some-uri", response -> {
+      System.out.println("Received response with status code " + response.statusCode());
+    });
+  }
+
+  public void exampleEndpointGroupDns(Vertx vertx, HttpClient client) {
+    DnsClient dnsClient = vertx.createDnsClient(53, "10.0.0.1");
+    client.endpointGroup("backend", EndpointGroup.srv(dnsClient, "_http._tcp.backend.example.com"),
+      new EndpointGroupOptions().setFailureThreshold(3).setEjectionTime(10000));
+  }
+
+  public void exampleHedging(Vertx vertx) {
+    HttpClientOptions options = new HttpClientOptions()
+      .setHedgingDelay(200)
+      .setHedgingPercentile(95)
+      .setHedgingBudget(5);
+    HttpClient client = vertx.createHttpClient(options);
+  }
 }
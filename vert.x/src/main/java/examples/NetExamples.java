@@ -23,8 +23,11 @@ import io.vertx.core.http.ClientAuth;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.net.*;
 
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.X509KeyManager;
 import java.security.cert.CertificateException;
 import java.util.Arrays;
+import java.util.function.Function;
 
 /**
  * Created by tim on 19/01/15.
@@ -541,6 +544,31 @@ public class NetExamples {
       setOpenSslEngineOptions(new OpenSSLEngineOptions());
   }
 
+  public void exampleSSLSessionResumption(Vertx vertx, JksOptions keyStoreOptions, Buffer currentKey, Buffer previousKey) {
+    NetClientOptions clientOptions = new NetClientOptions().
+      setSsl(true).
+      setSslSessionCacheSize(1000).
+      setSslSessionTimeout(3600);
+    NetClient client = vertx.createNetClient(clientOptions);
+
+    // Share the ticket keys between the servers, the current key first
+    NetServerOptions serverOptions = new NetServerOptions().
+      setSsl(true).
+      setKeyStoreOptions(keyStoreOptions).
+      setOpenSslEngineOptions(new OpenSSLEngineOptions().
+        addSessionTicketKey(currentKey).
+        addSessionTicketKey(previousKey));
+    NetServer server = vertx.createNetServer(serverOptions);
+  }
+
+  public void exampleSSLHandshakePool(Vertx vertx, JksOptions keyStoreOptions) {
+    NetServerOptions options = new NetServerOptions().
+      setSsl(true).
+      setKeyStoreOptions(keyStoreOptions).
+      setSslHandshakePoolSize(4);
+    NetServer server = vertx.createNetServer(options);
+  }
+
   public void example46(Vertx vertx, JksOptions keyStoreOptions) {
     NetClientOptions options = new NetClientOptions().
       setSsl(true).
@@ -623,6 +651,43 @@ public class NetExamples {
     );
   }
 
+  public void configureSNIServerWithProvider(Vertx vertx, JksOptions defaultKeyCertOptions, Function<String, X509KeyManager> certificateStore) {
+    KeyCertOptions keyCertOptions = new KeyCertOptions() {
+      @Override
+      public KeyCertOptions clone() {
+        return this;
+      }
+      @Override
+      public KeyManagerFactory getKeyManagerFactory(Vertx vertx) throws Exception {
+        // The certificate of the clients that do not present a server name
+        return defaultKeyCertOptions.getKeyManagerFactory(vertx);
+      }
+      @Override
+      public Function<String, X509KeyManager> keyManagerMapper(Vertx vertx) {
+        // Looks up the key and certificate of a server name in the store
+        return certificateStore;
+      }
+    };
+
+    NetServer netServer = vertx.createNetServer(new NetServerOptions()
+        .setKeyCertOptions(keyCertOptions)
+        .setSsl(true)
+        .setSni(true)
+        .setSniCacheSize(10000)
+    );
+  }
+
+  public void reloadCertificates(NetServer netServer) {
+    // The key store file has been renewed
+    netServer.reloadCertificates(res -> {
+      if (res.succeeded()) {
+        System.out.println("Certificates reloaded");
+      } else {
+        System.out.println("Failed to reload the certificates: " + res.cause().getMessage());
+      }
+    });
+  }
+
   public void useSNIInClient(Vertx vertx, JksOptions trustOptions) {
 
     NetClient client = vertx.createNetClient(new NetClientOptions()
@@ -93,6 +93,13 @@ public class EventBusOptions extends TCPSSLOptions {
   private int connectTimeout;
   private boolean trustAll;
 
+  /**
+   * The default value of whether JSON message bodies are encoded with the binary JSON codecs = false
+   */
+  public static final boolean DEFAULT_BINARY_JSON = false;
+
+  private boolean binaryJson;
+
   /**
    * Creates a new instance of {@link EventBusOptions} using the default configuration.
    */
@@ -111,6 +118,8 @@ public class EventBusOptions extends TCPSSLOptions {
 
     connectTimeout = DEFAULT_CONNECT_TIMEOUT;
     trustAll = DEFAULT_TRUST_ALL;
+
+    binaryJson = DEFAULT_BINARY_JSON;
   }
 
   /**
@@ -136,6 +145,8 @@ public class EventBusOptions extends TCPSSLOptions {
     this.reconnectAttempts = other.reconnectAttempts;
     this.connectTimeout = other.connectTimeout;
     this.trustAll = other.trustAll;
+
+    this.binaryJson = other.binaryJson;
   }
 
   /**
@@ -375,6 +386,30 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public EventBusOptions setWriteBatching(boolean writeBatching) {
+    super.setWriteBatching(writeBatching);
+    return this;
+  }
+
+  @Override
+  public EventBusOptions setSslSessionCacheSize(int sslSessionCacheSize) {
+    super.setSslSessionCacheSize(sslSessionCacheSize);
+    return this;
+  }
+
+  @Override
+  public EventBusOptions setSslSessionTimeout(int sslSessionTimeout) {
+    super.setSslSessionTimeout(sslSessionTimeout);
+    return this;
+  }
+
+  @Override
+  public EventBusOptions setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    super.setSslHandshakePoolSize(sslHandshakePoolSize);
+    return this;
+  }
+
   @Override
   public EventBusOptions setTrustOptions(TrustOptions options) {
     super.setTrustOptions(options);
@@ -581,4 +616,26 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterPublicPort = clusterPublicPort;
     return this;
   }
+
+  /**
+   * @return whether {@link io.vertx.core.json.JsonObject} and {@link io.vertx.core.json.JsonArray} message bodies
+   * are encoded with the binary JSON codecs by default
+   */
+  public boolean isBinaryJson() {
+    return binaryJson;
+  }
+
+  /**
+   * Sets whether {@link io.vertx.core.json.JsonObject} and {@link io.vertx.core.json.JsonArray} message bodies
+   * are encoded with the binary JSON (Smile) codecs instead of text JSON when no codec name is given in the
+   * {@link DeliveryOptions}. It requires {@code jackson-dataformat-smile} on the classpath and every node of
+   * the cluster must be able to decode it.
+   *
+   * @param binaryJson {@code true} to encode JSON bodies as binary JSON
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setBinaryJson(boolean binaryJson) {
+    this.binaryJson = binaryJson;
+    return this;
+  }
 }
@@ -33,21 +33,35 @@ public class CodecManager {
   public static final MessageCodec<Character, Character> CHAR_MESSAGE_CODEC = new CharMessageCodec();
   public static final MessageCodec<Byte, Byte> BYTE_MESSAGE_CODEC = new ByteMessageCodec();
   public static final MessageCodec<ReplyException, ReplyException> REPLY_EXCEPTION_MESSAGE_CODEC = new ReplyExceptionMessageCodec();
+  public static final MessageCodec<JsonObject, JsonObject> JSON_OBJECT_BINARY_MESSAGE_CODEC = new JsonObjectBinaryMessageCodec();
+  public static final MessageCodec<JsonArray, JsonArray> JSON_ARRAY_BINARY_MESSAGE_CODEC = new JsonArrayBinaryMessageCodec();
 
   private final MessageCodec[] systemCodecs;
   private final ConcurrentMap<String, MessageCodec> userCodecMap = new ConcurrentHashMap<>();
   private final ConcurrentMap<Class, MessageCodec> defaultCodecMap = new ConcurrentHashMap<>();
+  private volatile boolean binaryJson;
 
   public CodecManager() {
     this.systemCodecs = codecs(NULL_MESSAGE_CODEC, PING_MESSAGE_CODEC, STRING_MESSAGE_CODEC, BUFFER_MESSAGE_CODEC, JSON_OBJECT_MESSAGE_CODEC, JSON_ARRAY_MESSAGE_CODEC,
       BYTE_ARRAY_MESSAGE_CODEC, INT_MESSAGE_CODEC, LONG_MESSAGE_CODEC, FLOAT_MESSAGE_CODEC, DOUBLE_MESSAGE_CODEC,
-      BOOLEAN_MESSAGE_CODEC, SHORT_MESSAGE_CODEC, CHAR_MESSAGE_CODEC, BYTE_MESSAGE_CODEC, REPLY_EXCEPTION_MESSAGE_CODEC);
+      BOOLEAN_MESSAGE_CODEC, SHORT_MESSAGE_CODEC, CHAR_MESSAGE_CODEC, BYTE_MESSAGE_CODEC, REPLY_EXCEPTION_MESSAGE_CODEC,
+      JSON_OBJECT_BINARY_MESSAGE_CODEC, JSON_ARRAY_BINARY_MESSAGE_CODEC);
+  }
+
+  /**
+   * Set whether JSON bodies sent without a codec name use the binary JSON codecs.
+   */
+  public void setBinaryJson(boolean binaryJson) {
+    this.binaryJson = binaryJson;
   }
 
   public MessageCodec lookupCodec(Object body, String codecName) {
     MessageCodec codec;
     if (codecName != null) {
       codec = userCodecMap.get(codecName);
+      if (codec == null) {
+        codec = binaryJsonCodec(codecName);
+      }
       if (codec == null) {
         throw new IllegalArgumentException("No message codec for name: " + codecName);
       }
@@ -58,9 +72,9 @@ public class CodecManager {
     } else if (body instanceof Buffer) {
       codec = BUFFER_MESSAGE_CODEC;
     } else if (body instanceof JsonObject) {
-      codec = JSON_OBJECT_MESSAGE_CODEC;
+      codec = binaryJson ? JSON_OBJECT_BINARY_MESSAGE_CODEC : JSON_OBJECT_MESSAGE_CODEC;
     } else if (body instanceof JsonArray) {
-      codec = JSON_ARRAY_MESSAGE_CODEC;
+      codec = binaryJson ? JSON_ARRAY_BINARY_MESSAGE_CODEC : JSON_ARRAY_MESSAGE_CODEC;
     } else if (body instanceof byte[]) {
       codec = BYTE_ARRAY_MESSAGE_CODEC;
     } else if (body instanceof Integer) {
@@ -135,6 +149,15 @@ public class CodecManager {
     }
   }
 
+  private MessageCodec binaryJsonCodec(String codecName) {
+    if (JSON_OBJECT_BINARY_MESSAGE_CODEC.name().equals(codecName)) {
+      return JSON_OBJECT_BINARY_MESSAGE_CODEC;
+    } else if (JSON_ARRAY_BINARY_MESSAGE_CODEC.name().equals(codecName)) {
+      return JSON_ARRAY_BINARY_MESSAGE_CODEC;
+    }
+    return null;
+  }
+
   public MessageCodec[] systemCodecs() {
     return systemCodecs;
   }
@@ -21,6 +21,8 @@ import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -42,6 +44,7 @@ public class MessageImpl<U, V> implements Message<V> {
   protected U sentBody;
   protected V receivedBody;
   protected boolean send;
+  private U immutableBody;
 
   public MessageImpl() {
   }
@@ -72,7 +75,7 @@ public class MessageImpl<U, V> implements Message<V> {
     }
     if (other.sentBody != null) {
       this.sentBody = other.sentBody;
-      this.receivedBody = messageCodec.transform(other.sentBody);
+      this.receivedBody = messageCodec.transform(other.sentBodyForReceiver());
     }
     this.send = other.send;
   }
@@ -81,6 +84,27 @@ public class MessageImpl<U, V> implements Message<V> {
     return new MessageImpl<>(this);
   }
 
+  /**
+   * A published JSON body is copied once to an immutable object, each receiver then gets a copy-on-write copy of it
+   * instead of a deep copy of the sent body.
+   */
+  @SuppressWarnings("unchecked")
+  private U sentBodyForReceiver() {
+    if (send) {
+      return sentBody;
+    }
+    if (immutableBody == null) {
+      if (messageCodec == CodecManager.JSON_OBJECT_MESSAGE_CODEC || messageCodec == CodecManager.JSON_OBJECT_BINARY_MESSAGE_CODEC) {
+        immutableBody = (U) ((JsonObject) sentBody).immutableCopy();
+      } else if (messageCodec == CodecManager.JSON_ARRAY_MESSAGE_CODEC || messageCodec == CodecManager.JSON_ARRAY_BINARY_MESSAGE_CODEC) {
+        immutableBody = (U) ((JsonArray) sentBody).immutableCopy();
+      } else {
+        immutableBody = sentBody;
+      }
+    }
+    return immutableBody;
+  }
+
   @Override
   public String address() {
     return address;
@@ -94,6 +94,7 @@ public class ClusteredEventBus extends EventBusImpl {
                            HAManager haManager) {
     super(vertx);
     this.options = options.getEventBusOptions();
+    codecManager.setBinaryJson(this.options.isBinaryJson());
     this.clusterManager = clusterManager;
     this.haManager = haManager;
     this.sendNoContext = vertx.getOrCreateContext();
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2014 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.codecs;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Encodes a {@link JsonArray} on the wire as binary JSON (Smile) instead of text JSON.
+ */
+public class JsonArrayBinaryMessageCodec implements MessageCodec<JsonArray, JsonArray> {
+
+  @Override
+  public void encodeToWire(Buffer buffer, JsonArray jsonArray) {
+    Buffer encoded = Json.encodeToBinary(jsonArray);
+    buffer.appendInt(encoded.length());
+    buffer.appendBuffer(encoded);
+  }
+
+  @Override
+  public JsonArray decodeFromWire(int pos, Buffer buffer) {
+    int length = buffer.getInt(pos);
+    pos += 4;
+    return Json.decodeBinary(buffer.getBuffer(pos, pos + length), JsonArray.class);
+  }
+
+  @Override
+  public JsonArray transform(JsonArray jsonArray) {
+    return jsonArray.copy();
+  }
+
+  @Override
+  public String name() {
+    return "jsonarray-binary";
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return 17;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.dns.DnsClient;
+import io.vertx.core.dns.SrvRecord;
+import io.vertx.core.net.SocketAddress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The endpoints serving a logical host, the requests of a {@link HttpClient} to this host are balanced over
+ * the endpoints.
+ * <p>
+ * A group resolves its endpoints when the client sends its first request and again periodically, see
+ * {@link EndpointGroupOptions#setRefreshPeriod(int)}.
+ */
+@VertxGen
+public interface EndpointGroup {
+
+  /**
+   * Create a group of fixed endpoints.
+   *
+   * @param endpoints the endpoints
+   * @return the group
+   */
+  static EndpointGroup create(List<SocketAddress> endpoints) {
+    Objects.requireNonNull(endpoints, "no null endpoints accepted");
+    List<SocketAddress> copy = new ArrayList<>(endpoints);
+    return handler -> handler.handle(Future.succeededFuture(copy));
+  }
+
+  /**
+   * Create a group of endpoints resolved by a function, the function completes the future with the endpoints.
+   *
+   * @param resolver the function
+   * @return the group
+   */
+  @GenIgnore
+  static EndpointGroup create(Handler<Future<List<SocketAddress>>> resolver) {
+    Objects.requireNonNull(resolver, "no null resolver accepted");
+    return handler -> {
+      Future<List<SocketAddress>> fut = Future.future();
+      fut.setHandler(handler);
+      try {
+        resolver.handle(fut);
+      } catch (Throwable t) {
+        fut.tryFail(t);
+      }
+    };
+  }
+
+  /**
+   * Create a group of endpoints resolved from the {@code A} records of a name, the endpoints listen on the same port.
+   *
+   * @param client the DNS client
+   * @param name the name to resolve
+   * @param port the port of the endpoints
+   * @return the group
+   */
+  static EndpointGroup dns(DnsClient client, String name, int port) {
+    Objects.requireNonNull(client, "no null client accepted");
+    Objects.requireNonNull(name, "no null name accepted");
+    return handler -> client.resolveA(name, ar -> {
+      if (ar.succeeded()) {
+        List<SocketAddress> endpoints = new ArrayList<>();
+        for (String address : ar.result()) {
+          endpoints.add(SocketAddress.inetSocketAddress(port, address));
+        }
+        handler.handle(Future.succeededFuture(endpoints));
+      } else {
+        handler.handle(Future.failedFuture(ar.cause()));
+      }
+    });
+  }
+
+  /**
+   * Create a group of endpoints resolved from the {@code SRV} records of a name.
+   * <p>
+   * Only the records with the lowest priority are endpoints, the record weights are ignored since the requests are
+   * balanced according to the latency of the endpoints.
+   *
+   * @param client the DNS client
+   * @param name the name to resolve, e.g {@code _http._tcp.example.com}
+   * @return the group
+   */
+  static EndpointGroup srv(DnsClient client, String name) {
+    Objects.requireNonNull(client, "no null client accepted");
+    Objects.requireNonNull(name, "no null name accepted");
+    return handler -> client.resolveSRV(name, ar -> {
+      if (ar.succeeded()) {
+        List<SocketAddress> endpoints = new ArrayList<>();
+        int priority = Integer.MAX_VALUE;
+        for (SrvRecord record : ar.result()) {
+          priority = Math.min(priority, record.priority());
+        }
+        for (SrvRecord record : ar.result()) {
+          if (record.priority() == priority) {
+            String target = record.target();
+            if (target.endsWith(".")) {
+              target = target.substring(0, target.length() - 1);
+            }
+            endpoints.add(SocketAddress.inetSocketAddress(record.port(), target));
+          }
+        }
+        handler.handle(Future.succeededFuture(endpoints));
+      } else {
+        handler.handle(Future.failedFuture(ar.cause()));
+      }
+    });
+  }
+
+  /**
+   * Resolve the endpoints of the group.
+   *
+   * @param handler the handler called with the endpoints
+   */
+  void resolve(Handler<AsyncResult<List<SocketAddress>>> handler);
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring how a {@link HttpClient} balances the requests over the endpoints of an {@link EndpointGroup}.
+ */
+@DataObject(generateConverter = true)
+public class EndpointGroupOptions {
+
+  /**
+   * Default refresh period = 30000 ms
+   */
+  public static final int DEFAULT_REFRESH_PERIOD = 30000;
+
+  /**
+   * Default failure threshold = 5 consecutive failures
+   */
+  public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+
+  /**
+   * Default ejection time = 30000 ms
+   */
+  public static final int DEFAULT_EJECTION_TIME = 30000;
+
+  /**
+   * Default latency decay = 10000 ms
+   */
+  public static final int DEFAULT_LATENCY_DECAY = 10000;
+
+  private int refreshPeriod;
+  private int failureThreshold;
+  private int ejectionTime;
+  private int latencyDecay;
+
+  public EndpointGroupOptions() {
+    refreshPeriod = DEFAULT_REFRESH_PERIOD;
+    failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    ejectionTime = DEFAULT_EJECTION_TIME;
+    latencyDecay = DEFAULT_LATENCY_DECAY;
+  }
+
+  public EndpointGroupOptions(EndpointGroupOptions other) {
+    refreshPeriod = other.refreshPeriod;
+    failureThreshold = other.failureThreshold;
+    ejectionTime = other.ejectionTime;
+    latencyDecay = other.latencyDecay;
+  }
+
+  public EndpointGroupOptions(JsonObject json) {
+    this();
+    EndpointGroupOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the period in milliseconds after which the endpoints of the group are resolved again
+   */
+  public int getRefreshPeriod() {
+    return refreshPeriod;
+  }
+
+  /**
+   * Set the period in milliseconds after which the endpoints of the group are resolved again, zero means the endpoints
+   * are resolved once.
+   * <p>
+   * The endpoints are resolved again by the first request after the period, in the background, the requests keep
+   * using the current endpoints meanwhile.
+   *
+   * @param refreshPeriod the period in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EndpointGroupOptions setRefreshPeriod(int refreshPeriod) {
+    Arguments.require(refreshPeriod >= 0, "refreshPeriod must be >= 0");
+    this.refreshPeriod = refreshPeriod;
+    return this;
+  }
+
+  /**
+   * @return the number of consecutive failures ejecting an endpoint
+   */
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  /**
+   * Set the number of consecutive failures ejecting an endpoint, zero disables the ejection.
+   * <p>
+   * A failure is a request that could not get a connection or a response, or a {@code 502}, {@code 503} or
+   * {@code 504} response.
+   *
+   * @param failureThreshold the number of failures
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EndpointGroupOptions setFailureThreshold(int failureThreshold) {
+    Arguments.require(failureThreshold >= 0, "failureThreshold must be >= 0");
+    this.failureThreshold = failureThreshold;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds an ejected endpoint does not receive requests
+   */
+  public int getEjectionTime() {
+    return ejectionTime;
+  }
+
+  /**
+   * Set the time in milliseconds an ejected endpoint does not receive requests, unless all the endpoints of the group
+   * are ejected.
+   *
+   * @param ejectionTime the time in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EndpointGroupOptions setEjectionTime(int ejectionTime) {
+    Arguments.require(ejectionTime > 0, "ejectionTime must be > 0");
+    this.ejectionTime = ejectionTime;
+    return this;
+  }
+
+  /**
+   * @return the time constant in milliseconds of the latency moving average
+   */
+  public int getLatencyDecay() {
+    return latencyDecay;
+  }
+
+  /**
+   * Set the time constant in milliseconds of the exponentially weighted moving average of the latency of an endpoint,
+   * the weight of a latency sample decays with the time elapsed since the previous sample.
+   *
+   * @param latencyDecay the time constant in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EndpointGroupOptions setLatencyDecay(int latencyDecay) {
+    Arguments.require(latencyDecay > 0, "latencyDecay must be > 0");
+    this.latencyDecay = latencyDecay;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    EndpointGroupOptionsConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof EndpointGroupOptions)) return false;
+    EndpointGroupOptions that = (EndpointGroupOptions) o;
+    return refreshPeriod == that.refreshPeriod
+        && failureThreshold == that.failureThreshold
+        && ejectionTime == that.ejectionTime
+        && latencyDecay == that.latencyDecay;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = refreshPeriod;
+    result = 31 * result + failureThreshold;
+    result = 31 * result + ejectionTime;
+    result = 31 * result + latencyDecay;
+    return result;
+  }
+}
@@ -19,6 +19,7 @@ package io.vertx.core.http;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
@@ -1369,6 +1370,43 @@ public interface HttpClient extends Measured {
   ReadStream<WebSocket> websocketStream(String requestURI, MultiMap headers, WebsocketVersion version,
                                   String subProtocols);
 
+  /**
+   * Open connections to a server ahead of the requests, so the first requests to this server do not pay the
+   * connection establishment.
+   * <p>
+   * Connections are opened until the pool of the server has {@code count} connections or reaches its maximum size,
+   * they are then available in the pool for the requests to this server.
+   *
+   * @param port  the port
+   * @param host  the host
+   * @param count  the number of connections
+   * @param completionHandler  called when the connections are established or with the failure of the first connection that failed
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  HttpClient preconnect(int port, String host, int count, Handler<AsyncResult<Void>> completionHandler);
+
+  /**
+   * Like {@link #endpointGroup(String, EndpointGroup, EndpointGroupOptions)} with default options.
+   */
+  @Fluent
+  HttpClient endpointGroup(String name, EndpointGroup group);
+
+  /**
+   * Balance the requests to a logical host over the endpoints of a group.
+   * <p>
+   * The requests whose host is {@code name} are sent to an endpoint of the group, the request {@code Host} header
+   * remains {@code name}. An endpoint is chosen among two random endpoints according to their latency and
+   * their requests in flight, the endpoints failing consecutive requests are ejected for a while.
+   *
+   * @param name  the logical host
+   * @param group  the group
+   * @param options  the balancing options
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  HttpClient endpointGroup(String name, EndpointGroup group, EndpointGroupOptions options);
+
   /**
    * Set a redirect handler for the http client.
    * <p>
@@ -24,7 +24,10 @@ import io.vertx.core.net.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Options describing how an {@link HttpClient} will make connections.
@@ -155,6 +158,96 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final int DEFAULT_DECODER_INITIAL_BUFFER_SIZE = 128;
 
+  /**
+   * Default offer of the WebSockets per-message deflate compression extension = false
+   */
+  public static final boolean DEFAULT_TRY_USE_PER_MESSAGE_WEBSOCKET_COMPRESSION = false;
+
+  /**
+   * Default WebSocket deflate compression level = 6
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_LEVEL = 6;
+
+  /**
+   * Default WebSocket deflate client no context takeover offer = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_CLIENT_NO_CONTEXT = false;
+
+  /**
+   * Default WebSocket deflate server no context takeover request = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_COMPRESSION_REQUEST_SERVER_NO_CONTEXT = false;
+
+  /**
+   * Default WebSocket deflate client window bits acceptance = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_CLIENT_WINDOW_BITS = false;
+
+  /**
+   * Default WebSocket deflate server window bits request = 15
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_REQUESTED_SERVER_WINDOW_BITS = 15;
+
+  /**
+   * Default minimum size of a WebSocket frame to compress = 0
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_MIN_FRAME_SIZE = 0;
+
+  /**
+   * Default pool per event loop = false
+   */
+  public static final boolean DEFAULT_POOL_PER_EVENT_LOOP = false;
+
+  /**
+   * Default minimum number of idle connections per endpoint = 0
+   */
+  public static final int DEFAULT_MIN_IDLE_SIZE = 0;
+
+  /**
+   * Default keep alive timeout = 0 (pooled connections are not evicted)
+   */
+  public static final int DEFAULT_KEEP_ALIVE_TIMEOUT = 0;
+
+  /**
+   * Default max lifetime of a pooled connection = 0 (unlimited)
+   */
+  public static final int DEFAULT_MAX_LIFETIME = 0;
+
+  /**
+   * Default pool cleaner period = 1000 ms
+   */
+  public static final int DEFAULT_POOL_CLEANER_PERIOD = 1000;
+
+  /**
+   * Default response cache max size = 0 (the responses are not cached)
+   */
+  public static final int DEFAULT_RESPONSE_CACHE_MAX_SIZE = 0;
+
+  /**
+   * Default response cache directory = null (the bodies are kept in memory)
+   */
+  public static final String DEFAULT_RESPONSE_CACHE_DIR = null;
+
+  /**
+   * Default request coalescing = false
+   */
+  public static final boolean DEFAULT_REQUEST_COALESCING = false;
+
+  /**
+   * Default hedging delay = 0 (the requests are not hedged)
+   */
+  public static final int DEFAULT_HEDGING_DELAY = 0;
+
+  /**
+   * Default hedging percentile = 0 (the requests are hedged after the hedging delay)
+   */
+  public static final int DEFAULT_HEDGING_PERCENTILE = 0;
+
+  /**
+   * Default hedging budget = 10 (% of the requests)
+   */
+  public static final int DEFAULT_HEDGING_BUDGET = 10;
+
   private boolean verifyHost = true;
   private int maxPoolSize;
   private boolean keepAlive;
@@ -181,6 +274,25 @@ public class HttpClientOptions extends ClientOptionsBase {
   private int maxRedirects;
   private boolean forceSni;
   private int decoderInitialBufferSize;
+  private boolean tryUsePerMessageWebsocketCompression;
+  private int websocketCompressionLevel;
+  private boolean websocketCompressionAllowClientNoContext;
+  private boolean websocketCompressionRequestServerNoContext;
+  private boolean websocketCompressionAllowClientWindowBits;
+  private int websocketCompressionRequestedServerWindowBits;
+  private int websocketCompressionMinFrameSize;
+  private boolean poolPerEventLoop;
+  private int minIdleSize;
+  private int keepAliveTimeout;
+  private int maxLifetime;
+  private int poolCleanerPeriod;
+  private int responseCacheMaxSize;
+  private String responseCacheDir;
+  private boolean requestCoalescing;
+  private Set<String> coalescingHeaders;
+  private int hedgingDelay;
+  private int hedgingPercentile;
+  private int hedgingBudget;
 
   /**
    * Default constructor
@@ -222,6 +334,25 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.maxRedirects = other.maxRedirects;
     this.forceSni = other.forceSni;
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
+    this.tryUsePerMessageWebsocketCompression = other.tryUsePerMessageWebsocketCompression;
+    this.websocketCompressionLevel = other.websocketCompressionLevel;
+    this.websocketCompressionAllowClientNoContext = other.websocketCompressionAllowClientNoContext;
+    this.websocketCompressionRequestServerNoContext = other.websocketCompressionRequestServerNoContext;
+    this.websocketCompressionAllowClientWindowBits = other.websocketCompressionAllowClientWindowBits;
+    this.websocketCompressionRequestedServerWindowBits = other.websocketCompressionRequestedServerWindowBits;
+    this.websocketCompressionMinFrameSize = other.websocketCompressionMinFrameSize;
+    this.poolPerEventLoop = other.poolPerEventLoop;
+    this.minIdleSize = other.minIdleSize;
+    this.keepAliveTimeout = other.keepAliveTimeout;
+    this.maxLifetime = other.maxLifetime;
+    this.poolCleanerPeriod = other.poolCleanerPeriod;
+    this.responseCacheMaxSize = other.responseCacheMaxSize;
+    this.responseCacheDir = other.responseCacheDir;
+    this.requestCoalescing = other.requestCoalescing;
+    this.coalescingHeaders = other.coalescingHeaders != null ? new LinkedHashSet<>(other.coalescingHeaders) : new LinkedHashSet<>();
+    this.hedgingDelay = other.hedgingDelay;
+    this.hedgingPercentile = other.hedgingPercentile;
+    this.hedgingBudget = other.hedgingBudget;
   }
 
   /**
@@ -272,6 +403,25 @@ public class HttpClientOptions extends ClientOptionsBase {
     maxRedirects = DEFAULT_MAX_REDIRECTS;
     forceSni = DEFAULT_FORCE_SNI;
     decoderInitialBufferSize = DEFAULT_DECODER_INITIAL_BUFFER_SIZE;
+    tryUsePerMessageWebsocketCompression = DEFAULT_TRY_USE_PER_MESSAGE_WEBSOCKET_COMPRESSION;
+    websocketCompressionLevel = DEFAULT_WEBSOCKET_COMPRESSION_LEVEL;
+    websocketCompressionAllowClientNoContext = DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_CLIENT_NO_CONTEXT;
+    websocketCompressionRequestServerNoContext = DEFAULT_WEBSOCKET_COMPRESSION_REQUEST_SERVER_NO_CONTEXT;
+    websocketCompressionAllowClientWindowBits = DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_CLIENT_WINDOW_BITS;
+    websocketCompressionRequestedServerWindowBits = DEFAULT_WEBSOCKET_COMPRESSION_REQUESTED_SERVER_WINDOW_BITS;
+    websocketCompressionMinFrameSize = DEFAULT_WEBSOCKET_COMPRESSION_MIN_FRAME_SIZE;
+    poolPerEventLoop = DEFAULT_POOL_PER_EVENT_LOOP;
+    minIdleSize = DEFAULT_MIN_IDLE_SIZE;
+    keepAliveTimeout = DEFAULT_KEEP_ALIVE_TIMEOUT;
+    maxLifetime = DEFAULT_MAX_LIFETIME;
+    poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
+    responseCacheMaxSize = DEFAULT_RESPONSE_CACHE_MAX_SIZE;
+    responseCacheDir = DEFAULT_RESPONSE_CACHE_DIR;
+    requestCoalescing = DEFAULT_REQUEST_COALESCING;
+    coalescingHeaders = new LinkedHashSet<>();
+    hedgingDelay = DEFAULT_HEDGING_DELAY;
+    hedgingPercentile = DEFAULT_HEDGING_PERCENTILE;
+    hedgingBudget = DEFAULT_HEDGING_BUDGET;
   }
 
   @Override
@@ -304,6 +454,30 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public HttpClientOptions setWriteBatching(boolean writeBatching) {
+    super.setWriteBatching(writeBatching);
+    return this;
+  }
+
+  @Override
+  public HttpClientOptions setSslSessionCacheSize(int sslSessionCacheSize) {
+    super.setSslSessionCacheSize(sslSessionCacheSize);
+    return this;
+  }
+
+  @Override
+  public HttpClientOptions setSslSessionTimeout(int sslSessionTimeout) {
+    super.setSslSessionTimeout(sslSessionTimeout);
+    return this;
+  }
+
+  @Override
+  public HttpClientOptions setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    super.setSslHandshakePoolSize(sslHandshakePoolSize);
+    return this;
+  }
+
   @Override
   public HttpClientOptions setTcpKeepAlive(boolean tcpKeepAlive) {
     super.setTcpKeepAlive(tcpKeepAlive);
@@ -958,6 +1132,410 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return whether the client offers the WebSocket per-message deflate compression extension
+   */
+  public boolean isTryUsePerMessageWebsocketCompression() {
+    return tryUsePerMessageWebsocketCompression;
+  }
+
+  /**
+   * Set whether the client offers the WebSocket per-message deflate compression extension (RFC 7692) during the
+   * WebSocket handshake.
+   *
+   * @param tryUsePerMessageWebsocketCompression {@code true} to offer the extension
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setTryUsePerMessageWebsocketCompression(boolean tryUsePerMessageWebsocketCompression) {
+    this.tryUsePerMessageWebsocketCompression = tryUsePerMessageWebsocketCompression;
+    return this;
+  }
+
+  /**
+   * @return the WebSocket deflate compression level
+   */
+  public int getWebsocketCompressionLevel() {
+    return websocketCompressionLevel;
+  }
+
+  /**
+   * Set the deflate compression level used by the WebSocket per-message deflate compression extension.
+   *
+   * @param websocketCompressionLevel integer 0-9, 0 means no compression, 9 slower algorithm but better compression ratio
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionLevel(int websocketCompressionLevel) {
+    Arguments.requireInRange(websocketCompressionLevel, 0, 9, "websocketCompressionLevel must be between 0 and 9");
+    this.websocketCompressionLevel = websocketCompressionLevel;
+    return this;
+  }
+
+  /**
+   * @return whether the client offers to compress each message with a fresh context
+   */
+  public boolean isWebsocketCompressionAllowClientNoContext() {
+    return websocketCompressionAllowClientNoContext;
+  }
+
+  /**
+   * Set whether the client sends the {@code client_no_context_takeover} parameter, i.e offers to compress each
+   * message with a fresh context.
+   *
+   * @param websocketCompressionAllowClientNoContext {@code true} to send the parameter
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionAllowClientNoContext(boolean websocketCompressionAllowClientNoContext) {
+    this.websocketCompressionAllowClientNoContext = websocketCompressionAllowClientNoContext;
+    return this;
+  }
+
+  /**
+   * @return whether the client asks the server to compress each message with a fresh context
+   */
+  public boolean isWebsocketCompressionRequestServerNoContext() {
+    return websocketCompressionRequestServerNoContext;
+  }
+
+  /**
+   * Set whether the client sends the {@code server_no_context_takeover} parameter, i.e asks the server to
+   * compress each message with a fresh context.
+   *
+   * @param websocketCompressionRequestServerNoContext {@code true} to send the parameter
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionRequestServerNoContext(boolean websocketCompressionRequestServerNoContext) {
+    this.websocketCompressionRequestServerNoContext = websocketCompressionRequestServerNoContext;
+    return this;
+  }
+
+  /**
+   * @return whether the client accepts to use the compression window size chosen by the server
+   */
+  public boolean isWebsocketCompressionAllowClientWindowBits() {
+    return websocketCompressionAllowClientWindowBits;
+  }
+
+  /**
+   * Set whether the client sends the {@code client_max_window_bits} parameter, i.e accepts to compress with the
+   * window size chosen by the server.
+   * <p/>
+   * Compressing with a window smaller than 15 bits requires JZlib on the classpath.
+   *
+   * @param websocketCompressionAllowClientWindowBits {@code true} to send the parameter
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionAllowClientWindowBits(boolean websocketCompressionAllowClientWindowBits) {
+    this.websocketCompressionAllowClientWindowBits = websocketCompressionAllowClientWindowBits;
+    return this;
+  }
+
+  /**
+   * @return the compression window size, in bits, the client asks the server to use
+   */
+  public int getWebsocketCompressionRequestedServerWindowBits() {
+    return websocketCompressionRequestedServerWindowBits;
+  }
+
+  /**
+   * Set the compression window size, in bits, the client asks the server to use, a value smaller than 15 is sent
+   * as the {@code server_max_window_bits} parameter.
+   *
+   * @param websocketCompressionRequestedServerWindowBits integer 8-15
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionRequestedServerWindowBits(int websocketCompressionRequestedServerWindowBits) {
+    Arguments.requireInRange(websocketCompressionRequestedServerWindowBits, 8, 15, "websocketCompressionRequestedServerWindowBits must be between 8 and 15");
+    this.websocketCompressionRequestedServerWindowBits = websocketCompressionRequestedServerWindowBits;
+    return this;
+  }
+
+  /**
+   * @return the minimum size of a WebSocket message first frame to compress it
+   */
+  public int getWebsocketCompressionMinFrameSize() {
+    return websocketCompressionMinFrameSize;
+  }
+
+  /**
+   * Set the minimum size of a WebSocket message first frame to compress it, smaller messages are sent uncompressed
+   * since deflating them costs more than it saves.
+   *
+   * @param websocketCompressionMinFrameSize the size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionMinFrameSize(int websocketCompressionMinFrameSize) {
+    Arguments.require(websocketCompressionMinFrameSize >= 0, "websocketCompressionMinFrameSize must be >= 0");
+    this.websocketCompressionMinFrameSize = websocketCompressionMinFrameSize;
+    return this;
+  }
+
+  /**
+   * @return true if the connection pool of an endpoint is partitioned per event loop
+   */
+  public boolean isPoolPerEventLoop() {
+    return poolPerEventLoop;
+  }
+
+  /**
+   * Set whether the connection pool of an endpoint is partitioned per event loop.
+   * <p>
+   * When a client is shared by verticles running on different event loops, each event loop gets its own pool of
+   * connections for an endpoint: a request is sent on a connection of its event loop, so the pool is not contended and
+   * the connection is not handed over from another event loop. The pool size limits, {@link #setMaxPoolSize(int)} and
+   * {@link #setHttp2MaxPoolSize(int)}, then apply to each event loop. When the pool of an event loop is exhausted, a
+   * request borrows an idle connection of another event loop before waiting in the queue.
+   *
+   * @param poolPerEventLoop true to partition the pool per event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPoolPerEventLoop(boolean poolPerEventLoop) {
+    this.poolPerEventLoop = poolPerEventLoop;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of idle connections kept for each endpoint
+   */
+  public int getMinIdleSize() {
+    return minIdleSize;
+  }
+
+  /**
+   * Set the minimum number of idle connections kept for each endpoint.
+   * <p>
+   * The pool of an endpoint is topped up with new connections by the pool cleaner until it has this number of idle
+   * connections or reaches its maximum size, the idle connections beyond this number can be evicted by the
+   * {@link #setKeepAliveTimeout(int) keep alive timeout}. The endpoint pool is kept after all its connections are closed so
+   * it reconnects, e.g. after the server restarted.
+   *
+   * @param minIdleSize the minimum number of idle connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setMinIdleSize(int minIdleSize) {
+    Arguments.require(minIdleSize >= 0, "minIdleSize must be >= 0");
+    this.minIdleSize = minIdleSize;
+    return this;
+  }
+
+  /**
+   * @return the time in seconds a connection stays unused in the pool before being evicted
+   */
+  public int getKeepAliveTimeout() {
+    return keepAliveTimeout;
+  }
+
+  /**
+   * Set the time in seconds a connection stays unused in the pool before being evicted and closed, zero disables the eviction.
+   * <p>
+   * Unlike the {@link #setIdleTimeout(int) idle timeout} that closes any connection without activity, only the connections
+   * idle in the pool are evicted, by the pool cleaner.
+   *
+   * @param keepAliveTimeout the timeout in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setKeepAliveTimeout(int keepAliveTimeout) {
+    Arguments.require(keepAliveTimeout >= 0, "keepAliveTimeout must be >= 0");
+    this.keepAliveTimeout = keepAliveTimeout;
+    return this;
+  }
+
+  /**
+   * @return the maximum lifetime of a pooled connection in seconds
+   */
+  public int getMaxLifetime() {
+    return maxLifetime;
+  }
+
+  /**
+   * Set the maximum lifetime of a pooled connection in seconds, zero means unlimited.
+   * <p>
+   * A connection that reached its lifetime is not used for new requests anymore and is closed when it becomes idle,
+   * so the connections are periodically renewed, e.g. to rebalance them on the servers behind a load balancer.
+   *
+   * @param maxLifetime the lifetime in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setMaxLifetime(int maxLifetime) {
+    Arguments.require(maxLifetime >= 0, "maxLifetime must be >= 0");
+    this.maxLifetime = maxLifetime;
+    return this;
+  }
+
+  /**
+   * @return the period in milliseconds of the pool cleaner
+   */
+  public int getPoolCleanerPeriod() {
+    return poolCleanerPeriod;
+  }
+
+  /**
+   * Set the period in milliseconds of the pool cleaner.
+   * <p>
+   * The pool cleaner is a single timer of the client that evicts the pooled connections after the {@link #setKeepAliveTimeout(int)
+   * keep alive timeout} or the {@link #setMaxLifetime(int) max lifetime} and maintains the {@link #setMinIdleSize(int)
+   * minimum idle connections}, it runs only when one of these options is set.
+   *
+   * @param poolCleanerPeriod the period in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPoolCleanerPeriod(int poolCleanerPeriod) {
+    Arguments.require(poolCleanerPeriod > 0, "poolCleanerPeriod must be > 0");
+    this.poolCleanerPeriod = poolCleanerPeriod;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of the response cache
+   */
+  public int getResponseCacheMaxSize() {
+    return responseCacheMaxSize;
+  }
+
+  /**
+   * Set the maximum size in bytes of the response cache, zero disables the cache.
+   * <p>
+   * The client caches the {@code GET} responses according to their {@code Cache-Control} and {@code Expires} headers and
+   * revalidates the stale responses having an {@code ETag} or a {@code Last-Modified} header with a conditional request,
+   * the least recently used responses are evicted when the cache is full.
+   *
+   * @param responseCacheMaxSize the maximum size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setResponseCacheMaxSize(int responseCacheMaxSize) {
+    Arguments.require(responseCacheMaxSize >= 0, "responseCacheMaxSize must be >= 0");
+    this.responseCacheMaxSize = responseCacheMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the directory of the response cache bodies
+   */
+  public String getResponseCacheDir() {
+    return responseCacheDir;
+  }
+
+  /**
+   * Set the directory where the response cache stores the bodies, when {@code null} the bodies are kept in memory.
+   * <p>
+   * The {@link #setResponseCacheMaxSize(int) maximum size} then bounds the size of the files, the cache index stays in memory
+   * and the files are deleted when the client is closed.
+   *
+   * @param responseCacheDir the directory path
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setResponseCacheDir(String responseCacheDir) {
+    this.responseCacheDir = responseCacheDir;
+    return this;
+  }
+
+  /**
+   * @return whether the identical requests in flight are coalesced
+   */
+  public boolean isRequestCoalescing() {
+    return requestCoalescing;
+  }
+
+  /**
+   * Set whether the identical {@code GET} and {@code HEAD} requests in flight are coalesced.
+   * <p>
+   * When a request is identical to a request waiting for its response, it is not sent and shares the response of the
+   * first request. The requests are identical when they have the same method, absolute URI and
+   * {@link #addCoalescingHeader(String) key headers}.
+   *
+   * @param requestCoalescing true when the requests are coalesced
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setRequestCoalescing(boolean requestCoalescing) {
+    this.requestCoalescing = requestCoalescing;
+    return this;
+  }
+
+  /**
+   * @return the names of the headers identifying a coalesced request
+   */
+  public Set<String> getCoalescingHeaders() {
+    return coalescingHeaders;
+  }
+
+  /**
+   * Add the name of a header identifying a coalesced request, when no name is added all the headers of a request
+   * identify it.
+   *
+   * @param name the header name
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions addCoalescingHeader(String name) {
+    Objects.requireNonNull(name, "no null header name accepted");
+    coalescingHeaders.add(name);
+    return this;
+  }
+
+  /**
+   * @return the delay in milliseconds after which a request without response is hedged
+   */
+  public int getHedgingDelay() {
+    return hedgingDelay;
+  }
+
+  /**
+   * Set the delay in milliseconds after which an idempotent request without response is hedged, zero disables the
+   * hedging.
+   * <p>
+   * A hedged request is sent a second time, on another connection or to another endpoint of an {@link EndpointGroup}, the
+   * first response is delivered to the request and the other request is reset. Only the requests without body that do not
+   * follow the redirections are hedged.
+   *
+   * @param hedgingDelay the delay in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHedgingDelay(int hedgingDelay) {
+    Arguments.require(hedgingDelay >= 0, "hedgingDelay must be >= 0");
+    this.hedgingDelay = hedgingDelay;
+    return this;
+  }
+
+  /**
+   * @return the percentile of the observed latency of a server after which a request without response is hedged
+   */
+  public int getHedgingPercentile() {
+    return hedgingPercentile;
+  }
+
+  /**
+   * Set the percentile of the observed latency of a server after which a request without response is hedged, e.g
+   * {@code 95} hedges the requests slower than 95% of the recent requests to the same server, zero hedges the requests
+   * after the {@link #setHedgingDelay(int) hedging delay}.
+   * <p>
+   * The hedging delay is used until enough latencies of the server are known.
+   *
+   * @param hedgingPercentile the percentile
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHedgingPercentile(int hedgingPercentile) {
+    Arguments.requireInRange(hedgingPercentile, 0, 99, "hedgingPercentile must be in range 0 <= p <= 99");
+    this.hedgingPercentile = hedgingPercentile;
+    return this;
+  }
+
+  /**
+   * @return the maximum percentage of hedged requests
+   */
+  public int getHedgingBudget() {
+    return hedgingBudget;
+  }
+
+  /**
+   * Set the maximum percentage of requests that can be hedged, it bounds the extra load the hedging puts on the servers.
+   *
+   * @param hedgingBudget the percentage of requests
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHedgingBudget(int hedgingBudget) {
+    Arguments.requireInRange(hedgingBudget, 0, 100, "hedgingBudget must be in range 0 <= p <= 100");
+    this.hedgingBudget = hedgingBudget;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -987,6 +1565,25 @@ public class HttpClientOptions extends ClientOptionsBase {
     if (sendUnmaskedFrames != that.sendUnmaskedFrames) return false;
     if (maxRedirects != that.maxRedirects) return false;
     if (decoderInitialBufferSize != that.decoderInitialBufferSize) return false;
+    if (tryUsePerMessageWebsocketCompression != that.tryUsePerMessageWebsocketCompression) return false;
+    if (websocketCompressionLevel != that.websocketCompressionLevel) return false;
+    if (websocketCompressionAllowClientNoContext != that.websocketCompressionAllowClientNoContext) return false;
+    if (websocketCompressionRequestServerNoContext != that.websocketCompressionRequestServerNoContext) return false;
+    if (websocketCompressionAllowClientWindowBits != that.websocketCompressionAllowClientWindowBits) return false;
+    if (websocketCompressionRequestedServerWindowBits != that.websocketCompressionRequestedServerWindowBits) return false;
+    if (websocketCompressionMinFrameSize != that.websocketCompressionMinFrameSize) return false;
+    if (poolPerEventLoop != that.poolPerEventLoop) return false;
+    if (minIdleSize != that.minIdleSize) return false;
+    if (keepAliveTimeout != that.keepAliveTimeout) return false;
+    if (maxLifetime != that.maxLifetime) return false;
+    if (poolCleanerPeriod != that.poolCleanerPeriod) return false;
+    if (responseCacheMaxSize != that.responseCacheMaxSize) return false;
+    if (responseCacheDir == null ? that.responseCacheDir != null : !responseCacheDir.equals(that.responseCacheDir)) return false;
+    if (requestCoalescing != that.requestCoalescing) return false;
+    if (!coalescingHeaders.equals(that.coalescingHeaders)) return false;
+    if (hedgingDelay != that.hedgingDelay) return false;
+    if (hedgingPercentile != that.hedgingPercentile) return false;
+    if (hedgingBudget != that.hedgingBudget) return false;
 
     return true;
   }
@@ -1015,6 +1612,25 @@ public class HttpClientOptions extends ClientOptionsBase {
     result = 31 * result + (sendUnmaskedFrames ? 1 : 0);
     result = 31 * result + maxRedirects;
     result = 31 * result + decoderInitialBufferSize;
+    result = 31 * result + (tryUsePerMessageWebsocketCompression ? 1 : 0);
+    result = 31 * result + websocketCompressionLevel;
+    result = 31 * result + (websocketCompressionAllowClientNoContext ? 1 : 0);
+    result = 31 * result + (websocketCompressionRequestServerNoContext ? 1 : 0);
+    result = 31 * result + (websocketCompressionAllowClientWindowBits ? 1 : 0);
+    result = 31 * result + websocketCompressionRequestedServerWindowBits;
+    result = 31 * result + websocketCompressionMinFrameSize;
+    result = 31 * result + (poolPerEventLoop ? 1 : 0);
+    result = 31 * result + minIdleSize;
+    result = 31 * result + keepAliveTimeout;
+    result = 31 * result + maxLifetime;
+    result = 31 * result + poolCleanerPeriod;
+    result = 31 * result + responseCacheMaxSize;
+    result = 31 * result + (responseCacheDir != null ? responseCacheDir.hashCode() : 0);
+    result = 31 * result + (requestCoalescing ? 1 : 0);
+    result = 31 * result + coalescingHeaders.hashCode();
+    result = 31 * result + hedgingDelay;
+    result = 31 * result + hedgingPercentile;
+    result = 31 * result + hedgingBudget;
     return result;
   }
 
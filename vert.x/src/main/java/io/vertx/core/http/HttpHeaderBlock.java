@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.impl.headers.HttpHeaderBlockImpl;
+
+/**
+ * An immutable block of HTTP headers encoded once, meant for the headers sent with many responses like
+ * {@code Content-Type}, {@code Server} or the CORS headers.
+ * <p>
+ * A block is added to a response with {@link HttpServerResponse#putHeaders(HttpHeaderBlock)}, the response keeps
+ * a reference to the block and an HTTP/1.x response copies its encoded bytes instead of encoding the headers again.
+ * <p>
+ * A block can be shared by any number of responses, from any thread.
+ */
+@VertxGen
+public interface HttpHeaderBlock {
+
+  /**
+   * Create a block from the given headers.
+   *
+   * @param headers the headers
+   * @return the block
+   * @throws IllegalArgumentException when a header contains a line break
+   */
+  static HttpHeaderBlock create(MultiMap headers) {
+    return new HttpHeaderBlockImpl(headers);
+  }
+
+  /**
+   * @return a copy of the headers of this block, changing the copy does not change the block
+   */
+  MultiMap headers();
+
+}
@@ -160,6 +160,16 @@ public interface HttpServer extends Measured {
   @Fluent
   HttpServer listen(Handler<AsyncResult<HttpServer>> listenHandler);
 
+  /**
+   * Read the key and trust stores of the server options again, e.g after a certificate has been renewed in
+   * its file. The new connections use the new certificates, the established connections are not affected.
+   *
+   * @param completionHandler  the handler notified when the stores have been read
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  HttpServer reloadCertificates(@Nullable Handler<AsyncResult<Void>> completionHandler);
+
   /**
    * Close the server. Any open HTTP connections will be closed.
    * <p>
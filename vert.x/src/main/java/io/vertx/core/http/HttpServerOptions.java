@@ -25,7 +25,10 @@ import io.vertx.core.net.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents options used by an {@link io.vertx.core.http.HttpServer} instance
@@ -111,6 +114,96 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final int DEFAULT_DECODER_INITIAL_BUFFER_SIZE = 128;
 
+  /**
+   * Default value of whether {@code sendFile} serves pre-compressed {@code .gz} files = false
+   */
+  public static final boolean DEFAULT_PRECOMPRESSED_FILES_SUPPORTED = false;
+
+  /**
+   * Default max number of files kept open by {@code sendFile} = 0 (no cache)
+   */
+  public static final int DEFAULT_FILE_CACHE_SIZE = 0;
+
+  /**
+   * Default time a cached file is served before its metadata is checked again = 1000 ms
+   */
+  public static final long DEFAULT_FILE_CACHE_VALIDITY = 1000;
+
+  /**
+   * Default support for WebSockets per-message deflate compression extension = false
+   */
+  public static final boolean DEFAULT_PER_MESSAGE_WEBSOCKET_COMPRESSION_SUPPORTED = false;
+
+  /**
+   * Default WebSocket deflate compression level = 6
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_LEVEL = 6;
+
+  /**
+   * Default WebSocket deflate server no context takeover acceptance = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_ALLOW_SERVER_NO_CONTEXT = false;
+
+  /**
+   * Default WebSocket deflate client no context takeover request = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_PREFERRED_CLIENT_NO_CONTEXT = false;
+
+  /**
+   * Default WebSocket deflate server window bits acceptance = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_ALLOW_SERVER_WINDOW_BITS = false;
+
+  /**
+   * Default WebSocket deflate client window bits = 15
+   */
+  public static final int DEFAULT_WEBSOCKET_PREFERRED_CLIENT_WINDOW_BITS = 15;
+
+  /**
+   * Default minimum size of a WebSocket frame to compress = 0
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_MIN_FRAME_SIZE = 0;
+
+  /**
+   * Default value of whether the server registers event bus write handlers for WebSockets = true
+   */
+  public static final boolean DEFAULT_REGISTER_WEBSOCKET_WRITE_HANDLERS = true;
+
+  /**
+   * Default max number of concurrent requests = -1 (unlimited)
+   */
+  public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = -1;
+
+  /**
+   * Default min size of a compressed response body = 0
+   */
+  public static final int DEFAULT_COMPRESSION_MIN_SIZE = 0;
+
+  /**
+   * Default send date header = false
+   */
+  public static final boolean DEFAULT_SEND_DATE_HEADER = false;
+
+  /**
+   * Default max multipart part size = -1 (unlimited)
+   */
+  public static final long DEFAULT_MAX_MULTIPART_PART_SIZE = -1;
+
+  /**
+   * Default max multipart body size = -1 (unlimited)
+   */
+  public static final long DEFAULT_MAX_MULTIPART_BODY_SIZE = -1;
+
+  /**
+   * Default max request body size = -1 (unlimited)
+   */
+  public static final long DEFAULT_MAX_REQUEST_BODY_SIZE = -1;
+
+  /**
+   * Default range requests supported = false
+   */
+  public static final boolean DEFAULT_RANGE_REQUESTS_SUPPORTED = false;
+
   private boolean compressionSupported;
   private int compressionLevel;
   private int maxWebsocketFrameSize;
@@ -126,6 +219,26 @@ public class HttpServerOptions extends NetServerOptions {
   private boolean decompressionSupported;
   private boolean acceptUnmaskedFrames;
   private int decoderInitialBufferSize;
+  private boolean precompressedFilesSupported;
+  private int fileCacheSize;
+  private long fileCacheValidity;
+  private boolean perMessageWebsocketCompressionSupported;
+  private int websocketCompressionLevel;
+  private boolean websocketAllowServerNoContext;
+  private boolean websocketPreferredClientNoContext;
+  private boolean websocketAllowServerWindowBits;
+  private int websocketPreferredClientWindowBits;
+  private int websocketCompressionMinFrameSize;
+  private boolean registerWebsocketWriteHandlers;
+  private int maxConcurrentRequests;
+  private int compressionMinSize;
+  private Set<String> compressedContentTypes;
+  private Set<String> uncompressedContentTypes;
+  private boolean sendDateHeader;
+  private long maxMultipartPartSize;
+  private long maxMultipartBodySize;
+  private long maxRequestBodySize;
+  private boolean rangeRequestsSupported;
 
   /**
    * Default constructor
@@ -158,6 +271,26 @@ public class HttpServerOptions extends NetServerOptions {
     this.decompressionSupported = other.isDecompressionSupported();
     this.acceptUnmaskedFrames = other.isAcceptUnmaskedFrames();
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
+    this.precompressedFilesSupported = other.precompressedFilesSupported;
+    this.fileCacheSize = other.fileCacheSize;
+    this.fileCacheValidity = other.fileCacheValidity;
+    this.perMessageWebsocketCompressionSupported = other.perMessageWebsocketCompressionSupported;
+    this.websocketCompressionLevel = other.websocketCompressionLevel;
+    this.websocketAllowServerNoContext = other.websocketAllowServerNoContext;
+    this.websocketPreferredClientNoContext = other.websocketPreferredClientNoContext;
+    this.websocketAllowServerWindowBits = other.websocketAllowServerWindowBits;
+    this.websocketPreferredClientWindowBits = other.websocketPreferredClientWindowBits;
+    this.websocketCompressionMinFrameSize = other.websocketCompressionMinFrameSize;
+    this.registerWebsocketWriteHandlers = other.registerWebsocketWriteHandlers;
+    this.maxConcurrentRequests = other.maxConcurrentRequests;
+    this.compressionMinSize = other.compressionMinSize;
+    this.compressedContentTypes = other.compressedContentTypes != null ? new LinkedHashSet<>(other.compressedContentTypes) : null;
+    this.uncompressedContentTypes = other.uncompressedContentTypes != null ? new LinkedHashSet<>(other.uncompressedContentTypes) : null;
+    this.sendDateHeader = other.sendDateHeader;
+    this.maxMultipartPartSize = other.maxMultipartPartSize;
+    this.maxMultipartBodySize = other.maxMultipartBodySize;
+    this.maxRequestBodySize = other.maxRequestBodySize;
+    this.rangeRequestsSupported = other.rangeRequestsSupported;
   }
 
   /**
@@ -198,6 +331,26 @@ public class HttpServerOptions extends NetServerOptions {
     decompressionSupported = DEFAULT_DECOMPRESSION_SUPPORTED;
     acceptUnmaskedFrames = DEFAULT_ACCEPT_UNMASKED_FRAMES;
     decoderInitialBufferSize = DEFAULT_DECODER_INITIAL_BUFFER_SIZE;
+    precompressedFilesSupported = DEFAULT_PRECOMPRESSED_FILES_SUPPORTED;
+    fileCacheSize = DEFAULT_FILE_CACHE_SIZE;
+    fileCacheValidity = DEFAULT_FILE_CACHE_VALIDITY;
+    perMessageWebsocketCompressionSupported = DEFAULT_PER_MESSAGE_WEBSOCKET_COMPRESSION_SUPPORTED;
+    websocketCompressionLevel = DEFAULT_WEBSOCKET_COMPRESSION_LEVEL;
+    websocketAllowServerNoContext = DEFAULT_WEBSOCKET_ALLOW_SERVER_NO_CONTEXT;
+    websocketPreferredClientNoContext = DEFAULT_WEBSOCKET_PREFERRED_CLIENT_NO_CONTEXT;
+    websocketAllowServerWindowBits = DEFAULT_WEBSOCKET_ALLOW_SERVER_WINDOW_BITS;
+    websocketPreferredClientWindowBits = DEFAULT_WEBSOCKET_PREFERRED_CLIENT_WINDOW_BITS;
+    websocketCompressionMinFrameSize = DEFAULT_WEBSOCKET_COMPRESSION_MIN_FRAME_SIZE;
+    registerWebsocketWriteHandlers = DEFAULT_REGISTER_WEBSOCKET_WRITE_HANDLERS;
+    maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+    compressionMinSize = DEFAULT_COMPRESSION_MIN_SIZE;
+    compressedContentTypes = new LinkedHashSet<>();
+    uncompressedContentTypes = new LinkedHashSet<>();
+    sendDateHeader = DEFAULT_SEND_DATE_HEADER;
+    maxMultipartPartSize = DEFAULT_MAX_MULTIPART_PART_SIZE;
+    maxMultipartBodySize = DEFAULT_MAX_MULTIPART_BODY_SIZE;
+    maxRequestBodySize = DEFAULT_MAX_REQUEST_BODY_SIZE;
+    rangeRequestsSupported = DEFAULT_RANGE_REQUESTS_SUPPORTED;
   }
 
   @Override
@@ -230,6 +383,30 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setWriteBatching(boolean writeBatching) {
+    super.setWriteBatching(writeBatching);
+    return this;
+  }
+
+  @Override
+  public HttpServerOptions setSslSessionCacheSize(int sslSessionCacheSize) {
+    super.setSslSessionCacheSize(sslSessionCacheSize);
+    return this;
+  }
+
+  @Override
+  public HttpServerOptions setSslSessionTimeout(int sslSessionTimeout) {
+    super.setSslSessionTimeout(sslSessionTimeout);
+    return this;
+  }
+
+  @Override
+  public HttpServerOptions setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    super.setSslHandshakePoolSize(sslHandshakePoolSize);
+    return this;
+  }
+
   @Override
   public HttpServerOptions setTcpKeepAlive(boolean tcpKeepAlive) {
     super.setTcpKeepAlive(tcpKeepAlive);
@@ -338,6 +515,12 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setMaxConnections(int maxConnections) {
+    super.setMaxConnections(maxConnections);
+    return this;
+  }
+
   public HttpServerOptions setPort(int port) {
     super.setPort(port);
     return this;
@@ -647,6 +830,11 @@ public class HttpServerOptions extends NetServerOptions {
     return (HttpServerOptions) super.setSni(sni);
   }
 
+  @Override
+  public HttpServerOptions setSniCacheSize(int sniCacheSize) {
+    return (HttpServerOptions) super.setSniCacheSize(sniCacheSize);
+  }
+
   /**
    * @return true if the server supports decompression
    */
@@ -681,6 +869,439 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
   
+  /**
+   * @return true if {@code sendFile} serves the pre-compressed {@code .gz} sibling of a file
+   */
+  public boolean isPrecompressedFilesSupported() {
+    return precompressedFilesSupported;
+  }
+
+  /**
+   * Set whether {@code sendFile} serves the pre-compressed {@code .gz} sibling of a file, when it exists and the client
+   * accepts gzip. The compressed file is sent as is with zero-copy, even when compression is supported.
+   *
+   * @param precompressedFilesSupported true to serve pre-compressed files
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setPrecompressedFilesSupported(boolean precompressedFilesSupported) {
+    this.precompressedFilesSupported = precompressedFilesSupported;
+    return this;
+  }
+
+  /**
+   * @return the max number of files which descriptor and metadata are cached by {@code sendFile}
+   */
+  public int getFileCacheSize() {
+    return fileCacheSize;
+  }
+
+  /**
+   * Set the max number of files which descriptor and metadata are cached by {@code sendFile}, hot files are then
+   * served without opening and stating them again. The cache is disabled when the size is {@code 0}.
+   *
+   * @param fileCacheSize the cache size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheSize(int fileCacheSize) {
+    Arguments.require(fileCacheSize >= 0, "fileCacheSize must be >= 0");
+    this.fileCacheSize = fileCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the time in ms a cached file is served before checking its metadata again
+   */
+  public long getFileCacheValidity() {
+    return fileCacheValidity;
+  }
+
+  /**
+   * Set the time in ms a cached file is served before checking its metadata again, a file which has changed
+   * is then re-opened.
+   *
+   * @param fileCacheValidity the validity in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheValidity(long fileCacheValidity) {
+    Arguments.require(fileCacheValidity >= 0, "fileCacheValidity must be >= 0");
+    this.fileCacheValidity = fileCacheValidity;
+    return this;
+  }
+
+  /**
+   * @return whether the server accepts the WebSocket per-message deflate compression extension
+   */
+  public boolean isPerMessageWebsocketCompressionSupported() {
+    return perMessageWebsocketCompressionSupported;
+  }
+
+  /**
+   * Enable or disable support for the WebSocket per-message deflate compression extension (RFC 7692).
+   * <p/>
+   * When enabled, the extension is negotiated with clients asking for it during the WebSocket handshake.
+   *
+   * @param perMessageWebsocketCompressionSupported {@code true} to enable the extension
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setPerMessageWebsocketCompressionSupported(boolean perMessageWebsocketCompressionSupported) {
+    this.perMessageWebsocketCompressionSupported = perMessageWebsocketCompressionSupported;
+    return this;
+  }
+
+  /**
+   * @return the WebSocket deflate compression level
+   */
+  public int getWebsocketCompressionLevel() {
+    return websocketCompressionLevel;
+  }
+
+  /**
+   * Set the deflate compression level used by the WebSocket per-message deflate compression extension.
+   *
+   * @param websocketCompressionLevel integer 0-9, 0 means no compression, 9 slower algorithm but better compression ratio
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketCompressionLevel(int websocketCompressionLevel) {
+    Arguments.requireInRange(websocketCompressionLevel, 0, 9, "websocketCompressionLevel must be between 0 and 9");
+    this.websocketCompressionLevel = websocketCompressionLevel;
+    return this;
+  }
+
+  /**
+   * @return whether the server accepts a client request to compress each message with a fresh context
+   */
+  public boolean isWebsocketAllowServerNoContext() {
+    return websocketAllowServerNoContext;
+  }
+
+  /**
+   * Set whether the server accepts the {@code server_no_context_takeover} parameter of a client, i.e compresses
+   * each message with a fresh context. This lowers the memory held by idle connections at the expense of the
+   * compression ratio.
+   *
+   * @param websocketAllowServerNoContext {@code true} to accept the parameter
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketAllowServerNoContext(boolean websocketAllowServerNoContext) {
+    this.websocketAllowServerNoContext = websocketAllowServerNoContext;
+    return this;
+  }
+
+  /**
+   * @return whether the server asks the client to compress each message with a fresh context
+   */
+  public boolean isWebsocketPreferredClientNoContext() {
+    return websocketPreferredClientNoContext;
+  }
+
+  /**
+   * Set whether the server sends the {@code client_no_context_takeover} parameter, i.e asks the client to
+   * compress each message with a fresh context.
+   *
+   * @param websocketPreferredClientNoContext {@code true} to send the parameter
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketPreferredClientNoContext(boolean websocketPreferredClientNoContext) {
+    this.websocketPreferredClientNoContext = websocketPreferredClientNoContext;
+    return this;
+  }
+
+  /**
+   * @return whether the server accepts a client request to use a smaller compression window
+   */
+  public boolean isWebsocketAllowServerWindowBits() {
+    return websocketAllowServerWindowBits;
+  }
+
+  /**
+   * Set whether the server accepts the {@code server_max_window_bits} parameter of a client. When it does not,
+   * the extension is declined for clients sending this parameter.
+   * <p/>
+   * Compressing with a window smaller than 15 bits requires JZlib on the classpath.
+   *
+   * @param websocketAllowServerWindowBits {@code true} to accept the parameter
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketAllowServerWindowBits(boolean websocketAllowServerWindowBits) {
+    this.websocketAllowServerWindowBits = websocketAllowServerWindowBits;
+    return this;
+  }
+
+  /**
+   * @return the compression window size, in bits, the server asks clients to use
+   */
+  public int getWebsocketPreferredClientWindowBits() {
+    return websocketPreferredClientWindowBits;
+  }
+
+  /**
+   * Set the compression window size, in bits, sent to clients offering the {@code client_max_window_bits} parameter.
+   *
+   * @param websocketPreferredClientWindowBits integer 8-15
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketPreferredClientWindowBits(int websocketPreferredClientWindowBits) {
+    Arguments.requireInRange(websocketPreferredClientWindowBits, 8, 15, "websocketPreferredClientWindowBits must be between 8 and 15");
+    this.websocketPreferredClientWindowBits = websocketPreferredClientWindowBits;
+    return this;
+  }
+
+  /**
+   * @return the minimum size of a WebSocket message first frame to compress it
+   */
+  public int getWebsocketCompressionMinFrameSize() {
+    return websocketCompressionMinFrameSize;
+  }
+
+  /**
+   * Set the minimum size of a WebSocket message first frame to compress it, smaller messages are sent uncompressed
+   * since deflating them costs more than it saves.
+   *
+   * @param websocketCompressionMinFrameSize the size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketCompressionMinFrameSize(int websocketCompressionMinFrameSize) {
+    Arguments.require(websocketCompressionMinFrameSize >= 0, "websocketCompressionMinFrameSize must be >= 0");
+    this.websocketCompressionMinFrameSize = websocketCompressionMinFrameSize;
+    return this;
+  }
+
+  /**
+   * @return whether the server registers the event bus handlers writing to WebSockets
+   */
+  public boolean isRegisterWebsocketWriteHandlers() {
+    return registerWebsocketWriteHandlers;
+  }
+
+  /**
+   * Set whether the server registers the event bus handlers writing to WebSockets, given by {@link ServerWebSocket#binaryHandlerID()}
+   * and {@link ServerWebSocket#textHandlerID()}.
+   * <p>
+   * Each registration costs memory for the life of the WebSocket, servers keeping many mostly idle WebSockets
+   * that do not write to them through the event bus should disable it, the handler ids are then {@code null}.
+   *
+   * @param registerWebsocketWriteHandlers whether to register the handlers
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setRegisterWebsocketWriteHandlers(boolean registerWebsocketWriteHandlers) {
+    this.registerWebsocketWriteHandlers = registerWebsocketWriteHandlers;
+    return this;
+  }
+
+  /**
+   * @return the max number of concurrent requests
+   */
+  public int getMaxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  /**
+   * Set the max number of requests the server processes concurrently over all its connections, {@code -1} means unlimited.
+   * <p>
+   * A request received above this number is not handled: an HTTP/1.x request gets a {@code 503} response and
+   * an HTTP/2 stream is reset with the {@code REFUSED_STREAM} error. A request is processed until its response ends.
+   *
+   * @param maxConcurrentRequests the max number of requests
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMaxConcurrentRequests(int maxConcurrentRequests) {
+    if (maxConcurrentRequests < 1 && maxConcurrentRequests != -1) {
+      throw new IllegalArgumentException("maxConcurrentRequests must be > 0 or -1 (unlimited)");
+    }
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    return this;
+  }
+
+  /**
+   * @return the min size of a response body to compress it
+   */
+  public int getCompressionMinSize() {
+    return compressionMinSize;
+  }
+
+  /**
+   * Set the min size of a response body to compress it. Compressing a small body costs more CPU than it saves bytes, the
+   * gzip framing can even make it larger.
+   * <p>
+   * The size of a response is known from its {@code Content-Length} header, chunked responses are compressed.
+   *
+   * @param compressionMinSize the min size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionMinSize(int compressionMinSize) {
+    Arguments.require(compressionMinSize >= 0, "compressionMinSize must be >= 0");
+    this.compressionMinSize = compressionMinSize;
+    return this;
+  }
+
+  /**
+   * @return the content types of the compressed responses, all content types are compressed when empty
+   */
+  public Set<String> getCompressedContentTypes() {
+    return compressedContentTypes;
+  }
+
+  /**
+   * Add a content type to compress, once a content type is added only the responses of the added content types
+   * are compressed.
+   * <p>
+   * A content type is either a media type like {@code application/json} or a type wildcard like {@code text/*}, the
+   * parameters of the response content type are ignored.
+   *
+   * @param contentType the content type to compress
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions addCompressedContentType(String contentType) {
+    Objects.requireNonNull(contentType, "No null content type accepted");
+    compressedContentTypes.add(contentType);
+    return this;
+  }
+
+  /**
+   * @return the content types of the responses that are never compressed
+   */
+  public Set<String> getUncompressedContentTypes() {
+    return uncompressedContentTypes;
+  }
+
+  /**
+   * Add a content type that is never compressed, like the already compressed images or videos, this takes precedence
+   * over {@link #addCompressedContentType(String)}.
+   * <p>
+   * A content type is either a media type like {@code application/zip} or a type wildcard like {@code image/*}, the
+   * parameters of the response content type are ignored.
+   *
+   * @param contentType the content type to not compress
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions addUncompressedContentType(String contentType) {
+    Objects.requireNonNull(contentType, "No null content type accepted");
+    uncompressedContentTypes.add(contentType);
+    return this;
+  }
+
+  /**
+   * @return whether a {@code Date} header is added to the responses
+   */
+  public boolean isSendDateHeader() {
+    return sendDateHeader;
+  }
+
+  /**
+   * Set whether a {@code Date} header is added to the responses not having one.
+   * <p>
+   * The header value is formatted at most once per second by each event loop.
+   *
+   * @param sendDateHeader true to add the header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setSendDateHeader(boolean sendDateHeader) {
+    this.sendDateHeader = sendDateHeader;
+    return this;
+  }
+
+  /**
+   * @return the maximum size of a part of a multipart form, {@code -1} when unlimited
+   */
+  public long getMaxMultipartPartSize() {
+    return maxMultipartPartSize;
+  }
+
+  /**
+   * Set the maximum size of a part of a multipart form, a file or an attribute.
+   * <p>
+   * When a part exceeds this size, the upload and the request exception handlers are called and the rest of the form
+   * is ignored.
+   *
+   * @param maxMultipartPartSize the maximum size in bytes, {@code -1} for no limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMaxMultipartPartSize(long maxMultipartPartSize) {
+    if (maxMultipartPartSize < -1) {
+      throw new IllegalArgumentException("maxMultipartPartSize must be >= 0 or -1 (unlimited)");
+    }
+    this.maxMultipartPartSize = maxMultipartPartSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum size of a multipart form body, {@code -1} when unlimited
+   */
+  public long getMaxMultipartBodySize() {
+    return maxMultipartBodySize;
+  }
+
+  /**
+   * Set the maximum size of a multipart form body.
+   * <p>
+   * When the body exceeds this size, the upload and the request exception handlers are called and the rest of the form
+   * is ignored.
+   *
+   * @param maxMultipartBodySize the maximum size in bytes, {@code -1} for no limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMaxMultipartBodySize(long maxMultipartBodySize) {
+    if (maxMultipartBodySize < -1) {
+      throw new IllegalArgumentException("maxMultipartBodySize must be >= 0 or -1 (unlimited)");
+    }
+    this.maxMultipartBodySize = maxMultipartBodySize;
+    return this;
+  }
+
+  /**
+   * @return the maximum size of a request body, {@code -1} when unlimited
+   */
+  public long getMaxRequestBodySize() {
+    return maxRequestBodySize;
+  }
+
+  /**
+   * Set the maximum size of a request body, a request can override it with {@link HttpServerRequest#setMaxBodySize(long)}.
+   * <p>
+   * A request with a larger {@code Content-Length} is rejected when its handler returns, before its body is read. When
+   * the {@code 100-continue} expectation is handled automatically, the size is checked before sending the {@code 100 Continue}
+   * response. A request whose body grows larger while it is received, like a chunked body, is rejected as soon as the limit
+   * is exceeded.
+   * <p>
+   * The request exception handler is called with a {@link io.netty.handler.codec.TooLongFrameException}, a {@code 413}
+   * response is sent when the response has not been sent yet and the rest of the body is not read: the HTTP/1.x connection
+   * is closed and the HTTP/2 stream is reset.
+   *
+   * @param maxRequestBodySize the maximum size in bytes, {@code -1} for no limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMaxRequestBodySize(long maxRequestBodySize) {
+    if (maxRequestBodySize < -1) {
+      throw new IllegalArgumentException("maxRequestBodySize must be >= 0 or -1 (unlimited)");
+    }
+    this.maxRequestBodySize = maxRequestBodySize;
+    return this;
+  }
+
+  /**
+   * @return true if {@code sendFile} handles the range and conditional requests for a whole file
+   */
+  public boolean isRangeRequestsSupported() {
+    return rangeRequestsSupported;
+  }
+
+  /**
+   * Set whether {@code sendFile} handles the range and conditional requests when it sends a whole file.
+   * <p>
+   * The response gets the {@code ETag}, {@code Last-Modified} and {@code Accept-Ranges} headers of the file. A request
+   * whose {@code If-None-Match} or {@code If-Modified-Since} header matches the file gets a {@code 304} response without
+   * opening the file. A {@code GET} request with a {@code Range} header gets a {@code 206} response, with a
+   * {@code multipart/byteranges} body when it asks for several ranges, or a {@code 416} response when no range can be
+   * satisfied. The {@code If-Range} header is honoured. Ranges are sent with zero-copy when the connection allows it.
+   *
+   * @param rangeRequestsSupported true to handle range and conditional requests
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setRangeRequestsSupported(boolean rangeRequestsSupported) {
+    this.rangeRequestsSupported = rangeRequestsSupported;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -702,6 +1323,26 @@ public class HttpServerOptions extends NetServerOptions {
     if (decompressionSupported != that.decompressionSupported) return false;
     if (acceptUnmaskedFrames != that.acceptUnmaskedFrames) return false;
     if (decoderInitialBufferSize != that.decoderInitialBufferSize) return false;
+    if (precompressedFilesSupported != that.precompressedFilesSupported) return false;
+    if (fileCacheSize != that.fileCacheSize) return false;
+    if (fileCacheValidity != that.fileCacheValidity) return false;
+    if (perMessageWebsocketCompressionSupported != that.perMessageWebsocketCompressionSupported) return false;
+    if (websocketCompressionLevel != that.websocketCompressionLevel) return false;
+    if (websocketAllowServerNoContext != that.websocketAllowServerNoContext) return false;
+    if (websocketPreferredClientNoContext != that.websocketPreferredClientNoContext) return false;
+    if (websocketAllowServerWindowBits != that.websocketAllowServerWindowBits) return false;
+    if (websocketPreferredClientWindowBits != that.websocketPreferredClientWindowBits) return false;
+    if (websocketCompressionMinFrameSize != that.websocketCompressionMinFrameSize) return false;
+    if (registerWebsocketWriteHandlers != that.registerWebsocketWriteHandlers) return false;
+    if (maxConcurrentRequests != that.maxConcurrentRequests) return false;
+    if (compressionMinSize != that.compressionMinSize) return false;
+    if (compressedContentTypes != null ? !compressedContentTypes.equals(that.compressedContentTypes) : that.compressedContentTypes != null) return false;
+    if (uncompressedContentTypes != null ? !uncompressedContentTypes.equals(that.uncompressedContentTypes) : that.uncompressedContentTypes != null) return false;
+    if (sendDateHeader != that.sendDateHeader) return false;
+    if (maxMultipartPartSize != that.maxMultipartPartSize) return false;
+    if (maxMultipartBodySize != that.maxMultipartBodySize) return false;
+    if (maxRequestBodySize != that.maxRequestBodySize) return false;
+    if (rangeRequestsSupported != that.rangeRequestsSupported) return false;
 
     return !(websocketSubProtocols != null ? !websocketSubProtocols.equals(that.websocketSubProtocols) : that.websocketSubProtocols != null);
 
@@ -724,6 +1365,26 @@ public class HttpServerOptions extends NetServerOptions {
     result = 31 * result + (decompressionSupported ? 1 : 0);
     result = 31 * result + (acceptUnmaskedFrames ? 1 : 0);
     result = 31 * result + decoderInitialBufferSize;
+    result = 31 * result + (precompressedFilesSupported ? 1 : 0);
+    result = 31 * result + fileCacheSize;
+    result = 31 * result + (int) (fileCacheValidity ^ (fileCacheValidity >>> 32));
+    result = 31 * result + (perMessageWebsocketCompressionSupported ? 1 : 0);
+    result = 31 * result + websocketCompressionLevel;
+    result = 31 * result + (websocketAllowServerNoContext ? 1 : 0);
+    result = 31 * result + (websocketPreferredClientNoContext ? 1 : 0);
+    result = 31 * result + (websocketAllowServerWindowBits ? 1 : 0);
+    result = 31 * result + websocketPreferredClientWindowBits;
+    result = 31 * result + websocketCompressionMinFrameSize;
+    result = 31 * result + (registerWebsocketWriteHandlers ? 1 : 0);
+    result = 31 * result + maxConcurrentRequests;
+    result = 31 * result + compressionMinSize;
+    result = 31 * result + (compressedContentTypes != null ? compressedContentTypes.hashCode() : 0);
+    result = 31 * result + (uncompressedContentTypes != null ? uncompressedContentTypes.hashCode() : 0);
+    result = 31 * result + (sendDateHeader ? 1 : 0);
+    result = 31 * result + (int) (maxMultipartPartSize ^ (maxMultipartPartSize >>> 32));
+    result = 31 * result + (int) (maxMultipartBodySize ^ (maxMultipartBodySize >>> 32));
+    result = 31 * result + (int) (maxRequestBodySize ^ (maxRequestBodySize >>> 32));
+    result = 31 * result + (rangeRequestsSupported ? 1 : 0);
     return result;
   }
 }
@@ -228,6 +228,23 @@ public interface HttpServerRequest extends ReadStream<Buffer> {
    */
   boolean isExpectMultipart();
 
+  /**
+   * Set the maximum size of the body of this request, overriding {@link HttpServerOptions#getMaxRequestBodySize()}.
+   * <p>
+   * The size is checked against the {@code Content-Length} header when the request handler returns, so it should be
+   * set by the request handler.
+   *
+   * @param maxBodySize the maximum size in bytes, {@code -1} for no limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  HttpServerRequest setMaxBodySize(long maxBodySize);
+
+  /**
+   * @return the maximum size of the body of this request, {@code -1} when unlimited
+   */
+  long getMaxBodySize();
+
   /**
    * Set an upload handler. The handler will get notified once a new file upload was received to allow you to deal
    * with the file upload.
@@ -115,6 +115,22 @@ public interface HttpServerResponse extends WriteStream<Buffer> {
    */
   boolean isChunked();
 
+  /**
+   * Override the server compression policy for this response, this must be called before the response headers
+   * are written.
+   * <p>
+   * The level {@code 0} disables the compression of the response, a level between {@code 1} and {@code 9} compresses
+   * the response at this level whatever its size and content type and {@code -1} applies the server policy. The
+   * response is compressed only when the server supports compression and the client accepts it.
+   * <p>
+   * HTTP/2 responses are compressed at the server compression level.
+   *
+   * @param level the compression level
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  HttpServerResponse setCompressionLevel(int level);
+
   /**
    * @return The HTTP headers
    */
@@ -149,6 +165,17 @@ public interface HttpServerResponse extends WriteStream<Buffer> {
   @GenIgnore
   HttpServerResponse putHeader(CharSequence name, Iterable<CharSequence> values);
 
+  /**
+   * Put the headers of a block, replacing the headers with the same names.
+   * <p>
+   * The response keeps a reference to the block, an HTTP/1.x response copies the encoded headers of the block.
+   *
+   * @param block  the header block
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  HttpServerResponse putHeaders(HttpHeaderBlock block);
+
   /**
    * @return The HTTP trailers
    */
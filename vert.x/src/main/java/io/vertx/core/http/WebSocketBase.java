@@ -72,8 +72,11 @@ public interface WebSocketBase extends ReadStream<Buffer>, WriteStream<Buffer> {
    * Given this ID, a different event loop can send a binary frame to that event handler using the event bus and
    * that buffer will be received by this instance in its own event loop and written to the underlying connection. This
    * allows you to write data to other WebSockets which are owned by different event loops.
+   * <p>
+   * A server WebSocket has no handler when {@link HttpServerOptions#setRegisterWebsocketWriteHandlers(boolean)}
+   * is disabled.
    *
-   * @return the binary handler id
+   * @return the binary handler id, or {@code null} when no handler is registered
    */
   String binaryHandlerID();
 
@@ -84,6 +87,9 @@ public interface WebSocketBase extends ReadStream<Buffer>, WriteStream<Buffer> {
    * Given this ID, a different event loop can send a text frame to that event handler using the event bus and
    * that buffer will be received by this instance in its own event loop and written to the underlying connection. This
    * allows you to write data to other WebSockets which are owned by different event loops.
+   * <p>
+   * A server WebSocket has no handler when {@link HttpServerOptions#setRegisterWebsocketWriteHandlers(boolean)}
+   * is disabled, this method returns {@code null} then.
    */
   String textHandlerID();
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.WebSocketBroadcastImpl;
+
+/**
+ * Writes the same message to a group of web sockets.
+ * <p>
+ * The message payload is encoded once and shared by all the web sockets, each web socket writes it on its own
+ * event loop thread. Web sockets sharing an event loop are written by a single task.
+ * <p>
+ * Web sockets whose write queue is full are handled according to the {@link WebSocketBroadcastPolicy}, closed
+ * web sockets are skipped.
+ */
+@VertxGen
+public interface WebSocketBroadcast {
+
+  /**
+   * Create a broadcast buffering messages for web sockets whose write queue is full.
+   *
+   * @return the broadcast
+   */
+  static WebSocketBroadcast create() {
+    return create(WebSocketBroadcastPolicy.BUFFER);
+  }
+
+  /**
+   * Create a broadcast with a specific policy for web sockets whose write queue is full.
+   *
+   * @param policy the policy
+   * @return the broadcast
+   */
+  static WebSocketBroadcast create(WebSocketBroadcastPolicy policy) {
+    return new WebSocketBroadcastImpl(policy);
+  }
+
+  /**
+   * @return the policy for web sockets whose write queue is full
+   */
+  WebSocketBroadcastPolicy policy();
+
+  /**
+   * Write a text message to each web socket, the message is split into frames by each web socket according to its
+   * maximum frame size.
+   *
+   * @param text the message
+   * @param sockets the web sockets
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  @Fluent
+  WebSocketBroadcast writeTextMessage(String text, Iterable<? extends WebSocketBase> sockets);
+
+  /**
+   * Write a binary message to each web socket, the message is split into frames by each web socket according to its
+   * maximum frame size.
+   * <p>
+   * The buffer is shared by the web sockets and must not be modified after this call.
+   *
+   * @param data the message
+   * @param sockets the web sockets
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  @Fluent
+  WebSocketBroadcast writeBinaryMessage(Buffer data, Iterable<? extends WebSocketBase> sockets);
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * What a {@link WebSocketBroadcast} does with a web socket whose write queue is full.
+ */
+@VertxGen
+public enum WebSocketBroadcastPolicy {
+
+  /**
+   * The message is not written to the web socket, slow consumers miss messages but do not accumulate them in memory.
+   */
+  DROP,
+
+  /**
+   * The message is written to the web socket anyway and buffered until the web socket can send it.
+   */
+  BUFFER
+
+}
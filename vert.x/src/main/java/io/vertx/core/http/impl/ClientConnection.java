@@ -76,6 +76,9 @@ class ClientConnection extends Http1xConnectionBase implements HttpClientConnect
   private final Deque<HttpClientRequestImpl> requests = new ArrayDeque<>();
   private final HttpClientMetrics metrics;
   private final HttpVersion version;
+  // Guarded by the pool queue
+  long idleTimestamp;
+  long expirationTimestamp;
 
   private WebSocketClientHandshaker handshaker;
   private HttpClientRequestImpl currentRequest;
@@ -98,6 +101,7 @@ class ClientConnection extends Http1xConnectionBase implements HttpClientConnect
     this.metrics = metrics;
     this.version = version;
     this.endpointMetric = endpointMetric;
+    writeBatching(client.getOptions().isWriteBatching());
   }
 
   public HttpClientMetrics metrics() {
@@ -132,9 +136,14 @@ class ClientConnection extends Http1xConnectionBase implements HttpClientConnect
       } else {
         nettyHeaders = null;
       }
-      handshaker = WebSocketClientHandshakerFactory.newHandshaker(wsuri, version, subProtocols, false,
-                                                                  nettyHeaders, maxWebSocketFrameSize,!client.getOptions().isSendUnmaskedFrames(),false);
+      HttpClientOptions options = client.getOptions();
+      boolean compression = options.isTryUsePerMessageWebsocketCompression();
+      handshaker = WebSocketClientHandshakerFactory.newHandshaker(wsuri, version, subProtocols, compression,
+                                                                  nettyHeaders, maxWebSocketFrameSize,!options.isSendUnmaskedFrames(),false);
       ChannelPipeline p = chctx.pipeline();
+      if (compression) {
+        p.addBefore("handler", WebSocketCompression.HANDLER_NAME, WebSocketCompression.clientHandler(options));
+      }
       p.addBefore("handler", "handshakeCompleter", new HandshakeInboundHandler(wsConnect, version != WebSocketVersion.V00));
       handshaker.handshake(chctx.channel()).addListener(future -> {
         Handler<Throwable> handler = exceptionHandler();
@@ -389,6 +398,14 @@ class ClientConnection extends Http1xConnectionBase implements HttpClientConnect
     currentResponse = null;
   }
 
+  @Override
+  synchronized void reportFrameCompressed(long uncompressedBytes, long compressedBytes) {
+    Object wsMetric = ws != null ? ws.getMetric() : null;
+    if (metrics != null && wsMetric != null) {
+      metrics.frameCompressed(wsMetric, uncompressedBytes, compressedBytes);
+    }
+  }
+
   synchronized void handleWsFrame(WebSocketFrameInternal frame) {
     if (ws != null) {
       ws.handleFrame(frame);
@@ -567,6 +584,7 @@ class ClientConnection extends Http1xConnectionBase implements HttpClientConnect
     // connection was upgraded to raw TCP socket
     NetSocketImpl socket = new NetSocketImpl(vertx, chctx, context, client.getSslHelper(), metrics);
     socket.metric(metric());
+    socket.writeBatching(client.getOptions().isWriteBatching());
     Map<Channel, NetSocketImpl> connectionMap = new HashMap<>(1);
     connectionMap.put(chctx.channel(), socket);
 
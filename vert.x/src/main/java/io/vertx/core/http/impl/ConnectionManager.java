@@ -22,6 +22,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoop;
 import io.netty.channel.FixedRecvByteBufAllocator;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -40,6 +41,7 @@ import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.core.http.HttpClientOptions;
@@ -57,6 +59,8 @@ import io.vertx.core.spi.metrics.HttpClientMetrics;
 
 import javax.net.ssl.SSLHandshakeException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
@@ -80,9 +84,12 @@ public class ConnectionManager {
   private final boolean pipelining;
   private final int maxWaitQueueSize;
   private final int http2MaxConcurrency;
+  private final boolean poolPerEventLoop;
+  private final int minIdleSize;
   private final boolean logEnabled;
   private final ChannelConnector connector;
   private final HttpClientMetrics metrics;
+  private final long cleanerTimerID;
 
   ConnectionManager(HttpClientImpl client, HttpClientMetrics metrics) {
     this.client = client;
@@ -93,9 +100,17 @@ public class ConnectionManager {
     this.pipelining = client.getOptions().isPipelining();
     this.maxWaitQueueSize = client.getOptions().getMaxWaitQueueSize();
     this.http2MaxConcurrency = options.getHttp2MultiplexingLimit() < 1 ? Integer.MAX_VALUE : options.getHttp2MultiplexingLimit();
+    this.poolPerEventLoop = options.isPoolPerEventLoop();
+    this.minIdleSize = options.getMinIdleSize();
     this.logEnabled = client.getOptions().getLogActivity();
     this.connector = new ChannelConnector();
     this.metrics = metrics;
+    if (options.getKeepAliveTimeout() > 0 || options.getMaxLifetime() > 0 || minIdleSize > 0) {
+      // A single timer cleans the pools of all the endpoints
+      cleanerTimerID = vertx.setPeriodic(options.getPoolCleanerPeriod(), id -> requestQM.checkPools());
+    } else {
+      cleanerTimerID = -1;
+    }
   }
 
   HttpClientMetrics metrics() {
@@ -107,11 +122,30 @@ public class ConnectionManager {
     private final boolean ssl;
     private final int port;
     private final String host;
+    private final String address;
+    private final EventLoop eventLoop;
 
     public ConnectionKey(boolean ssl, int port, String host) {
+      this(ssl, port, host, host, null);
+    }
+
+    /**
+     * @param address the host connected to, it differs from the host when connecting to a proxy or to an endpoint of a group
+     * @param eventLoop the event loop of the pool partition, {@code null} when the pool is not partitioned
+     */
+    public ConnectionKey(boolean ssl, int port, String host, String address, EventLoop eventLoop) {
       this.ssl = ssl;
       this.host = host;
+      this.address = address;
       this.port = port;
+      this.eventLoop = eventLoop;
+    }
+
+    /**
+     * @return true when both keys designate the same server
+     */
+    boolean sameEndpoint(ConnectionKey that) {
+      return ssl == that.ssl && port == that.port && Objects.equals(host, that.host) && Objects.equals(address, that.address);
     }
 
     @Override
@@ -124,6 +158,8 @@ public class ConnectionManager {
       if (ssl != that.ssl) return false;
       if (port != that.port) return false;
       if (!Objects.equals(host, that.host)) return false;
+      if (!Objects.equals(address, that.address)) return false;
+      if (eventLoop != that.eventLoop) return false;
 
       return true;
     }
@@ -132,7 +168,9 @@ public class ConnectionManager {
     public int hashCode() {
       int result = ssl ? 1 : 0;
       result = 31 * result + (host != null ? host.hashCode() : 0);
+      result = 31 * result + (address != null ? address.hashCode() : 0);
       result = 31 * result + port;
+      result = 31 * result + (eventLoop != null ? eventLoop.hashCode() : 0);
       return result;
     }
   }
@@ -148,11 +186,36 @@ public class ConnectionManager {
     private final Map<Channel, HttpClientConnection> connectionMap = new ConcurrentHashMap<>();
     private final Map<ConnectionKey, ConnQueue> queueMap = new ConcurrentHashMap<>();
 
-    ConnQueue getConnQueue(String peerHost, boolean ssl, int port, String host, HttpVersion version) {
-      ConnectionKey key = new ConnectionKey(ssl, port, peerHost);
+    ConnQueue getConnQueue(String peerHost, boolean ssl, int port, String host, HttpVersion version, ContextImpl context) {
+      EventLoop eventLoop = poolPerEventLoop && context != null ? context.nettyEventLoop() : null;
+      ConnectionKey key = new ConnectionKey(ssl, port, peerHost, host, eventLoop);
       return queueMap.computeIfAbsent(key, targetAddress -> new ConnQueue(version, this, peerHost, host, port, ssl, key));
     }
 
+    /**
+     * Borrow an idle connection from the queue of the same server on another event loop.
+     *
+     * @return true when a connection has been borrowed for the waiter
+     */
+    boolean borrowConnection(ConnQueue queue, Waiter waiter) {
+      for (ConnQueue other : queueMap.values()) {
+        if (other != queue && other.key.sameEndpoint(queue.key) && other.lendConnection(waiter)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Evict the expired connections and maintain the minimum idle connections of the pools.
+     */
+    void checkPools() {
+      long now = System.currentTimeMillis();
+      for (ConnQueue queue : queueMap.values()) {
+        queue.checkPool(now);
+      }
+    }
+
     public void close() {
       for (ConnQueue queue: queueMap.values()) {
         queue.closeAllConnections();
@@ -165,7 +228,7 @@ public class ConnectionManager {
   }
 
   public void getConnectionForWebsocket(boolean ssl, int port, String host, Waiter waiter) {
-    ConnQueue connQueue = wsQM.getConnQueue(host, ssl, port, host, HttpVersion.HTTP_1_1);
+    ConnQueue connQueue = wsQM.getConnQueue(host, ssl, port, host, HttpVersion.HTTP_1_1, waiter.context);
     connQueue.getConnection(waiter);
   }
 
@@ -173,12 +236,20 @@ public class ConnectionManager {
     if (!keepAlive && pipelining) {
       waiter.handleFailure(new IllegalStateException("Cannot have pipelining with no keep alive"));
     } else {
-      ConnQueue connQueue = requestQM.getConnQueue(peerHost, ssl, port, host, version);
+      ConnQueue connQueue = requestQM.getConnQueue(peerHost, ssl, port, host, version, waiter.context);
       connQueue.getConnection(waiter);
     }
   }
 
+  public void preconnect(HttpVersion version, String peerHost, boolean ssl, int port, String host, int count, ContextImpl context, Handler<AsyncResult<Void>> handler) {
+    ConnQueue connQueue = requestQM.getConnQueue(peerHost, ssl, port, host, version, context);
+    connQueue.preconnect(count, context, handler);
+  }
+
   public void close() {
+    if (cleanerTimerID != -1) {
+      vertx.cancelTimer(cleanerTimerID);
+    }
     wsQM.close();
     requestQM.close();
     if (metrics != null) {
@@ -195,6 +266,9 @@ public class ConnectionManager {
    * After a queue is initialized with an HTTP/2 pool, this pool changed to an HTTP/1/1
    * pool if the server does not support HTTP/2 or after negotiation. In this situation
    * all waiters on this queue will use HTTP/1.1 connections.
+   *
+   * When the pool is partitioned per event loop, a server has a queue per event loop. A queue is then only used
+   * by its event loop, unless another queue of the server borrows one of its idle connections.
    */
   public class ConnQueue {
 
@@ -207,6 +281,8 @@ public class ConnectionManager {
     private final Queue<Waiter> waiters = new ArrayDeque<>();
     private Pool<HttpClientConnection> pool;
     private int connCount;
+    private int warmingCount;
+    private ContextImpl warmingContext;
     private final int maxSize;
     final Object metric;
 
@@ -227,13 +303,32 @@ public class ConnectionManager {
       this.metric = metrics != null ? metrics.createEndpoint(host, port, maxSize) : null;
     }
 
-    public synchronized void getConnection(Waiter waiter) {
+    public void getConnection(Waiter waiter) {
+      // Borrowing takes the lock of another queue, it must not happen with the lock of this queue
+      boolean borrow = key.eventLoop != null && !Thread.holdsLock(this);
+      if (!acquireConnection(waiter, !borrow)) {
+        if (!mgr.borrowConnection(this, waiter)) {
+          acquireConnection(waiter, true);
+        }
+      }
+    }
+
+    /**
+     * Get a connection of this queue for the waiter.
+     *
+     * @param enqueue whether the waiter waits in the queue when the pool is exhausted
+     * @return false when the pool is exhausted and the waiter has not been queued
+     */
+    private synchronized boolean acquireConnection(Waiter waiter, boolean enqueue) {
+      if (warmingContext == null) {
+        warmingContext = waiter.context;
+      }
       HttpClientConnection conn = pool.pollConnection();
       if (conn != null && conn.isValid()) {
         ContextImpl context = waiter.context;
         if (context == null) {
           context = conn.getContext();
-        } else if (context != conn.getContext()) {
+        } else if (context != conn.getContext() && key.eventLoop == null) {
           ConnectionManager.log.warn("Reusing a connection with a different context: an HttpClient is probably shared between different Verticles");
         }
         context.runOnContext(v -> deliverStream(conn, waiter));
@@ -241,6 +336,8 @@ public class ConnectionManager {
         if (pool.canCreateConnection(connCount)) {
           // Create a new connection
           createNewConnection(waiter);
+        } else if (!enqueue) {
+          return false;
         } else {
           // Wait in queue
           if (maxWaitQueueSize < 0 || waiters.size() < maxWaitQueueSize) {
@@ -253,6 +350,36 @@ public class ConnectionManager {
           }
         }
       }
+      return true;
+    }
+
+    /**
+     * Lend an idle connection of this queue to the waiter of another event loop, the connection returns to this
+     * queue when it is recycled.
+     *
+     * @return true when a connection has been lent
+     */
+    boolean lendConnection(Waiter waiter) {
+      HttpClientConnection conn = pollValidConnection();
+      if (conn == null || !conn.isValid()) {
+        // Delivering a closed connection would queue the waiter in this queue, it queues in its own queue instead
+        return false;
+      }
+      ContextImpl context = waiter.context != null ? waiter.context : conn.getContext();
+      context.runOnContext(v -> deliverStream(conn, waiter));
+      return true;
+    }
+
+    /**
+     * Skip the closed connections that are still in the pool, the HTTP/2 pool can return the same connection again.
+     */
+    private synchronized HttpClientConnection pollValidConnection() {
+      HttpClientConnection conn;
+      HttpClientConnection prev = null;
+      while ((conn = pool.pollConnection()) != null && !conn.isValid() && conn != prev) {
+        prev = conn;
+      }
+      return conn;
     }
 
     /**
@@ -284,6 +411,69 @@ public class ConnectionManager {
       pool.closeAllConnections();
     }
 
+    /**
+     * Open connections until the pool has {@code count} connections or is full.
+     *
+     * @param handler called when the connections are established or one of them failed
+     */
+    synchronized void preconnect(int count, ContextImpl context, Handler<AsyncResult<Void>> handler) {
+      if (warmingContext == null) {
+        warmingContext = context;
+      }
+      List<Waiter> warmers = new ArrayList<>();
+      boolean connecting = false;
+      synchronized (warmers) {
+        // The HTTP/2 pool creates a single connection at a time, the remaining ones are created when it is established
+        while (connCount < count && pool.canCreateConnection(connCount)) {
+          Warmer warmer = new Warmer(context, ar -> {
+            if (ar.failed()) {
+              handler.handle(ar);
+            } else {
+              preconnect(count, context, handler);
+            }
+          }, warmers);
+          warmers.add(warmer);
+          createNewConnection(warmer);
+          connecting = true;
+        }
+      }
+      if (!connecting) {
+        context.runOnContext(v -> handler.handle(Future.succeededFuture()));
+      }
+    }
+
+    /**
+     * Open a connection in the background when the pool can have another one, it is added to the pool when it is
+     * established. This is called by the pool with the lock of the queue.
+     */
+    void growPool() {
+      if (pool.canCreateConnection(connCount)) {
+        createNewConnection(new Warmer(warmingContext, ar -> {}, null));
+      }
+    }
+
+    /**
+     * Evict the expired connections of the pool and top it up to the minimum idle connections.
+     */
+    void checkPool(long now) {
+      List<HttpClientConnection> evicted = new ArrayList<>();
+      synchronized (this) {
+        pool.evictConnections(now, evicted);
+        while (pool.idleConnections() + warmingCount < minIdleSize && pool.canCreateConnection(connCount)) {
+          warmingCount++;
+          createNewConnection(new Warmer(warmingContext, ar -> {
+            synchronized (ConnQueue.this) {
+              warmingCount--;
+            }
+          }, null));
+        }
+      }
+      // Close outside sync block to avoid deadlock
+      for (HttpClientConnection conn : evicted) {
+        conn.close();
+      }
+    }
+
     private void createNewConnection(Waiter waiter) {
       connCount++;
       ContextImpl context;
@@ -324,7 +514,7 @@ public class ConnectionManager {
       if (waiter != null) {
         // There's a waiter - so it can have a new connection
         createNewConnection(waiter);
-      } else if (connCount == 0) {
+      } else if (connCount == 0 && minIdleSize == 0) {
         // No waiters and no connections - remove the ConnQueue
         mgr.queueMap.remove(key);
         if (metrics != null) {
@@ -381,6 +571,62 @@ public class ConnectionManager {
     }
   }
 
+  /**
+   * A waiter that opens a connection and returns it to the pool without using it.
+   */
+  private static class Warmer extends Waiter {
+
+    private final Handler<AsyncResult<Void>> handler;
+    private final List<Waiter> group;
+
+    /**
+     * @param group the warmers created together, the handler is called when the last of them completes
+     */
+    Warmer(ContextImpl context, Handler<AsyncResult<Void>> handler, List<Waiter> group) {
+      super(null, context);
+      this.handler = handler;
+      this.group = group;
+    }
+
+    private void complete(AsyncResult<Void> result) {
+      if (group != null) {
+        synchronized (group) {
+          if (!group.remove(this)) {
+            // The group failed already
+            return;
+          }
+          if (result.failed()) {
+            group.clear();
+          } else if (group.size() > 0) {
+            return;
+          }
+        }
+      }
+      handler.handle(result);
+    }
+
+    @Override
+    void handleFailure(Throwable failure) {
+      complete(Future.failedFuture(failure));
+    }
+
+    @Override
+    void handleConnection(HttpClientConnection conn) {
+      // The connection is recycled to the pool when delivered, complete after this
+      ContextImpl ctx = context != null ? context : conn.getContext();
+      ctx.runOnContext(v -> complete(Future.succeededFuture()));
+    }
+
+    @Override
+    void handleStream(HttpClientStream stream) {
+    }
+
+    @Override
+    boolean isCancelled() {
+      return true;
+    }
+  }
+
   /**
    * The logic for the connection pool because HTTP/1 and HTTP/2 have different pooling logics.
    */
@@ -402,6 +648,20 @@ public class ConnectionManager {
 
     void recycle(C conn);
 
+    /**
+     * @return the number of connections without in-flight requests
+     */
+    int idleConnections();
+
+    /**
+     * Remove from the pool the idle connections that exceeded the keep alive timeout or the max lifetime, the
+     * caller closes them.
+     *
+     * @param now the current time in milliseconds
+     * @param evicted the list the evicted connections are added to
+     */
+    void evictConnections(long now, List<? super C> evicted);
+
     HttpClientStream createStream(C conn) throws Exception;
 
   }
@@ -441,7 +701,7 @@ public class ConnectionManager {
         ChannelPipeline pipeline = ch.pipeline();
         boolean useAlpn = options.isUseAlpn();
         if (useAlpn) {
-          SslHandler sslHandler = new SslHandler(sslHelper.createEngine(client.getVertx(), peerHost, port, options.isForceSni() ? peerHost : null));
+          SslHandler sslHandler = sslHelper.createHandler(sslHelper.createEngine(client.getVertx(), peerHost, port, options.isForceSni() ? peerHost : null));
           ch.pipeline().addLast("ssl", sslHandler);
           ch.pipeline().addLast(new ApplicationProtocolNegotiationHandler("http/1.1") {
             @Override
@@ -459,7 +719,7 @@ public class ConnectionManager {
           });
         } else {
           if (ssl) {
-            pipeline.addLast("ssl", new SslHandler(sslHelper.createEngine(vertx, peerHost, port, options.isForceSni() ? peerHost : null)));
+            pipeline.addLast("ssl", sslHelper.createHandler(sslHelper.createEngine(vertx, peerHost, port, options.isForceSni() ? peerHost : null)));
           }
           if (version == HttpVersion.HTTP_2) {
             if (options.isHttp2ClearTextUpgrade()) {
@@ -525,6 +785,7 @@ public class ConnectionManager {
             io.netty.util.concurrent.Future<Channel> fut = sslHandler.handshakeFuture();
             fut.addListener(fut2 -> {
               if (fut2.isSuccess()) {
+                sslHelper.handshakeCompleted(ch, metrics);
                 if (!options.isUseAlpn()) {
                   queue.http1xConnected(version, context, port, host, ch, waiter);
                 }
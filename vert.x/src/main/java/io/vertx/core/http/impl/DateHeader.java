@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.util.Date;
+
+/**
+ * The value of the {@code Date} header, formatted at most once per second by each event loop.
+ */
+final class DateHeader {
+
+  private static final FastThreadLocal<DateHeader> CURRENT = new FastThreadLocal<DateHeader>() {
+    @Override
+    protected DateHeader initialValue() {
+      return new DateHeader();
+    }
+  };
+
+  /**
+   * @return the current date formatted as an HTTP date
+   */
+  static AsciiString value() {
+    return CURRENT.get().value(System.currentTimeMillis());
+  }
+
+  private long second = -1;
+  private AsciiString value;
+
+  private AsciiString value(long now) {
+    long second = now / 1000;
+    if (second != this.second) {
+      this.second = second;
+      value = new AsciiString(DateFormatter.format(new Date(second * 1000)));
+    }
+    return value;
+  }
+}
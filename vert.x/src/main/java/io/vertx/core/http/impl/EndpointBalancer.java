@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.http.EndpointGroup;
+import io.vertx.core.http.EndpointGroupOptions;
+import io.vertx.core.impl.ContextImpl;
+import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.core.net.SocketAddress;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Balances the requests to a logical host over the endpoints of an {@link EndpointGroup}.
+ * <p>
+ * An endpoint is chosen with the power of two choices: two endpoints are picked at random and the one with the lowest
+ * load wins. The load of an endpoint is its peak EWMA latency multiplied by its number of requests in flight, the
+ * latency average is time decayed so an endpoint that was slow is tried again after a while.
+ * <p>
+ * An endpoint failing {@link EndpointGroupOptions#getFailureThreshold()} consecutive requests is ejected for
+ * {@link EndpointGroupOptions#getEjectionTime()}, unless all the endpoints are ejected.
+ */
+class EndpointBalancer {
+
+  private final String name;
+  private final EndpointGroup group;
+  private final long refreshPeriod;
+  private final int failureThreshold;
+  private final long ejectionTime;
+  private final double latencyDecay;
+  private List<Endpoint> endpoints;
+  private List<Handler<AsyncResult<Endpoint>>> waiters;
+  private long resolved;
+  private boolean resolving;
+
+  EndpointBalancer(String name, EndpointGroup group, EndpointGroupOptions options) {
+    this.name = name;
+    this.group = group;
+    this.refreshPeriod = TimeUnit.MILLISECONDS.toNanos(options.getRefreshPeriod());
+    this.failureThreshold = options.getFailureThreshold();
+    this.ejectionTime = TimeUnit.MILLISECONDS.toNanos(options.getEjectionTime());
+    this.latencyDecay = TimeUnit.MILLISECONDS.toNanos(options.getLatencyDecay());
+  }
+
+  /**
+   * Select the endpoint of a request, the handler is called on the context unless the endpoints are already
+   * resolved: the handler is then called synchronously.
+   */
+  void select(ContextImpl context, Handler<AsyncResult<Endpoint>> handler) {
+    List<Endpoint> current;
+    boolean refresh = false;
+    synchronized (this) {
+      current = endpoints;
+      if (current == null) {
+        if (waiters == null) {
+          waiters = new ArrayList<>();
+        }
+        waiters.add(ar -> context.runOnContext(v -> handler.handle(ar)));
+      }
+      // A stale group is resolved again in the background, the requests keep using the current endpoints
+      boolean stale = current == null || (refreshPeriod > 0 && System.nanoTime() - resolved >= refreshPeriod);
+      if (stale && !resolving) {
+        resolving = true;
+        refresh = true;
+      }
+    }
+    if (refresh) {
+      resolve();
+    }
+    if (current != null) {
+      handler.handle(Future.succeededFuture(choose(current)));
+    }
+  }
+
+  private void resolve() {
+    try {
+      group.resolve(this::handleResolved);
+    } catch (RuntimeException e) {
+      handleResolved(Future.failedFuture(e));
+    }
+  }
+
+  private void handleResolved(AsyncResult<List<SocketAddress>> ar) {
+    List<Handler<AsyncResult<Endpoint>>> pending;
+    List<Endpoint> current;
+    Throwable failure = null;
+    synchronized (this) {
+      resolving = false;
+      if (ar.succeeded() && ar.result() != null && !ar.result().isEmpty()) {
+        // The endpoints still in the group keep their statistics
+        Map<SocketAddress, Endpoint> previous = new HashMap<>();
+        if (endpoints != null) {
+          for (Endpoint endpoint : endpoints) {
+            previous.put(endpoint.address, endpoint);
+          }
+        }
+        List<Endpoint> list = new ArrayList<>(ar.result().size());
+        for (SocketAddress address : ar.result()) {
+          Endpoint endpoint = previous.remove(address);
+          list.add(endpoint != null ? endpoint : new Endpoint(address));
+        }
+        endpoints = list;
+        resolved = System.nanoTime();
+      } else if (endpoints == null) {
+        failure = ar.failed() ? ar.cause() : new NoStackTraceThrowable("No endpoint in group " + name);
+      }
+      // Otherwise the current endpoints are kept until the next refresh
+      current = endpoints;
+      pending = waiters;
+      waiters = null;
+    }
+    if (pending != null) {
+      for (Handler<AsyncResult<Endpoint>> waiter : pending) {
+        if (failure != null) {
+          waiter.handle(Future.failedFuture(failure));
+        } else {
+          waiter.handle(Future.succeededFuture(choose(current)));
+        }
+      }
+    }
+  }
+
+  private Endpoint choose(List<Endpoint> list) {
+    long now = System.nanoTime();
+    int size = list.size();
+    if (size == 1) {
+      return list.get(0);
+    }
+    List<Endpoint> healthy = list;
+    if (failureThreshold > 0) {
+      for (int i = 0;i < size;i++) {
+        if (list.get(i).isEjected(now)) {
+          if (healthy == list) {
+            healthy = new ArrayList<>(list.subList(0, i));
+          }
+        } else if (healthy != list) {
+          healthy.add(list.get(i));
+        }
+      }
+      if (healthy.isEmpty()) {
+        healthy = list;
+      }
+      size = healthy.size();
+      if (size == 1) {
+        return healthy.get(0);
+      }
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int i = random.nextInt(size);
+    int j = random.nextInt(size - 1);
+    if (j >= i) {
+      j++;
+    }
+    Endpoint first = healthy.get(i);
+    Endpoint second = healthy.get(j);
+    return first.load(now) <= second.load(now) ? first : second;
+  }
+
+  /**
+   * An endpoint of the group and its statistics.
+   */
+  class Endpoint {
+
+    final SocketAddress address;
+    private int inFlight;
+    private double latency;
+    private long sampled;
+    private int failures;
+    private long ejectedUntil;
+
+    Endpoint(SocketAddress address) {
+      this.address = address;
+    }
+
+    synchronized boolean isEjected(long now) {
+      return ejectedUntil != 0 && now - ejectedUntil < 0;
+    }
+
+    synchronized double load(long now) {
+      double cost = latency;
+      if (cost > 0) {
+        cost *= Math.exp(-(now - sampled) / latencyDecay);
+      }
+      return (cost + 1) * (inFlight + 1);
+    }
+
+    /**
+     * Begin a request to the endpoint.
+     *
+     * @return the begin time of the request
+     */
+    synchronized long requestBegin() {
+      inFlight++;
+      return System.nanoTime();
+    }
+
+    /**
+     * End a request that got a response.
+     *
+     * @param begin the begin time of the request
+     * @param failed whether the response is a failure
+     */
+    synchronized void requestEnd(long begin, boolean failed) {
+      long now = System.nanoTime();
+      inFlight--;
+      double rtt = now - begin;
+      if (rtt > latency) {
+        // Peak sensitive: a latency higher than the average replaces it
+        latency = rtt;
+      } else {
+        double weight = Math.exp(-(now - sampled) / latencyDecay);
+        latency = latency * weight + rtt * (1 - weight);
+      }
+      sampled = now;
+      if (failed) {
+        failed(now);
+      } else {
+        failures = 0;
+      }
+    }
+
+    /**
+     * End a request that failed without a response.
+     */
+    synchronized void requestFailed() {
+      inFlight--;
+      failed(System.nanoTime());
+    }
+
+    /**
+     * End a request that was reset by the application.
+     */
+    synchronized void requestCancelled() {
+      inFlight--;
+    }
+
+    private void failed(long now) {
+      if (failureThreshold > 0 && ++failures >= failureThreshold) {
+        failures = 0;
+        ejectedUntil = now + ejectionTime;
+        if (ejectedUntil == 0) {
+          ejectedUntil = 1;
+        }
+      }
+    }
+
+    @Override
+    public String toString() {
+      return address.toString();
+    }
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2011-2014 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.handler.stream.ChunkedInput;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache of the files sent by {@code sendFile}. An entry keeps the file open along with its metadata,
+ * so serving a hot file does not need to open and stat it again. The entry is checked against the file system once
+ * its validity period has elapsed, a file that does not exist is cached too.
+ * <p>
+ * Cached files are reference counted: each transfer holds a reference and the file is closed when it is evicted
+ * and no transfer uses it anymore.
+ */
+class FileCache {
+
+  /**
+   * Open a file that is not cached, it is closed after the transfer.
+   *
+   * @return the opened file, {@link CachedFile#exists()} is {@code false} when the file does not exist
+   */
+  static CachedFile open(File file) throws IOException {
+    return new CachedFile(file, 0);
+  }
+
+  private final int maxSize;
+  private final long validity;
+  private final LinkedHashMap<String, CachedFile> files = new LinkedHashMap<>(16, 0.75f, true);
+
+  FileCache(int maxSize, long validity) {
+    this.maxSize = maxSize;
+    this.validity = validity;
+  }
+
+  /**
+   * Acquire the file, the returned file must be released after use.
+   *
+   * @return the cached file, {@link CachedFile#exists()} is {@code false} when the file does not exist
+   */
+  CachedFile acquire(File file) throws IOException {
+    String key = file.getPath();
+    CachedFile cached;
+    synchronized (this) {
+      cached = files.get(key);
+      if (cached != null && System.currentTimeMillis() < cached.expires && cached.retain()) {
+        return cached;
+      }
+    }
+    if (cached != null && cached.matches(file)) {
+      synchronized (this) {
+        if (files.get(key) == cached && cached.retain()) {
+          cached.expires = System.currentTimeMillis() + validity;
+          return cached;
+        }
+      }
+    }
+    CachedFile opened = new CachedFile(file, System.currentTimeMillis() + validity);
+    opened.retain();
+    List<CachedFile> evicted = new ArrayList<>();
+    synchronized (this) {
+      CachedFile prev = files.put(key, opened);
+      if (prev != null) {
+        evicted.add(prev);
+      }
+      while (files.size() > maxSize) {
+        Map.Entry<String, CachedFile> eldest = files.entrySet().iterator().next();
+        files.remove(eldest.getKey());
+        evicted.add(eldest.getValue());
+      }
+    }
+    evicted.forEach(CachedFile::release);
+    return opened;
+  }
+
+  /**
+   * Close all the files that are not in use, the other files are closed after their transfer.
+   */
+  void close() {
+    List<CachedFile> evicted;
+    synchronized (this) {
+      evicted = new ArrayList<>(files.values());
+      files.clear();
+    }
+    evicted.forEach(CachedFile::release);
+  }
+
+  synchronized int size() {
+    return files.size();
+  }
+
+  static class CachedFile {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    final long length;
+    final long lastModified;
+    private final FileChannel channel;
+    private long expires;
+    private int refs = 1;
+
+    private CachedFile(File file, long expires) throws IOException {
+      this.expires = expires;
+      if (file.exists() && !file.isDirectory()) {
+        channel = new RandomAccessFile(file, "r").getChannel();
+        length = channel.size();
+        lastModified = file.lastModified();
+      } else {
+        channel = null;
+        length = 0;
+        lastModified = 0;
+      }
+    }
+
+    boolean exists() {
+      return channel != null;
+    }
+
+    private boolean matches(File file) {
+      if (channel == null) {
+        return !file.exists();
+      }
+      return file.lastModified() == lastModified && file.length() == length;
+    }
+
+    synchronized boolean retain() {
+      if (refs == 0) {
+        return false;
+      }
+      refs++;
+      return true;
+    }
+
+    synchronized void release() {
+      if (refs > 0 && --refs == 0 && channel != null) {
+        try {
+          channel.close();
+        } catch (IOException ignore) {
+        }
+      }
+    }
+
+    /**
+     * @return a zero-copy region of the file that releases the file when it is deallocated
+     */
+    FileRegion region(long offset, long count) {
+      return new DefaultFileRegion(channel, offset, count) {
+        @Override
+        protected void deallocate() {
+          release();
+        }
+      };
+    }
+
+    /**
+     * @return a chunked input of the file that releases the file when it is closed
+     */
+    ChunkedInput<ByteBuf> chunked(long offset, long count) {
+      return new FileChunks(offset, count);
+    }
+
+    /**
+     * Reads the chunks at their position in the file: the channel is shared by all the transfers of the file, so
+     * its position must not be used.
+     */
+    private class FileChunks implements ChunkedInput<ByteBuf> {
+
+      private final long start;
+      private final long end;
+      private long offset;
+      private boolean closed;
+
+      private FileChunks(long offset, long count) {
+        this.start = offset;
+        this.end = offset + count;
+        this.offset = offset;
+      }
+
+      @Override
+      public boolean isEndOfInput() {
+        return offset >= end || !channel.isOpen();
+      }
+
+      @Override
+      public void close() {
+        if (!closed) {
+          closed = true;
+          release();
+        }
+      }
+
+      @Override
+      public ByteBuf readChunk(ChannelHandlerContext ctx) throws IOException {
+        return readChunk(ctx.alloc());
+      }
+
+      @Override
+      public ByteBuf readChunk(ByteBufAllocator allocator) throws IOException {
+        if (offset >= end) {
+          return null;
+        }
+        int chunkSize = (int) Math.min(CHUNK_SIZE, end - offset);
+        ByteBuf buffer = allocator.buffer(chunkSize);
+        boolean release = true;
+        try {
+          int read = 0;
+          while (read < chunkSize) {
+            int n = buffer.writeBytes(channel, offset + read, chunkSize - read);
+            if (n < 0) {
+              throw new EOFException("The file has been truncated");
+            }
+            read += n;
+          }
+          offset += read;
+          release = false;
+          return buffer;
+        } finally {
+          if (release) {
+            buffer.release();
+          }
+        }
+      }
+
+      @Override
+      public long length() {
+        return end - start;
+      }
+
+      @Override
+      public long progress() {
+        return offset - start;
+      }
+    }
+  }
+}
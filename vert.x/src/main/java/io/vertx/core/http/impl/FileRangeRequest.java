@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.stream.ChunkedFile;
+import io.netty.handler.stream.ChunkedInput;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The conditional (RFC 7232) and range (RFC 7233) headers of a request for a whole file, evaluated against the
+ * length and the last modification time of the file, so a {@code 304} can be answered without opening the file.
+ * <p>
+ * The ranges of a {@code 206} response are sorted and the overlapping or adjacent ones are merged, a request with
+ * more than {@link #MAX_RANGES} ranges gets the whole file.
+ */
+final class FileRangeRequest {
+
+  static final int MAX_RANGES = 16;
+
+  /**
+   * Evaluate the request headers against a file.
+   *
+   * @param get whether the request is a {@code GET}, only a {@code GET} can be a range request
+   * @param conditional whether the request is a {@code GET} or a {@code HEAD}, the methods the cache validators apply to
+   * @param ifNoneMatch the {@code If-None-Match} header or {@code null}
+   * @param ifModifiedSince the {@code If-Modified-Since} header or {@code null}
+   * @param range the {@code Range} header or {@code null}
+   * @param ifRange the {@code If-Range} header or {@code null}
+   * @param etag the entity tag of the file
+   * @param length the file length
+   * @param lastModified the file last modification time
+   */
+  static FileRangeRequest evaluate(boolean get, boolean conditional, String ifNoneMatch, String ifModifiedSince,
+                                   String range, String ifRange, String etag, long length, long lastModified) {
+    if (conditional) {
+      if (ifNoneMatch != null) {
+        if (matches(ifNoneMatch, etag)) {
+          return new FileRangeRequest(HttpResponseStatus.NOT_MODIFIED, length, lastModified, null);
+        }
+      } else if (ifModifiedSince != null) {
+        Date date = DateFormatter.parseHttpDate(ifModifiedSince);
+        if (date != null && lastModified / 1000 <= date.getTime() / 1000) {
+          return new FileRangeRequest(HttpResponseStatus.NOT_MODIFIED, length, lastModified, null);
+        }
+      }
+    }
+    if (get && range != null && (ifRange == null || ifRangeMatches(ifRange, etag, lastModified))) {
+      long[] ranges = parseRanges(range, length);
+      if (ranges != null) {
+        if (ranges.length == 0) {
+          return new FileRangeRequest(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE, length, lastModified, null);
+        }
+        return new FileRangeRequest(HttpResponseStatus.PARTIAL_CONTENT, length, lastModified, ranges);
+      }
+    }
+    return new FileRangeRequest(HttpResponseStatus.OK, length, lastModified, null);
+  }
+
+  /**
+   * @return the strong entity tag of a file
+   */
+  static String etag(long length, long lastModified) {
+    return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + "\"";
+  }
+
+  /**
+   * @return the value of a {@code Last-Modified} header
+   */
+  static String lastModified(long lastModified) {
+    return DateFormatter.format(new Date(lastModified));
+  }
+
+  /**
+   * Weak comparison of an {@code If-None-Match} header with an entity tag.
+   */
+  private static boolean matches(String header, String etag) {
+    String tag = opaqueTag(etag);
+    for (String candidate : header.split(",")) {
+      candidate = candidate.trim();
+      if (candidate.equals("*") || opaqueTag(candidate).equals(tag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String opaqueTag(String etag) {
+    return etag.startsWith("W/") ? etag.substring(2) : etag;
+  }
+
+  /**
+   * An {@code If-Range} entity tag uses the strong comparison, a date must be the exact last modification time.
+   */
+  private static boolean ifRangeMatches(String ifRange, String etag, long lastModified) {
+    ifRange = ifRange.trim();
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      return !etag.startsWith("W/") && ifRange.equals(etag);
+    }
+    Date date = DateFormatter.parseHttpDate(ifRange);
+    return date != null && date.getTime() / 1000 == lastModified / 1000;
+  }
+
+  /**
+   * Parse a {@code Range} header.
+   *
+   * @return the first and last positions of the satisfiable ranges, an empty array when no range is satisfiable
+   *         or {@code null} when the header should be ignored
+   */
+  static long[] parseRanges(String header, long length) {
+    header = header.trim();
+    if (!header.regionMatches(true, 0, "bytes=", 0, 6)) {
+      return null;
+    }
+    String[] specs = header.substring(6).split(",");
+    if (specs.length > MAX_RANGES) {
+      return null;
+    }
+    List<long[]> ranges = new ArrayList<>(specs.length);
+    for (String spec : specs) {
+      spec = spec.trim();
+      int idx = spec.indexOf('-');
+      if (idx == -1) {
+        return null;
+      }
+      long first;
+      long last;
+      try {
+        if (idx == 0) {
+          long suffix = Long.parseLong(spec.substring(1));
+          if (suffix < 0) {
+            return null;
+          }
+          if (suffix == 0) {
+            continue;
+          }
+          first = Math.max(0, length - suffix);
+          last = length - 1;
+        } else {
+          first = Long.parseLong(spec.substring(0, idx));
+          last = idx == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(idx + 1));
+          if (first < 0 || last < first) {
+            return null;
+          }
+          last = Math.min(last, length - 1);
+        }
+      } catch (NumberFormatException e) {
+        return null;
+      }
+      if (first < length) {
+        ranges.add(new long[]{first, last});
+      }
+    }
+    ranges.sort((r1, r2) -> Long.compare(r1[0], r2[0]));
+    List<long[]> merged = new ArrayList<>(ranges.size());
+    for (long[] range : ranges) {
+      long[] prev = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+      if (prev != null && range[0] <= prev[1] + 1) {
+        prev[1] = Math.max(prev[1], range[1]);
+      } else {
+        merged.add(range);
+      }
+    }
+    long[] result = new long[merged.size() * 2];
+    for (int i = 0;i < merged.size();i++) {
+      result[i * 2] = merged.get(i)[0];
+      result[i * 2 + 1] = merged.get(i)[1];
+    }
+    return result;
+  }
+
+  final HttpResponseStatus status;
+  final long length;
+  final long lastModified;
+  private final long[] ranges;
+  private String boundary;
+
+  private FileRangeRequest(HttpResponseStatus status, long length, long lastModified, long[] ranges) {
+    this.status = status;
+    this.length = length;
+    this.lastModified = lastModified;
+    this.ranges = ranges;
+  }
+
+  /**
+   * @return the number of ranges of a {@code 206} response
+   */
+  int size() {
+    return ranges != null ? ranges.length / 2 : 0;
+  }
+
+  long offset(int index) {
+    return ranges[index * 2];
+  }
+
+  long length(int index) {
+    return ranges[index * 2 + 1] - ranges[index * 2] + 1;
+  }
+
+  /**
+   * @return the value of the {@code Content-Range} header of a single range or of a part
+   */
+  String contentRange(int index) {
+    return "bytes " + ranges[index * 2] + "-" + ranges[index * 2 + 1] + "/" + length;
+  }
+
+  /**
+   * @return the value of the {@code Content-Range} header of a {@code 416} response
+   */
+  String unsatisfiedRange() {
+    return "bytes */" + length;
+  }
+
+  /**
+   * @return the {@code Content-Type} of a {@code multipart/byteranges} response
+   */
+  String multipartContentType() {
+    if (boundary == null) {
+      boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) + Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+    return "multipart/byteranges; boundary=" + boundary;
+  }
+
+  /**
+   * @return the header of a part, it begins with the boundary delimiter
+   */
+  ByteBuf partHeader(int index, String contentType) {
+    return Unpooled.copiedBuffer(partHeaderString(index, contentType), StandardCharsets.ISO_8859_1);
+  }
+
+  private String partHeaderString(int index, String contentType) {
+    StringBuilder sb = new StringBuilder("\r\n--").append(boundary).append("\r\n");
+    if (contentType != null) {
+      sb.append("Content-Type: ").append(contentType).append("\r\n");
+    }
+    return sb.append("Content-Range: ").append(contentRange(index)).append("\r\n\r\n").toString();
+  }
+
+  /**
+   * @return the close delimiter of a {@code multipart/byteranges} response
+   */
+  ByteBuf multipartEnd() {
+    return Unpooled.copiedBuffer(multipartEndString(), StandardCharsets.ISO_8859_1);
+  }
+
+  private String multipartEndString() {
+    return "\r\n--" + boundary + "--\r\n";
+  }
+
+  /**
+   * @return the length of the body of a {@code multipart/byteranges} response
+   */
+  long multipartLength(String contentType) {
+    long total = multipartEndString().length();
+    for (int i = 0;i < size();i++) {
+      total += partHeaderString(i, contentType).length() + length(i);
+    }
+    return total;
+  }
+
+  /**
+   * @return the body of a {@code multipart/byteranges} response read from the file, the file is closed with the input
+   */
+  ChunkedInput<ByteBuf> multipartInput(RandomAccessFile file, String contentType) {
+    return new MultipartInput(file, contentType);
+  }
+
+  private class MultipartInput implements ChunkedInput<ByteBuf> {
+
+    private final RandomAccessFile file;
+    private final String contentType;
+    private int index;
+    private ChunkedFile part;
+    private boolean ended;
+    private long progress;
+
+    MultipartInput(RandomAccessFile file, String contentType) {
+      this.file = file;
+      this.contentType = contentType;
+    }
+
+    @Override
+    public boolean isEndOfInput() throws Exception {
+      return ended;
+    }
+
+    @Override
+    public void close() throws Exception {
+      file.close();
+    }
+
+    @Override
+    public ByteBuf readChunk(ChannelHandlerContext ctx) throws Exception {
+      return readChunk(ctx.alloc());
+    }
+
+    @Override
+    public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
+      if (ended) {
+        return null;
+      }
+      ByteBuf chunk;
+      if (part != null && !part.isEndOfInput()) {
+        chunk = part.readChunk(allocator);
+      } else if (index < size()) {
+        chunk = partHeader(index, contentType);
+        part = new ChunkedFile(file, offset(index), FileRangeRequest.this.length(index), 8192);
+        index++;
+      } else {
+        chunk = multipartEnd();
+        ended = true;
+      }
+      progress += chunk.readableBytes();
+      return chunk;
+    }
+
+    @Override
+    public long length() {
+      return multipartLength(contentType);
+    }
+
+    @Override
+    public long progress() {
+      return progress;
+    }
+  }
+}
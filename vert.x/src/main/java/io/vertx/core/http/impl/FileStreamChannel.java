@@ -34,6 +34,7 @@ import io.netty.channel.DefaultChannelConfig;
 import io.netty.channel.EventLoop;
 import io.netty.channel.nio.NioEventLoop;
 import io.netty.handler.stream.ChunkedFile;
+import io.netty.handler.stream.ChunkedInput;
 import io.netty.handler.stream.ChunkedStream;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.vertx.core.AsyncResult;
@@ -75,8 +76,9 @@ class FileStreamChannel extends AbstractChannel {
         pipeline.addLast(new ChannelInboundHandlerAdapter() {
           @Override
           public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
-            if (evt instanceof RandomAccessFile) {
-              ChannelFuture fut = ctx.writeAndFlush(new ChunkedFile((RandomAccessFile) evt, offset, length, 8192 /* default chunk size */ ));
+            if (evt instanceof RandomAccessFile || evt instanceof ChunkedInput) {
+              Object input = evt instanceof ChunkedInput ? evt : new ChunkedFile((RandomAccessFile) evt, offset, length, 8192 /* default chunk size */ );
+              ChannelFuture fut = ctx.writeAndFlush(input);
               fut.addListener(f -> {
                 if (resultHandler != null) {
                   if (f.isSuccess()) {
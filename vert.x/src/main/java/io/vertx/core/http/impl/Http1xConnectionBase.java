@@ -56,6 +56,11 @@ abstract class Http1xConnectionBase extends ConnectionBase implements io.vertx.c
     return obj;
   }
 
+  /**
+   * Report a frame compressed by the per-message deflate extension to the web socket metrics.
+   */
+  abstract void reportFrameCompressed(long uncompressedBytes, long compressedBytes);
+
   private WebSocketFrame encodeFrame(Object obj) {
     WebSocketFrameInternal frame = (WebSocketFrameInternal) obj;
     ByteBuf buf = frame.getBinaryData();
@@ -24,6 +24,8 @@ import io.vertx.core.spi.metrics.HttpClientMetrics;
 
 import java.util.ArrayDeque;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -48,6 +50,9 @@ public class Http1xPool implements ConnectionManager.Pool<ClientConnection> {
   private final Set<ClientConnection> allConnections = new HashSet<>();
   private final Queue<ClientConnection> availableConnections = new ArrayDeque<>();
   private final int maxSockets;
+  private final long keepAliveTimeout;
+  private final long maxLifetime;
+  private final int minIdleSize;
 
   public Http1xPool(HttpClientImpl client,
                     HttpClientMetrics metrics,
@@ -70,6 +75,9 @@ public class Http1xPool implements ConnectionManager.Pool<ClientConnection> {
     this.maxSockets = maxSockets;
     this.host = host;
     this.port = port;
+    this.keepAliveTimeout = options.getKeepAliveTimeout() * 1000L;
+    this.maxLifetime = options.getMaxLifetime() * 1000L;
+    this.minIdleSize = options.getMinIdleSize();
   }
 
   boolean ssl() {
@@ -106,13 +114,38 @@ public class Http1xPool implements ConnectionManager.Pool<ClientConnection> {
   }
 
   public void recycle(ClientConnection conn) {
+    long now = System.currentTimeMillis();
     synchronized (queue) {
-      Waiter waiter = queue.getNextWaiter();
-      if (waiter != null) {
-        queue.deliverStream(conn, waiter);
-      } else if (conn.getOutstandingRequestCount() == 0) {
-        // Return to set of available from here to not return it several times
-        availableConnections.add(conn);
+      if (now < conn.expirationTimestamp || conn.getOutstandingRequestCount() > 0) {
+        Waiter waiter = queue.getNextWaiter();
+        if (waiter != null) {
+          queue.deliverStream(conn, waiter);
+        } else if (conn.getOutstandingRequestCount() == 0) {
+          // Return to set of available from here to not return it several times
+          conn.idleTimestamp = now;
+          availableConnections.add(conn);
+        }
+        return;
+      }
+    }
+    // The connection reached its max lifetime, closing it creates a new connection for the next waiter
+    conn.close();
+  }
+
+  @Override
+  public int idleConnections() {
+    return availableConnections.size();
+  }
+
+  @Override
+  public void evictConnections(long now, List<? super ClientConnection> evicted) {
+    int idle = availableConnections.size();
+    for (Iterator<ClientConnection> it = availableConnections.iterator();it.hasNext();) {
+      ClientConnection conn = it.next();
+      if (now >= conn.expirationTimestamp || (keepAliveTimeout > 0 && idle > minIdleSize && now - conn.idleTimestamp >= keepAliveTimeout)) {
+        it.remove();
+        evicted.add(conn);
+        idle--;
       }
     }
   }
@@ -155,6 +188,7 @@ public class Http1xPool implements ConnectionManager.Pool<ClientConnection> {
     handler.removeHandler(this::connectionClosed);
     ch.pipeline().addLast("handler", handler);
     ClientConnection conn = handler.getConnection();
+    conn.expirationTimestamp = maxLifetime > 0 ? System.currentTimeMillis() + maxLifetime : Long.MAX_VALUE;
     context.executeFromIO(() -> {
       waiter.handleConnection(conn);
       queue.deliverStream(conn, waiter);
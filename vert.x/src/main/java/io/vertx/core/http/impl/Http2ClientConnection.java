@@ -54,6 +54,8 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
   final HttpClientMetrics metrics;
   final Object queueMetric;
   int streamCount;
+  long idleTimestamp;
+  long expirationTimestamp;
 
   public Http2ClientConnection(Http2Pool http2Pool,
                                Object queueMetric,
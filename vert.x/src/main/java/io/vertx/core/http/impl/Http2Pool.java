@@ -17,6 +17,8 @@
 package io.vertx.core.http.impl;
 
 import io.netty.channel.Channel;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.impl.ContextImpl;
@@ -24,6 +26,7 @@ import io.vertx.core.spi.metrics.HttpClientMetrics;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +46,9 @@ class Http2Pool implements ConnectionManager.Pool<Http2ClientConnection> {
   final boolean logEnabled;
   final int maxSockets;
   final int windowSize;
+  final long keepAliveTimeout;
+  final long maxLifetime;
+  final int minIdleSize;
 
   public Http2Pool(ConnectionManager.ConnQueue queue, HttpClientImpl client, HttpClientMetrics metrics,
                    Map<Channel, ? super Http2ClientConnection> connectionMap,
@@ -55,6 +61,9 @@ class Http2Pool implements ConnectionManager.Pool<Http2ClientConnection> {
     this.logEnabled = logEnabled;
     this.maxSockets = maxSize;
     this.windowSize = windowSize;
+    this.keepAliveTimeout = client.getOptions().getKeepAliveTimeout() * 1000L;
+    this.maxLifetime = client.getOptions().getMaxLifetime() * 1000L;
+    this.minIdleSize = client.getOptions().getMinIdleSize();
   }
 
   @Override
@@ -69,15 +78,44 @@ class Http2Pool implements ConnectionManager.Pool<Http2ClientConnection> {
     return connCount == allConnections.size() && connCount < maxSockets;
   }
 
+  /**
+   * Reserve a stream on the connection with the fewest in-flight streams, the connection with the largest send
+   * window is preferred between connections with the same number of streams. When all the connections are close
+   * to their stream or window limit, the pool is grown in the background.
+   */
   @Override
   public Http2ClientConnection pollConnection() {
+    long now = System.currentTimeMillis();
+    Http2ClientConnection best = null;
+    int bestWindow = 0;
     for (Http2ClientConnection conn : allConnections) {
-      if (canReserveStream(conn)) {
-        conn.streamCount++;
-        return conn;
+      if (canReserveStream(conn) && now < conn.expirationTimestamp) {
+        int window = sendWindow(conn);
+        if (best == null || conn.streamCount < best.streamCount || (conn.streamCount == best.streamCount && window > bestWindow)) {
+          best = conn;
+          bestWindow = window;
+        }
+      }
+    }
+    if (best != null) {
+      best.streamCount++;
+      if (isBusy(best, bestWindow)) {
+        checkGrowth(now);
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Grow the pool when all the connections are busy.
+   */
+  private void checkGrowth(long now) {
+    for (Http2ClientConnection conn : allConnections) {
+      if (now < conn.expirationTimestamp && !isBusy(conn, sendWindow(conn))) {
+        return;
       }
     }
-    return null;
+    queue.growPool();
   }
 
   void createConn(ContextImpl context, Channel ch, Waiter waiter, boolean upgrade) throws Http2Exception {
@@ -99,9 +137,12 @@ class Http2Pool implements ConnectionManager.Pool<Http2ClientConnection> {
           .logEnabled(logEnabled)
           .build();
       Http2ClientConnection conn = handler.connection;
+      // Send the preface now, the connection may not have a stream yet when it is opened ahead of the requests
+      ch.flush();
       if (metrics != null) {
         metrics.endpointConnected(queue.metric, conn.metric());
       }
+      conn.expirationTimestamp = maxLifetime > 0 ? System.currentTimeMillis() + maxLifetime : Long.MAX_VALUE;
       allConnections.add(conn);
       if (windowSize > 0) {
         conn.setWindowSize(windowSize);
@@ -114,17 +155,42 @@ class Http2Pool implements ConnectionManager.Pool<Http2ClientConnection> {
   }
 
   private boolean canReserveStream(Http2ClientConnection handler) {
-    int maxConcurrentStreams = Math.min(handler.handler.connection().local().maxActiveStreams(), maxConcurrency);
-    return handler.streamCount < maxConcurrentStreams;
+    return handler.streamCount < maxConcurrentStreams(handler);
+  }
+
+  private int maxConcurrentStreams(Http2ClientConnection conn) {
+    return Math.min(conn.handler.connection().local().maxActiveStreams(), maxConcurrency);
+  }
+
+  /**
+   * @return the connection flow control window available to send data
+   */
+  private static int sendWindow(Http2ClientConnection conn) {
+    Http2Connection connection = conn.handler.connection();
+    return connection.remote().flowController().windowSize(connection.connectionStream());
+  }
+
+  /**
+   * A connection is busy when three quarters of its maximum concurrent streams are in flight or when its send
+   * window cannot carry a full frame.
+   */
+  private boolean isBusy(Http2ClientConnection conn, int window) {
+    int max = maxConcurrentStreams(conn);
+    return conn.streamCount >= max - max / 4 || window < Http2CodecUtil.DEFAULT_MAX_FRAME_SIZE;
   }
 
   void checkPending(Http2ClientConnection conn) {
     synchronized (queue) {
       Waiter waiter;
+      boolean reserved = false;
       while (canReserveStream(conn) && (waiter = queue.getNextWaiter()) != null) {
         conn.streamCount++;
+        reserved = true;
         queue.deliverStream(conn, waiter);
       }
+      if (reserved && isBusy(conn, sendWindow(conn))) {
+        checkGrowth(System.currentTimeMillis());
+      }
     }
   }
 
@@ -141,9 +207,61 @@ class Http2Pool implements ConnectionManager.Pool<Http2ClientConnection> {
 
   @Override
   public void recycle(Http2ClientConnection conn) {
+    long now = System.currentTimeMillis();
     synchronized (queue) {
       conn.streamCount--;
-      checkPending(conn);
+      if (now < conn.expirationTimestamp) {
+        if (conn.streamCount == 0) {
+          conn.idleTimestamp = now;
+        }
+        checkPending(conn);
+        return;
+      } else if (conn.streamCount > 0 || !evict(conn)) {
+        return;
+      }
+    }
+    // The connection reached its max lifetime
+    conn.close();
+  }
+
+  /**
+   * Remove a connection from the pool before closing it, the queue can create another connection.
+   */
+  private boolean evict(Http2ClientConnection conn) {
+    if (allConnections.remove(conn)) {
+      queue.connectionClosed();
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public int idleConnections() {
+    int count = 0;
+    for (Http2ClientConnection conn : allConnections) {
+      if (conn.streamCount == 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public void evictConnections(long now, List<? super Http2ClientConnection> evicted) {
+    int idle = idleConnections();
+    int count = 0;
+    for (Iterator<Http2ClientConnection> it = allConnections.iterator();it.hasNext();) {
+      Http2ClientConnection conn = it.next();
+      if (conn.streamCount == 0 && (now >= conn.expirationTimestamp || (keepAliveTimeout > 0 && idle > minIdleSize && now - conn.idleTimestamp >= keepAliveTimeout))) {
+        it.remove();
+        evicted.add(conn);
+        idle--;
+        count++;
+      }
+    }
+    // After the iteration as the queue can create new connections
+    while (count-- > 0) {
+      queue.connectionClosed();
     }
   }
 
@@ -36,6 +36,7 @@ import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.StreamResetException;
 import io.vertx.core.impl.ContextImpl;
+import io.vertx.core.net.impl.ConcurrencyLimit;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 
 import java.net.URI;
@@ -47,10 +48,12 @@ import java.util.ArrayDeque;
  */
 public class Http2ServerConnection extends Http2ConnectionBase {
 
-  private final HttpServerOptions options;
+  final HttpServerOptions options;
   private final String serverOrigin;
   private final Handler<HttpServerRequest> requestHandler;
   private final HttpServerMetrics metrics;
+  private final ConcurrencyLimit requestLimit;
+  final HttpCompressionPolicy compressionPolicy;
 
   private Long maxConcurrentStreams;
   private int concurrentStreams;
@@ -62,13 +65,17 @@ public class Http2ServerConnection extends Http2ConnectionBase {
       VertxHttp2ConnectionHandler connHandler,
       HttpServerOptions options,
       Handler<HttpServerRequest> requestHandler,
-      HttpServerMetrics metrics) {
+      HttpServerMetrics metrics,
+      ConcurrencyLimit requestLimit,
+      HttpCompressionPolicy compressionPolicy) {
     super(context, connHandler);
 
     this.options = options;
     this.serverOrigin = serverOrigin;
     this.requestHandler = requestHandler;
     this.metrics = metrics;
+    this.requestLimit = requestLimit;
+    this.compressionPolicy = compressionPolicy;
   }
 
   public HttpServerMetrics metrics() {
@@ -112,22 +119,32 @@ public class Http2ServerConnection extends Http2ConnectionBase {
         handler.writeReset(streamId, Http2Error.PROTOCOL_ERROR.code());
         return;
       }
+      if (requestLimit != null && !requestLimit.acquire()) {
+        // The client can retry a refused stream since it was not processed
+        if (metrics != null) {
+          metrics.requestRejected(metric());
+        }
+        handler.writeReset(streamId, Http2Error.REFUSED_STREAM.code());
+        return;
+      }
       String contentEncoding = options.isCompressionSupported() ? HttpUtils.determineContentEncoding(headers) : null;
       Http2Stream s = handler.connection().stream(streamId);
       boolean writable = handler.encoder().flowController().isWritable(s);
       Http2ServerRequestImpl req = new Http2ServerRequestImpl(this, s, metrics, serverOrigin, headers, contentEncoding, writable);
       stream = req;
       CharSequence value = headers.get(HttpHeaderNames.EXPECT);
-      if (options.isHandle100ContinueAutomatically() &&
+      // The 100-continue is sent after the request handler, once the body size limit it can set has been checked
+      boolean expectContinue = options.isHandle100ContinueAutomatically() &&
           ((value != null && HttpHeaderValues.CONTINUE.equals(value)) ||
-              headers.contains(HttpHeaderNames.EXPECT, HttpHeaderValues.CONTINUE))) {
-        req.response().writeContinue();
-      }
+              headers.contains(HttpHeaderNames.EXPECT, HttpHeaderValues.CONTINUE));
       streams.put(streamId, req);
       context.executeFromIO(() -> {
         Http2ServerResponseImpl resp = req.response();
         resp.beginRequest();
         requestHandler.handle(req);
+        if (req.checkContentLength() && expectContinue && !resp.headWritten()) {
+          resp.writeContinue();
+        }
         boolean hasPush = resp.endRequest();
         if (hasPush) {
           ctx.flush();
@@ -141,6 +158,14 @@ public class Http2ServerConnection extends Http2ConnectionBase {
     }
   }
 
+  @Override
+  synchronized void onStreamClosed(Http2Stream stream) {
+    if (requestLimit != null && streams.get(stream.id()) instanceof Http2ServerRequestImpl) {
+      requestLimit.release();
+    }
+    super.onStreamClosed(stream);
+  }
+
   @Override
   public synchronized void onSettingsRead(ChannelHandlerContext ctx, Http2Settings settings) {
     Long v = settings.maxConcurrentStreams();
@@ -16,6 +16,7 @@
 
 package io.vertx.core.http.impl;
 
+import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -77,9 +78,12 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
   private Handler<Void> endHandler;
   private boolean ended;
   private long bytesRead;
+  private long maxBodySize;
+  private boolean bodyRejected;
 
   private Handler<HttpServerFileUpload> uploadHandler;
   private HttpPostRequestDecoder postRequestDecoder;
+  private MultipartParser multipartParser;
 
   private Handler<Throwable> exceptionHandler;
   private Handler<HttpFrame> customFrameHandler;
@@ -92,6 +96,7 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
 
     this.serverOrigin = serverOrigin;
     this.headers = headers;
+    this.maxBodySize = conn.options.getMaxRequestBodySize();
 
     String host = host();
     if (host == null) {
@@ -133,14 +138,59 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
     }
   }
 
+  /**
+   * Check the {@code Content-Length} header against the body size limit, called after the request handler.
+   *
+   * @return {@code false} when the body has been rejected
+   */
+  boolean checkContentLength() {
+    synchronized (conn) {
+      if (maxBodySize != -1 && !bodyRejected) {
+        CharSequence value = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+        if (value != null) {
+          long contentLength;
+          try {
+            contentLength = Long.parseLong(value.toString());
+          } catch (NumberFormatException e) {
+            return true;
+          }
+          if (contentLength > maxBodySize) {
+            rejectBody(contentLength);
+          }
+        }
+      }
+      return !bodyRejected;
+    }
+  }
+
+  private void rejectBody(long bodySize) {
+    bodyRejected = true;
+    ended = true;
+    handleException(new TooLongFrameException("Request body exceeds the maximum size of " + maxBodySize + " bytes"));
+    response.handleBodyTooLarge(bodySize);
+  }
+
   void handleData(Buffer data) {
+    if (bodyRejected) {
+      return;
+    }
     bytesRead += data.length();
+    if (maxBodySize != -1 && bytesRead > maxBodySize) {
+      rejectBody(bytesRead);
+      return;
+    }
     if (postRequestDecoder != null) {
       try {
         postRequestDecoder.offer(new DefaultHttpContent(data.getByteBuf()));
       } catch (Exception e) {
         handleException(e);
       }
+    } else if (multipartParser != null) {
+      try {
+        multipartParser.handle(data.getByteBuf());
+      } catch (Exception e) {
+        handleException(e);
+      }
     }
     if (dataHandler != null) {
       dataHandler.handle(data);
@@ -150,6 +200,9 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
   void handleEnd(MultiMap trailers) {
     ended = true;
     conn.reportBytesRead(bytesRead);
+    if (bodyRejected) {
+      return;
+    }
     if (postRequestDecoder != null) {
       try {
         postRequestDecoder.offer(LastHttpContent.EMPTY_LAST_CONTENT);
@@ -172,6 +225,12 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
       } finally {
         postRequestDecoder.destroy();
       }
+    } else if (multipartParser != null) {
+      try {
+        multipartParser.end();
+      } catch (Exception e) {
+        handleException(e);
+      }
     }
     if (endHandler != null) {
       endHandler.handle(null);
@@ -409,7 +468,7 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
     synchronized (conn) {
       checkEnded();
       if (expect) {
-        if (postRequestDecoder == null) {
+        if (postRequestDecoder == null && multipartParser == null) {
           CharSequence contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
           if (contentType != null) {
             io.netty.handler.codec.http.HttpMethod method = io.netty.handler.codec.http.HttpMethod.valueOf(headers.method().toString());
@@ -420,17 +479,24 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
                     method == io.netty.handler.codec.http.HttpMethod.PUT ||
                     method == io.netty.handler.codec.http.HttpMethod.PATCH ||
                     method == io.netty.handler.codec.http.HttpMethod.DELETE)) {
-              HttpRequest req = new DefaultHttpRequest(
-                  io.netty.handler.codec.http.HttpVersion.HTTP_1_1,
-                  method,
-                  headers.path().toString());
-              req.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
-              postRequestDecoder = new HttpPostRequestDecoder(new NettyFileUploadDataFactory(vertx, this, () -> uploadHandler), req);
+              String boundary = isURLEncoded ? null : MultipartParser.boundary(contentType.toString());
+              if (boundary != null) {
+                multipartParser = new MultipartParser(vertx, this, boundary, conn.options.getMaxMultipartPartSize(),
+                    conn.options.getMaxMultipartBodySize(), () -> uploadHandler, formAttributes());
+              } else {
+                HttpRequest req = new DefaultHttpRequest(
+                    io.netty.handler.codec.http.HttpVersion.HTTP_1_1,
+                    method,
+                    headers.path().toString());
+                req.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
+                postRequestDecoder = new HttpPostRequestDecoder(new NettyFileUploadDataFactory(vertx, this, () -> uploadHandler), req);
+              }
             }
           }
         }
       } else {
         postRequestDecoder = null;
+        multipartParser = null;
       }
     }
     return this;
@@ -439,7 +505,26 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
   @Override
   public boolean isExpectMultipart() {
     synchronized (conn) {
-      return postRequestDecoder != null;
+      return postRequestDecoder != null || multipartParser != null;
+    }
+  }
+
+  @Override
+  public HttpServerRequest setMaxBodySize(long maxBodySize) {
+    if (maxBodySize < -1) {
+      throw new IllegalArgumentException("maxBodySize must be >= 0 or -1 (unlimited)");
+    }
+    synchronized (conn) {
+      checkEnded();
+      this.maxBodySize = maxBodySize;
+      return this;
+    }
+  }
+
+  @Override
+  public long getMaxBodySize() {
+    synchronized (conn) {
+      return maxBodySize;
     }
   }
 
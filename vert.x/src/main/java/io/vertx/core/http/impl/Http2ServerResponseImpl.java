@@ -20,8 +20,10 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.Http2Error;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.AsyncResult;
@@ -30,9 +32,12 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaderBlock;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.headers.HttpHeaderBlockImpl;
 import io.vertx.core.http.StreamResetException;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
@@ -57,6 +62,7 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
   private final boolean push;
   private final Object metric;
   private final String host;
+  private final String contentEncoding;
   private Http2Headers headers = new DefaultHttp2Headers();
   private Http2HeadersAdaptor headersMap;
   private Http2Headers trailers;
@@ -75,6 +81,7 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
   private long bytesWritten;
   private int numPush;
   private boolean inHandler;
+  private int compressionLevel = -1;
 
   public Http2ServerResponseImpl(Http2ServerConnection conn, VertxHttp2Stream stream, Object metric, boolean push, String contentEncoding, String host) {
 
@@ -84,6 +91,7 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     this.conn = conn;
     this.push = push;
     this.host = host;
+    this.contentEncoding = contentEncoding;
 
     if (contentEncoding != null) {
       putHeader(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
@@ -102,6 +110,7 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     this.conn = conn;
     this.push = push;
     this.host = null;
+    this.contentEncoding = contentEncoding;
 
     if (contentEncoding != null) {
       putHeader(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
@@ -135,6 +144,27 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     handleEnded(true);
   }
 
+  /**
+   * Answer a request whose body exceeds its maximum size: a {@code 413} response when the head has not been
+   * written, then reset the stream so the client stops sending the body.
+   */
+  void handleBodyTooLarge(long bodySize) {
+    synchronized (conn) {
+      if (METRICS_ENABLED && metric != null) {
+        conn.metrics().requestBodyRejected(metric, bodySize);
+      }
+      if (!headWritten) {
+        setStatusCode(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code());
+        end();
+      } else if (!ended) {
+        reset(Http2Error.CANCEL.code());
+        return;
+      }
+      stream.writeReset(Http2Error.NO_ERROR.code());
+      ctx.flush();
+    }
+  }
+
   private void checkHeadWritten() {
     if (headWritten) {
       throw new IllegalStateException("Header already sent");
@@ -204,6 +234,16 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     }
   }
 
+  @Override
+  public HttpServerResponse setCompressionLevel(int level) {
+    Arguments.requireInRange(level, -1, 9, "compressionLevel must be between -1 and 9");
+    synchronized (conn) {
+      checkHeadWritten();
+      compressionLevel = level;
+      return this;
+    }
+  }
+
   @Override
   public MultiMap headers() {
     synchronized (conn) {
@@ -250,6 +290,22 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     }
   }
 
+  @Override
+  public HttpServerResponse putHeaders(HttpHeaderBlock block) {
+    synchronized (conn) {
+      checkHeadWritten();
+      HttpHeaderBlockImpl impl = (HttpHeaderBlockImpl) block;
+      MultiMap headers = headers();
+      for (int i = 0;i < impl.size();i++) {
+        headers.remove(impl.name(i));
+      }
+      for (int i = 0;i < impl.size();i++) {
+        headers.add(impl.name(i), impl.value(i));
+      }
+      return this;
+    }
+  }
+
   @Override
   public MultiMap trailers() {
     synchronized (conn) {
@@ -386,6 +442,12 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
         headersEndHandler.handle(null);
       }
       headWritten = true;
+      if (contentEncoding != null) {
+        applyCompressionPolicy();
+      }
+      if (conn.options.isSendDateHeader() && !headers.contains(HttpHeaderNames.DATE)) {
+        headers.set(HttpHeaderNames.DATE, DateHeader.value());
+      }
       headers.status(Integer.toString(statusCode));
       stream.writeHeaders(headers, end);
       if (end) {
@@ -397,6 +459,20 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     }
   }
 
+  /**
+   * The connection encoder compresses the response when it has the content encoding header, remove it when
+   * the response should not be compressed.
+   */
+  private void applyCompressionPolicy() {
+    CharSequence encoding = headers.get(HttpHeaderNames.CONTENT_ENCODING);
+    if (encoding != null && contentEncoding.contentEquals(encoding)) {
+      if (compressionLevel == 0 || (compressionLevel == -1 &&
+        !conn.compressionPolicy.isCompressible(headers.get(HttpHeaderNames.CONTENT_LENGTH), headers.get(HttpHeaderNames.CONTENT_TYPE)))) {
+        headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+      }
+    }
+  }
+
   void write(ByteBuf chunk, boolean end) {
     synchronized (conn) {
       checkEnded();
@@ -514,6 +590,23 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
         return this;
       }
 
+      FileRangeRequest range = null;
+      if (!push && conn.options.isRangeRequestsSupported() && offset == 0 && length == Long.MAX_VALUE && statusCode == 200 && file.isFile()) {
+        // Evaluate the request against the file attributes, a 304 or a 416 does not open the file
+        range = evaluateRange(file.length(), file.lastModified());
+        if (range.status != HttpResponseStatus.OK && range.status != HttpResponseStatus.PARTIAL_CONTENT) {
+          setStatusCode(range.status.code());
+          if (range.status == HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE) {
+            putHeader(HttpHeaderNames.CONTENT_RANGE, range.unsatisfiedRange());
+          }
+          end();
+          if (resultHandler != null) {
+            resultCtx.runOnContext(v -> resultHandler.handle(Future.succeededFuture()));
+          }
+          return this;
+        }
+      }
+
       RandomAccessFile raf;
       try {
         raf = new RandomAccessFile(file, "r");
@@ -526,16 +619,32 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
         return this;
       }
 
-      long contentLength = Math.min(length, file.length() - offset);
-      if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
-        putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
-      }
+      long contentLength = Math.min(length, (range != null ? range.length : file.length()) - offset);
       if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null) {
         String contentType = MimeMapping.getMimeTypeForFilename(filename);
         if (contentType != null) {
           putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
         }
       }
+      Object input = raf;
+      if (range != null && range.status == HttpResponseStatus.PARTIAL_CONTENT) {
+        // A range is sent as is
+        setStatusCode(HttpResponseStatus.PARTIAL_CONTENT.code());
+        compressionLevel = 0;
+        if (range.size() == 1) {
+          offset = range.offset(0);
+          contentLength = range.length(0);
+          putHeader(HttpHeaderNames.CONTENT_RANGE, range.contentRange(0));
+        } else {
+          CharSequence contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+          putHeader(HttpHeaderNames.CONTENT_TYPE, range.multipartContentType());
+          input = range.multipartInput(raf, contentType != null ? contentType.toString() : null);
+          contentLength = range.multipartLength(contentType != null ? contentType.toString() : null);
+        }
+      }
+      if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
+        putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
+      }
       checkSendHeaders(false);
 
       FileStreamChannel fileChannel = new FileStreamChannel(ar -> {
@@ -551,11 +660,37 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
       }, stream, offset, contentLength);
       drainHandler(fileChannel.drainHandler);
       ctx.channel().eventLoop().register(fileChannel);
-      fileChannel.pipeline().fireUserEventTriggered(raf);
+      fileChannel.pipeline().fireUserEventTriggered(input);
     }
     return this;
   }
 
+  /**
+   * Add the validators of the file to the response and evaluate the conditional and range headers of the request.
+   */
+  private FileRangeRequest evaluateRange(long length, long lastModified) {
+    CharSequence etag = headers.get(HttpHeaderNames.ETAG);
+    if (etag == null) {
+      etag = FileRangeRequest.etag(length, lastModified);
+      if (contentEncoding != null && compressionLevel != 0) {
+        // The body may be content encoded
+        etag = "W/" + etag;
+      }
+      headers.set(HttpHeaderNames.ETAG, etag);
+    }
+    if (!headers.contains(HttpHeaderNames.LAST_MODIFIED)) {
+      headers.set(HttpHeaderNames.LAST_MODIFIED, FileRangeRequest.lastModified(lastModified));
+    }
+    headers.set(HttpHeaderNames.ACCEPT_RANGES, HttpHeaderValues.BYTES);
+    Http2ServerRequestImpl request = (Http2ServerRequestImpl) stream;
+    MultiMap h = request.headers();
+    HttpMethod method = request.method();
+    return FileRangeRequest.evaluate(method == HttpMethod.GET, method == HttpMethod.GET || method == HttpMethod.HEAD,
+      h.get(HttpHeaderNames.IF_NONE_MATCH), h.get(HttpHeaderNames.IF_MODIFIED_SINCE),
+      h.get(HttpHeaderNames.RANGE), h.get(HttpHeaderNames.IF_RANGE),
+      etag.toString(), length, lastModified);
+  }
+
   @Override
   public void close() {
     conn.close();
@@ -16,18 +16,87 @@
 package io.vertx.core.http.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
 import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+
+import java.util.List;
 
 /**
+ * Compresses the responses allowed by the server {@link HttpCompressionPolicy}, a response can override the policy
+ * and the compression level by writing a {@link ResponseCompression} before its head.
+ *
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
 final class HttpChunkContentCompressor extends HttpContentCompressor {
 
+  private static final int WINDOW_BITS = 15;
+  private static final int MEM_LEVEL = 8;
+
+  /**
+   * Written by a response before its head when it overrides the compression policy or when its compression is
+   * reported to the metrics.
+   */
+  static final class ResponseCompression {
+
+    final int level;
+    final HttpServerMetrics metrics;
+    final Object metric;
+
+    /**
+     * @param level the compression level of the response, {@code -1} applies the policy
+     * @param metrics the metrics to report the compression to, or {@code null}
+     * @param metric the request metric
+     */
+    ResponseCompression(int level, HttpServerMetrics metrics, Object metric) {
+      this.level = level;
+      this.metrics = metrics;
+      this.metric = metric;
+    }
+  }
+
+  private final int compressionLevel;
+  private final HttpCompressionPolicy policy;
+  private ChannelHandlerContext ctx;
+  private ResponseCompression next;
+  private ResponseCompression current;
+  private boolean compressing;
+  private long uncompressedBytes;
+  private long compressedBytes;
+  private long compressionTime;
+
+  HttpChunkContentCompressor(int compressionLevel, HttpCompressionPolicy policy) {
+    super(compressionLevel);
+    this.compressionLevel = compressionLevel;
+    this.policy = policy;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    this.ctx = ctx;
+    super.handlerAdded(ctx);
+  }
+
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+    if (msg instanceof ResponseCompression) {
+      next = (ResponseCompression) msg;
+      promise.setSuccess();
+      return;
+    }
     if (msg instanceof ByteBuf) {
       // convert ByteBuf to HttpContent to make it work with compression. This is needed as we use the
       // ChunkedWriteHandler to send files when compression is enabled.
@@ -36,8 +105,69 @@ final class HttpChunkContentCompressor extends HttpContentCompressor {
     super.write(ctx, msg, promise);
   }
 
-  HttpChunkContentCompressor(int compressionLevel) {
-    super(compressionLevel);
+  @Override
+  protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
+    if (msg instanceof HttpResponse) {
+      current = next;
+      next = null;
+      compressing = false;
+    }
+    if (current == null || current.metrics == null) {
+      super.encode(ctx, msg, out);
+      return;
+    }
+    int size = msg instanceof HttpContent ? ((HttpContent) msg).content().readableBytes() : 0;
+    int from = out.size();
+    long start = System.nanoTime();
+    super.encode(ctx, msg, out);
+    if (compressing) {
+      compressionTime += System.nanoTime() - start;
+      uncompressedBytes += size;
+      for (int i = from;i < out.size();i++) {
+        Object o = out.get(i);
+        if (o instanceof HttpContent && !(o instanceof HttpResponse)) {
+          compressedBytes += ((HttpContent) o).content().readableBytes();
+        }
+      }
+      if (msg instanceof LastHttpContent) {
+        current.metrics.responseCompressed(current.metric, uncompressedBytes, compressedBytes, compressionTime);
+        uncompressedBytes = 0;
+        compressedBytes = 0;
+        compressionTime = 0;
+      }
+    }
+  }
+
+  @Override
+  protected Result beginEncode(HttpResponse headers, String acceptEncoding) throws Exception {
+    int level = current != null ? current.level : -1;
+    if (level == 0) {
+      return null;
+    }
+    if (level == -1) {
+      HttpHeaders h = headers.headers();
+      if (!policy.isCompressible(h.get(HttpHeaderNames.CONTENT_LENGTH), h.get(HttpHeaderNames.CONTENT_TYPE))) {
+        return null;
+      }
+      level = compressionLevel;
+    }
+    Result result = level == compressionLevel ? super.beginEncode(headers, acceptEncoding) : beginEncode(headers, acceptEncoding, level);
+    compressing = result != null;
+    return result;
   }
 
+  private Result beginEncode(HttpResponse headers, String acceptEncoding, int level) {
+    String contentEncoding = headers.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+    if (contentEncoding != null && !HttpHeaderValues.IDENTITY.contentEqualsIgnoreCase(contentEncoding)) {
+      return null;
+    }
+    ZlibWrapper wrapper = determineWrapper(acceptEncoding);
+    if (wrapper == null) {
+      return null;
+    }
+    String targetContentEncoding = wrapper == ZlibWrapper.GZIP ? "gzip" : "deflate";
+    Channel ch = ctx.channel();
+    return new Result(targetContentEncoding, new EmbeddedChannel(ch.id(), ch.metadata().hasDisconnect(), ch.config(),
+      ZlibCodecFactory.newZlibEncoder(wrapper, level, WINDOW_BITS, MEM_LEVEL)));
+  }
 }
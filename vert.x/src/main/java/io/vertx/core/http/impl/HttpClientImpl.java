@@ -16,12 +16,15 @@
 
 package io.vertx.core.http.impl;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Closeable;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.VertxException;
+import io.vertx.core.http.EndpointGroup;
+import io.vertx.core.http.EndpointGroupOptions;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
@@ -51,7 +54,9 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -110,6 +115,10 @@ public class HttpClientImpl implements HttpClient, MetricsProvider {
   private final Closeable closeHook;
   private final ProxyType proxyType;
   private final SSLHelper sslHelper;
+  private final HttpResponseCache responseCache;
+  private final RequestCoalescer requestCoalescer;
+  private final RequestHedger requestHedger;
+  private final Map<String, EndpointBalancer> endpointGroups = new ConcurrentHashMap<>();
   private volatile boolean closed;
   private volatile Function<HttpClientResponse, Future<HttpClientRequest>> redirectHandler = DEFAULT_HANDLER;
 
@@ -149,6 +158,13 @@ public class HttpClientImpl implements HttpClient, MetricsProvider {
     VertxMetrics metrics = vertx.metricsSPI();
     connectionManager = new ConnectionManager(this, metrics != null ? metrics.createMetrics(this, options) : null);
     proxyType = options.getProxyOptions() != null ? options.getProxyOptions().getType() : null;
+    if (options.getResponseCacheMaxSize() > 0) {
+      responseCache = new HttpResponseCache(vertx, options.getResponseCacheMaxSize(), options.getResponseCacheDir(), connectionManager.metrics());
+    } else {
+      responseCache = null;
+    }
+    requestCoalescer = options.isRequestCoalescing() ? new RequestCoalescer(this.options.getCoalescingHeaders()) : null;
+    requestHedger = options.getHedgingDelay() > 0 ? new RequestHedger(options.getHedgingDelay(), options.getHedgingPercentile(), options.getHedgingBudget()) : null;
   }
 
   @Override
@@ -855,6 +871,10 @@ public class HttpClientImpl implements HttpClient, MetricsProvider {
       creatingContext.removeCloseHook(closeHook);
     }
     connectionManager.close();
+    sslHelper.close();
+    if (responseCache != null) {
+      responseCache.close();
+    }
   }
 
   @Override
@@ -867,6 +887,36 @@ public class HttpClientImpl implements HttpClient, MetricsProvider {
     return connectionManager.metrics();
   }
 
+  @Override
+  public HttpClient preconnect(int port, String host, int count, Handler<AsyncResult<Void>> completionHandler) {
+    Objects.requireNonNull(completionHandler, "no null completionHandler accepted");
+    checkClosed();
+    boolean ssl = options.isSsl();
+    if (!ssl && proxyType == ProxyType.HTTP) {
+      ProxyOptions proxyOptions = options.getProxyOptions();
+      connectionManager.preconnect(options.getProtocolVersion(), host, ssl, proxyOptions.getPort(), proxyOptions.getHost(),
+        count, vertx.getOrCreateContext(), completionHandler);
+    } else {
+      connectionManager.preconnect(options.getProtocolVersion(), host, ssl, port, host, count, vertx.getOrCreateContext(), completionHandler);
+    }
+    return this;
+  }
+
+  @Override
+  public HttpClient endpointGroup(String name, EndpointGroup group) {
+    return endpointGroup(name, group, new EndpointGroupOptions());
+  }
+
+  @Override
+  public HttpClient endpointGroup(String name, EndpointGroup group, EndpointGroupOptions options) {
+    Objects.requireNonNull(name, "no null name accepted");
+    Objects.requireNonNull(group, "no null group accepted");
+    Objects.requireNonNull(options, "no null options accepted");
+    checkClosed();
+    endpointGroups.put(name, new EndpointBalancer(name, group, new EndpointGroupOptions(options)));
+    return this;
+  }
+
   @Override
   public HttpClient redirectHandler(Function<HttpClientResponse, Future<HttpClientRequest>> handler) {
     if (handler == null) {
@@ -915,6 +965,34 @@ public class HttpClientImpl implements HttpClient, MetricsProvider {
     connectionManager.getConnectionForRequest(options.getProtocolVersion(), peerHost, ssl, port, host, waiter);
   }
 
+  /**
+   * @return the response cache or {@code null} when the responses are not cached
+   */
+  HttpResponseCache responseCache() {
+    return responseCache;
+  }
+
+  /**
+   * @return the request coalescer or {@code null} when the requests are not coalesced
+   */
+  RequestCoalescer requestCoalescer() {
+    return requestCoalescer;
+  }
+
+  /**
+   * @return the request hedger or {@code null} when the requests are not hedged
+   */
+  RequestHedger requestHedger() {
+    return requestHedger;
+  }
+
+  /**
+   * @return the balancer of a logical host or {@code null} when the host is not an endpoint group
+   */
+  EndpointBalancer endpointBalancer(String host) {
+    return endpointGroups.isEmpty() ? null : endpointGroups.get(host);
+  }
+
   /**
    * @return the vertx, for use in package related classes only.
    */
@@ -155,7 +155,7 @@ abstract class HttpClientRequestBase implements HttpClientRequest {
     }
   }
 
-  private void cancelOutstandingTimeoutTimer() {
+  void cancelOutstandingTimeoutTimer() {
     if (currentTimeoutTimerId != -1) {
       client.getVertx().cancelTimer(currentTimeoutTimerId);
       currentTimeoutTimerId = -1;
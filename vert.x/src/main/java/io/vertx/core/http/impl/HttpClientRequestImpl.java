@@ -31,9 +31,12 @@ import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpFrame;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.net.NetSocket;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -75,6 +78,20 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
   private boolean writeHead;
   private long written;
   private CaseInsensitiveHeaders headers;
+  private boolean cacheable;
+  private long requestTime;
+  private HttpResponseCache.Entry revalidated;
+  private String coalescingKey;
+  private ContextImpl coalescedContext;
+  private boolean uncoalesced;
+  private EndpointBalancer.Endpoint endpoint;
+  private long endpointBegin;
+  private long hedgeBegin;
+  private long hedgeTimerId = -1;
+  private HttpClientRequestImpl hedge;
+  private ContextImpl hedgeContext;
+  private HttpClientRequestImpl primary;
+  private boolean superseded;
 
   HttpClientRequestImpl(HttpClientImpl client, boolean ssl, HttpMethod method, String host, int port,
                         String relativeURI, VertxInternal vertx) {
@@ -397,6 +414,12 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
             stream.resetResponse(code);
           }
         }
+        endpointEnd(0, false);
+        cancelHedge();
+        // The requests coalesced with this request are sent instead
+        for (HttpClientRequestImpl follower : land()) {
+          follower.coalescedContext.runOnContext(v -> follower.connectUncoalesced());
+        }
         return true;
       }
       return false;
@@ -504,6 +527,14 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
   }
 
   protected void doHandleResponse(HttpClientResponseImpl resp, long timeoutMs) {
+    if (resp.statusCode() != 100) {
+      endpointEnd(resp.statusCode(), false);
+      if (hedgeBegin != 0) {
+        client.requestHedger().record(hedgingServer(), System.nanoTime() - hedgeBegin);
+        hedgeBegin = 0;
+      }
+      cancelHedge();
+    }
     if (reset != null) {
       stream.resetResponse(reset);
     } else {
@@ -527,12 +558,170 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
           continueHandler.handle(null);
         }
       } else {
+        List<HttpClientRequestImpl> followers = land();
+        HttpResponseCache cache = client.responseCache();
+        if (cache != null) {
+          if (cacheable) {
+            HttpResponseCache.Entry entry = revalidated;
+            revalidated = null;
+            if (entry != null) {
+              if (statusCode == 304) {
+                HttpResponseCache.Entry updated = cache.update(entry, resp.headers(), requestTime, System.currentTimeMillis());
+                ContextImpl context = stream.connection().getContext();
+                cache.body(updated, ar -> {
+                  for (HttpClientRequestImpl follower : followers) {
+                    follower.coalescedContext.runOnContext(v -> {
+                      if (ar.succeeded()) {
+                        follower.handleCachedResponse(updated, ar.result(), follower.coalescedContext, true);
+                      } else {
+                        follower.handleException(ar.cause());
+                      }
+                    });
+                  }
+                  if (ar.succeeded()) {
+                    handleCachedResponse(updated, ar.result(), context, true);
+                  } else {
+                    handleException(ar.cause());
+                  }
+                });
+                return;
+              }
+              cache.responseCacheMiss(this);
+            }
+            if (HttpResponseCache.isStorable(statusCode, headers, resp.headers())) {
+              cache.store(absoluteURI(), headers, resp, requestTime);
+            }
+          } else if (HttpResponseCache.isUnsafe(method) && statusCode < 400) {
+            cache.invalidate(absoluteURI());
+          }
+        }
+        if (!followers.isEmpty()) {
+          shareResponse(resp, followers);
+        }
+        if (respHandler != null) {
+          respHandler.handle(resp);
+        }
+        if (endHandler != null) {
+          endHandler.handle(null);
+        }
+      }
+    }
+  }
+
+  private void handleCachedResponse(HttpResponseCache.Entry entry, Buffer body, ContextImpl context, boolean revalidated) {
+    LocalHttpClientResponse resp = new LocalHttpClientResponse(this, entry.version, entry.statusCode, entry.statusMessage, entry.headers, context);
+    if (handleLocalResponse(resp)) {
+      client.responseCache().responseCacheHit(this, revalidated);
+      if (body.length() > 0) {
+        // The body of a response cached in memory is shared
+        resp.handleChunk(body.copy());
+      }
+      resp.handleEnd();
+    }
+  }
+
+  /**
+   * Handle a response that does not come from the connection of this request.
+   *
+   * @return whether the response is handled, i.e the request did not fail and was not reset
+   */
+  private boolean handleLocalResponse(LocalHttpClientResponse resp) {
+    synchronized (getLock()) {
+      if (exceptionOccurred != null || reset != null) {
+        return false;
+      }
+      cancelOutstandingTimeoutTimer();
+      try {
         if (respHandler != null) {
           respHandler.handle(resp);
         }
         if (endHandler != null) {
           endHandler.handle(null);
         }
+      } catch (Throwable t) {
+        handleException(t);
+        return false;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Share the response with the requests coalesced with this request, the body is copied to each request.
+   */
+  private void shareResponse(HttpClientResponseImpl resp, List<HttpClientRequestImpl> followers) {
+    List<LocalHttpClientResponse> shared = new ArrayList<>(followers.size());
+    for (HttpClientRequestImpl follower : followers) {
+      LocalHttpClientResponse followerResp = new LocalHttpClientResponse(follower, resp.version(), resp.statusCode(),
+        resp.statusMessage(), resp.headers(), follower.coalescedContext);
+      shared.add(followerResp);
+      follower.coalescedContext.runOnContext(v -> follower.handleLocalResponse(followerResp));
+    }
+    resp.observeBody(new HttpClientResponseImpl.BodyObserver() {
+      @Override
+      public void handleChunk(Buffer chunk) {
+        for (int i = 0;i < shared.size();i++) {
+          LocalHttpClientResponse followerResp = shared.get(i);
+          Buffer copy = chunk.copy();
+          followers.get(i).coalescedContext.runOnContext(v -> followerResp.handleChunk(copy));
+        }
+      }
+      @Override
+      public void handleEnd() {
+        for (int i = 0;i < shared.size();i++) {
+          LocalHttpClientResponse followerResp = shared.get(i);
+          followers.get(i).coalescedContext.runOnContext(v -> followerResp.handleEnd());
+        }
+      }
+      @Override
+      public void handleException(Throwable t) {
+        for (int i = 0;i < shared.size();i++) {
+          LocalHttpClientResponse followerResp = shared.get(i);
+          followers.get(i).coalescedContext.runOnContext(v -> followerResp.handleException(t));
+        }
+      }
+    });
+  }
+
+  /**
+   * End the flight of the requests coalesced with this request.
+   *
+   * @return the requests following this request
+   */
+  private List<HttpClientRequestImpl> land() {
+    if (coalescingKey == null) {
+      return Collections.emptyList();
+    }
+    String key = coalescingKey;
+    coalescingKey = null;
+    return client.requestCoalescer().land(key, this);
+  }
+
+  /**
+   * Send a request that followed a coalesced request that was reset.
+   */
+  private void connectUncoalesced() {
+    synchronized (getLock()) {
+      if (exceptionOccurred == null && reset == null) {
+        uncoalesced = true;
+        connecting = false;
+        connect(null);
+      }
+    }
+  }
+
+  @Override
+  public void handleException(Throwable t) {
+    synchronized (getLock()) {
+      if (superseded) {
+        // The response of the hedge was delivered, e.g the connection of this request is closed
+        return;
+      }
+      endpointEnd(0, true);
+      cancelHedge();
+      super.handleException(t);
+      for (HttpClientRequestImpl follower : land()) {
+        follower.coalescedContext.runOnContext(v -> follower.handleException(t));
       }
     }
   }
@@ -739,14 +928,229 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
         peerHost = host;
       }
 
+      // Only a request ended without a body can be served by the cache
+      HttpResponseCache cache = client.responseCache();
+      if (cache != null && primary == null && headersCompletionHandler == null && pendingChunks == null && HttpResponseCache.isCacheable(method, headers())) {
+        cacheable = true;
+        requestTime = System.currentTimeMillis();
+        HttpResponseCache.Entry entry = cache.get(absoluteURI(), headers);
+        if (entry != null && HttpResponseCache.isFresh(entry, headers, requestTime)) {
+          ContextImpl context = vertx.getOrCreateContext();
+          connecting = true;
+          cache.body(entry, ar -> {
+            if (ar.succeeded()) {
+              context.runOnContext(v -> handleCachedResponse(entry, ar.result(), context, false));
+            } else {
+              cache.responseCacheMiss(this);
+              getConnection(peerHost, waiter);
+            }
+          });
+          return;
+        }
+        if (entry != null && HttpResponseCache.revalidate(entry, headers)) {
+          revalidated = entry;
+        } else {
+          cache.responseCacheMiss(this);
+        }
+      }
+
+      // An identical request in flight shares its response
+      RequestCoalescer coalescer = client.requestCoalescer();
+      if (coalescer != null && primary == null && !uncoalesced && followRedirects == 0 && headersCompletionHandler == null && pendingChunks == null && RequestCoalescer.isCoalescable(method)) {
+        String key = coalescer.key(method, absoluteURI(), headers());
+        coalescedContext = vertx.getOrCreateContext();
+        if (coalescer.join(key, this)) {
+          connecting = true;
+          return;
+        }
+        coalescedContext = null;
+        coalescingKey = key;
+      }
+
+      // An idempotent request without response after the hedging delay is sent again
+      RequestHedger hedger = client.requestHedger();
+      if (hedger != null && RequestHedger.isIdempotent(method)) {
+        hedgeBegin = System.nanoTime();
+        if (primary == null && followRedirects == 0 && headersCompletionHandler == null && pendingChunks == null && revalidated == null) {
+          hedger.deposit();
+          hedgeTimerId = vertx.setTimer(hedger.delay(hedgingServer()), id -> sendHedge());
+        }
+      }
+
       // We defer actual connection until the first part of body is written or end is called
       // This gives the user an opportunity to set an exception handler before connecting so
       // they can capture any exceptions on connection
-      client.getConnectionForRequest(peerHost, ssl, port, host, waiter);
+      getConnection(peerHost, waiter);
       connecting = true;
     }
   }
 
+  /**
+   * Get a connection to the server of the request or to an endpoint when the server is an endpoint group.
+   */
+  private void getConnection(String peerHost, Waiter waiter) {
+    EndpointBalancer balancer = client.endpointBalancer(host);
+    if (balancer == null) {
+      client.getConnectionForRequest(peerHost, ssl, port, host, waiter);
+      return;
+    }
+    balancer.select(vertx.getOrCreateContext(), ar -> {
+      EndpointBalancer.Endpoint selected;
+      synchronized (getLock()) {
+        if (exceptionOccurred != null || reset != null) {
+          return;
+        }
+        if (ar.failed()) {
+          handleException(ar.cause());
+          return;
+        }
+        selected = endpoint = ar.result();
+        endpointBegin = selected.requestBegin();
+      }
+      client.getConnectionForRequest(peerHost, ssl, selected.address.port(), selected.address.host(), waiter);
+    });
+  }
+
+  /**
+   * @return the server whose latencies determine the hedging delay of the request
+   */
+  private String hedgingServer() {
+    return host + ':' + port;
+  }
+
+  /**
+   * Send the hedge of this request, i.e the same request on another connection, unless this request got a response
+   * or the hedging budget is exhausted.
+   */
+  private void sendHedge() {
+    synchronized (getLock()) {
+      hedgeTimerId = -1;
+      if (response != null || exceptionOccurred != null || reset != null || !completed || written > 0 || !client.requestHedger().withdraw()) {
+        return;
+      }
+      HttpClientRequestImpl h = new HttpClientRequestImpl(client, ssl, method, host, port, uri, vertx);
+      h.primary = this;
+      h.rawMethod = rawMethod;
+      h.hostHeader = hostHeader;
+      if (headers != null) {
+        h.headers().addAll(headers);
+      }
+      // The race is decided under the lock of this request only, the lock of the hedge connection is never
+      // held at the same time: the response of the hedge is relayed to the context of this request
+      ContextImpl context = vertx.getOrCreateContext();
+      h.handler(resp -> {
+        LocalHttpClientResponse relayed = relayHedgeResponse((HttpClientResponseImpl) resp, context);
+        context.runOnContext(v -> handleHedgeResponse(h, relayed));
+      });
+      h.exceptionHandler(err -> context.runOnContext(v -> {
+        // A failed hedge leaves the response to this request
+        synchronized (getLock()) {
+          if (hedge == h) {
+            hedge = null;
+          }
+        }
+      }));
+      hedge = h;
+      hedgeContext = context;
+      h.end();
+    }
+  }
+
+  /**
+   * Relay the response of a hedge to the context of this request.
+   */
+  private LocalHttpClientResponse relayHedgeResponse(HttpClientResponseImpl resp, ContextImpl context) {
+    LocalHttpClientResponse relayed = new LocalHttpClientResponse(this, resp.version(), resp.statusCode(),
+      resp.statusMessage(), resp.headers(), context);
+    resp.observeBody(new HttpClientResponseImpl.BodyObserver() {
+      @Override
+      public void handleChunk(Buffer chunk) {
+        Buffer copy = chunk.copy();
+        context.runOnContext(v -> relayed.handleChunk(copy));
+      }
+      @Override
+      public void handleEnd() {
+        context.runOnContext(v -> relayed.handleEnd());
+      }
+      @Override
+      public void handleException(Throwable t) {
+        context.runOnContext(v -> relayed.handleException(t));
+      }
+    });
+    return relayed;
+  }
+
+  /**
+   * The hedge got the first response: this request is reset and the response of the hedge is delivered instead, the
+   * requests coalesced with this request are sent on their own.
+   */
+  private void handleHedgeResponse(HttpClientRequestImpl h, LocalHttpClientResponse resp) {
+    synchronized (getLock()) {
+      if (hedge != h) {
+        // This request got its response first, the hedge is abandoned
+        return;
+      }
+      hedge = null;
+      abandon();
+      superseded = true;
+      cancelOutstandingTimeoutTimer();
+      if (respHandler != null) {
+        respHandler.handle(resp);
+      }
+      if (endHandler != null) {
+        endHandler.handle(null);
+      }
+    }
+  }
+
+  private void cancelHedge() {
+    if (hedgeTimerId != -1) {
+      vertx.cancelTimer(hedgeTimerId);
+      hedgeTimerId = -1;
+    }
+    if (hedge != null) {
+      HttpClientRequestImpl h = hedge;
+      hedge = null;
+      // The lock of the hedge connection must not be taken under the lock of this request
+      hedgeContext.runOnContext(v -> h.abandon());
+    }
+  }
+
+  /**
+   * Reset a request that lost the race against its hedge or its primary request, the HTTP/1.x connection of a request
+   * waiting for its response is closed and the HTTP/2 stream is reset.
+   */
+  private void abandon() {
+    synchronized (getLock()) {
+      HttpClientStream s = stream;
+      boolean waiting = completed && response == null;
+      reset(0);
+      if (s != null && waiting) {
+        s.resetResponse(0);
+      }
+    }
+  }
+
+  /**
+   * Report the end of the request to its endpoint.
+   *
+   * @param statusCode the response status code or {@code 0} when the request has no response
+   * @param failed whether the request failed without response
+   */
+  private void endpointEnd(int statusCode, boolean failed) {
+    EndpointBalancer.Endpoint ended = endpoint;
+    if (ended != null) {
+      endpoint = null;
+      if (statusCode != 0) {
+        ended.requestEnd(endpointBegin, statusCode == 502 || statusCode == 503 || statusCode == 504);
+      } else if (failed) {
+        ended.requestFailed();
+      } else {
+        ended.requestCancelled();
+      }
+    }
+  }
+
   private void connected(HttpClientStream stream, Handler<HttpVersion> headersCompletionHandler) {
 
     HttpClientConnection conn = stream.connection();
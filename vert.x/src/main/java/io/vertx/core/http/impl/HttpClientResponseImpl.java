@@ -60,6 +60,9 @@ public class HttpClientResponseImpl implements HttpClientResponse  {
   // Track for metrics
   private long bytesRead;
 
+  // Observers of the body, e.g the response cache
+  private List<BodyObserver> observers;
+
   // Cache these for performance
   private MultiMap headers;
   private MultiMap trailers;
@@ -213,13 +216,25 @@ public class HttpClientResponseImpl implements HttpClientResponse  {
     }
   }
 
+  /**
+   * Observe the body of the response independently of its handlers, e.g to cache it.
+   */
+  void observeBody(BodyObserver observer) {
+    synchronized (conn) {
+      if (observers == null) {
+        observers = new ArrayList<>(1);
+      }
+      observers.add(observer);
+    }
+  }
+
   void handleUnknowFrame(HttpFrame frame) {
     synchronized (conn) {
       if (customFrameHandler != null) {
         try {
           customFrameHandler.handle(frame);
         } catch (Throwable t) {
-          handleException(t);
+          notifyException(t);
         }
       }
     }
@@ -229,11 +244,16 @@ public class HttpClientResponseImpl implements HttpClientResponse  {
     synchronized (conn) {
       request.dataReceived();
       bytesRead += data.length();
+      if (observers != null) {
+        for (BodyObserver observer : observers) {
+          observer.handleChunk(data);
+        }
+      }
       if (dataHandler != null) {
         try {
           dataHandler.handle(data);
         } catch (Throwable t) {
-          handleException(t);
+          notifyException(t);
         }
       }
     }
@@ -252,11 +272,17 @@ public class HttpClientResponseImpl implements HttpClientResponse  {
           handleChunk(lastChunk);
         }
         this.trailers = trailers;
+        if (observers != null) {
+          for (BodyObserver observer : observers) {
+            observer.handleEnd();
+          }
+          observers = null;
+        }
         if (endHandler != null) {
           try {
             endHandler.handle(null);
           } catch (Throwable t) {
-            handleException(t);
+            notifyException(t);
           }
         }
         request.handleResponseEnd();
@@ -266,9 +292,19 @@ public class HttpClientResponseImpl implements HttpClientResponse  {
 
   void handleException(Throwable e) {
     synchronized (conn) {
-      if (exceptionHandler != null) {
-        exceptionHandler.handle(e);
+      if (observers != null) {
+        for (BodyObserver observer : observers) {
+          observer.handleException(e);
+        }
+        observers = null;
       }
+      notifyException(e);
+    }
+  }
+
+  private void notifyException(Throwable e) {
+    if (exceptionHandler != null) {
+      exceptionHandler.handle(e);
     }
   }
 
@@ -303,4 +339,14 @@ public class HttpClientResponseImpl implements HttpClientResponse  {
       body = null;
     }
   }
+
+  interface BodyObserver {
+
+    void handleChunk(Buffer chunk);
+
+    void handleEnd();
+
+    void handleException(Throwable t);
+
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.vertx.core.http.HttpServerOptions;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Decides whether a response is worth compressing from its {@code content-length} and {@code content-type} headers,
+ * according to the {@link HttpServerOptions} compression policy.
+ * <p/>
+ * A content type pattern is either a media type like {@code application/json} or a type wildcard like {@code image/*}.
+ */
+final class HttpCompressionPolicy {
+
+  private final int minSize;
+  private final Set<String> compressedContentTypes;
+  private final Set<String> uncompressedContentTypes;
+
+  HttpCompressionPolicy(HttpServerOptions options) {
+    this.minSize = options.getCompressionMinSize();
+    this.compressedContentTypes = patterns(options.getCompressedContentTypes());
+    this.uncompressedContentTypes = patterns(options.getUncompressedContentTypes());
+  }
+
+  /**
+   * @param contentLength the response {@code content-length} header, {@code null} when the length is not known
+   * @param contentType the response {@code content-type} header, {@code null} when not set
+   * @return whether the response should be compressed
+   */
+  boolean isCompressible(CharSequence contentLength, CharSequence contentType) {
+    if (minSize > 0 && contentLength != null) {
+      try {
+        if (Long.parseLong(contentLength.toString()) < minSize) {
+          return false;
+        }
+      } catch (NumberFormatException ignore) {
+        // Let the codec deal with it
+      }
+    }
+    if (compressedContentTypes.isEmpty() && uncompressedContentTypes.isEmpty()) {
+      return true;
+    }
+    if (contentType == null) {
+      return compressedContentTypes.isEmpty();
+    }
+    String mediaType = mediaType(contentType);
+    if (matches(uncompressedContentTypes, mediaType)) {
+      return false;
+    }
+    return compressedContentTypes.isEmpty() || matches(compressedContentTypes, mediaType);
+  }
+
+  private static boolean matches(Set<String> patterns, String mediaType) {
+    if (patterns.isEmpty()) {
+      return false;
+    }
+    if (patterns.contains(mediaType)) {
+      return true;
+    }
+    int idx = mediaType.indexOf('/');
+    return idx != -1 && patterns.contains(mediaType.substring(0, idx + 1) + "*");
+  }
+
+  private static String mediaType(CharSequence contentType) {
+    String s = contentType.toString();
+    int idx = s.indexOf(';');
+    if (idx != -1) {
+      s = s.substring(0, idx);
+    }
+    return s.trim().toLowerCase(Locale.ENGLISH);
+  }
+
+  private static Set<String> patterns(Set<String> contentTypes) {
+    Set<String> patterns = new HashSet<>();
+    if (contentTypes != null) {
+      for (String contentType : contentTypes) {
+        patterns.add(mediaType(contentType));
+      }
+    }
+    return patterns;
+  }
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The private cache (RFC 7234) of the {@code GET} responses of a client.
+ * <p>
+ * The cache is bounded by the size of the cached responses and evicts the least recently used ones, the bodies are
+ * kept in memory or in files of a directory while the index is always kept in memory. A cached response is served
+ * while it is fresh, a stale response with a validator is revalidated with a conditional request.
+ */
+class HttpResponseCache {
+
+  private static final Logger log = LoggerFactory.getLogger(HttpResponseCache.class);
+
+  private static final long MAX_HEURISTIC_LIFETIME = TimeUnit.DAYS.toMillis(1);
+
+  private final VertxInternal vertx;
+  private final int maxSize;
+  private final File dir;
+  private final String filePrefix;
+  private final HttpClientMetrics metrics;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+  private long fileSeq;
+  private boolean closed;
+
+  HttpResponseCache(VertxInternal vertx, int maxSize, String dir, HttpClientMetrics metrics) {
+    this.vertx = vertx;
+    this.maxSize = maxSize;
+    this.metrics = metrics;
+    if (dir != null) {
+      this.dir = vertx.resolveFile(dir);
+      this.dir.mkdirs();
+      this.filePrefix = UUID.randomUUID().toString();
+    } else {
+      this.dir = null;
+      this.filePrefix = null;
+    }
+  }
+
+  /**
+   * @return whether the response of a request can be served from the cache or stored in the cache
+   */
+  static boolean isCacheable(HttpMethod method, MultiMap requestHeaders) {
+    return method == HttpMethod.GET
+        && !requestHeaders.contains(HttpHeaderNames.RANGE)
+        && !cacheControl(requestHeaders).containsKey("no-store");
+  }
+
+  /**
+   * @return whether a request modifies the resource, its successful response invalidates the cached response
+   */
+  static boolean isUnsafe(HttpMethod method) {
+    switch (method) {
+      case GET:
+      case HEAD:
+      case OPTIONS:
+      case TRACE:
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * @return whether a response to a cacheable request can be stored
+   */
+  static boolean isStorable(int statusCode, MultiMap requestHeaders, MultiMap responseHeaders) {
+    switch (statusCode) {
+      case 200:
+      case 203:
+      case 204:
+      case 404:
+      case 405:
+      case 410:
+      case 414:
+      case 501:
+        break;
+      default:
+        return false;
+    }
+    Map<String, String> cc = cacheControl(responseHeaders);
+    if (cc.containsKey("no-store") || "*".equals(responseHeaders.get(HttpHeaderNames.VARY))) {
+      return false;
+    }
+    if (requestHeaders.contains(HttpHeaders.AUTHORIZATION) && !cc.containsKey("public")) {
+      return false;
+    }
+    return cc.containsKey("max-age") || cc.containsKey("no-cache")
+        || responseHeaders.contains(HttpHeaders.EXPIRES)
+        || responseHeaders.contains(HttpHeaders.ETAG)
+        || responseHeaders.contains(HttpHeaders.LAST_MODIFIED);
+  }
+
+  /**
+   * Parse the {@code Cache-Control} directives of a message, the {@code Pragma: no-cache} header is the
+   * {@code no-cache} directive.
+   */
+  static Map<String, String> cacheControl(MultiMap headers) {
+    Map<String, String> directives = new HashMap<>();
+    for (String header : headers.getAll(HttpHeaders.CACHE_CONTROL)) {
+      for (String directive : header.split(",")) {
+        directive = directive.trim();
+        if (directive.isEmpty()) {
+          continue;
+        }
+        int idx = directive.indexOf('=');
+        if (idx == -1) {
+          directives.put(directive.toLowerCase(), null);
+        } else {
+          String value = directive.substring(idx + 1).trim();
+          if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+          }
+          directives.put(directive.substring(0, idx).trim().toLowerCase(), value);
+        }
+      }
+    }
+    if (!headers.contains(HttpHeaders.CACHE_CONTROL) && "no-cache".equalsIgnoreCase(headers.get(HttpHeaderNames.PRAGMA))) {
+      directives.put("no-cache", null);
+    }
+    return directives;
+  }
+
+  /**
+   * @return the number of seconds of a directive or {@code -1} when it is absent or invalid
+   */
+  private static long seconds(Map<String, String> directives, String name) {
+    String value = directives.get(name);
+    if (value != null) {
+      try {
+        return Math.max(0, Long.parseLong(value));
+      } catch (NumberFormatException ignore) {
+      }
+    }
+    return -1;
+  }
+
+  private static long date(MultiMap headers, CharSequence name) {
+    String value = headers.get(name);
+    if (value != null) {
+      Date date = DateFormatter.parseHttpDate(value);
+      if (date != null) {
+        return date.getTime();
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return the cached response of a request or {@code null}
+   */
+  synchronized Entry get(String key, MultiMap requestHeaders) {
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      for (Map.Entry<String, String> vary : entry.vary.entrySet()) {
+        if (!vary.getValue().equals(joinAll(requestHeaders, vary.getKey()))) {
+          return null;
+        }
+      }
+    }
+    return entry;
+  }
+
+  /**
+   * @return whether a cached response can be served to a request without revalidation
+   */
+  static boolean isFresh(Entry entry, MultiMap requestHeaders, long now) {
+    Map<String, String> cc = cacheControl(requestHeaders);
+    if (cc.containsKey("no-cache")) {
+      return false;
+    }
+    long lifetime = entry.freshnessLifetime;
+    long maxAge = seconds(cc, "max-age");
+    if (maxAge != -1) {
+      lifetime = Math.min(lifetime, TimeUnit.SECONDS.toMillis(maxAge));
+    }
+    long age = entry.age(now);
+    long minFresh = seconds(cc, "min-fresh");
+    if (minFresh != -1) {
+      age += TimeUnit.SECONDS.toMillis(minFresh);
+    }
+    return age < lifetime;
+  }
+
+  /**
+   * Turn a request into a conditional request validating a cached response.
+   *
+   * @return whether the request validates the response, i.e the cached response has a validator and the request
+   *         is not already conditional
+   */
+  static boolean revalidate(Entry entry, MultiMap requestHeaders) {
+    if (requestHeaders.contains(HttpHeaders.IF_NONE_MATCH) || requestHeaders.contains(HttpHeaders.IF_MODIFIED_SINCE)) {
+      return false;
+    }
+    String etag = entry.headers.get(HttpHeaders.ETAG);
+    String lastModified = entry.headers.get(HttpHeaders.LAST_MODIFIED);
+    if (etag != null) {
+      requestHeaders.set(HttpHeaders.IF_NONE_MATCH, etag);
+    }
+    if (lastModified != null) {
+      requestHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+    }
+    return etag != null || lastModified != null;
+  }
+
+  /**
+   * Store the response of a request when it ends, unless its body does not fit in the cache.
+   *
+   * @param requestTime the time the request was sent
+   */
+  void store(String key, MultiMap requestHeaders, HttpClientResponseImpl response, long requestTime) {
+    response.observeBody(new HttpClientResponseImpl.BodyObserver() {
+      private Buffer body = Buffer.buffer();
+      @Override
+      public void handleChunk(Buffer chunk) {
+        if (body != null) {
+          if (body.length() + chunk.length() <= maxSize) {
+            body.appendBuffer(chunk);
+          } else {
+            body = null;
+          }
+        }
+      }
+      @Override
+      public void handleEnd() {
+        if (body != null) {
+          put(key, requestHeaders, response, body, requestTime, System.currentTimeMillis());
+        }
+      }
+      @Override
+      public void handleException(Throwable t) {
+        body = null;
+      }
+    });
+  }
+
+  /**
+   * Store a response.
+   *
+   * @param requestTime the time the request was sent
+   * @param responseTime the time the response was received
+   */
+  private void put(String key, MultiMap requestHeaders, HttpClientResponse response, Buffer body, long requestTime, long responseTime) {
+    MultiMap headers = new CaseInsensitiveHeaders().addAll(response.headers());
+    Map<String, String> vary = new HashMap<>();
+    for (String names : headers.getAll(HttpHeaderNames.VARY)) {
+      for (String name : names.split(",")) {
+        name = name.trim().toLowerCase();
+        if (!name.isEmpty()) {
+          vary.put(name, joinAll(requestHeaders, name));
+        }
+      }
+    }
+    int entrySize = headersSize(headers) + body.length();
+    if (entrySize > maxSize) {
+      return;
+    }
+    if (dir == null) {
+      add(new Entry(key, response.version(), response.statusCode(), response.statusMessage(), headers, vary,
+        requestTime, responseTime, entrySize, body, null));
+    } else {
+      String file;
+      synchronized (this) {
+        file = new File(dir, filePrefix + "-" + fileSeq++).getAbsolutePath();
+      }
+      vertx.fileSystem().writeFile(file, body, ar -> {
+        if (ar.succeeded()) {
+          add(new Entry(key, response.version(), response.statusCode(), response.statusMessage(), headers, vary,
+            requestTime, responseTime, entrySize, null, file));
+        } else {
+          log.error("Could not store the cached response of " + key, ar.cause());
+        }
+      });
+    }
+  }
+
+  /**
+   * Update a cached response with the headers of a {@code 304} response validating it.
+   *
+   * @return the updated response
+   */
+  Entry update(Entry entry, MultiMap notModifiedHeaders, long requestTime, long responseTime) {
+    MultiMap headers = new CaseInsensitiveHeaders().addAll(entry.headers);
+    for (String name : notModifiedHeaders.names()) {
+      if (!HttpHeaders.CONTENT_LENGTH.toString().equalsIgnoreCase(name) && !HttpHeaders.TRANSFER_ENCODING.toString().equalsIgnoreCase(name)) {
+        headers.set(name, notModifiedHeaders.getAll(name));
+      }
+    }
+    Entry updated = new Entry(entry.key, entry.version, entry.statusCode, entry.statusMessage, headers, entry.vary,
+      requestTime, responseTime, entry.size - headersSize(entry.headers) + headersSize(headers), entry.body, entry.file);
+    add(updated);
+    return updated;
+  }
+
+  /**
+   * Read the body of a cached response.
+   */
+  void body(Entry entry, Handler<AsyncResult<Buffer>> handler) {
+    if (entry.file == null) {
+      handler.handle(Future.succeededFuture(entry.body));
+    } else {
+      vertx.fileSystem().readFile(entry.file, ar -> {
+        if (ar.failed()) {
+          remove(entry);
+        }
+        handler.handle(ar);
+      });
+    }
+  }
+
+  /**
+   * Remove the cached response of a resource, e.g. after a request modified it.
+   */
+  void invalidate(String key) {
+    Entry removed;
+    synchronized (this) {
+      removed = entries.remove(key);
+      if (removed != null) {
+        size -= removed.size;
+      }
+    }
+    if (removed != null) {
+      deleteFile(removed, null);
+    }
+  }
+
+  void responseCacheHit(HttpClientRequestBase request, boolean revalidated) {
+    if (metrics != null) {
+      metrics.responseCacheHit(request, revalidated);
+    }
+  }
+
+  void responseCacheMiss(HttpClientRequestBase request) {
+    if (metrics != null) {
+      metrics.responseCacheMiss(request);
+    }
+  }
+
+  void close() {
+    List<Entry> removed;
+    synchronized (this) {
+      closed = true;
+      removed = new ArrayList<>(entries.values());
+      entries.clear();
+      size = 0;
+    }
+    for (Entry entry : removed) {
+      deleteFile(entry, null);
+    }
+  }
+
+  private void add(Entry entry) {
+    List<Entry> evicted = new ArrayList<>();
+    synchronized (this) {
+      if (closed) {
+        evicted.add(entry);
+      } else {
+        Entry prev = entries.put(entry.key, entry);
+        if (prev != null) {
+          size -= prev.size;
+          evicted.add(prev);
+        }
+        size += entry.size;
+        for (Iterator<Entry> it = entries.values().iterator();size > maxSize && it.hasNext();) {
+          Entry eldest = it.next();
+          it.remove();
+          size -= eldest.size;
+          evicted.add(eldest);
+        }
+      }
+    }
+    for (Entry e : evicted) {
+      deleteFile(e, entry);
+    }
+  }
+
+  private void remove(Entry entry) {
+    synchronized (this) {
+      if (entries.get(entry.key) != entry) {
+        return;
+      }
+      entries.remove(entry.key);
+      size -= entry.size;
+    }
+  }
+
+  private void deleteFile(Entry entry, Entry replacement) {
+    if (entry.file != null && (replacement == null || replacement == entry || !entry.file.equals(replacement.file))) {
+      vertx.fileSystem().delete(entry.file, ar -> {});
+    }
+  }
+
+  private static String joinAll(MultiMap headers, String name) {
+    return String.join(",", headers.getAll(name));
+  }
+
+  private static int headersSize(MultiMap headers) {
+    int size = 0;
+    for (Map.Entry<String, String> header : headers) {
+      size += header.getKey().length() + header.getValue().length() + 4;
+    }
+    return size;
+  }
+
+  /**
+   * A cached response, immutable.
+   */
+  static final class Entry {
+
+    final String key;
+    final HttpVersion version;
+    final int statusCode;
+    final String statusMessage;
+    final MultiMap headers;
+    final Map<String, String> vary;
+    final int size;
+    final Buffer body;
+    final String file;
+    final long responseTime;
+    final long initialAge;
+    final long freshnessLifetime;
+
+    private Entry(String key, HttpVersion version, int statusCode, String statusMessage, MultiMap headers,
+                  Map<String, String> vary, long requestTime, long responseTime, int size, Buffer body, String file) {
+      this.key = key;
+      this.version = version;
+      this.statusCode = statusCode;
+      this.statusMessage = statusMessage;
+      this.headers = headers;
+      this.vary = vary;
+      this.size = size;
+      this.body = body;
+      this.file = file;
+      this.responseTime = responseTime;
+
+      long date = date(headers, HttpHeaders.DATE);
+      if (date == -1) {
+        date = responseTime;
+      }
+      Map<String, String> cc = cacheControl(headers);
+      long ageValue;
+      try {
+        String age = headers.get(HttpHeaders.AGE);
+        ageValue = age != null ? Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(age.trim()))) : 0;
+      } catch (NumberFormatException e) {
+        ageValue = 0;
+      }
+      this.initialAge = Math.max(Math.max(0, responseTime - date), ageValue + responseTime - requestTime);
+
+      long maxAge = seconds(cc, "max-age");
+      if (cc.containsKey("no-cache")) {
+        freshnessLifetime = 0;
+      } else if (maxAge != -1) {
+        freshnessLifetime = TimeUnit.SECONDS.toMillis(maxAge);
+      } else if (headers.contains(HttpHeaders.EXPIRES)) {
+        long expires = date(headers, HttpHeaders.EXPIRES);
+        freshnessLifetime = expires != -1 ? Math.max(0, expires - date) : 0;
+      } else {
+        long lastModified = date(headers, HttpHeaders.LAST_MODIFIED);
+        freshnessLifetime = lastModified != -1 ? Math.min(MAX_HEURISTIC_LIFETIME, Math.max(0, date - lastModified) / 10) : 0;
+      }
+    }
+
+    /**
+     * @return the current age of the response in milliseconds
+     */
+    long age(long now) {
+      return initialAge + now - responseTime;
+    }
+  }
+}
@@ -55,6 +55,7 @@ class HttpServerFileUploadImpl implements HttpServerFileUpload {
   private Buffer pauseBuff;
   private boolean complete;
   private boolean lazyCalculateSize;
+  private boolean failed;
 
   HttpServerFileUploadImpl(Vertx vertx, HttpServerRequest req, String name, String filename, String contentType,
                            String contentTransferEncoding,
@@ -148,6 +149,12 @@ class HttpServerFileUploadImpl implements HttpServerFileUpload {
     pause();
     vertx.fileSystem().open(filename, new OpenOptions(), ar -> {
       if (ar.succeeded()) {
+        synchronized (HttpServerFileUploadImpl.this) {
+          if (failed) {
+            ar.result().close();
+            return;
+          }
+        }
         file =  ar.result();
         Pump p = Pump.pump(HttpServerFileUploadImpl.this, ar.result());
         p.start();
@@ -195,6 +202,14 @@ class HttpServerFileUploadImpl implements HttpServerFileUpload {
     }
   }
 
+  synchronized void handleException(Throwable cause) {
+    failed = true;
+    if (file != null) {
+      file.close();
+    }
+    notifyExceptionHandler(cause);
+  }
+
   private void handleComplete() {
     lazyCalculateSize = false;
     if (file == null) {
@@ -76,6 +76,7 @@ import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.impl.AsyncResolveConnectHelper;
+import io.vertx.core.net.impl.ConcurrencyLimit;
 import io.vertx.core.net.impl.HandlerHolder;
 import io.vertx.core.net.impl.HandlerManager;
 import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
@@ -117,13 +118,20 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   private static final boolean DISABLE_WEBSOCKETS = Boolean.getBoolean(DISABLE_WEBSOCKETS_PROP_NAME);
   private static final String DISABLE_H2C_PROP_NAME = "vertx.disableH2c";
   private final boolean DISABLE_HC2 = Boolean.getBoolean(DISABLE_H2C_PROP_NAME);
-  private static final String[] H2C_HANDLERS_TO_REMOVE = { "idle", "flashpolicy", "deflater", "chunkwriter" };
+  private static final String[] H2C_HANDLERS_TO_REMOVE = { "idle", "flashpolicy", "deflater", "chunkwriter", WebSocketCompression.HANDLER_NAME };
 
   private final HttpServerOptions options;
   private final VertxInternal vertx;
   private final SSLHelper sslHelper;
+  private final FileCache fileCache;
+  private final ConcurrencyLimit connectionLimit;
+  private final ConcurrencyLimit requestLimit;
+  private final HttpCompressionPolicy compressionPolicy;
   private final ContextImpl creatingContext;
   private final Map<Channel, ServerConnection> connectionMap = new ConcurrentHashMap<>();
+  // Shared by the connections instead of capturing each pipeline
+  private final Handler<ServerConnection> connectionAddHandler = conn -> connectionMap.put(conn.channel(), conn);
+  private final Handler<ServerConnection> connectionRemoveHandler = conn -> connectionMap.remove(conn.channel());
   private final Map<Channel, Http2ServerConnection> connectionMap2 = new ConcurrentHashMap<>();
   private final VertxEventLoopGroup availableWorkers = new VertxEventLoopGroup();
   private final HandlerManager<HttpHandlers> httpHandlerMgr = new HandlerManager<>(availableWorkers);
@@ -155,6 +163,10 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     }
     this.sslHelper = new SSLHelper(options, options.getKeyCertOptions(), options.getTrustOptions());
     this.logEnabled = options.getLogActivity();
+    this.fileCache = options.getFileCacheSize() > 0 ? new FileCache(options.getFileCacheSize(), options.getFileCacheValidity()) : null;
+    this.connectionLimit = ConcurrencyLimit.create(options.getMaxConnections());
+    this.requestLimit = ConcurrencyLimit.create(options.getMaxConcurrentRequests());
+    this.compressionPolicy = new HttpCompressionPolicy(options);
     connectionExceptionHandler = t -> {log.trace("Connection failure", t);};
   }
 
@@ -257,13 +269,34 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
                 ch.close();
                 return;
               }
+              if (connectionLimit != null) {
+                if (!connectionLimit.acquire()) {
+                  if (METRICS_ENABLED && metrics != null) {
+                    metrics.connectionRejected(new SocketAddressImpl((InetSocketAddress) ch.remoteAddress()));
+                  }
+                  ch.close();
+                  return;
+                }
+                ch.closeFuture().addListener(future -> connectionLimit.release());
+              }
               ChannelPipeline pipeline = ch.pipeline();
               if (sslHelper.isSSL()) {
+                io.netty.util.concurrent.Future<Channel> handshakeFuture;
                 if (options.isSni()) {
                   VertxSniHandler sniHandler = new VertxSniHandler(sslHelper, vertx);
+                  handshakeFuture = sniHandler.handshakeFuture();
                   pipeline.addLast(sniHandler);
                 } else {
-                  pipeline.addLast("ssl", new SslHandler(sslHelper.createEngine(vertx)));
+                  SslHandler sslHandler = sslHelper.createHandler(sslHelper.createEngine(vertx));
+                  handshakeFuture = sslHandler.handshakeFuture();
+                  pipeline.addLast("ssl", sslHandler);
+                }
+                if (METRICS_ENABLED && metrics != null) {
+                  handshakeFuture.addListener(future -> {
+                    if (future.isSuccess()) {
+                      sslHelper.handshakeCompleted(ch, metrics);
+                    }
+                  });
                 }
                 postSSLConfig(pipeline);
               } else {
@@ -348,7 +381,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
         .compressionLevel(options.getCompressionLevel())
         .initialSettings(options.getInitialSettings())
         .connectionFactory(connHandler -> {
-          Http2ServerConnection conn = new Http2ServerConnection(holder.context, serverOrigin, connHandler, options, holder.handler.requesthHandler, metrics);
+          Http2ServerConnection conn = new Http2ServerConnection(holder.context, serverOrigin, connHandler, options, holder.handler.requesthHandler, metrics, requestLimit, compressionPolicy);
           if (metrics != null) {
             conn.metric(metrics.connected(conn.remoteAddress(), conn.remoteName()));
           }
@@ -392,7 +425,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
       pipeline.addLast("inflater", new HttpContentDecompressor(true));
     }
     if (options.isCompressionSupported()) {
-      pipeline.addLast("deflater", new HttpChunkContentCompressor(options.getCompressionLevel()));
+      pipeline.addLast("deflater", new HttpChunkContentCompressor(options.getCompressionLevel(), compressionPolicy));
     }
     if (sslHelper.isSSL() || options.isCompressionSupported()) {
       // only add ChunkedWriteHandler when SSL is enabled otherwise it is not needed as FileRegion is used.
@@ -401,6 +434,9 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     if (options.getIdleTimeout() > 0) {
       pipeline.addLast("idle", new IdleStateHandler(0, 0, options.getIdleTimeout()));
     }
+    if (options.isPerMessageWebsocketCompressionSupported()) {
+      pipeline.addLast(WebSocketCompression.HANDLER_NAME, WebSocketCompression.serverHandler(options));
+    }
     if (!DISABLE_HC2) {
       pipeline.addLast("h2c", new Http2UpgradeHandler());
     }
@@ -409,16 +445,12 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     if (DISABLE_WEBSOCKETS) {
       // As a performance optimisation you can set a system property to disable websockets altogether which avoids
       // some casting and a header check
-      handler = new ServerHandler(sslHelper, options, serverOrigin, holder, metrics);
+      handler = new ServerHandler(sslHelper, options, serverOrigin, holder, metrics, fileCache, requestLimit);
     } else {
-      handler = new ServerHandlerWithWebSockets(sslHelper, options, serverOrigin, holder, metrics);
-    }
-    handler.addHandler(conn -> {
-      connectionMap.put(pipeline.channel(), conn);
-    });
-    handler.removeHandler(conn -> {
-      connectionMap.remove(pipeline.channel());
-    });
+      handler = new ServerHandlerWithWebSockets(sslHelper, options, serverOrigin, holder, metrics, fileCache, requestLimit);
+    }
+    handler.addHandler(connectionAddHandler);
+    handler.removeHandler(connectionRemoveHandler);
     pipeline.addLast("handler", handler);
   }
 
@@ -439,6 +471,17 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     }
   }
 
+  @Override
+  public synchronized HttpServer reloadCertificates(Handler<AsyncResult<Void>> completionHandler) {
+    // Shared servers use the contexts of the actual server
+    SSLHelper helper = actualServer != null ? actualServer.sslHelper : sslHelper;
+    vertx.executeBlockingInternal(() -> {
+      helper.reloadCertificates(vertx);
+      return null;
+    }, completionHandler);
+    return this;
+  }
+
   @Override
   public void close() {
     close(null);
@@ -566,6 +609,12 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
       metrics.close();
     }
 
+    if (fileCache != null) {
+      fileCache.close();
+    }
+
+    sslHelper.close();
+
     ChannelGroupFuture fut = serverChannelGroup.close();
     fut.addListener(cgf -> executeCloseDone(closeContext, done, fut.cause()));
   }
@@ -589,8 +638,8 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     private HttpResponseStatus handshakeErrorStatus;
     private String handshakeErrorMsg;
 
-    public ServerHandlerWithWebSockets(SSLHelper sslHelper, HttpServerOptions options, String serverOrigin, HandlerHolder<HttpHandlers> holder, HttpServerMetrics metrics) {
-      super(sslHelper, options, serverOrigin, holder, metrics);
+    public ServerHandlerWithWebSockets(SSLHelper sslHelper, HttpServerOptions options, String serverOrigin, HandlerHolder<HttpHandlers> holder, HttpServerMetrics metrics, FileCache fileCache, ConcurrencyLimit requestLimit) {
+      super(sslHelper, options, serverOrigin, holder, metrics, fileCache, requestLimit);
     }
 
     @Override
@@ -709,6 +758,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
           Runnable connectRunnable = () -> {
             try {
               shake.handshake(ch, request);
+              conn.webSocketUpgraded();
             } catch (WebSocketHandshakeException e) {
               conn.handleException(e);
             } catch (Exception e) {
@@ -718,7 +768,8 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
 
           ServerWebSocketImpl ws = new ServerWebSocketImpl(vertx, theURI.toString(), theURI.getPath(),
               theURI.getQuery(), new HeadersAdaptor(request.headers()), conn, shake.version() != WebSocketVersion.V00,
-              connectRunnable, options.getMaxWebsocketFrameSize(), options().getMaxWebsocketMessageSize());
+              connectRunnable, options.getMaxWebsocketFrameSize(), options().getMaxWebsocketMessageSize(),
+              options.isRegisterWebsocketWriteHandlers());
           if (METRICS_ENABLED && metrics != null) {
             ws.setMetric(metrics.connected(conn.metric(), ws));
           }
@@ -87,7 +87,9 @@ public class HttpServerRequestImpl implements HttpServerRequest {
   private Handler<Void> endHandler;
   private MultiMap attributes;
   private HttpPostRequestDecoder decoder;
+  private MultipartParser multipartParser;
   private boolean ended;
+  private long maxBodySize;
 
 
   HttpServerRequestImpl(ServerConnection conn,
@@ -96,6 +98,7 @@ public class HttpServerRequestImpl implements HttpServerRequest {
     this.conn = conn;
     this.request = request;
     this.response = response;
+    this.maxBodySize = conn.options.getMaxRequestBodySize();
   }
 
   @Override
@@ -311,7 +314,7 @@ public class HttpServerRequestImpl implements HttpServerRequest {
     synchronized (conn) {
       checkEnded();
       if (expect) {
-        if (decoder == null) {
+        if (decoder == null && multipartParser == null) {
           String contentType = request.headers().get(HttpHeaders.Names.CONTENT_TYPE);
           if (contentType != null) {
             HttpMethod method = request.getMethod();
@@ -320,12 +323,19 @@ public class HttpServerRequestImpl implements HttpServerRequest {
             if ((lowerCaseContentType.startsWith(HttpHeaders.Values.MULTIPART_FORM_DATA) || isURLEncoded) &&
               (method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT) || method.equals(HttpMethod.PATCH)
                 || method.equals(HttpMethod.DELETE))) {
-              decoder = new HttpPostRequestDecoder(new NettyFileUploadDataFactory(conn.vertx(), this, () -> uploadHandler), request);
+              String boundary = isURLEncoded ? null : MultipartParser.boundary(contentType);
+              if (boundary != null) {
+                multipartParser = new MultipartParser(conn.vertx(), this, boundary, conn.options.getMaxMultipartPartSize(),
+                  conn.options.getMaxMultipartBodySize(), () -> uploadHandler, attributes());
+              } else {
+                decoder = new HttpPostRequestDecoder(new NettyFileUploadDataFactory(conn.vertx(), this, () -> uploadHandler), request);
+              }
             }
           }
         }
       } else {
         decoder = null;
+        multipartParser = null;
       }
       return this;
     }
@@ -334,7 +344,26 @@ public class HttpServerRequestImpl implements HttpServerRequest {
   @Override
   public boolean isExpectMultipart() {
     synchronized (conn) {
-      return decoder != null;
+      return decoder != null || multipartParser != null;
+    }
+  }
+
+  @Override
+  public HttpServerRequest setMaxBodySize(long maxBodySize) {
+    if (maxBodySize < -1) {
+      throw new IllegalArgumentException("maxBodySize must be >= 0 or -1 (unlimited)");
+    }
+    synchronized (conn) {
+      checkEnded();
+      this.maxBodySize = maxBodySize;
+      return this;
+    }
+  }
+
+  @Override
+  public long getMaxBodySize() {
+    synchronized (conn) {
+      return maxBodySize;
     }
   }
 
@@ -368,6 +397,12 @@ public class HttpServerRequestImpl implements HttpServerRequest {
         } catch (HttpPostRequestDecoder.ErrorDataDecoderException e) {
           handleException(e);
         }
+      } else if (multipartParser != null) {
+        try {
+          multipartParser.handle(data.getByteBuf());
+        } catch (HttpPostRequestDecoder.ErrorDataDecoderException e) {
+          handleException(e);
+        }
       }
       if (dataHandler != null) {
         dataHandler.handle(data);
@@ -400,6 +435,12 @@ public class HttpServerRequestImpl implements HttpServerRequest {
         } finally {
           decoder.destroy();
         }
+      } else if (multipartParser != null) {
+        try {
+          multipartParser.end();
+        } catch (HttpPostRequestDecoder.ErrorDataDecoderException e) {
+          handleException(e);
+        }
       }
       // If there have been uploads then we let the last one call the end handler once any fileuploads are complete
       if (endHandler != null) {
@@ -31,7 +31,9 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.impl.headers.HttpHeaderBlockImpl;
 import io.vertx.core.http.impl.headers.VertxHttpHeaders;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.logging.Logger;
@@ -40,7 +42,6 @@ import io.vertx.core.logging.LoggerFactory;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 
 /**
  *
@@ -58,12 +59,17 @@ public class HttpServerResponseImpl implements HttpServerResponse {
 
   private static final Logger log = LoggerFactory.getLogger(HttpServerResponseImpl.class);
 
+  private static final CharSequence GZIP = HttpHeaders.createOptimized("gzip");
+  private static final CharSequence VARY = HttpHeaders.createOptimized("vary");
+
   private final VertxInternal vertx;
   private final ServerConnection conn;
+  private final HttpRequest request;
   private HttpResponseStatus status;
   private final HttpVersion version;
-  private final boolean keepAlive;
+  private boolean keepAlive;
   private final boolean head;
+  private final boolean acceptsGzip;
 
   private boolean headWritten;
   private boolean written;
@@ -80,16 +86,19 @@ public class HttpServerResponseImpl implements HttpServerResponse {
   private MultiMap trailers;
   private String statusMessage;
   private long bytesWritten;
+  private int compressionLevel = -1;
 
   HttpServerResponseImpl(final VertxInternal vertx, ServerConnection conn, HttpRequest request) {
     this.vertx = vertx;
     this.conn = conn;
+    this.request = request;
     this.version = request.getProtocolVersion();
     this.headers = new VertxHttpHeaders();
     this.status = HttpResponseStatus.OK;
     this.keepAlive = (version == HttpVersion.HTTP_1_1 && !request.headers().contains(io.vertx.core.http.HttpHeaders.CONNECTION, HttpHeaders.CLOSE, true))
       || (version == HttpVersion.HTTP_1_0 && request.headers().contains(io.vertx.core.http.HttpHeaders.CONNECTION, HttpHeaders.KEEP_ALIVE, true));
     this.head = request.method() == io.netty.handler.codec.http.HttpMethod.HEAD;
+    this.acceptsGzip = conn.options.isPrecompressedFilesSupported() && HttpUtils.acceptsGzip(request.headers().get(HttpHeaders.ACCEPT_ENCODING));
   }
 
   @Override
@@ -152,6 +161,19 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     }
   }
 
+  @Override
+  public HttpServerResponseImpl setCompressionLevel(int level) {
+    Arguments.requireInRange(level, -1, 9, "compressionLevel must be between -1 and 9");
+    synchronized (conn) {
+      checkWritten();
+      if (headWritten) {
+        throw new IllegalStateException("Response head already sent");
+      }
+      compressionLevel = level;
+      return this;
+    }
+  }
+
   @Override
   public HttpServerResponseImpl putHeader(String key, String value) {
     synchronized (conn) {
@@ -206,6 +228,15 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     }
   }
 
+  @Override
+  public HttpServerResponse putHeaders(HttpHeaderBlock block) {
+    synchronized (conn) {
+      checkWritten();
+      headers.set((HttpHeaderBlockImpl) block);
+      return this;
+    }
+  }
+
   @Override
   public HttpServerResponse putTrailer(CharSequence name, CharSequence value) {
     synchronized (conn) {
@@ -452,7 +483,41 @@ public class HttpServerResponseImpl implements HttpServerResponse {
       checkWritten();
       File file = vertx.resolveFile(filename);
 
-      if (!file.exists()) {
+      FileRangeRequest range = null;
+      boolean gzip = acceptsGzip && offset == 0 && length == Long.MAX_VALUE && !headers.contains(HttpHeaders.CONTENT_ENCODING);
+      if (conn.options.isRangeRequestsSupported() && offset == 0 && length == Long.MAX_VALUE && status.code() == 200 && file.isFile()) {
+        // Evaluate the request against the file attributes, a 304 or a 416 does not open the file
+        gzip &= !request.headers().contains(HttpHeaderNames.RANGE) && new File(file.getPath() + ".gz").isFile();
+        range = evaluateRange(file.length(), file.lastModified(), gzip);
+        if (range.status != HttpResponseStatus.OK && range.status != HttpResponseStatus.PARTIAL_CONTENT) {
+          endRange(range, resultHandler);
+          return;
+        }
+      }
+
+      FileCache.CachedFile cached = null;
+      boolean encoded = false;
+      try {
+        if (gzip) {
+          // Serve the pre-compressed sibling of the file
+          cached = conn.openFile(new File(file.getPath() + ".gz"));
+          if (cached.exists()) {
+            encoded = true;
+          } else {
+            cached.release();
+            cached = null;
+          }
+        }
+        if (cached == null) {
+          cached = conn.openFile(file);
+        }
+      } catch (IOException e) {
+        handleSendFileFailure(e, resultHandler);
+        return;
+      }
+
+      if (!cached.exists()) {
+        cached.release();
         if (resultHandler != null) {
           ContextImpl ctx = vertx.getOrCreateContext();
           ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(new FileNotFoundException())));
@@ -462,34 +527,64 @@ public class HttpServerResponseImpl implements HttpServerResponse {
         return;
       }
 
-      long contentLength = Math.min(length, file.length() - offset);
-      bytesWritten = contentLength;
+      if (range != null && !encoded && (cached.length != range.length || cached.lastModified != range.lastModified)) {
+        // The file changed since it was evaluated or the cached file is stale
+        range = evaluateRange(cached.length, cached.lastModified, false);
+        if (range.status != HttpResponseStatus.OK && range.status != HttpResponseStatus.PARTIAL_CONTENT) {
+          cached.release();
+          endRange(range, resultHandler);
+          return;
+        }
+      }
+
+      long contentLength = Math.min(length, cached.length - offset);
       if (!headers.contentTypeSet()) {
         String contentType = MimeMapping.getMimeTypeForFilename(filename);
         if (contentType != null) {
           putHeader(HttpHeaders.CONTENT_TYPE, contentType);
         }
       }
+      if (encoded) {
+        putHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        headers.add(VARY, HttpHeaders.ACCEPT_ENCODING);
+      }
+      boolean partial = range != null && range.status == HttpResponseStatus.PARTIAL_CONTENT;
+      String contentType = null;
+      if (partial) {
+        // A range is sent as is
+        setStatusCode(HttpResponseStatus.PARTIAL_CONTENT.code());
+        compressionLevel = 0;
+        if (range.size() == 1) {
+          offset = range.offset(0);
+          contentLength = range.length(0);
+          headers.set(HttpHeaders.CONTENT_RANGE, range.contentRange(0));
+        } else {
+          contentType = headers.get(HttpHeaders.CONTENT_TYPE);
+          headers.set(HttpHeaders.CONTENT_TYPE, range.multipartContentType());
+          contentLength = range.multipartLength(contentType);
+        }
+      }
+      bytesWritten = contentLength;
       prepareHeaders(bytesWritten);
 
-      RandomAccessFile raf = null;
       try {
-        raf = new RandomAccessFile(file, "r");
         conn.queueForWrite(new DefaultHttpResponse(version, status, headers));
-        conn.sendFile(raf, Math.min(offset, file.length()), contentLength);
-      } catch (IOException e) {
-        try {
-          if (raf != null) {
-            raf.close();
+        if (partial && range.size() > 1) {
+          for (int i = 0;i < range.size();i++) {
+            if (i > 0) {
+              // Each part holds a reference to the file
+              cached.retain();
+            }
+            conn.writeToChannel(new DefaultHttpContent(range.partHeader(i, contentType)));
+            conn.sendFile(cached, range.offset(i), range.length(i), true);
           }
-        } catch (IOException ignore) {
-        }
-        if (resultHandler != null) {
-          ContextImpl ctx = vertx.getOrCreateContext();
-          ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
+          conn.writeToChannel(new DefaultHttpContent(range.multipartEnd()));
         } else {
-          log.error("Failed to send file", e);
+          conn.sendFile(cached, Math.min(offset, cached.length), contentLength, encoded || partial);
         }
+      } catch (IOException e) {
+        cached.release();
+        handleSendFileFailure(e, resultHandler);
         return;
       }
 
@@ -522,6 +617,72 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     }
   }
 
+  /**
+   * Add the validators of the file to the response and evaluate the conditional and range headers of the request.
+   */
+  private FileRangeRequest evaluateRange(long length, long lastModified, boolean gzip) {
+    String etag = headers.get(HttpHeaders.ETAG);
+    if (etag == null) {
+      etag = FileRangeRequest.etag(length, lastModified);
+      if (gzip || (conn.options.isCompressionSupported() && compressionLevel != 0)) {
+        // The body may be content encoded
+        etag = "W/" + etag;
+      }
+      headers.set(HttpHeaders.ETAG, etag);
+    }
+    if (!headers.contains(HttpHeaders.LAST_MODIFIED)) {
+      headers.set(HttpHeaders.LAST_MODIFIED, FileRangeRequest.lastModified(lastModified));
+    }
+    headers.set(HttpHeaders.ACCEPT_RANGES, HttpHeaderValues.BYTES);
+    io.netty.handler.codec.http.HttpHeaders h = request.headers();
+    io.netty.handler.codec.http.HttpMethod method = request.method();
+    return FileRangeRequest.evaluate(method == io.netty.handler.codec.http.HttpMethod.GET,
+      method == io.netty.handler.codec.http.HttpMethod.GET || head,
+      h.get(HttpHeaders.IF_NONE_MATCH), h.get(HttpHeaders.IF_MODIFIED_SINCE),
+      h.get(HttpHeaderNames.RANGE), h.get(HttpHeaderNames.IF_RANGE),
+      etag, length, lastModified);
+  }
+
+  /**
+   * End a {@code 304} or a {@code 416} response to a file request.
+   */
+  private void endRange(FileRangeRequest range, Handler<AsyncResult<Void>> resultHandler) {
+    setStatusCode(range.status.code());
+    if (range.status == HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE) {
+      headers.set(HttpHeaders.CONTENT_RANGE, range.unsatisfiedRange());
+    }
+    end();
+    if (resultHandler != null) {
+      ContextImpl ctx = vertx.getOrCreateContext();
+      ctx.runOnContext((v) -> resultHandler.handle(Future.succeededFuture()));
+    }
+  }
+
+  private void handleSendFileFailure(IOException e, Handler<AsyncResult<Void>> resultHandler) {
+    if (resultHandler != null) {
+      ContextImpl ctx = vertx.getOrCreateContext();
+      ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
+    } else {
+      log.error("Failed to send file", e);
+    }
+  }
+
+  /**
+   * The request body is too large: reply {@code 413} when the response has not been sent yet and close the connection
+   * so the rest of the body is not read.
+   */
+  void handleBodyTooLarge() {
+    synchronized (conn) {
+      keepAlive = false;
+      if (!headWritten) {
+        setStatusCode(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code());
+        end();
+      } else {
+        closeConnAfterWrite();
+      }
+    }
+  }
+
   private void closeConnAfterWrite() {
     ChannelPromise channelFuture = conn.channelFuture();
     conn.writeToChannel(Unpooled.EMPTY_BUFFER, channelFuture);
@@ -570,14 +731,18 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     if (!head) {
       if (chunked) {
         headers.set(HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CHUNKED);
-      } else if (!headers.contentLengthSet() && contentLength >= 0) {
+      } else if (!headers.contentLengthSet() && contentLength >= 0 && status.code() != 304) {
         String value = contentLength == 0 ? "0" : String.valueOf(contentLength);
         headers.set(HttpHeaders.CONTENT_LENGTH, value);
       }
     }
+    if (conn.options.isSendDateHeader() && !headers.contains(HttpHeaders.DATE)) {
+      headers.add(HttpHeaders.DATE, DateHeader.value());
+    }
     if (headersEndHandler != null) {
       headersEndHandler.handle(null);
     }
+    conn.beginResponseCompression(compressionLevel);
     headWritten = true;
   }
 
@@ -409,6 +409,40 @@ public final class HttpUtils {
     return null;
   }
 
+  /**
+   * @return whether the {@code Accept-Encoding} header value accepts the gzip content coding, an explicit
+   *         {@code gzip} coding takes precedence over {@code *}
+   */
+  public static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    float gzipQ = -1f;
+    float anyQ = -1f;
+    for (String coding : acceptEncoding.split(",")) {
+      int idx = coding.indexOf(';');
+      String name = (idx == -1 ? coding : coding.substring(0, idx)).trim();
+      boolean gzip = name.equalsIgnoreCase("gzip");
+      if (gzip || name.equals("*")) {
+        float q = 1.0f;
+        int eq = idx == -1 ? -1 : coding.indexOf('=', idx);
+        if (eq != -1) {
+          try {
+            q = Float.parseFloat(coding.substring(eq + 1).trim());
+          } catch (NumberFormatException e) {
+            q = 0f;
+          }
+        }
+        if (gzip) {
+          gzipQ = q;
+        } else {
+          anyQ = q;
+        }
+      }
+    }
+    return gzipQ != -1f ? gzipQ > 0f : anyQ > 0f;
+  }
+
   static HttpMethod toNettyHttpMethod(io.vertx.core.http.HttpMethod method, String rawMethod) {
     switch (method) {
       case CONNECT: {
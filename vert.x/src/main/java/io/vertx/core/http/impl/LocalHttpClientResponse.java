@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpFrame;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.impl.ContextImpl;
+import io.vertx.core.net.NetSocket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A response that does not come from a connection of the request: a response served by the {@link HttpResponseCache}
+ * or the response of a coalesced request. The chunks received while the response is paused are buffered.
+ */
+class LocalHttpClientResponse implements HttpClientResponse {
+
+  private final HttpClientRequestBase request;
+  private final HttpVersion version;
+  private final int statusCode;
+  private final String statusMessage;
+  private final MultiMap headers;
+  private final ContextImpl context;
+  private Handler<Buffer> dataHandler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private boolean paused;
+  private Buffer pending;
+  private boolean ended;
+  private boolean endDelivered;
+  private MultiMap trailers;
+
+  LocalHttpClientResponse(HttpClientRequestBase request, HttpVersion version, int statusCode, String statusMessage,
+                          MultiMap headers, ContextImpl context) {
+    this.request = request;
+    this.version = version;
+    this.statusCode = statusCode;
+    this.statusMessage = statusMessage;
+    this.headers = new CaseInsensitiveHeaders().addAll(headers);
+    this.context = context;
+  }
+
+  @Override
+  public HttpClientRequest request() {
+    return request;
+  }
+
+  @Override
+  public HttpVersion version() {
+    return version;
+  }
+
+  @Override
+  public int statusCode() {
+    return statusCode;
+  }
+
+  @Override
+  public String statusMessage() {
+    return statusMessage;
+  }
+
+  @Override
+  public MultiMap headers() {
+    return headers;
+  }
+
+  @Override
+  public String getHeader(String headerName) {
+    return headers.get(headerName);
+  }
+
+  @Override
+  public String getHeader(CharSequence headerName) {
+    return headers.get(headerName);
+  }
+
+  @Override
+  public synchronized MultiMap trailers() {
+    if (trailers == null) {
+      trailers = new CaseInsensitiveHeaders();
+    }
+    return trailers;
+  }
+
+  @Override
+  public String getTrailer(String trailerName) {
+    return null;
+  }
+
+  @Override
+  public List<String> cookies() {
+    return new ArrayList<>(headers.getAll(HttpHeaders.SET_COOKIE));
+  }
+
+  @Override
+  public synchronized HttpClientResponse handler(Handler<Buffer> handler) {
+    dataHandler = handler;
+    return this;
+  }
+
+  @Override
+  public synchronized HttpClientResponse endHandler(Handler<Void> handler) {
+    endHandler = handler;
+    return this;
+  }
+
+  @Override
+  public synchronized HttpClientResponse exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public synchronized HttpClientResponse pause() {
+    paused = true;
+    return this;
+  }
+
+  @Override
+  public synchronized HttpClientResponse resume() {
+    if (paused) {
+      paused = false;
+      context.runOnContext(v -> drain());
+    }
+    return this;
+  }
+
+  @Override
+  public HttpClientResponse bodyHandler(Handler<Buffer> bodyHandler) {
+    Buffer received = Buffer.buffer();
+    handler(received::appendBuffer);
+    endHandler(v -> bodyHandler.handle(received));
+    return this;
+  }
+
+  @Override
+  public HttpClientResponse customFrameHandler(Handler<HttpFrame> handler) {
+    return this;
+  }
+
+  @Override
+  public NetSocket netSocket() {
+    throw new IllegalStateException("The response has no connection");
+  }
+
+  synchronized void handleChunk(Buffer chunk) {
+    if (paused || pending != null) {
+      if (pending == null) {
+        pending = Buffer.buffer();
+      }
+      pending.appendBuffer(chunk);
+    } else {
+      deliver(chunk);
+    }
+  }
+
+  synchronized void handleEnd() {
+    ended = true;
+    drain();
+  }
+
+  synchronized void handleException(Throwable t) {
+    if (exceptionHandler != null) {
+      exceptionHandler.handle(t);
+    }
+  }
+
+  private synchronized void drain() {
+    if (paused) {
+      return;
+    }
+    if (pending != null) {
+      Buffer chunk = pending;
+      pending = null;
+      deliver(chunk);
+    }
+    if (ended && !endDelivered && !paused) {
+      endDelivered = true;
+      if (endHandler != null) {
+        try {
+          endHandler.handle(null);
+        } catch (Throwable t) {
+          handleException(t);
+        }
+      }
+    }
+  }
+
+  private void deliver(Buffer chunk) {
+    if (dataHandler != null) {
+      try {
+        dataHandler.handle(chunk);
+      } catch (Throwable t) {
+        handleException(t);
+      }
+    }
+  }
+}
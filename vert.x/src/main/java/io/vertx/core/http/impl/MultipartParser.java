@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpConstants;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerRequest;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A streaming {@code multipart/form-data} parser.
+ * <p>
+ * The content of a file part is handed to its {@link HttpServerFileUploadImpl} as slices of the received buffers, so
+ * it is never aggregated. Only the part headers, the form attributes and the bytes that might start a delimiter at the
+ * end of a buffer are kept until the next buffer is received.
+ * <p>
+ * The parts of a nested {@code multipart/mixed} part are file uploads named after the enclosing part, as the Netty
+ * decoder does.
+ */
+final class MultipartParser {
+
+  private static final int MAX_HEADERS_SIZE = 8192;
+
+  private enum State { PREAMBLE, DELIMITER, HEADERS, BODY, EPILOGUE, FAILED }
+
+  /**
+   * @return the boundary of a {@code multipart/form-data} content type or {@code null}
+   */
+  static String boundary(String contentType) {
+    for (String param : split(contentType, ';')) {
+      int idx = param.indexOf('=');
+      if (idx != -1 && param.substring(0, idx).trim().equalsIgnoreCase("boundary")) {
+        String boundary = unquote(param.substring(idx + 1).trim());
+        return boundary.isEmpty() ? null : boundary;
+      }
+    }
+    return null;
+  }
+
+  private final Vertx vertx;
+  private final HttpServerRequest request;
+  private final Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler;
+  private final MultiMap attributes;
+  private byte[] delimiter;
+  private final long maxPartSize;
+  private final long maxBodySize;
+  private State state = State.PREAMBLE;
+  private ByteBuf pending;
+  private long bodySize;
+  private int headersSize;
+
+  // The delimiter of the enclosing form and the name of the enclosing part when parsing a multipart/mixed part
+  private byte[] formDelimiter;
+  private String mixedName;
+
+  // The current part
+  private String name;
+  private String filename;
+  private String contentType;
+  private String contentTransferEncoding;
+  private Charset charset;
+  private String mixedBoundary;
+  private long contentLength;
+  private long partSize;
+  private HttpServerFileUploadImpl upload;
+  private ByteBuf attribute;
+
+  MultipartParser(Vertx vertx, HttpServerRequest request, String boundary, long maxPartSize, long maxBodySize,
+                  Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler, MultiMap attributes) {
+    this.vertx = vertx;
+    this.request = request;
+    this.lazyUploadHandler = lazyUploadHandler;
+    this.attributes = attributes;
+    this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+    this.maxPartSize = maxPartSize;
+    this.maxBodySize = maxBodySize;
+  }
+
+  /**
+   * Parse a buffer of the body.
+   *
+   * @throws HttpPostRequestDecoder.ErrorDataDecoderException when the body is invalid or too large
+   */
+  void handle(ByteBuf chunk) {
+    if (state == State.FAILED || state == State.EPILOGUE) {
+      return;
+    }
+    bodySize += chunk.readableBytes();
+    if (maxBodySize >= 0 && bodySize > maxBodySize) {
+      throw fail("The multipart body exceeds the maximum size of " + maxBodySize + " bytes");
+    }
+    ByteBuf buf;
+    if (pending != null) {
+      buf = Unpooled.buffer(pending.readableBytes() + chunk.readableBytes());
+      buf.writeBytes(pending);
+      buf.writeBytes(chunk, chunk.readerIndex(), chunk.readableBytes());
+      pending = null;
+    } else {
+      buf = chunk.duplicate();
+    }
+    parse(buf);
+    if (buf.isReadable() && state != State.FAILED) {
+      pending = Unpooled.copiedBuffer(buf);
+    }
+  }
+
+  /**
+   * Signal the end of the body.
+   *
+   * @throws HttpPostRequestDecoder.ErrorDataDecoderException when the body is truncated
+   */
+  void end() {
+    if (state != State.FAILED && state != State.EPILOGUE) {
+      throw fail("Unexpected end of the multipart body");
+    }
+  }
+
+  private void parse(ByteBuf buf) {
+    while (true) {
+      switch (state) {
+        case PREAMBLE:
+        case BODY: {
+          // The first delimiter is not preceded by a line break
+          int offset = state == State.PREAMBLE ? 2 : 0;
+          int idx = indexOfDelimiter(buf, offset);
+          if (idx != -1) {
+            content(buf, idx - buf.readerIndex());
+            buf.skipBytes(delimiter.length - offset);
+            if (state == State.BODY) {
+              endPart();
+            }
+            state = State.DELIMITER;
+            break;
+          }
+          // Keep the bytes that might be the start of a delimiter
+          content(buf, buf.readableBytes() - partialDelimiter(buf, offset));
+          return;
+        }
+        case DELIMITER: {
+          if (buf.readableBytes() < 2) {
+            return;
+          }
+          byte b1 = buf.readByte();
+          byte b2 = buf.readByte();
+          if (b1 == '-' && b2 == '-') {
+            if (formDelimiter != null) {
+              // End of a multipart/mixed part, skip to the next delimiter of the form
+              delimiter = formDelimiter;
+              formDelimiter = null;
+              mixedName = null;
+              state = State.PREAMBLE;
+            } else {
+              state = State.EPILOGUE;
+            }
+          } else if (b1 == '\r' && b2 == '\n') {
+            state = State.HEADERS;
+          } else {
+            throw fail("Invalid multipart delimiter");
+          }
+          break;
+        }
+        case HEADERS: {
+          int from = buf.readerIndex();
+          int eol = buf.indexOf(from, buf.writerIndex(), HttpConstants.LF);
+          int len = eol == -1 ? buf.readableBytes() : eol + 1 - from;
+          if (headersSize + len > MAX_HEADERS_SIZE) {
+            throw fail("The multipart part headers exceed the maximum size of " + MAX_HEADERS_SIZE + " bytes");
+          }
+          if (eol == -1) {
+            return;
+          }
+          headersSize += len;
+          int end = eol > from && buf.getByte(eol - 1) == HttpConstants.CR ? eol - 1 : eol;
+          String line = buf.toString(from, end - from, StandardCharsets.UTF_8);
+          buf.readerIndex(eol + 1);
+          if (line.isEmpty()) {
+            if (mixedBoundary != null && formDelimiter == null) {
+              beginMixedPart();
+              state = State.PREAMBLE;
+            } else {
+              beginPart();
+              state = State.BODY;
+            }
+          } else {
+            header(line);
+          }
+          break;
+        }
+        case EPILOGUE:
+          buf.skipBytes(buf.readableBytes());
+          return;
+        default:
+          return;
+      }
+    }
+  }
+
+  private void content(ByteBuf buf, int len) {
+    if (state == State.BODY && len > 0) {
+      partSize += len;
+      if (maxPartSize >= 0 && partSize > maxPartSize) {
+        throw fail("The multipart part " + name + " exceeds the maximum size of " + maxPartSize + " bytes");
+      }
+      if (upload != null) {
+        upload.receiveData(Buffer.buffer(buf.readSlice(len)));
+        return;
+      }
+      if (attribute == null) {
+        attribute = Unpooled.buffer(len);
+      }
+      attribute.writeBytes(buf, len);
+    } else {
+      buf.skipBytes(len);
+    }
+  }
+
+  private void header(String line) {
+    int idx = line.indexOf(':');
+    if (idx == -1) {
+      throw fail("Invalid multipart part header " + line);
+    }
+    String headerName = line.substring(0, idx).trim();
+    String value = line.substring(idx + 1).trim();
+    if (headerName.equalsIgnoreCase("Content-Disposition")) {
+      for (String param : split(value, ';')) {
+        int eq = param.indexOf('=');
+        if (eq != -1) {
+          String key = param.substring(0, eq).trim();
+          if (key.equalsIgnoreCase("name")) {
+            name = unquote(param.substring(eq + 1).trim());
+          } else if (key.equalsIgnoreCase("filename")) {
+            filename = unquote(param.substring(eq + 1).trim());
+          }
+        }
+      }
+    } else if (headerName.equalsIgnoreCase("Content-Type")) {
+      contentType = value;
+      for (String param : split(value, ';')) {
+        int eq = param.indexOf('=');
+        if (eq != -1 && param.substring(0, eq).trim().equalsIgnoreCase("charset")) {
+          try {
+            charset = Charset.forName(unquote(param.substring(eq + 1).trim()));
+          } catch (IllegalArgumentException e) {
+            throw fail("Invalid multipart part charset " + param);
+          }
+        }
+      }
+      int semi = value.indexOf(';');
+      if (semi != -1) {
+        contentType = value.substring(0, semi).trim();
+      }
+      if (contentType.equalsIgnoreCase("multipart/mixed")) {
+        mixedBoundary = boundary(value);
+      }
+    } else if (headerName.equalsIgnoreCase("Content-Transfer-Encoding")) {
+      contentTransferEncoding = value;
+    } else if (headerName.equalsIgnoreCase("Content-Length")) {
+      try {
+        contentLength = Long.parseLong(value);
+      } catch (NumberFormatException e) {
+        throw fail("Invalid multipart part content length " + value);
+      }
+    }
+  }
+
+  private void beginMixedPart() {
+    mixedName = name;
+    formDelimiter = delimiter;
+    delimiter = ("\r\n--" + mixedBoundary).getBytes(StandardCharsets.ISO_8859_1);
+    resetPart();
+  }
+
+  private void beginPart() {
+    if (mixedName != null) {
+      name = mixedName;
+    }
+    if (charset == null) {
+      charset = HttpConstants.DEFAULT_CHARSET;
+    }
+    if (filename != null) {
+      if (contentType == null) {
+        contentType = HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
+      }
+      if (contentTransferEncoding == null) {
+        contentTransferEncoding = "7bit";
+      }
+      upload = new HttpServerFileUploadImpl(vertx, request, name, filename, contentType, contentTransferEncoding,
+        charset, contentLength);
+      Handler<HttpServerFileUpload> uploadHandler = lazyUploadHandler.get();
+      if (uploadHandler != null) {
+        uploadHandler.handle(upload);
+      }
+    }
+  }
+
+  private void endPart() {
+    if (upload != null) {
+      upload.complete();
+    } else if (name != null) {
+      attributes.add(name, attribute != null ? attribute.toString(charset) : "");
+    }
+    resetPart();
+  }
+
+  private void resetPart() {
+    name = null;
+    filename = null;
+    contentType = null;
+    contentTransferEncoding = null;
+    charset = null;
+    mixedBoundary = null;
+    contentLength = 0;
+    partSize = 0;
+    headersSize = 0;
+    upload = null;
+    attribute = null;
+  }
+
+  private HttpPostRequestDecoder.ErrorDataDecoderException fail(String msg) {
+    HttpPostRequestDecoder.ErrorDataDecoderException err = new HttpPostRequestDecoder.ErrorDataDecoderException(msg);
+    state = State.FAILED;
+    pending = null;
+    attribute = null;
+    if (upload != null) {
+      HttpServerFileUploadImpl failed = upload;
+      upload = null;
+      failed.handleException(err);
+    }
+    return err;
+  }
+
+  /**
+   * @param offset the number of leading bytes of the delimiter to ignore
+   */
+  private int indexOfDelimiter(ByteBuf buf, int offset) {
+    int to = buf.writerIndex() - delimiter.length + offset;
+    int idx = buf.readerIndex();
+    while (idx <= to) {
+      idx = buf.indexOf(idx, to + 1, delimiter[offset]);
+      if (idx == -1) {
+        return -1;
+      }
+      if (matches(buf, idx, offset, delimiter.length - offset)) {
+        return idx;
+      }
+      idx++;
+    }
+    return -1;
+  }
+
+  /**
+   * @return the length of the longest suffix of the buffer that is a prefix of the delimiter
+   */
+  private int partialDelimiter(ByteBuf buf, int offset) {
+    int end = buf.writerIndex();
+    for (int len = Math.min(delimiter.length - offset - 1, buf.readableBytes());len > 0;len--) {
+      if (matches(buf, end - len, offset, len)) {
+        return len;
+      }
+    }
+    return 0;
+  }
+
+  private boolean matches(ByteBuf buf, int idx, int offset, int len) {
+    for (int i = 0;i < len;i++) {
+      if (buf.getByte(idx + i) != delimiter[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String[] split(String s, char sep) {
+    List<String> list = new ArrayList<>();
+    boolean quoted = false;
+    int start = 0;
+    for (int i = 0;i < s.length();i++) {
+      char c = s.charAt(i);
+      if (c == '"') {
+        quoted = !quoted;
+      } else if (c == '\\' && quoted) {
+        i++;
+      } else if (c == sep && !quoted) {
+        list.add(s.substring(start, i).trim());
+        start = i + 1;
+      }
+    }
+    list.add(s.substring(start).trim());
+    return list.toArray(new String[list.size()]);
+  }
+
+  private static String unquote(String s) {
+    if (s.length() >= 2 && s.charAt(0) == '"' && s.charAt(s.length() - 1) == '"') {
+      StringBuilder sb = new StringBuilder(s.length() - 2);
+      for (int i = 1;i < s.length() - 1;i++) {
+        char c = s.charAt(i);
+        if (c == '\\' && i + 1 < s.length() - 1) {
+          c = s.charAt(++i);
+        }
+        sb.append(c);
+      }
+      return sb.toString();
+    }
+    return s;
+  }
+}
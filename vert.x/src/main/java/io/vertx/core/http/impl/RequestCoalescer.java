@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Coalesces the identical requests in flight of a client: the first request, the leader, is sent and the identical
+ * requests sent before its response, the followers, share its response.
+ * <p>
+ * Requests are identical when they have the same method, absolute URI and key headers, the key headers are all the
+ * headers of the request unless a set of header names is configured.
+ */
+class RequestCoalescer {
+
+  private final Set<String> headerNames;
+  private final Map<String, Flight> flights = new HashMap<>();
+
+  RequestCoalescer(Set<String> headerNames) {
+    this.headerNames = headerNames;
+  }
+
+  /**
+   * @return whether a request can be coalesced, only the {@code GET} and {@code HEAD} requests are
+   */
+  static boolean isCoalescable(HttpMethod method) {
+    return method == HttpMethod.GET || method == HttpMethod.HEAD;
+  }
+
+  String key(HttpMethod method, String absoluteURI, MultiMap headers) {
+    StringBuilder key = new StringBuilder(method.name()).append(' ').append(absoluteURI);
+    Map<String, List<String>> keyHeaders = new TreeMap<>();
+    if (headerNames == null || headerNames.isEmpty()) {
+      for (String name : headers.names()) {
+        keyHeaders.put(name.toLowerCase(), headers.getAll(name));
+      }
+    } else {
+      for (String name : headerNames) {
+        keyHeaders.put(name.toLowerCase(), headers.getAll(name));
+      }
+    }
+    keyHeaders.forEach((name, values) -> {
+      for (String value : values) {
+        key.append('\n').append(name).append(':').append(value);
+      }
+    });
+    return key.toString();
+  }
+
+  /**
+   * Join the flight of an identical request or lead a new flight.
+   *
+   * @return {@code true} when the request follows a leader
+   */
+  synchronized boolean join(String key, HttpClientRequestImpl request) {
+    Flight flight = flights.get(key);
+    if (flight == null) {
+      flights.put(key, new Flight(request));
+      return false;
+    }
+    flight.followers.add(request);
+    return true;
+  }
+
+  /**
+   * End the flight of a leader, the next identical request leads a new flight.
+   *
+   * @return the followers of the leader
+   */
+  synchronized List<HttpClientRequestImpl> land(String key, HttpClientRequestImpl leader) {
+    Flight flight = flights.get(key);
+    if (flight == null || flight.leader != leader) {
+      return Collections.emptyList();
+    }
+    flights.remove(key);
+    return flight.followers;
+  }
+
+  private static class Flight {
+
+    final HttpClientRequestImpl leader;
+    final List<HttpClientRequestImpl> followers = new ArrayList<>();
+
+    Flight(HttpClientRequestImpl leader) {
+      this.leader = leader;
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.vertx.core.http.HttpMethod;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when the requests of a client are hedged: an idempotent request without response after the hedging delay
+ * is sent a second time and the first response wins.
+ * <p>
+ * The delay is either fixed or a percentile of the recent latencies of the server. The hedged requests are bounded by
+ * a budget: each request deposits a fraction of a token, each hedged request withdraws a token.
+ */
+class RequestHedger {
+
+  /**
+   * The number of recent latencies kept per server.
+   */
+  static final int SAMPLES = 64;
+
+  /**
+   * The number of latencies of a server required before the percentile is used.
+   */
+  static final int MIN_SAMPLES = 16;
+
+  /**
+   * The maximum number of tokens, it bounds the bursts of hedged requests.
+   */
+  private static final double MAX_TOKENS = 10;
+
+  private final long delay;
+  private final int percentile;
+  private final double deposit;
+  private final Map<String, Latencies> latencies = new ConcurrentHashMap<>();
+  private double tokens;
+
+  RequestHedger(int delay, int percentile, int budget) {
+    this.delay = delay;
+    this.percentile = percentile;
+    this.deposit = budget / 100d;
+  }
+
+  /**
+   * @return whether a request can be hedged, i.e its method is idempotent
+   */
+  static boolean isIdempotent(HttpMethod method) {
+    switch (method) {
+      case GET:
+      case HEAD:
+      case OPTIONS:
+      case PUT:
+      case DELETE:
+      case TRACE:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * @return the delay in milliseconds after which a request to a server is hedged
+   */
+  long delay(String server) {
+    if (percentile > 0) {
+      Latencies l = latencies.get(server);
+      if (l != null) {
+        long value = l.percentile(percentile);
+        if (value >= 0) {
+          return Math.max(1, TimeUnit.NANOSECONDS.toMillis(value));
+        }
+      }
+    }
+    return delay;
+  }
+
+  /**
+   * Record the latency of a response.
+   *
+   * @param server the server
+   * @param latency the latency in nanoseconds
+   */
+  void record(String server, long latency) {
+    if (percentile > 0) {
+      latencies.computeIfAbsent(server, s -> new Latencies()).add(latency);
+    }
+  }
+
+  /**
+   * Deposit the share of a request in the budget.
+   */
+  synchronized void deposit() {
+    tokens = Math.min(MAX_TOKENS, tokens + deposit);
+  }
+
+  /**
+   * Withdraw a token from the budget.
+   *
+   * @return whether the budget allows a hedged request
+   */
+  synchronized boolean withdraw() {
+    if (tokens >= 1) {
+      tokens -= 1;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * A ring of the recent latencies of a server.
+   */
+  private static class Latencies {
+
+    private final long[] samples = new long[SAMPLES];
+    private int count;
+    private int pos;
+
+    synchronized void add(long latency) {
+      samples[pos] = latency;
+      pos = (pos + 1) % SAMPLES;
+      count = Math.min(count + 1, SAMPLES);
+    }
+
+    /**
+     * @return the percentile or {@code -1} when there are not enough samples
+     */
+    synchronized long percentile(int p) {
+      if (count < MIN_SAMPLES) {
+        return -1;
+      }
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      return sorted[Math.min(count - 1, (count * p) / 100)];
+    }
+  }
+}
@@ -17,17 +17,24 @@
 package io.vertx.core.http.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
 import io.netty.channel.FileRegion;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -39,6 +46,8 @@ import io.netty.handler.codec.http.websocketx.WebSocketHandshakeException;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshaker;
 import io.netty.handler.codec.http.websocketx.WebSocketVersion;
 import io.netty.handler.stream.ChunkedFile;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.ReferenceCountUtil;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
@@ -55,11 +64,14 @@ import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.impl.ConcurrencyLimit;
 import io.vertx.core.net.impl.NetSocketImpl;
 import io.vertx.core.net.impl.SSLHelper;
+import io.vertx.core.net.impl.SharedIdleStateHandler;
 import io.vertx.core.net.impl.VertxNetHandler;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayDeque;
@@ -88,12 +100,21 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
 
   private static final int CHANNEL_PAUSE_QUEUE_SIZE = 5;
 
-  private final Deque<Object> pending = new ArrayDeque<>(8);
+  // The HTTP handlers that are not used anymore once the connection is upgraded to WebSocket
+  private static final String[] WEBSOCKET_UNUSED_HANDLERS = {"inflater", "deflater", "chunkedWriter", "h2c"};
+
+  // Allocated when a message is queued, most connections never queue messages
+  private Deque<Object> pending;
   private final String serverOrigin;
   private final SSLHelper sslHelper;
   final HttpServerOptions options;
+  private final FileCache fileCache;
   private WebSocketServerHandshaker handshaker;
   private final HttpServerMetrics metrics;
+  private final ConcurrencyLimit requestLimit;
+  private boolean requestInFlight;
+  private boolean rejectingRequest;
+  private long requestBodySize;
   private boolean requestFailed;
   private Object requestMetric;
   private Handler<HttpServerRequest> requestHandler = NULL_REQUEST_HANDLER;
@@ -116,12 +137,17 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
                    ChannelHandlerContext channel,
                    ContextImpl context,
                    String serverOrigin,
-                   HttpServerMetrics metrics) {
+                   HttpServerMetrics metrics,
+                   FileCache fileCache,
+                   ConcurrencyLimit requestLimit) {
     super(vertx, channel, context);
     this.serverOrigin = serverOrigin;
     this.options = options;
+    this.fileCache = fileCache;
     this.sslHelper = sslHelper;
     this.metrics = metrics;
+    this.requestLimit = requestLimit;
+    writeBatching(options.isWriteBatching());
   }
 
   @Override
@@ -139,7 +165,7 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
   public synchronized void resume() {
     if (paused) {
       paused = false;
-      if (pending.isEmpty()) {
+      if (pending == null || pending.isEmpty()) {
         queueing = false;
       } else if (pendingResponse == null || !(pending.peek() instanceof HttpRequest)) {
         queueing = false;
@@ -159,6 +185,9 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
   private void enqueue(Object msg) {
     //We queue requests if paused or a request is in progress to prevent responses being written in the wrong order
     queueing = true;
+    if (pending == null) {
+      pending = new ArrayDeque<>(8);
+    }
     pending.add(msg);
     if (pending.size() == CHANNEL_PAUSE_QUEUE_SIZE) {
       //We pause the channel too, to prevent the queue growing too large, but we don't do this
@@ -180,6 +209,7 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
       }
     }
     pendingResponse = null;
+    releaseRequest();
     if (queueing) {
       queueing = paused;
     }
@@ -216,6 +246,19 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
     super.writeToChannel(obj, promise);
   }
 
+  /**
+   * Tell the compressor how to compress the response about to be written, when the response overrides the
+   * compression level or when the compression is reported to the metrics.
+   */
+  void beginResponseCompression(int compressionLevel) {
+    if (options.isCompressionSupported()) {
+      HttpServerMetrics metrics = METRICS_ENABLED ? this.metrics : null;
+      if (compressionLevel != -1 || metrics != null) {
+        super.writeToChannel(new HttpChunkContentCompressor.ResponseCompression(compressionLevel, metrics, requestMetric), chctx.voidPromise());
+      }
+    }
+  }
+
   ServerWebSocket upgrade(HttpServerRequest request, HttpRequest nettyReq) {
     if (ws != null) {
       return ws;
@@ -226,14 +269,17 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
       throw new IllegalStateException("Can't upgrade this request");
     }
 
+    // The WebSocket does not count as an in-flight request
+    releaseRequest();
     ws = new ServerWebSocketImpl(vertx, request.uri(), request.path(),
       request.query(), request.headers(), this, handshaker.version() != WebSocketVersion.V00,
-      null, options.getMaxWebsocketFrameSize(), options.getMaxWebsocketMessageSize());
+      null, options.getMaxWebsocketFrameSize(), options.getMaxWebsocketMessageSize(), options.isRegisterWebsocketWriteHandlers());
     if (METRICS_ENABLED && metrics != null) {
       ws.setMetric(metrics.upgrade(requestMetric, ws));
     }
     try {
       handshaker.handshake(chctx.channel(), nettyReq);
+      webSocketUpgraded();
     } catch (WebSocketHandshakeException e) {
       handleException(e);
     } catch (Exception e) {
@@ -247,9 +293,35 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
     return ws;
   }
 
+  /**
+   * Slim the pipeline of a connection upgraded to WebSocket: remove the HTTP handlers that are not used anymore
+   * and check the idle timeout with a timer shared by the connections of the event loop, servers can keep
+   * a lot of idle WebSockets.
+   * <p/>
+   * This is done on the event loop after the handshake response has been written.
+   */
+  void webSocketUpgraded() {
+    EventLoop eventLoop = chctx.channel().eventLoop();
+    if (eventLoop.inEventLoop()) {
+      ChannelPipeline pipeline = chctx.pipeline();
+      for (String name : WEBSOCKET_UNUSED_HANDLERS) {
+        if (pipeline.get(name) != null) {
+          pipeline.remove(name);
+        }
+      }
+      if (pipeline.get("idle") instanceof IdleStateHandler) {
+        pipeline.replace("idle", "idle", new SharedIdleStateHandler(options.getIdleTimeout()));
+      }
+    } else {
+      eventLoop.execute(this::webSocketUpgraded);
+    }
+  }
+
   NetSocket createNetSocket() {
+    releaseRequest();
     NetSocketImpl socket = new NetSocketImpl(vertx, chctx, context, sslHelper, metrics);
     socket.metric(metric());
+    socket.writeBatching(options.isWriteBatching());
     Map<Channel, NetSocketImpl> connectionMap = new HashMap<>(1);
     connectionMap.put(chctx.channel(), socket);
 
@@ -318,11 +390,19 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
     }
   }
 
+  @Override
+  synchronized void reportFrameCompressed(long uncompressedBytes, long compressedBytes) {
+    Object wsMetric = ws != null ? ws.getMetric() : null;
+    if (METRICS_ENABLED && metrics != null && wsMetric != null) {
+      metrics.frameCompressed(wsMetric, uncompressedBytes, compressedBytes);
+    }
+  }
 
   synchronized void handleWebsocketConnect(ServerWebSocketImpl ws) {
     if (wsHandler != null) {
-      wsHandler.handle(ws);
+      // Set before calling the handler since it can write frames
       this.ws = ws;
+      wsHandler.handle(ws);
     }
   }
 
@@ -351,6 +431,7 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
       }
       pendingResponse.handleClosed();
     }
+    releaseRequest();
   }
 
   public ContextImpl getContext() {
@@ -387,6 +468,27 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
     return super.sendFile(file, offset, length);
   }
 
+  /**
+   * Open a file to send, from the file cache when there is one. The file must be released when it is not sent.
+   */
+  FileCache.CachedFile openFile(File file) throws IOException {
+    return fileCache != null ? fileCache.acquire(file) : FileCache.open(file);
+  }
+
+  /**
+   * Send an opened file, the file is released after the transfer. A file that is already content encoded or a range
+   * of a file passes through the compressor and so can use zero-copy.
+   */
+  ChannelFuture sendFile(FileCache.CachedFile file, long offset, long length, boolean passThrough) throws IOException {
+    ChannelPromise writeFuture = chctx.newPromise();
+    if (passThrough ? super.supportsFileRegion() : supportsFileRegion()) {
+      writeToChannel(file.region(offset, length), writeFuture);
+    } else {
+      writeToChannel(file.chunked(offset, length), writeFuture);
+    }
+    return writeFuture;
+  }
+
   private void handleError(HttpObject obj) {
     DecoderResult result = obj.decoderResult();
     Throwable cause = result.cause();
@@ -427,17 +529,35 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
         handleError(request);
         return;
       }
-      if (options.isHandle100ContinueAutomatically() && HttpUtil.is100ContinueExpected(request)) {
-        write100Continue();
+      if (requestLimit != null) {
+        if (!requestLimit.acquire()) {
+          rejectRequest(request);
+          checkNextTick();
+          return;
+        }
+        requestInFlight = true;
       }
+      // The 100-continue is sent after the request handler, once the body size limit it can set has been checked
+      boolean expectContinue = options.isHandle100ContinueAutomatically() && HttpUtil.is100ContinueExpected(request);
       HttpServerResponseImpl resp = new HttpServerResponseImpl(vertx, this, request);
       HttpServerRequestImpl req = new HttpServerRequestImpl(this, request, resp);
       currentRequest = req;
       pendingResponse = resp;
+      requestBodySize = 0;
       if (METRICS_ENABLED && metrics != null) {
         requestMetric = metrics.requestBegin(metric(), req);
       }
       requestHandler.handle(req);
+      long maxBodySize = req.getMaxBodySize();
+      long contentLength = HttpUtil.getContentLength(request, -1L);
+      if (maxBodySize != -1 && contentLength > maxBodySize) {
+        rejectBody(req, resp, contentLength, !(request instanceof LastHttpContent));
+      } else if (expectContinue && !resp.headWritten()) {
+        write100Continue();
+      }
+    } else if (rejectingRequest && msg instanceof HttpContent) {
+      // Discard the body of a rejected request
+      rejectingRequest = !(msg instanceof LastHttpContent);
     } else if (msg == LastHttpContent.EMPTY_LAST_CONTENT) {
       handleLastHttpContent();
     } else if (msg instanceof HttpContent) {
@@ -450,6 +570,49 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
     checkNextTick();
   }
 
+  /**
+   * Reject a request when the server has too many in-flight requests: the response is written without creating
+   * the request and the request body is discarded.
+   */
+  private void rejectRequest(HttpRequest request) {
+    if (METRICS_ENABLED && metrics != null) {
+      metrics.requestRejected(metric());
+    }
+    rejectingRequest = !(request instanceof LastHttpContent);
+    boolean keepAlive = HttpUtil.isKeepAlive(request);
+    FullHttpResponse resp = new DefaultFullHttpResponse(HTTP_1_1, HttpResponseStatus.SERVICE_UNAVAILABLE,
+      Unpooled.EMPTY_BUFFER, new DefaultHttpHeaders(false), new DefaultHttpHeaders(false));
+    resp.headers().set(HttpHeaderNames.CONTENT_LENGTH, "0");
+    if (!keepAlive) {
+      resp.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+    }
+    ChannelFuture fut = chctx.writeAndFlush(resp);
+    if (!keepAlive) {
+      fut.addListener(ChannelFutureListener.CLOSE);
+    }
+  }
+
+  /**
+   * Reject a request whose body is too large: the request fails, the response is {@code 413} when it has not been
+   * sent yet and the connection is closed once the response is written, the rest of the body is discarded.
+   */
+  private void rejectBody(HttpServerRequestImpl req, HttpServerResponseImpl resp, long bodySize, boolean discard) {
+    if (METRICS_ENABLED && metrics != null) {
+      metrics.requestBodyRejected(requestMetric, bodySize);
+    }
+    rejectingRequest = discard;
+    currentRequest = null;
+    req.handleException(new TooLongFrameException("Request body exceeds the maximum size of " + req.getMaxBodySize() + " bytes"));
+    resp.handleBodyTooLarge();
+  }
+
+  private void releaseRequest() {
+    if (requestInFlight) {
+      requestInFlight = false;
+      requestLimit.release();
+    }
+  }
+
   private void handleContent(HttpContent content) {
     if (content.decoderResult().isFailure()) {
       handleError(content);
@@ -457,6 +620,12 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
     }
     ByteBuf chunk = content.content();
     if (chunk.isReadable()) {
+      requestBodySize += chunk.readableBytes();
+      long maxBodySize = currentRequest.getMaxBodySize();
+      if (maxBodySize != -1 && requestBodySize > maxBodySize) {
+        rejectBody(currentRequest, (HttpServerResponseImpl) currentRequest.response(), requestBodySize, !(content instanceof LastHttpContent));
+        return;
+      }
       Buffer buff = Buffer.buffer(chunk);
       handleChunk(buff);
     }
@@ -480,6 +649,9 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
       // todo : this should be added first if pending.size() > 0
       // case : user call resume on the last http content and then call pause
       // it will be added at the wrong place and create a bug
+      if (pending == null) {
+        pending = new ArrayDeque<>(8);
+      }
       pending.add(LastHttpContent.EMPTY_LAST_CONTENT);
     }
   }
@@ -492,7 +664,7 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
         // Should be synchronized ...
         sentCheck = false;
         if (!queueing) {
-          Object msg = pending.poll();
+          Object msg = pending != null ? pending.poll() : null;
           if (msg != null) {
             if (msg instanceof HttpRequest && pendingResponse != null) {
               pending.addFirst(msg);
@@ -501,7 +673,7 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
             }
             processMessage(msg);
           }
-          if (channelPaused && pending.isEmpty()) {
+          if (channelPaused && (pending == null || pending.isEmpty())) {
             //Resume the actual channel
             ServerConnection.super.doResume();
             channelPaused = false;
@@ -527,6 +699,9 @@ public class ServerConnection extends Http1xConnectionBase implements HttpConnec
     } else if (obj instanceof ChunkedFile) {
       ChunkedFile file = (ChunkedFile) obj;
       return file.endOffset() - file.startOffset();
+    } else if (obj instanceof ChunkedNioFile) {
+      ChunkedNioFile file = (ChunkedNioFile) obj;
+      return file.endOffset() - file.startOffset();
     } else {
       return -1;
     }
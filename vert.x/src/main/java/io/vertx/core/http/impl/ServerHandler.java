@@ -14,6 +14,7 @@ import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.impl.HandlerHolder;
+import io.vertx.core.net.impl.ConcurrencyLimit;
 import io.vertx.core.net.impl.SSLHelper;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 
@@ -32,9 +33,13 @@ public class ServerHandler extends VertxHttpHandler<ServerConnection> {
   private final String serverOrigin;
   private final HttpServerMetrics metrics;
   private final HandlerHolder<HttpHandlers> holder;
+  private final FileCache fileCache;
+  private final ConcurrencyLimit requestLimit;
 
-  public ServerHandler(SSLHelper sslHelper, HttpServerOptions options, String serverOrigin, HandlerHolder<HttpHandlers> holder, HttpServerMetrics metrics) {
+  public ServerHandler(SSLHelper sslHelper, HttpServerOptions options, String serverOrigin, HandlerHolder<HttpHandlers> holder, HttpServerMetrics metrics, FileCache fileCache, ConcurrencyLimit requestLimit) {
     this.holder = holder;
+    this.fileCache = fileCache;
+    this.requestLimit = requestLimit;
     this.metrics = metrics;
     this.sslHelper = sslHelper;
     this.options = options;
@@ -50,7 +55,9 @@ public class ServerHandler extends VertxHttpHandler<ServerConnection> {
       ctx,
       holder.context,
       serverOrigin,
-      metrics);
+      metrics,
+      fileCache,
+      requestLimit);
     setConnection(conn);
     conn.requestHandler(holder.handler.requesthHandler);
     holder.context.executeFromIO(() -> {
@@ -87,7 +94,8 @@ public class ServerHandler extends VertxHttpHandler<ServerConnection> {
     try {
 
       WebSocketServerHandshakerFactory factory =
-        new WebSocketServerHandshakerFactory(HttpServerImpl.getWebSocketLocation(ch.pipeline(), request), conn.options.getWebsocketSubProtocols(), false,
+        new WebSocketServerHandshakerFactory(HttpServerImpl.getWebSocketLocation(ch.pipeline(), request), conn.options.getWebsocketSubProtocols(),
+          conn.options.isPerMessageWebsocketCompressionSupported(),
           conn.options.getMaxWebsocketFrameSize(), conn.options.isAcceptUnmaskedFrames());
       WebSocketServerHandshaker shake = factory.newHandshaker(request);
 
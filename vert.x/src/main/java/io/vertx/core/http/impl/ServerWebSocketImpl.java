@@ -36,10 +36,13 @@ import javax.security.cert.X509Certificate;
  */
 public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocket> implements ServerWebSocket {
 
+  // Replaces the connect runnable once connected so the handshake request can be collected
+  private static final Runnable CONNECTED = () -> {};
+
   private final String uri;
   private final String path;
   private final String query;
-  private final Runnable connectRunnable;
+  private Runnable connectRunnable;
   private final MultiMap headers;
 
   private boolean connected;
@@ -47,8 +50,8 @@ public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocket> impl
 
   public ServerWebSocketImpl(VertxInternal vertx, String uri, String path, String query, MultiMap headers,
                              ConnectionBase conn, boolean supportsContinuation, Runnable connectRunnable,
-                             int maxWebSocketFrameSize, int maxWebSocketMessageSize) {
-    super(vertx, conn, supportsContinuation, maxWebSocketFrameSize, maxWebSocketMessageSize);
+                             int maxWebSocketFrameSize, int maxWebSocketMessageSize, boolean registerWriteHandlers) {
+    super(vertx, conn, supportsContinuation, maxWebSocketFrameSize, maxWebSocketMessageSize, registerWriteHandlers);
     this.uri = uri;
     this.path = path;
     this.query = query;
@@ -129,6 +132,7 @@ public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocket> impl
 
   private void connect() {
     connectRunnable.run();
+    connectRunnable = CONNECTED;
     connected = true;
   }
 
@@ -16,8 +16,11 @@
 package io.vertx.core.http.impl;
 
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.vertx.core.http.impl.headers.VertxHttpHeaders;
 import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
 
 import java.util.List;
@@ -35,6 +38,16 @@ final class VertxHttpResponseEncoder extends HttpResponseEncoder {
     super.encode(context, msg, out);
   }
 
+  @Override
+  protected void encodeHeaders(HttpHeaders headers, ByteBuf buf) throws Exception {
+    if (headers instanceof VertxHttpHeaders) {
+      // Copies the header blocks verbatim
+      ((VertxHttpHeaders) headers).encode(buf);
+    } else {
+      super.encodeHeaders(headers, buf);
+    }
+  }
+
   @Override
   public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
     this.context = PartialPooledByteBufAllocator.forceDirectAllocator(ctx);
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketBroadcast;
+import io.vertx.core.http.WebSocketBroadcastPolicy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The payload is encoded in a single buffer, each web socket writes frames slicing this buffer, the web socket
+ * frame encoder only encodes the frame header and shares the payload as is.
+ * <p/>
+ * Web sockets are grouped by event loop so a broadcast schedules a single task per event loop instead of a
+ * task per web socket.
+ */
+public class WebSocketBroadcastImpl implements WebSocketBroadcast {
+
+  private final WebSocketBroadcastPolicy policy;
+
+  public WebSocketBroadcastImpl(WebSocketBroadcastPolicy policy) {
+    if (policy == null) {
+      throw new NullPointerException("policy");
+    }
+    this.policy = policy;
+  }
+
+  @Override
+  public WebSocketBroadcastPolicy policy() {
+    return policy;
+  }
+
+  @Override
+  public WebSocketBroadcast writeTextMessage(String text, Iterable<? extends WebSocketBase> sockets) {
+    broadcast(FrameType.TEXT, Buffer.buffer(text), sockets);
+    return this;
+  }
+
+  @Override
+  public WebSocketBroadcast writeBinaryMessage(Buffer data, Iterable<? extends WebSocketBase> sockets) {
+    broadcast(FrameType.BINARY, data, sockets);
+    return this;
+  }
+
+  private void broadcast(FrameType frameType, Buffer payload, Iterable<? extends WebSocketBase> sockets) {
+    Map<EventLoop, List<WebSocketImplBase<?>>> groups = new HashMap<>();
+    for (WebSocketBase socket : sockets) {
+      if (!(socket instanceof WebSocketImplBase)) {
+        throw new IllegalArgumentException("Unsupported web socket " + socket);
+      }
+      WebSocketImplBase<?> ws = (WebSocketImplBase<?>) socket;
+      groups.computeIfAbsent(ws.eventLoop(), loop -> new ArrayList<>()).add(ws);
+    }
+    boolean dropWhenFull = policy == WebSocketBroadcastPolicy.DROP;
+    groups.forEach((loop, group) -> {
+      if (loop.inEventLoop()) {
+        write(frameType, payload, group, dropWhenFull);
+      } else {
+        loop.execute(() -> write(frameType, payload, group, dropWhenFull));
+      }
+    });
+  }
+
+  private static void write(FrameType frameType, Buffer payload, List<WebSocketImplBase<?>> group, boolean dropWhenFull) {
+    for (WebSocketImplBase<?> ws : group) {
+      ws.writeSharedMessage(frameType, payload, dropWhenFull);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandler;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionDecoder;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateClientExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServerOptions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Negotiates the WebSocket per-message deflate extension (RFC 7692).
+ * <p/>
+ * The parameters negotiation and the decompression are done by Netty, the compression is done by
+ * {@link WebSocketDeflateEncoder} so messages can be sent uncompressed and compression can be reported to the metrics.
+ */
+final class WebSocketCompression {
+
+  static final String HANDLER_NAME = "websocketExtensions";
+
+  private static final String SERVER_NO_CONTEXT = "server_no_context_takeover";
+  private static final String SERVER_MAX_WINDOW = "server_max_window_bits";
+  private static final String CLIENT_NO_CONTEXT = "client_no_context_takeover";
+  private static final String CLIENT_MAX_WINDOW = "client_max_window_bits";
+
+  private WebSocketCompression() {
+  }
+
+  /**
+   * @return the handler negotiating the extension with clients, it must be added after the HTTP codec
+   */
+  static ChannelHandler serverHandler(HttpServerOptions options) {
+    PerMessageDeflateServerExtensionHandshaker handshaker = new PerMessageDeflateServerExtensionHandshaker(
+      options.getWebsocketCompressionLevel(),
+      options.isWebsocketAllowServerWindowBits(),
+      options.getWebsocketPreferredClientWindowBits(),
+      options.isWebsocketAllowServerNoContext(),
+      options.isWebsocketPreferredClientNoContext());
+    int compressionLevel = options.getWebsocketCompressionLevel();
+    int minFrameSize = options.getWebsocketCompressionMinFrameSize();
+    return new WebSocketServerExtensionHandler((WebSocketServerExtensionHandshaker) data -> {
+      WebSocketServerExtension extension = handshaker.handshakeExtension(data);
+      if (extension == null) {
+        return null;
+      }
+      WebSocketExtensionData response = extension.newReponseData();
+      return new WebSocketServerExtension() {
+        @Override
+        public WebSocketExtensionData newReponseData() {
+          return response;
+        }
+        @Override
+        public int rsv() {
+          return extension.rsv();
+        }
+        @Override
+        public WebSocketExtensionEncoder newExtensionEncoder() {
+          return encoder(response.parameters(), SERVER_NO_CONTEXT, SERVER_MAX_WINDOW, compressionLevel, minFrameSize);
+        }
+        @Override
+        public WebSocketExtensionDecoder newExtensionDecoder() {
+          return extension.newExtensionDecoder();
+        }
+      };
+    });
+  }
+
+  /**
+   * @return the handler offering the extension to the server, it must be added after the HTTP codec
+   */
+  static ChannelHandler clientHandler(HttpClientOptions options) {
+    PerMessageDeflateClientExtensionHandshaker handshaker = new PerMessageDeflateClientExtensionHandshaker(
+      options.getWebsocketCompressionLevel(),
+      options.isWebsocketCompressionAllowClientWindowBits(),
+      options.getWebsocketCompressionRequestedServerWindowBits(),
+      options.isWebsocketCompressionAllowClientNoContext(),
+      options.isWebsocketCompressionRequestServerNoContext());
+    int compressionLevel = options.getWebsocketCompressionLevel();
+    int minFrameSize = options.getWebsocketCompressionMinFrameSize();
+    boolean requestServerNoContext = options.isWebsocketCompressionRequestServerNoContext();
+    return new WebSocketClientExtensionHandler(new WebSocketClientExtensionHandshaker() {
+      @Override
+      public WebSocketExtensionData newRequestData() {
+        // Netty sends server_no_context_takeover when a server window size is requested instead of when
+        // the option is set, and then rejects the server response
+        WebSocketExtensionData data = handshaker.newRequestData();
+        Map<String, String> parameters = new HashMap<>(data.parameters());
+        if (requestServerNoContext) {
+          parameters.put(SERVER_NO_CONTEXT, null);
+        } else {
+          parameters.remove(SERVER_NO_CONTEXT);
+        }
+        return new WebSocketExtensionData(data.name(), parameters);
+      }
+      @Override
+      public WebSocketClientExtension handshakeExtension(WebSocketExtensionData data) {
+        WebSocketClientExtension extension = handshaker.handshakeExtension(data);
+        if (extension == null) {
+          return null;
+        }
+        return new WebSocketClientExtension() {
+          @Override
+          public int rsv() {
+            return extension.rsv();
+          }
+          @Override
+          public WebSocketExtensionEncoder newExtensionEncoder() {
+            return encoder(data.parameters(), CLIENT_NO_CONTEXT, CLIENT_MAX_WINDOW, compressionLevel, minFrameSize);
+          }
+          @Override
+          public WebSocketExtensionDecoder newExtensionDecoder() {
+            return extension.newExtensionDecoder();
+          }
+        };
+      }
+    });
+  }
+
+  private static WebSocketExtensionEncoder encoder(Map<String, String> parameters, String noContextParameter,
+                                                   String windowParameter, int compressionLevel, int minFrameSize) {
+    String window = parameters.get(windowParameter);
+    int windowSize = window != null ? Integer.parseInt(window) : PerMessageDeflateServerExtensionHandshaker.MAX_WINDOW_SIZE;
+    return new WebSocketDeflateEncoder(compressionLevel, windowSize, parameters.containsKey(noContextParameter), minFrameSize);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.CodecException;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
+import io.vertx.core.net.impl.VertxHandler;
+
+import java.util.List;
+
+/**
+ * Per-message deflate encoder (RFC 7692) compressing the data frames of a message unless its first frame is
+ * smaller than a configured size, such messages are sent as is.
+ * <p/>
+ * The frames sizes are reported to the connection so they can be reported to the metrics.
+ */
+class WebSocketDeflateEncoder extends WebSocketExtensionEncoder {
+
+  private static final int FRAME_TAIL_LENGTH = 4;
+
+  private final int compressionLevel;
+  private final int windowSize;
+  private final boolean noContext;
+  private final int minFrameSize;
+  private EmbeddedChannel encoder;
+  private boolean compressing;
+  private Http1xConnectionBase conn;
+
+  WebSocketDeflateEncoder(int compressionLevel, int windowSize, boolean noContext, int minFrameSize) {
+    this.compressionLevel = compressionLevel;
+    this.windowSize = windowSize;
+    this.noContext = noContext;
+    this.minFrameSize = minFrameSize;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    VertxHandler<?> handler = ctx.pipeline().get(VertxHandler.class);
+    if (handler != null && handler.getConnection() instanceof Http1xConnectionBase) {
+      conn = (Http1xConnectionBase) handler.getConnection();
+    }
+  }
+
+  @Override
+  public boolean acceptOutboundMessage(Object msg) throws Exception {
+    if (msg instanceof TextWebSocketFrame || msg instanceof BinaryWebSocketFrame) {
+      // The first frame decides whether the continuation frames of the message are compressed
+      WebSocketFrame frame = (WebSocketFrame) msg;
+      compressing = (frame.rsv() & WebSocketExtension.RSV1) == 0 && frame.content().readableBytes() >= minFrameSize;
+      return compressing;
+    }
+    return msg instanceof ContinuationWebSocketFrame && compressing;
+  }
+
+  @Override
+  protected void encode(ChannelHandlerContext ctx, WebSocketFrame msg, List<Object> out) throws Exception {
+    if (encoder == null) {
+      encoder = new EmbeddedChannel(ZlibCodecFactory.newZlibEncoder(ZlibWrapper.NONE, compressionLevel, windowSize, 8));
+    }
+    int uncompressedBytes = msg.content().readableBytes();
+    encoder.writeOutbound(msg.content().retain());
+    CompositeByteBuf compressed = ctx.alloc().compositeBuffer();
+    for (;;) {
+      ByteBuf partial = encoder.readOutbound();
+      if (partial == null) {
+        break;
+      }
+      if (!partial.isReadable()) {
+        partial.release();
+        continue;
+      }
+      compressed.addComponent(true, partial);
+    }
+    if (compressed.numComponents() <= 0) {
+      compressed.release();
+      throw new CodecException("cannot read compressed buffer");
+    }
+    boolean last = msg.isFinalFragment();
+    if (last && noContext) {
+      cleanup();
+    }
+    ByteBuf content;
+    if (last) {
+      // Remove the empty stored block flushing the deflater, as mandated by the RFC
+      content = compressed.slice(0, compressed.readableBytes() - FRAME_TAIL_LENGTH);
+      compressing = false;
+    } else {
+      content = compressed;
+    }
+    WebSocketFrame frame;
+    if (msg instanceof TextWebSocketFrame) {
+      frame = new TextWebSocketFrame(last, msg.rsv() | WebSocketExtension.RSV1, content);
+    } else if (msg instanceof BinaryWebSocketFrame) {
+      frame = new BinaryWebSocketFrame(last, msg.rsv() | WebSocketExtension.RSV1, content);
+    } else {
+      frame = new ContinuationWebSocketFrame(last, msg.rsv(), content);
+    }
+    out.add(frame);
+    if (conn != null) {
+      conn.reportFrameCompressed(uncompressedBytes, content.readableBytes());
+    }
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+    cleanup();
+    super.handlerRemoved(ctx);
+  }
+
+  private void cleanup() {
+    if (encoder != null) {
+      // Clean-up the previous encoder if not cleaned up correctly
+      if (encoder.finish()) {
+        for (;;) {
+          ByteBuf buf = encoder.readOutbound();
+          if (buf == null) {
+            break;
+          }
+          buf.release();
+        }
+      }
+      encoder = null;
+    }
+  }
+}
@@ -17,6 +17,7 @@
 package io.vertx.core.http.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.EventLoop;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.Message;
@@ -62,15 +63,22 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
   protected boolean closed;
 
   WebSocketImplBase(VertxInternal vertx, ConnectionBase conn, boolean supportsContinuation,
-                              int maxWebSocketFrameSize, int maxWebSocketMessageSize) {
+                              int maxWebSocketFrameSize, int maxWebSocketMessageSize, boolean registerWriteHandlers) {
     this.supportsContinuation = supportsContinuation;
-    this.textHandlerID = UUID.randomUUID().toString();
-    this.binaryHandlerID = UUID.randomUUID().toString();
     this.conn = conn;
-    Handler<Message<Buffer>> binaryHandler = msg -> writeBinaryFrameInternal(msg.body());
-    binaryHandlerRegistration = vertx.eventBus().<Buffer>localConsumer(binaryHandlerID).handler(binaryHandler);
-    Handler<Message<String>> textHandler = msg -> writeTextFrameInternal(msg.body());
-    textHandlerRegistration = vertx.eventBus().<String>localConsumer(textHandlerID).handler(textHandler);
+    if (registerWriteHandlers) {
+      textHandlerID = UUID.randomUUID().toString();
+      binaryHandlerID = UUID.randomUUID().toString();
+      Handler<Message<Buffer>> binaryHandler = msg -> writeBinaryFrameInternal(msg.body());
+      binaryHandlerRegistration = vertx.eventBus().<Buffer>localConsumer(binaryHandlerID).handler(binaryHandler);
+      Handler<Message<String>> textHandler = msg -> writeTextFrameInternal(msg.body());
+      textHandlerRegistration = vertx.eventBus().<String>localConsumer(textHandlerID).handler(textHandler);
+    } else {
+      textHandlerID = null;
+      binaryHandlerID = null;
+      binaryHandlerRegistration = null;
+      textHandlerRegistration = null;
+    }
     this.maxWebSocketFrameSize = maxWebSocketFrameSize;
     this.maxWebSocketMessageSize = maxWebSocketMessageSize;
   }
@@ -166,6 +174,27 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
     writePartialMessage(FrameType.TEXT, data, 0);
   }
 
+  /**
+   * Writes a message whose payload is shared with other web sockets, unlike the other write methods this does not
+   * fail when the web socket is closed.
+   *
+   * @return whether the message was written, it is not when the web socket is closed or when its write queue
+   *         is full and {@code dropWhenFull} is true
+   */
+  boolean writeSharedMessage(FrameType frameType, Buffer data, boolean dropWhenFull) {
+    synchronized (conn) {
+      if (closed || (dropWhenFull && conn.isNotWritable())) {
+        return false;
+      }
+      writePartialMessage(frameType, data, 0);
+      return true;
+    }
+  }
+
+  EventLoop eventLoop() {
+    return conn.channel().eventLoop();
+  }
+
   /**
    * Splits the provided buffer into multiple frames (which do not exceed the maximum web socket frame size)
    * and writes them in order to the socket.
@@ -373,8 +402,10 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
 
   private void cleanupHandlers() {
     if (!closed) {
-      binaryHandlerRegistration.unregister();
-      textHandlerRegistration.unregister();
+      if (binaryHandlerRegistration != null) {
+        binaryHandlerRegistration.unregister();
+        textHandlerRegistration.unregister();
+      }
       closed = true;
     }
   }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl.headers;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.AsciiString;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpHeaderBlock;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The headers of a block are kept as {@link AsciiString} along with their hash so {@link VertxHttpHeaders} can
+ * look them up, and encoded once as the lines of an HTTP/1.x message head.
+ */
+public final class HttpHeaderBlockImpl implements HttpHeaderBlock {
+
+  final AsciiString[] names;
+  final AsciiString[] values;
+  final int[] hashes;
+  private final byte[] encoded;
+
+  public HttpHeaderBlockImpl(MultiMap headers) {
+    List<Map.Entry<String, String>> entries = headers.entries();
+    int size = entries.size();
+    names = new AsciiString[size];
+    values = new AsciiString[size];
+    hashes = new int[size];
+    int length = 0;
+    for (int i = 0;i < size;i++) {
+      Map.Entry<String, String> entry = entries.get(i);
+      names[i] = ascii(entry.getKey());
+      values[i] = ascii(entry.getValue());
+      hashes[i] = AsciiString.hashCode(names[i]);
+      length += names[i].length() + values[i].length() + 4;
+    }
+    encoded = new byte[length];
+    int pos = 0;
+    for (int i = 0;i < size;i++) {
+      pos = copy(names[i], pos);
+      encoded[pos++] = ':';
+      encoded[pos++] = ' ';
+      pos = copy(values[i], pos);
+      encoded[pos++] = '\r';
+      encoded[pos++] = '\n';
+    }
+  }
+
+  private static AsciiString ascii(String s) {
+    if (s.indexOf('\r') != -1 || s.indexOf('\n') != -1) {
+      throw new IllegalArgumentException("Invalid header " + s);
+    }
+    return new AsciiString(s);
+  }
+
+  private int copy(AsciiString s, int pos) {
+    System.arraycopy(s.array(), s.arrayOffset(), encoded, pos, s.length());
+    return pos + s.length();
+  }
+
+  /**
+   * @return the index of the header with the given name, or {@code -1}
+   */
+  int indexOf(int hash, CharSequence name) {
+    for (int i = 0;i < names.length;i++) {
+      if (hashes[i] == hash && AsciiString.contentEqualsIgnoreCase(names[i], name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Write the encoded headers.
+   */
+  void encode(ByteBuf buf) {
+    buf.writeBytes(encoded);
+  }
+
+  /**
+   * @return the number of headers
+   */
+  public int size() {
+    return names.length;
+  }
+
+  public AsciiString name(int index) {
+    return names[index];
+  }
+
+  public AsciiString value(int index) {
+    return values[index];
+  }
+
+  @Override
+  public MultiMap headers() {
+    CaseInsensitiveHeaders headers = new CaseInsensitiveHeaders();
+    for (int i = 0;i < names.length;i++) {
+      headers.add(names[i], values[i]);
+    }
+    return headers;
+  }
+}
@@ -15,8 +15,11 @@
  */
 package io.vertx.core.http.impl.headers;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.util.AsciiString;
+import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 
 import java.util.AbstractMap;
@@ -64,6 +67,11 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
 
   private final VertxHttpHeaders.MapEntry[] entries = new VertxHttpHeaders.MapEntry[16];
   private final VertxHttpHeaders.MapEntry head = new VertxHttpHeaders.MapEntry(-1, null, null);
+  private static final int COLON_AND_SPACE = (':' << 8) | ' ';
+  private static final int CRLF = ('\r' << 8) | '\n';
+
+  // The header blocks, allocated when a block is added
+  private List<HttpHeaderBlockImpl> blocks;
 
   public VertxHttpHeaders() {
     head.before = head.after = head;
@@ -140,6 +148,9 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
   }
 
   private void remove0(int h, int i, CharSequence name) {
+    if (blocks != null) {
+      unblock(h, name);
+    }
     VertxHttpHeaders.MapEntry e = entries[i];
     if (e == null) {
       return;
@@ -175,6 +186,84 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
     }
   }
 
+  /**
+   * Replace the blocks having a header with the given name by their headers, so the header can be removed.
+   */
+  private void unblock(int h, CharSequence name) {
+    for (int i = 0;i < blocks.size();) {
+      HttpHeaderBlockImpl block = blocks.get(i);
+      if (block.indexOf(h, name) != -1) {
+        blocks.remove(i);
+        for (int j = 0;j < block.size();j++) {
+          add0(block.hashes[j], index(block.hashes[j]), block.names[j], block.values[j]);
+        }
+      } else {
+        i++;
+      }
+    }
+    if (blocks.isEmpty()) {
+      blocks = null;
+    }
+  }
+
+  /**
+   * Add a block of headers, replacing the headers with the same names. The block is kept by reference and
+   * its encoded headers are copied by {@link #encode(ByteBuf)}.
+   *
+   * @param block the block
+   * @return a reference to this
+   */
+  public VertxHttpHeaders set(HttpHeaderBlockImpl block) {
+    for (int i = 0;i < block.size();i++) {
+      int h = block.hashes[i];
+      remove0(h, index(h), block.names[i]);
+    }
+    if (blocks == null) {
+      blocks = new ArrayList<>(2);
+    }
+    blocks.add(block);
+    return this;
+  }
+
+  /**
+   * Encode the headers as the lines of an HTTP/1.x message head.
+   *
+   * @param buf the buffer to write to
+   */
+  public void encode(ByteBuf buf) {
+    VertxHttpHeaders.MapEntry e = head.after;
+    while (e != head) {
+      CharSequence name = e.key;
+      CharSequence value = e.value;
+      int nameLen = name.length();
+      int valueLen = value.length();
+      buf.ensureWritable(nameLen + valueLen + 4);
+      int offset = buf.writerIndex();
+      writeAscii(buf, offset, name);
+      offset += nameLen;
+      buf.setShort(offset, COLON_AND_SPACE);
+      offset += 2;
+      writeAscii(buf, offset, value);
+      offset += valueLen;
+      buf.setShort(offset, CRLF);
+      buf.writerIndex(offset + 2);
+      e = e.after;
+    }
+    if (blocks != null) {
+      for (int i = 0;i < blocks.size();i++) {
+        blocks.get(i).encode(buf);
+      }
+    }
+  }
+
+  private static void writeAscii(ByteBuf buf, int offset, CharSequence value) {
+    if (value instanceof AsciiString) {
+      ByteBufUtil.copy((AsciiString) value, 0, buf, offset, value.length());
+    } else {
+      buf.setCharSequence(offset, value, CharsetUtil.US_ASCII);
+    }
+  }
+
   @Override
   public VertxHttpHeaders set(final String name, final String strVal) {
     return set0(name, strVal);
@@ -212,6 +301,7 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
       entries[i] = null;
     }
     head.before = head.after = head;
+    blocks = null;
     return this;
   }
 
@@ -230,6 +320,15 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
       }
       e = e.next;
     }
+    if (blocks != null) {
+      for (int j = 0;j < blocks.size();j++) {
+        HttpHeaderBlockImpl block = blocks.get(j);
+        int idx = block.indexOf(h, name);
+        if (idx != -1) {
+          return block.values[idx];
+        }
+      }
+    }
     return null;
   }
 
@@ -245,6 +344,13 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
       action.accept(new AbstractMap.SimpleEntry<>(e.key.toString(), e.value.toString()));
       e = e.after;
     }
+    if (blocks != null) {
+      for (HttpHeaderBlockImpl block : blocks) {
+        for (int i = 0;i < block.size();i++) {
+          action.accept(new AbstractMap.SimpleEntry<>(block.names[i].toString(), block.values[i].toString()));
+        }
+      }
+    }
   }
 
   @Override
@@ -273,6 +379,13 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
       });
       e = e.after;
     }
+    if (blocks != null) {
+      for (HttpHeaderBlockImpl block : blocks) {
+        for (int i = 0;i < block.size();i++) {
+          all.add(new BlockEntry(block.names[i].toString(), block.values[i].toString()));
+        }
+      }
+    }
     return all;
   }
 
@@ -288,7 +401,7 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
 
   @Override
   public boolean isEmpty() {
-    return head == head.after;
+    return head == head.after && blocks == null;
   }
 
   @Override
@@ -299,6 +412,13 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
       names.add(e.getKey().toString());
       e = e.after;
     }
+    if (blocks != null) {
+      for (HttpHeaderBlockImpl block : blocks) {
+        for (int i = 0;i < block.size();i++) {
+          names.add(block.names[i].toString());
+        }
+      }
+    }
     return names;
   }
 
@@ -324,6 +444,15 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
       }
       e = e.next;
     }
+    if (blocks != null) {
+      for (HttpHeaderBlockImpl block : blocks) {
+        for (int j = 0;j < block.size();j++) {
+          if (block.hashes[j] == h && AsciiString.contentEqualsIgnoreCase(name, block.names[j])) {
+            values.addLast(block.values[j].toString());
+          }
+        }
+      }
+    }
     return values;
   }
 
@@ -406,6 +535,21 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
 
   @Override
   public Iterator<Map.Entry<CharSequence, CharSequence>> iteratorCharSequence() {
+    if (blocks != null) {
+      // Rarely used, the encoder uses encode(ByteBuf)
+      List<Map.Entry<CharSequence, CharSequence>> all = new ArrayList<>();
+      VertxHttpHeaders.MapEntry e = head.after;
+      while (e != head) {
+        all.add(e);
+        e = e.after;
+      }
+      for (HttpHeaderBlockImpl block : blocks) {
+        for (int i = 0;i < block.size();i++) {
+          all.add(new AbstractMap.SimpleImmutableEntry<>(block.names[i], block.values[i]));
+        }
+      }
+      return all.iterator();
+    }
     return new Iterator<Map.Entry<CharSequence, CharSequence>>() {
       VertxHttpHeaders.MapEntry current = head.after;
       @Override
@@ -451,6 +595,18 @@ public class VertxHttpHeaders extends HttpHeaders implements MultiMap {
     throw new UnsupportedOperationException();
   }
 
+  private static final class BlockEntry extends AbstractMap.SimpleImmutableEntry<String, String> {
+
+    BlockEntry(String key, String value) {
+      super(key, value);
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + ": " + getValue();
+    }
+  }
+
   private static final class MapEntry implements Map.Entry<CharSequence, CharSequence> {
     final int hash;
     final CharSequence key;
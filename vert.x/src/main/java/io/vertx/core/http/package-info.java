@@ -89,6 +89,24 @@
  *
  * See the chapter on <<logging_network_activity, logging network activity>> for a detailed explanation.
  *
+ * === Limiting the server load
+ *
+ * A server can shed load instead of slowing down all its clients when it receives more than it can handle:
+ *
+ * - {@link io.vertx.core.http.HttpServerOptions#setMaxConnections}: the connections accepted above this number
+ * are closed immediately
+ * - {@link io.vertx.core.http.HttpServerOptions#setMaxConcurrentRequests}: a request received above this number
+ * is not handled, an HTTP/1.x request gets a `503` response and an HTTP/2 stream is reset with the `REFUSED_STREAM`
+ * error so the client knows it can retry the request
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleServerLimits}
+ * ----
+ *
+ * The limits are shared by all the event loops of the server, a request counts until its response has ended.
+ * Rejected connections and requests are reported to the metrics.
+ *
  * === Start the Server Listening
  *
  * To tell the server to listen for incoming requests you use one of the {@link io.vertx.core.http.HttpServer#listen}
@@ -353,6 +371,37 @@
  * WARNING: Make sure you check the filename in a production system to avoid malicious clients uploading files
  * to arbitrary places on your filesystem. See <<Security notes, security notes>> for more information.
  *
+ * A multipart form is parsed as it is received, the content of an upload is never aggregated in memory. When a file
+ * is streamed to disk and the file write queue is full, the connection stops reading until the queue drains.
+ *
+ * The size of each part and the size of the whole form can be limited with
+ * {@link io.vertx.core.http.HttpServerOptions#setMaxMultipartPartSize} and
+ * {@link io.vertx.core.http.HttpServerOptions#setMaxMultipartBodySize}. When a limit is exceeded, the current upload
+ * and the request exception handlers are called and the rest of the form is ignored:
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleUploadLimits}
+ * ----
+ *
+ * ==== Limiting the request body size
+ *
+ * The size of request bodies can be limited with {@link io.vertx.core.http.HttpServerOptions#setMaxRequestBodySize(long)}.
+ * A request with a `Content-Length` above the limit is rejected as soon as the request handler returns, before
+ * any of its body is read and before a `100 Continue` is sent to the client. A body sent without a `Content-Length`
+ * is rejected as soon as it crosses the limit.
+ *
+ * A rejected request gets a `413` response when its response has not been sent yet and its exception handler is
+ * called with a {@link io.netty.handler.codec.TooLongFrameException}. The HTTP/1.x connection is closed after the
+ * response, an HTTP/2 stream is reset.
+ *
+ * The request handler can change the limit of a request with {@link io.vertx.core.http.HttpServerRequest#setMaxBodySize(long)}:
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleMaxBodySize}
+ * ----
+ *
  * ==== Handling compressed body
  *
  * Vert.x can handle compressed body payloads which are encoded by the client with the _deflate_ or _gzip_
@@ -492,6 +541,18 @@
  *
  * Headers must all be added before any parts of the response body are written.
  *
+ * The headers sent with many responses can be created once as an {@link io.vertx.core.http.HttpHeaderBlock} and added
+ * with {@link io.vertx.core.http.HttpServerResponse#putHeaders}. The response keeps a reference to the block and an
+ * HTTP/1.x response copies its already encoded headers.
+ *
+ * The {@code Date} header can be added to the responses with {@link io.vertx.core.http.HttpServerOptions#setSendDateHeader},
+ * its value is formatted at most once per second by each event loop.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleHeaderBlock}
+ * ----
+ *
  * ==== Chunked HTTP responses and trailers
  *
  * Vert.x supports http://en.wikipedia.org/wiki/Chunked_transfer_encoding[HTTP Chunked Transfer Encoding].
@@ -514,6 +575,11 @@
  *
  * NOTE: chunked response has no effect for an HTTP/2 stream
  *
+ * Chunks written by the request handler are flushed together when the request has been read, chunks written later,
+ * like after an event bus reply, are flushed one by one. When {@link io.vertx.core.net.TCPSSLOptions#setWriteBatching}
+ * is enabled, the chunks written by a task of the event loop are flushed once when the task ends, which saves a
+ * system call per chunk when streaming small chunks.
+ *
  * To add trailers to the response, add them directly to the {@link io.vertx.core.http.HttpServerResponse#trailers}.
  *
  * [source,$lang]
@@ -577,6 +643,30 @@
  * {@link examples.HTTPExamples#example26c}
  * ----
  *
+ * When {@link io.vertx.core.http.HttpServerOptions#setPrecompressedFilesSupported(boolean)} is enabled, a request
+ * accepting `gzip` is served the `.gz` sibling of the file when it exists, e.g `web/index.html.gz` instead of
+ * `web/index.html`. The response keeps the content type of the original file and carries the `Content-Encoding: gzip`
+ * and `Vary: Accept-Encoding` headers. Since the file is already compressed it is still sent with zero-copy
+ * even when the server compresses responses. This only applies when the whole file is sent.
+ *
+ * Servers sending the same files over and over can keep them open with
+ * {@link io.vertx.core.http.HttpServerOptions#setFileCacheSize(int)}: up to this number of files stay open and their
+ * metadata is reused for {@link io.vertx.core.http.HttpServerOptions#setFileCacheValidity(long)} milliseconds before
+ * being checked again against the file system.
+ *
+ * When {@link io.vertx.core.http.HttpServerOptions#setRangeRequestsSupported(boolean)} is enabled, sending a whole file
+ * handles the range and conditional requests. The response carries the `ETag`, `Last-Modified` and `Accept-Ranges`
+ * headers of the file and:
+ *
+ * - a request whose `If-None-Match` or `If-Modified-Since` header matches the file gets a `304` response, the file
+ * is not even opened
+ * - a `GET` request with a `Range` header gets a `206` response with the requested range, or with a
+ * `multipart/byteranges` body when several ranges are requested
+ * - a request whose ranges are all beyond the end of the file gets a `416` response
+ *
+ * A `Range` header with an `If-Range` header that does not match the file is ignored. The ranges are sent as is, with
+ * zero-copy when the connection allows it.
+ *
  * ==== Pumping responses
  *
  * The server response is a {@link io.vertx.core.streams.WriteStream} instance so you can pump to it from any
@@ -693,6 +783,36 @@
  * By default - if compression is enabled via {@link io.vertx.core.http.HttpServerOptions#setCompressionSupported} - Vert.x will use '6' as compression level,
  * but the parameter can be configured to address any case with {@link io.vertx.core.http.HttpServerOptions#setCompressionLevel}.
  *
+ * Compressing a small body or an already compressed body, like an image, costs CPU and saves few bytes or none,
+ * the server can skip the compression of such responses:
+ *
+ * - {@link io.vertx.core.http.HttpServerOptions#setCompressionMinSize}: a response with a `Content-Length` below
+ * this size is not compressed, a chunked response is always compressed since its size is not known
+ * - {@link io.vertx.core.http.HttpServerOptions#addCompressedContentType}: when set, only the responses with one of
+ * these content types are compressed
+ * - {@link io.vertx.core.http.HttpServerOptions#addUncompressedContentType}: the responses with one of these content
+ * types are never compressed
+ *
+ * A content type is either a media type like `application/json` or a type wildcard like `image/*`.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleCompressionPolicy}
+ * ----
+ *
+ * A response can also override the server compression with {@link io.vertx.core.http.HttpServerResponse#setCompressionLevel}
+ * before its head is written, `0` disables the compression of the response and a level between `1` and `9` compresses
+ * the response at this level regardless of the server rules:
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleResponseCompressionLevel}
+ * ----
+ *
+ * The bytes saved and the time spent compressing HTTP/1.x responses are reported to the metrics. HTTP/2 responses
+ * are compressed by the connection at the server compression level, so the response compression level only turns
+ * the compression on or off.
+ *
  * === Creating an HTTP client
  *
  * You create an {@link io.vertx.core.http.HttpClient} instance with default options as follows:
@@ -1249,6 +1369,88 @@
  *
  * By default compression is disabled.
  *
+ * === Caching responses on the client
+ *
+ * The client can cache the responses in memory, following the HTTP caching rules (RFC 7234), set
+ * {@link io.vertx.core.http.HttpClientOptions#setResponseCacheMaxSize(int)} to the maximum size in bytes of the cached responses to enable the cache.
+ *
+ * A `GET` response is cached according to its `Cache-Control` and `Expires` headers, or heuristically from its
+ * `Last-Modified` header. While a cached response is fresh, the client serves it without sending the request. A stale
+ * response with an `ETag` or a `Last-Modified` header is revalidated with a conditional request, the client serves the
+ * cached response when the server answers `304 Not Modified`.
+ *
+ * The `Cache-Control` header of the request is honoured, e.g. `Cache-Control: max-age=0` or `no-cache` always
+ * revalidates the cached response and `no-store` bypasses the cache. A request with a body is never served from the
+ * cache and a successful `POST`, `PUT`, `DELETE` or `PATCH` request removes the cached response of its URI.
+ *
+ * The least recently used responses are evicted when the cache is full. The bodies can be stored in the files of a
+ * directory instead of memory with {@link io.vertx.core.http.HttpClientOptions#setResponseCacheDir(String)}, the files are deleted when the client is closed.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleResponseCache}
+ * ----
+ *
+ * === Coalescing requests
+ *
+ * When many identical requests are sent at the same time, e.g. for a popular resource, the client can coalesce them
+ * with {@link io.vertx.core.http.HttpClientOptions#setRequestCoalescing(boolean)}: a `GET` or `HEAD` request identical to a request waiting for its response is not sent and receives
+ * a copy of the response of the first request. A request with a body or following the redirections is never
+ * coalesced.
+ *
+ * The requests are identical when they have the same method, absolute URI and headers. You can restrict the headers
+ * identifying a request with {@link io.vertx.core.http.HttpClientOptions#addCoalescingHeader(String)}, e.g. to ignore the headers varying between requests that do not
+ * change the response.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleRequestCoalescing}
+ * ----
+ *
+ * === Balancing requests over endpoints
+ *
+ * A logical host served by several endpoints can be declared as an {@link io.vertx.core.http.EndpointGroup} with
+ * {@link io.vertx.core.http.HttpClient#endpointGroup(String, io.vertx.core.http.EndpointGroup)}: the requests to this host are balanced over the endpoints of the group, the
+ * `Host` header of the requests remains the logical host.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleEndpointGroup}
+ * ----
+ *
+ * The endpoints of a group are a fixed list, the `A` records of a name with {@link io.vertx.core.http.EndpointGroup#dns(io.vertx.core.dns.DnsClient, String, int)},
+ * the `SRV` records of a name with {@link io.vertx.core.http.EndpointGroup#srv(io.vertx.core.dns.DnsClient, String)} or the result of a function. The endpoints are
+ * resolved by the first request and again after {@link io.vertx.core.http.EndpointGroupOptions#setRefreshPeriod(int)}.
+ *
+ * Each request picks two endpoints at random and is sent to the least loaded one, the load of an endpoint is its
+ * recent latency multiplied by its requests in flight, so slow endpoints receive fewer requests. An endpoint failing
+ * {@link io.vertx.core.http.EndpointGroupOptions#setFailureThreshold(int)} consecutive requests, without response or with a `502`, `503` or `504` response,
+ * does not receive requests for {@link io.vertx.core.http.EndpointGroupOptions#setEjectionTime(int)}.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleEndpointGroupDns}
+ * ----
+ *
+ * === Hedging requests
+ *
+ * A few slow responses, e.g. caused by the garbage collection pauses of a server, can dominate the latency of an
+ * application. The client can hedge the idempotent requests with {@link io.vertx.core.http.HttpClientOptions#setHedgingDelay(int)}: a request without
+ * response after the delay is sent a second time, on another connection or to another endpoint of a group, the first
+ * response is delivered to the request and the other request is reset. Only the requests without body that do not
+ * follow the redirections are hedged.
+ *
+ * The delay can also adapt to each server with {@link io.vertx.core.http.HttpClientOptions#setHedgingPercentile(int)}, e.g. `95` hedges the requests slower
+ * than 95% of the recent requests to the same server. {@link io.vertx.core.http.HttpClientOptions#setHedgingBudget(int)} caps the percentage of hedged requests, so
+ * hedging cannot overload a server that slows down.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#exampleHedging}
+ * ----
+ *
+ * NOTE: the response of a hedged request can be the response of the hedge, its {@link io.vertx.core.http.HttpClientResponse#request()} is then the hedge.
+ *
  * === HTTP/1.x pooling and keep alive
  *
  * Http keep alive allows http connections to be used for more than one request. This can be a more efficient use of
@@ -1273,6 +1475,33 @@
  * Alternatively you can set idle timeout using {@link io.vertx.core.http.HttpClientOptions#setIdleTimeout(int)} - any
  * connections not used within this timeout will be closed. Please note the idle timeout value is in seconds not milliseconds.
  *
+ * A client shared by verticles running on several event loops can partition its pools per event loop with
+ * {@link io.vertx.core.http.HttpClientOptions#setPoolPerEventLoop(boolean)}: each event loop then has its own pool
+ * of up to the maximum pool size connections for each server, so the requests made from an event loop use the connections
+ * of that event loop and the pools are not contended between event loops. When the pool of an event loop is exhausted,
+ * a request borrows an idle connection of another event loop before being queued, the response handlers of such request
+ * are then called on the event loop of the borrowed connection.
+ *
+ * Connections to a server can be opened ahead of the first requests with
+ * {@link io.vertx.core.http.HttpClient#preconnect(int, java.lang.String, int, io.vertx.core.Handler)}, e.g. after
+ * a deployment or a failover, so these requests do not wait for the connections to be established.
+ *
+ * A single timer of the client, the pool cleaner, maintains the pools:
+ *
+ * * {@link io.vertx.core.http.HttpClientOptions#setKeepAliveTimeout(int)} evicts the connections that remained unused in
+ * the pool for this timeout in seconds
+ * * {@link io.vertx.core.http.HttpClientOptions#setMaxLifetime(int)} renews the connections that reached this lifetime in seconds:
+ * they are not used for new requests anymore and are closed when they become idle
+ * * {@link io.vertx.core.http.HttpClientOptions#setMinIdleSize(int)} keeps this number of idle connections in the pool of
+ * each server, the pool cleaner opens new connections when the pool has fewer idle connections
+ *
+ * The period of the pool cleaner is configured with {@link io.vertx.core.http.HttpClientOptions#setPoolCleanerPeriod(int)}.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.HTTPExamples#examplePreconnect}
+ * ----
+ *
  * === HTTP/1.1 pipe-lining
  *
  * The client also supports pipe-lining of requests on a connection.
@@ -1310,6 +1539,11 @@
  * of a single connection. The effective value can be even lower if the server sets a lower limit
  * with the {@link io.vertx.core.http.Http2Settings#setMaxConcurrentStreams SETTINGS_MAX_CONCURRENT_STREAMS} setting.
  *
+ * When the pool has several connections, a new stream is assigned to the connection with the fewest streams in flight and,
+ * between connections with as many streams, to the connection with the largest flow control window to send data. When all
+ * the connections have three quarters of their streams in flight, or cannot send a full frame within their window, the pool
+ * opens another connection in the background, up to the {@link io.vertx.core.http.HttpClientOptions#setHttp2MaxPoolSize(int)} limit.
+ *
  * HTTP/2 connections will not be closed by the client automatically. To close them you can call {@link io.vertx.core.http.HttpConnection#close()}
  * or close the client instance.
  *
@@ -1695,6 +1929,40 @@
  * When using a WebSocket as a write stream or a read stream it can only be used with WebSockets connections that are
  * used with binary frames that are no split over multiple frames.
  *
+ * ==== WebSocket compression
+ *
+ * The server and the client can compress WebSocket messages with the per-message deflate extension (RFC 7692). The
+ * server accepts the extension when {@link io.vertx.core.http.HttpServerOptions#setPerMessageWebsocketCompressionSupported(boolean)}
+ * is enabled and the client offers it when {@link io.vertx.core.http.HttpClientOptions#setTryUsePerMessageWebsocketCompression(boolean)}
+ * is enabled. The extension is used only when both peers agree on it during the handshake.
+ *
+ * The compression level, the context takeover and the window size parameters of the extension can be configured on
+ * both options. Messages whose first frame is smaller than the {@code websocketCompressionMinFrameSize} option are sent
+ * uncompressed.
+ *
+ * The size of each frame before and after compression is reported to the metrics SPI so the compression ratio
+ * can be monitored.
+ *
+ * ==== Broadcasting WebSocket messages
+ *
+ * A {@link io.vertx.core.http.WebSocketBroadcast} writes the same message to a group of WebSockets. The message
+ * payload is encoded once and shared by all the WebSockets instead of being encoded for each of them, and each
+ * WebSocket writes the message on its own event loop.
+ *
+ * When the write queue of a WebSocket is full, the {@link io.vertx.core.http.WebSocketBroadcastPolicy#BUFFER} policy
+ * buffers the message anyway while the {@link io.vertx.core.http.WebSocketBroadcastPolicy#DROP} policy skips
+ * this WebSocket so slow consumers cannot exhaust the server memory. Closed WebSockets are skipped.
+ *
+ * ==== Idle WebSockets
+ *
+ * Once a connection is upgraded to WebSocket, the server removes the HTTP handlers of the connection and checks the
+ * idle timeout with a single timer per event loop instead of a timer per connection.
+ *
+ * Each server WebSocket registers two event bus handlers, see {@link io.vertx.core.http.WebSocketBase#binaryHandlerID()}.
+ * Servers keeping many mostly idle WebSockets can save memory by disabling these registrations with
+ * {@link io.vertx.core.http.HttpServerOptions#setRegisterWebsocketWriteHandlers(boolean)} when they do not write to
+ * WebSockets through the event bus.
+ *
  * === Using a proxy for HTTP/HTTPS connections
  *
  * The http client supports accessing http/https URLs via a HTTP proxy (e.g. Squid) or _SOCKS4a_ or _SOCKS5_ proxy.
@@ -25,6 +25,8 @@ import io.vertx.core.spi.metrics.Metrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
 import io.vertx.core.spi.metrics.PoolMetrics;
 
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -69,6 +71,37 @@ class WorkerExecutorImpl implements Closeable, MetricsProvider, WorkerExecutorIn
     context.executeBlocking(null, blockingCodeHandler, asyncResultHandler, pool.executor(), ordered ? context.orderedTasks : null, pool.metrics());
   }
 
+  @Override
+  public void execute(Runnable task) {
+    synchronized (this) {
+      if (closed) {
+        throw new RejectedExecutionException("Worker executor closed");
+      }
+    }
+    PoolMetrics metrics = pool.metrics();
+    Object queueMetric = metrics != null ? metrics.submitted() : null;
+    try {
+      pool.executor().execute(() -> {
+        Object execMetric = metrics != null ? metrics.begin(queueMetric) : null;
+        boolean succeeded = false;
+        try {
+          task.run();
+          succeeded = true;
+        } finally {
+          if (metrics != null) {
+            metrics.end(execMetric, succeeded);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // Pool is already shut down
+      if (metrics != null) {
+        metrics.rejected(queueMetric);
+      }
+      throw e;
+    }
+  }
+
   @Override
   public void close() {
     synchronized (this) {
@@ -25,4 +25,12 @@ import io.vertx.core.WorkerExecutor;
 public interface WorkerExecutorInternal extends WorkerExecutor {
   // TODO Can we get rid of this?
   Vertx vertx();
+
+  /**
+   * Execute a task on the worker pool outside of any context, the task is reported to the metrics of the pool.
+   *
+   * @param task the task
+   * @throws java.util.concurrent.RejectedExecutionException when the pool is closed
+   */
+  void execute(Runnable task);
 }
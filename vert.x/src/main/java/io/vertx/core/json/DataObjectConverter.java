@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2014 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Maps a data object with the {@code <Type>Converter} class generated by Vert.x codegen for
+ * {@code @DataObject(generateConverter = true)} classes, so {@link JsonObject#mapTo(Class)} and
+ * {@link JsonObject#mapFrom(Object)} copy the properties directly instead of going through Jackson bean
+ * introspection.
+ * <p>
+ * The converter of a type is looked up once and then cached with the type.
+ */
+class DataObjectConverter {
+
+  private static final MethodType FROM_JSON = MethodType.methodType(void.class, JsonObject.class, Object.class);
+  private static final MethodType TO_JSON = MethodType.methodType(void.class, Object.class, JsonObject.class);
+  private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class);
+
+  private static final ClassValue<DataObjectConverter> converters = new ClassValue<DataObjectConverter>() {
+    @Override
+    protected DataObjectConverter computeValue(Class<?> type) {
+      return create(type);
+    }
+  };
+
+  /**
+   * @return the converter of the {@code type} or {@code null} when it has no generated converter
+   */
+  static DataObjectConverter lookup(Class<?> type) {
+    return converters.get(type);
+  }
+
+  private static DataObjectConverter create(Class<?> type) {
+    if (type.isPrimitive() || type.isArray() || type.getClassLoader() == null) {
+      return null;
+    }
+    Class<?> converterClass;
+    try {
+      converterClass = Class.forName(type.getName() + "Converter", false, type.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+    MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    MethodHandle constructor = null;
+    MethodHandle fromJson = null;
+    MethodHandle toJson = null;
+    try {
+      constructor = lookup.findConstructor(type, MethodType.methodType(void.class)).asType(CONSTRUCTOR);
+      fromJson = lookup.findStatic(converterClass, "fromJson", MethodType.methodType(void.class, JsonObject.class, type)).asType(FROM_JSON);
+    } catch (NoSuchMethodException | IllegalAccessException ignore) {
+      // Not instantiable from JSON
+    }
+    try {
+      toJson = lookup.findStatic(converterClass, "toJson", MethodType.methodType(void.class, type, JsonObject.class)).asType(TO_JSON);
+    } catch (NoSuchMethodException | IllegalAccessException ignore) {
+      // Not convertible to JSON
+    }
+    if (fromJson == null && toJson == null) {
+      return null;
+    }
+    return new DataObjectConverter(fromJson != null ? constructor : null, fromJson, toJson);
+  }
+
+  private final MethodHandle constructor;
+  private final MethodHandle fromJson;
+  private final MethodHandle toJson;
+
+  private DataObjectConverter(MethodHandle constructor, MethodHandle fromJson, MethodHandle toJson) {
+    this.constructor = constructor;
+    this.fromJson = fromJson;
+    this.toJson = toJson;
+  }
+
+  boolean canDecode() {
+    return fromJson != null;
+  }
+
+  boolean canEncode() {
+    return toJson != null;
+  }
+
+  <T> T decode(JsonObject json, Class<T> type) {
+    try {
+      Object obj = (Object) constructor.invokeExact();
+      fromJson.invokeExact(json, obj);
+      return type.cast(obj);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    } catch (Throwable t) {
+      throw new IllegalArgumentException("Failed to map to " + type.getName(), t);
+    }
+  }
+
+  JsonObject encode(Object obj) {
+    JsonObject json = new JsonObject();
+    try {
+      toJson.invokeExact(obj, json);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    } catch (Throwable t) {
+      throw new IllegalArgumentException("Failed to map from " + obj.getClass().getName(), t);
+    }
+    return json;
+  }
+}
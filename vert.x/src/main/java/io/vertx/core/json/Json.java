@@ -18,17 +18,23 @@ package io.vertx.core.json;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -44,6 +50,12 @@ public class Json {
   public static ObjectMapper mapper = new ObjectMapper();
   public static ObjectMapper prettyMapper = new ObjectMapper();
 
+  // Results of lookupField that are not plain values
+  static final Object ABSENT = new Object();
+  static final Object NESTED = new Object();
+
+  private static final SimpleModule module = new SimpleModule();
+
   static {
     // Non-standard JSON but we allow C style comments in our JSON
     mapper.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
@@ -51,7 +63,6 @@ public class Json {
     prettyMapper.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
     prettyMapper.configure(SerializationFeature.INDENT_OUTPUT, true);
 
-    SimpleModule module = new SimpleModule();
     // custom types
     module.addSerializer(JsonObject.class, new JsonObjectSerializer());
     module.addSerializer(JsonArray.class, new JsonArraySerializer());
@@ -172,6 +183,72 @@ public class Json {
     }
   }
 
+  /**
+   * Encode a POJO to binary JSON (<a href="https://github.com/FasterXML/smile-format-specification">Smile</a>).
+   * <p>
+   * This requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} on the classpath.
+   *
+   * @param obj a POJO
+   * @return a Buffer containing the binary JSON representation of the given POJO.
+   * @throws EncodeException if a property cannot be encoded.
+   */
+  public static Buffer encodeToBinary(Object obj) throws EncodeException {
+    ObjectMapper binaryMapper = binaryMapper();
+    try {
+      return Buffer.buffer(binaryMapper.writeValueAsBytes(obj));
+    } catch (Exception e) {
+      throw new EncodeException("Failed to encode as binary JSON: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Decode a given binary JSON (Smile) buffer to a POJO of the given class type, {@link JsonObject} and
+   * {@link JsonArray} are supported too.
+   * <p>
+   * This requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} on the classpath.
+   *
+   * @param buf the binary JSON buffer.
+   * @param clazz the class to map to.
+   * @param <T> the generic type.
+   * @return an instance of T
+   * @throws DecodeException when there is a parsing or invalid mapping.
+   */
+  public static <T> T decodeBinary(Buffer buf, Class<T> clazz) throws DecodeException {
+    ObjectMapper binaryMapper = binaryMapper();
+    try {
+      InputStream in = new ByteBufInputStream(buf.getByteBuf());
+      if (clazz == JsonObject.class) {
+        return clazz.cast(new JsonObject(binaryMapper.readValue(in, Map.class)));
+      } else if (clazz == JsonArray.class) {
+        return clazz.cast(new JsonArray(binaryMapper.readValue(in, List.class)));
+      } else {
+        return binaryMapper.readValue(in, clazz);
+      }
+    } catch (Exception e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  private static ObjectMapper binaryMapper() {
+    try {
+      return BinaryMapperHolder.binaryMapper;
+    } catch (NoClassDefFoundError e) {
+      throw new IllegalStateException("Binary JSON requires com.fasterxml.jackson.dataformat:jackson-dataformat-smile on the classpath", e);
+    }
+  }
+
+  /**
+   * Holds the Smile mapper, so the optional Smile dependency is only loaded when binary JSON is used.
+   */
+  private static class BinaryMapperHolder {
+
+    static final ObjectMapper binaryMapper = new ObjectMapper(new SmileFactory());
+
+    static {
+      binaryMapper.registerModule(module);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   static Object checkAndCopy(Object val, boolean copy) {
     if (val == null) {
@@ -216,6 +293,82 @@ public class Json {
     return val;
   }
 
+  static Map<String, Object> freeze(Map<String, Object> map) {
+    Map<String, Object> frozen = new LinkedHashMap<>(map.size());
+    for (Map.Entry<String, Object> entry : map.entrySet()) {
+      frozen.put(entry.getKey(), freeze(entry.getValue()));
+    }
+    return Collections.unmodifiableMap(frozen);
+  }
+
+  static List<Object> freeze(List<Object> list) {
+    List<Object> frozen = new ArrayList<>(list.size());
+    for (Object val : list) {
+      frozen.add(freeze(val));
+    }
+    return Collections.unmodifiableList(frozen);
+  }
+
+  static Object freeze(Object val) {
+    val = checkAndCopy(val, false);
+    if (val instanceof JsonObject) {
+      val = ((JsonObject) val).immutableCopy();
+    } else if (val instanceof JsonArray) {
+      val = ((JsonArray) val).immutableCopy();
+    }
+    return val;
+  }
+
+  static boolean isImmutable(Object val) {
+    return val instanceof JsonObject && ((JsonObject) val).isImmutable() ||
+      val instanceof JsonArray && ((JsonArray) val).isImmutable();
+  }
+
+  /**
+   * Scan an encoded JSON object for a top level field without decoding the other fields.
+   *
+   * @param buf the encoded JSON object
+   * @param key the field name
+   * @return the scalar value, {@link #ABSENT} when there is no such field or {@link #NESTED} when the value is an
+   * object or an array
+   * @throws DecodeException when the buffer is not a valid JSON object
+   */
+  static Object lookupField(Buffer buf, String key) throws DecodeException {
+    try (JsonParser parser = mapper.getFactory().createParser(new ByteBufInputStream(buf.getByteBuf()))) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DecodeException("Failed to decode: not a JSON object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        if (key.equals(name)) {
+          switch (token) {
+            case VALUE_STRING:
+              return parser.getText();
+            case VALUE_NUMBER_INT:
+              return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+              return parser.getDoubleValue();
+            case VALUE_TRUE:
+              return Boolean.TRUE;
+            case VALUE_FALSE:
+              return Boolean.FALSE;
+            case VALUE_NULL:
+              return null;
+            default:
+              return NESTED;
+          }
+        }
+        parser.skipChildren();
+      }
+      return ABSENT;
+    } catch (DecodeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
   static <T> Stream<T> asStream(Iterator<T> sourceIterator) {
     Iterable<T> iterable = () -> sourceIterator;
     return StreamSupport.stream(iterable.spliterator(), false);
@@ -224,14 +377,20 @@ public class Json {
   private static class JsonObjectSerializer extends JsonSerializer<JsonObject> {
     @Override
     public void serialize(JsonObject value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
-      jgen.writeObject(value.getMap());
+      Buffer encoded = value.encoded();
+      if (encoded != null && !jgen.canWriteBinaryNatively()) {
+        // Only a textual generator can take the original JSON text as is
+        jgen.writeRawValue(encoded.toString());
+      } else {
+        jgen.writeObject(value.map());
+      }
     }
   }
 
   private static class JsonArraySerializer extends JsonSerializer<JsonArray> {
     @Override
     public void serialize(JsonArray value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
-      jgen.writeObject(value.getList());
+      jgen.writeObject(value.list());
     }
   }
 
@@ -42,6 +42,12 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
 
   private List<Object> list;
 
+  // Whether this array is an immutable snapshot, see immutableCopy()
+  private boolean immutable;
+
+  // Whether the list belongs to an immutable snapshot and must be copied before being modified
+  private boolean shared;
+
   /**
    * Create an instance from a String of JSON
    *
@@ -179,7 +185,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    * @throws java.lang.ClassCastException if the value cannot be converted to JsonObject
    */
   public JsonObject getJsonObject(int pos) {
-    Object val = list.get(pos);
+    Object val = lookup(pos);
     if (val instanceof Map) {
       val = new JsonObject((Map)val);
     }
@@ -194,7 +200,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    * @throws java.lang.ClassCastException if the value cannot be converted to JsonArray
    */
   public JsonArray getJsonArray(int pos) {
-    Object val = list.get(pos);
+    Object val = lookup(pos);
     if (val instanceof List) {
       val = new JsonArray((List)val);
     }
@@ -253,7 +259,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    * @return  the Integer, or null if a null value present
    */
   public Object getValue(int pos) {
-    Object val = list.get(pos);
+    Object val = lookup(pos);
     if (val instanceof Map) {
       val = new JsonObject((Map)val);
     } else if (val instanceof List) {
@@ -283,7 +289,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(Enum value) {
     Objects.requireNonNull(value);
-    list.add(value.name());
+    mutableList().add(value.name());
     return this;
   }
 
@@ -295,7 +301,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(CharSequence value) {
     Objects.requireNonNull(value);
-    list.add(value.toString());
+    mutableList().add(value.toString());
     return this;
   }
 
@@ -307,7 +313,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(String value) {
     Objects.requireNonNull(value);
-    list.add(value);
+    mutableList().add(value);
     return this;
   }
 
@@ -319,7 +325,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(Integer value) {
     Objects.requireNonNull(value);
-    list.add(value);
+    mutableList().add(value);
     return this;
   }
 
@@ -331,7 +337,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(Long value) {
     Objects.requireNonNull(value);
-    list.add(value);
+    mutableList().add(value);
     return this;
   }
 
@@ -343,7 +349,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(Double value) {
     Objects.requireNonNull(value);
-    list.add(value);
+    mutableList().add(value);
     return this;
   }
 
@@ -355,7 +361,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(Float value) {
     Objects.requireNonNull(value);
-    list.add(value);
+    mutableList().add(value);
     return this;
   }
 
@@ -367,7 +373,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(Boolean value) {
     Objects.requireNonNull(value);
-    list.add(value);
+    mutableList().add(value);
     return this;
   }
 
@@ -377,7 +383,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    * @return  a reference to this, so the API can be used fluently
    */
   public JsonArray addNull() {
-    list.add(null);
+    mutableList().add(null);
     return this;
   }
 
@@ -389,7 +395,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(JsonObject value) {
     Objects.requireNonNull(value);
-    list.add(value);
+    mutableList().add(value);
     return this;
   }
 
@@ -401,7 +407,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(JsonArray value) {
     Objects.requireNonNull(value);
-    list.add(value);
+    mutableList().add(value);
     return this;
   }
 
@@ -415,7 +421,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(byte[] value) {
     Objects.requireNonNull(value);
-    list.add(Base64.getEncoder().encodeToString(value));
+    mutableList().add(Base64.getEncoder().encodeToString(value));
     return this;
   }
 
@@ -429,7 +435,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray add(Instant value) {
     Objects.requireNonNull(value);
-    list.add(ISO_INSTANT.format(value));
+    mutableList().add(ISO_INSTANT.format(value));
     return this;
   }
 
@@ -442,7 +448,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
   public JsonArray add(Object value) {
     Objects.requireNonNull(value);
     value = Json.checkAndCopy(value, false);
-    list.add(value);
+    mutableList().add(value);
     return this;
   }
 
@@ -454,7 +460,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   public JsonArray addAll(JsonArray array) {
     Objects.requireNonNull(array);
-    list.addAll(array.list);
+    mutableList().addAll(array.list);
     return this;
   }
 
@@ -477,7 +483,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    * @return true if it removed it, false if not found
    */
   public boolean remove(Object value) {
-    return list.remove(value);
+    return mutableList().remove(value);
   }
 
   /**
@@ -488,7 +494,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    * this Map and returned. It the value is a List, a {@link JsonArray} is built form this List and returned.
    */
   public Object remove(int pos) {
-    Object removed = list.remove(pos);
+    Object removed = mutableList().remove(pos);
     if (removed instanceof Map) {
       return new JsonObject((Map) removed);
     } else if (removed instanceof ArrayList) {
@@ -517,11 +523,13 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
 
   /**
    * Get the unerlying List
+   * <p>
+   * The list of an immutable array cannot be modified.
    *
    * @return  the underlying List
    */
   public List getList() {
-    return list;
+    return immutable ? list : ownedList();
   }
 
   /**
@@ -530,7 +538,15 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    * @return  a reference to this, so the API can be used fluently
    */
   public JsonArray clear() {
-    list.clear();
+    if (immutable) {
+      throw new UnsupportedOperationException("Immutable JsonArray");
+    }
+    if (shared) {
+      list = new ArrayList<>();
+      shared = false;
+    } else {
+      list.clear();
+    }
     return this;
   }
 
@@ -541,7 +557,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    */
   @Override
   public Iterator<Object> iterator() {
-    return new Iter(list.iterator());
+    return new Iter(immutable ? list.iterator() : ownedList().iterator());
   }
 
   /**
@@ -577,6 +593,12 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
    * @return a copy
    */
   public JsonArray copy() {
+    if (immutable || shared) {
+      // The list is never modified and is copied by the first modification of the copy
+      JsonArray copy = new JsonArray(list);
+      copy.shared = true;
+      return copy;
+    }
     List<Object> copiedList = new ArrayList<>(list.size());
     for (Object val: list) {
       val = Json.checkAndCopy(val, true);
@@ -585,6 +607,31 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
     return new JsonArray(copiedList);
   }
 
+  /**
+   * Make an immutable copy of the JSON array.
+   * <p>
+   * The copy and its nested JSON objects and arrays cannot be modified, modification attempts throw an
+   * {@link UnsupportedOperationException}. Copying an immutable array with {@link #copy()} is a constant time
+   * operation, see {@link JsonObject#immutableCopy()}.
+   *
+   * @return an immutable copy, or this array if it is already immutable
+   */
+  public JsonArray immutableCopy() {
+    if (immutable) {
+      return this;
+    }
+    JsonArray copy = new JsonArray(shared ? list : Json.freeze(list));
+    copy.immutable = true;
+    return copy;
+  }
+
+  /**
+   * @return whether this array is immutable, see {@link #immutableCopy()}
+   */
+  public boolean isImmutable() {
+    return immutable;
+  }
+
   /**
    * Get a Stream over the entries in the JSON array
    *
@@ -652,9 +699,47 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
     int start = pos + 4;
     String encoded = buffer.getString(start, start + length);
     fromJson(encoded);
+    immutable = false;
+    shared = false;
     return pos + length + 4;
   }
 
+  List<Object> list() {
+    return list;
+  }
+
+  private Object lookup(int pos) {
+    Object val = list.get(pos);
+    if (!immutable && Json.isImmutable(val)) {
+      // The caller can modify the nested value, replace it with a copy owned by this array
+      val = Json.checkAndCopy(val, true);
+      mutableList().set(pos, val);
+    }
+    return val;
+  }
+
+  private List<Object> mutableList() {
+    if (immutable) {
+      throw new UnsupportedOperationException("Immutable JsonArray");
+    }
+    if (shared) {
+      list = new ArrayList<>(list);
+      shared = false;
+    }
+    return list;
+  }
+
+  private List<Object> ownedList() {
+    List<Object> list = mutableList();
+    for (ListIterator<Object> it = list.listIterator(); it.hasNext();) {
+      Object val = it.next();
+      if (Json.isImmutable(val)) {
+        it.set(Json.checkAndCopy(val, true));
+      }
+    }
+    return list;
+  }
+
   private void fromJson(String json) {
     list = Json.decodeValue(json, List.class);
   }
@@ -44,6 +44,21 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
 
   private Map<String, Object> map;
 
+  // The number of fields looked up by scanning the encoded form before it is decoded
+  private static final int MAX_SCANS = 3;
+
+  // The encoded form this object was created from, kept while the object is unmodified
+  private Buffer encoded;
+
+  // The number of times the encoded form was scanned
+  private int scans;
+
+  // Whether this object is an immutable snapshot, see immutableCopy()
+  private boolean immutable;
+
+  // Whether the map belongs to an immutable snapshot and must be copied before being modified
+  private boolean shared;
+
   /**
    * Create an instance from a string of JSON
    *
@@ -78,9 +93,34 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     fromBuffer(buf);
   }
 
+  /**
+   * Create a lazily parsed instance from a buffer.
+   * <p>
+   * The buffer is not decoded up-front: scalar values are decoded when they are accessed by scanning the buffer,
+   * the full tree is only built when nested values are accessed, after a few fields have been accessed or when the
+   * object is modified. As long as the
+   * object is not modified, {@link #encode()}, {@link #toBuffer()} and the event bus codecs emit the original bytes
+   * verbatim. Field names are expected to be unique, as mandated by RFC-7493.
+   * <p>
+   * The buffer is not copied and must not be modified afterwards. Invalid JSON is reported when the object is
+   * accessed rather than when it is created.
+   *
+   * @param buf  the buffer to create the instance from.
+   * @return the lazily parsed instance
+   */
+  public static JsonObject lazy(Buffer buf) {
+    Objects.requireNonNull(buf);
+    JsonObject json = new JsonObject((Map<String, Object>) null);
+    json.encoded = buf;
+    return json;
+  }
+
   /**
    * Create a JsonObject from the fields of a Java object.
    * Faster than calling `new JsonObject(Json.encode(obj))`.
+   * <p>
+   * A data object with a converter generated by Vert.x codegen is converted with its generated converter,
+   * any other object is converted by Jackson.
    *
    * @param obj
    *          The object to convert to a JsonObject.
@@ -89,12 +129,19 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   @SuppressWarnings("unchecked")
   public static JsonObject mapFrom(Object obj) {
+    DataObjectConverter converter = obj != null ? DataObjectConverter.lookup(obj.getClass()) : null;
+    if (converter != null && converter.canEncode()) {
+      return converter.encode(obj);
+    }
     return new JsonObject((Map<String, Object>) Json.mapper.convertValue(obj, Map.class));
   }
 
   /**
    * Instantiate a Java object from a JsonObject.
    * Faster than calling `Json.decodeValue(Json.encode(jsonObject), type)`.
+   * <p>
+   * A data object with a converter generated by Vert.x codegen and a public no-arg constructor is populated
+   * with its generated converter, any other type is instantiated by Jackson.
    *
    * @param type
    *          The type to instantiate from the JsonObject.
@@ -102,7 +149,11 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    *          if the type cannot be instantiated.
    */
   public <T> T mapTo(Class<T> type) {
-    return Json.mapper.convertValue(map, type);
+    DataObjectConverter converter = DataObjectConverter.lookup(type);
+    if (converter != null && converter.canDecode()) {
+      return converter.decode(this, type);
+    }
+    return Json.mapper.convertValue(map(), type);
   }
 
   /**
@@ -114,7 +165,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public String getString(String key) {
     Objects.requireNonNull(key);
-    CharSequence cs = (CharSequence)map.get(key);
+    CharSequence cs = (CharSequence)lookup(key);
     return cs == null ? null : cs.toString();
   }
 
@@ -127,7 +178,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Integer getInteger(String key) {
     Objects.requireNonNull(key);
-    Number number = (Number)map.get(key);
+    Number number = (Number)lookup(key);
     if (number == null) {
       return null;
     } else if (number instanceof Integer) {
@@ -146,7 +197,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Long getLong(String key) {
     Objects.requireNonNull(key);
-    Number number = (Number)map.get(key);
+    Number number = (Number)lookup(key);
     if (number == null) {
       return null;
     } else if (number instanceof Long) {
@@ -165,7 +216,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Double getDouble(String key) {
     Objects.requireNonNull(key);
-    Number number = (Number)map.get(key);
+    Number number = (Number)lookup(key);
     if (number == null) {
       return null;
     } else if (number instanceof Double) {
@@ -184,7 +235,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Float getFloat(String key) {
     Objects.requireNonNull(key);
-    Number number = (Number)map.get(key);
+    Number number = (Number)lookup(key);
     if (number == null) {
       return null;
     } else if (number instanceof Float) {
@@ -203,7 +254,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Boolean getBoolean(String key) {
     Objects.requireNonNull(key);
-    return (Boolean)map.get(key);
+    return (Boolean)lookup(key);
   }
 
   /**
@@ -215,7 +266,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject getJsonObject(String key) {
     Objects.requireNonNull(key);
-    Object val = map.get(key);
+    Object val = lookup(key);
     if (val instanceof Map) {
       val = new JsonObject((Map)val);
     }
@@ -231,7 +282,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonArray getJsonArray(String key) {
     Objects.requireNonNull(key);
-    Object val = map.get(key);
+    Object val = lookup(key);
     if (val instanceof List) {
       val = new JsonArray((List)val);
     }
@@ -253,7 +304,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public byte[] getBinary(String key) {
     Objects.requireNonNull(key);
-    String encoded = (String) map.get(key);
+    String encoded = (String) lookup(key);
     return encoded == null ? null : Base64.getDecoder().decode(encoded);
   }
 
@@ -273,7 +324,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Instant getInstant(String key) {
     Objects.requireNonNull(key);
-    String encoded = (String) map.get(key);
+    String encoded = (String) lookup(key);
     return encoded == null ? null : Instant.from(ISO_INSTANT.parse(encoded));
   }
 
@@ -284,7 +335,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Object getValue(String key) {
     Objects.requireNonNull(key);
-    Object val = map.get(key);
+    Object val = lookup(key);
     if (val instanceof Map) {
       val = new JsonObject((Map)val);
     } else if (val instanceof List) {
@@ -302,8 +353,11 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public String getString(String key, String def) {
     Objects.requireNonNull(key);
-    CharSequence cs = (CharSequence)map.get(key);
-    return cs != null || map.containsKey(key) ? cs == null ? null : cs.toString() : def;
+    Object val = lookupOrAbsent(key);
+    if (val == Json.ABSENT) {
+      return def;
+    }
+    return val == null ? null : ((CharSequence)val).toString();
   }
 
   /**
@@ -315,17 +369,15 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Integer getInteger(String key, Integer def) {
     Objects.requireNonNull(key);
-    Number val = (Number)map.get(key);
-    if (val == null) {
-      if (map.containsKey(key)) {
-        return null;
-      } else {
-        return def;
-      }
+    Object val = lookupOrAbsent(key);
+    if (val == Json.ABSENT) {
+      return def;
+    } else if (val == null) {
+      return null;
     } else if (val instanceof Integer) {
       return (Integer)val;  // Avoids unnecessary unbox/box
     } else {
-      return val.intValue();
+      return ((Number)val).intValue();
     }
   }
 
@@ -338,17 +390,15 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Long getLong(String key, Long def) {
     Objects.requireNonNull(key);
-    Number val = (Number)map.get(key);
-    if (val == null) {
-      if (map.containsKey(key)) {
-        return null;
-      } else {
-        return def;
-      }
+    Object val = lookupOrAbsent(key);
+    if (val == Json.ABSENT) {
+      return def;
+    } else if (val == null) {
+      return null;
     } else if (val instanceof Long) {
       return (Long)val;  // Avoids unnecessary unbox/box
     } else {
-      return val.longValue();
+      return ((Number)val).longValue();
     }
   }
 
@@ -361,17 +411,15 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Double getDouble(String key, Double def) {
     Objects.requireNonNull(key);
-    Number val = (Number)map.get(key);
-    if (val == null) {
-      if (map.containsKey(key)) {
-        return null;
-      } else {
-        return def;
-      }
+    Object val = lookupOrAbsent(key);
+    if (val == Json.ABSENT) {
+      return def;
+    } else if (val == null) {
+      return null;
     } else if (val instanceof Double) {
       return (Double)val;  // Avoids unnecessary unbox/box
     } else {
-      return val.doubleValue();
+      return ((Number)val).doubleValue();
     }
   }
 
@@ -384,17 +432,15 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Float getFloat(String key, Float def) {
     Objects.requireNonNull(key);
-    Number val = (Number)map.get(key);
-    if (val == null) {
-      if (map.containsKey(key)) {
-        return null;
-      } else {
-        return def;
-      }
+    Object val = lookupOrAbsent(key);
+    if (val == Json.ABSENT) {
+      return def;
+    } else if (val == null) {
+      return null;
     } else if (val instanceof Float) {
       return (Float)val;  // Avoids unnecessary unbox/box
     } else {
-      return val.floatValue();
+      return ((Number)val).floatValue();
     }
   }
 
@@ -407,8 +453,8 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Boolean getBoolean(String key, Boolean def) {
     Objects.requireNonNull(key);
-    Object val = map.get(key);
-    return val != null || map.containsKey(key) ? (Boolean)val : def;
+    Object val = lookupOrAbsent(key);
+    return val != Json.ABSENT ? (Boolean)val : def;
   }
 
   /**
@@ -419,8 +465,15 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the value or {@code def} if no entry present
    */
   public JsonObject getJsonObject(String key, JsonObject def) {
-    JsonObject val = getJsonObject(key);
-    return val != null || map.containsKey(key) ? val : def;
+    Objects.requireNonNull(key);
+    Object val = lookupOrAbsent(key);
+    if (val == Json.ABSENT) {
+      return def;
+    }
+    if (val instanceof Map) {
+      val = new JsonObject((Map)val);
+    }
+    return (JsonObject)val;
   }
 
   /**
@@ -431,8 +484,15 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the value or {@code def} if no entry present
    */
   public JsonArray getJsonArray(String key, JsonArray def) {
-    JsonArray val = getJsonArray(key);
-    return val != null || map.containsKey(key) ? val : def;
+    Objects.requireNonNull(key);
+    Object val = lookupOrAbsent(key);
+    if (val == Json.ABSENT) {
+      return def;
+    }
+    if (val instanceof List) {
+      val = new JsonArray((List)val);
+    }
+    return (JsonArray)val;
   }
 
   /**
@@ -444,8 +504,8 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public byte[] getBinary(String key, byte[] def) {
     Objects.requireNonNull(key);
-    Object val = map.get(key);
-    return val != null || map.containsKey(key) ? (val == null ? null : Base64.getDecoder().decode((String)val)) : def;
+    Object val = lookupOrAbsent(key);
+    return val != Json.ABSENT ? (val == null ? null : Base64.getDecoder().decode((String)val)) : def;
   }
 
   /**
@@ -457,8 +517,8 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Instant getInstant(String key, Instant def) {
     Objects.requireNonNull(key);
-    Object val = map.get(key);
-    return val != null || map.containsKey(key) ?
+    Object val = lookupOrAbsent(key);
+    return val != Json.ABSENT ?
         (val == null ? null : Instant.from(ISO_INSTANT.parse((String) val))) : def;
   }
 
@@ -471,8 +531,16 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public Object getValue(String key, Object def) {
     Objects.requireNonNull(key);
-    Object val = getValue(key);
-    return val != null || map.containsKey(key) ? val : def;
+    Object val = lookupOrAbsent(key);
+    if (val == Json.ABSENT) {
+      return def;
+    }
+    if (val instanceof Map) {
+      val = new JsonObject((Map)val);
+    } else if (val instanceof List) {
+      val = new JsonArray((List)val);
+    }
+    return val;
   }
 
   /**
@@ -483,7 +551,10 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public boolean containsKey(String key) {
     Objects.requireNonNull(key);
-    return map.containsKey(key);
+    if (map == null && ++scans <= MAX_SCANS) {
+      return Json.lookupField(encoded, key) != Json.ABSENT;
+    }
+    return map().containsKey(key);
   }
 
   /**
@@ -492,7 +563,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the set of field names
    */
   public Set<String> fieldNames() {
-    return map.keySet();
+    return immutable ? map().keySet() : mutableMap().keySet();
   }
 
   /**
@@ -507,7 +578,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, Enum value) {
     Objects.requireNonNull(key);
-    map.put(key, value == null ? null : value.name());
+    mutableMap().put(key, value == null ? null : value.name());
     return this;
   }
 
@@ -520,7 +591,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, CharSequence value) {
     Objects.requireNonNull(key);
-    map.put(key, value == null ? null : value.toString());
+    mutableMap().put(key, value == null ? null : value.toString());
     return this;
   }
 
@@ -533,7 +604,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, String value) {
     Objects.requireNonNull(key);
-    map.put(key, value);
+    mutableMap().put(key, value);
     return this;
   }
 
@@ -546,7 +617,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, Integer value) {
     Objects.requireNonNull(key);
-    map.put(key, value);
+    mutableMap().put(key, value);
     return this;
   }
 
@@ -559,7 +630,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, Long value) {
     Objects.requireNonNull(key);
-    map.put(key, value);
+    mutableMap().put(key, value);
     return this;
   }
 
@@ -572,7 +643,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, Double value) {
     Objects.requireNonNull(key);
-    map.put(key, value);
+    mutableMap().put(key, value);
     return this;
   }
 
@@ -585,7 +656,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, Float value) {
     Objects.requireNonNull(key);
-    map.put(key, value);
+    mutableMap().put(key, value);
     return this;
   }
 
@@ -598,7 +669,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, Boolean value) {
     Objects.requireNonNull(key);
-    map.put(key, value);
+    mutableMap().put(key, value);
     return this;
   }
 
@@ -610,7 +681,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject putNull(String key) {
     Objects.requireNonNull(key);
-    map.put(key, null);
+    mutableMap().put(key, null);
     return this;
   }
 
@@ -623,7 +694,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, JsonObject value) {
     Objects.requireNonNull(key);
-    map.put(key, value);
+    mutableMap().put(key, value);
     return this;
   }
 
@@ -636,7 +707,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, JsonArray value) {
     Objects.requireNonNull(key);
-    map.put(key, value);
+    mutableMap().put(key, value);
     return this;
   }
 
@@ -651,7 +722,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, byte[] value) {
     Objects.requireNonNull(key);
-    map.put(key, value == null ? null : Base64.getEncoder().encodeToString(value));
+    mutableMap().put(key, value == null ? null : Base64.getEncoder().encodeToString(value));
     return this;
   }
 
@@ -667,7 +738,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject put(String key, Instant value) {
     Objects.requireNonNull(key);
-    map.put(key, value == null ? null : ISO_INSTANT.format(value));
+    mutableMap().put(key, value == null ? null : ISO_INSTANT.format(value));
     return this;
   }
 
@@ -681,7 +752,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   public JsonObject put(String key, Object value) {
     Objects.requireNonNull(key);
     value = Json.checkAndCopy(value, false);
-    map.put(key, value);
+    mutableMap().put(key, value);
     return this;
   }
 
@@ -692,7 +763,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the value that was removed, or null if none
    */
   public Object remove(String key) {
-    return map.remove(key);
+    return mutableMap().remove(key);
   }
 
   /**
@@ -732,14 +803,18 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     if (depth < 1) {
       return this;
     }
+    Map<String, Object> otherMap = other.immutable ? other.map() : other.mutableMap();
     if (depth == 1) {
-      map.putAll(other.map);
+      mutableMap().putAll(otherMap);
       return this;
     }
-    for (Map.Entry<String, Object> e: other.map.entrySet()) {
+    Map<String, Object> map = mutableMap();
+    for (Map.Entry<String, Object> e: otherMap.entrySet()) {
       map.merge(e.getKey(), e.getValue(), (oldVal, newVal) -> {
         if (oldVal instanceof Map) {
           oldVal = new JsonObject((Map)oldVal);
+        } else if (Json.isImmutable(oldVal)) {
+          oldVal = ((JsonObject) oldVal).copy();
         }
         if (newVal instanceof Map) {
           newVal = new JsonObject((Map)newVal);
@@ -759,6 +834,9 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the string encoding.
    */
   public String encode() {
+    if (encoded != null) {
+      return encoded.toString();
+    }
     return Json.encode(map);
   }
 
@@ -769,7 +847,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the pretty string encoding.
    */
   public String encodePrettily() {
-    return Json.encodePrettily(map);
+    return Json.encodePrettily(map());
   }
 
   /**
@@ -778,6 +856,9 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the buffer encoding.
    */
   public Buffer toBuffer() {
+    if (encoded != null) {
+      return encoded.copy();
+    }
     return Json.encodeToBuffer(map);
   }
 
@@ -787,6 +868,20 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return a copy of the object
    */
   public JsonObject copy() {
+    if (map == null) {
+      // The encoded form is never modified and can be shared
+      return lazy(encoded);
+    }
+    if (immutable || shared) {
+      // The map is never modified and is copied by the first modification of the copy
+      JsonObject copy = new JsonObject(map);
+      copy.shared = true;
+      copy.encoded = encoded;
+      return copy;
+    }
+    if (encoded != null) {
+      return lazy(encoded);
+    }
     Map<String, Object> copiedMap;
     if (map instanceof LinkedHashMap) {
       copiedMap = new LinkedHashMap<>(map.size());
@@ -801,15 +896,52 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     return new JsonObject(copiedMap);
   }
 
+  /**
+   * Create an immutable copy of the JSON object.
+   * <p>
+   * The copy and its nested JSON objects and arrays cannot be modified, modification attempts throw an
+   * {@link UnsupportedOperationException}. Copying an immutable object with {@link #copy()} is a constant time
+   * operation: the returned object shares the immutable entries until it is modified, only the modified levels of the
+   * tree are then copied. This makes immutable objects cheap to send many times over the event bus or to get many
+   * times from a {@link io.vertx.core.shareddata.LocalMap}.
+   *
+   * @return an immutable copy of the object, or this object if it is already immutable
+   */
+  public JsonObject immutableCopy() {
+    if (immutable) {
+      return this;
+    }
+    JsonObject copy;
+    if (map == null) {
+      // Decoded on demand
+      copy = new JsonObject((Map<String, Object>) null);
+    } else if (shared) {
+      copy = new JsonObject(map);
+    } else {
+      copy = new JsonObject(Json.freeze(map));
+    }
+    copy.immutable = true;
+    copy.encoded = encoded;
+    return copy;
+  }
+
+  /**
+   * @return whether this object is immutable, see {@link #immutableCopy()}
+   */
+  public boolean isImmutable() {
+    return immutable;
+  }
+
   /**
    * Get the underlying {@code Map} as is.
    *
-   * This map may contain values that are not the types returned by the {@code JsonObject}.
+   * This map may contain values that are not the types returned by the {@code JsonObject}. The map of an
+   * immutable object cannot be modified.
    *
    * @return the underlying Map.
    */
   public Map<String, Object> getMap() {
-    return map;
+    return immutable ? map() : ownedMap();
   }
 
   /**
@@ -828,7 +960,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   @Override
   public Iterator<Map.Entry<String, Object>> iterator() {
-    return new Iter(map.entrySet().iterator());
+    return new Iter((immutable ? map() : ownedMap()).entrySet().iterator());
   }
 
   /**
@@ -836,7 +968,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the number of entries
    */
   public int size() {
-    return map.size();
+    return map().size();
   }
 
   /**
@@ -844,7 +976,16 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   @Fluent
   public JsonObject clear() {
-    map.clear();
+    if (immutable) {
+      throw new UnsupportedOperationException("Immutable JsonObject");
+    }
+    if (map == null || shared) {
+      shared = false;
+      map = new LinkedHashMap<>();
+    } else {
+      map.clear();
+    }
+    encoded = null;
     return this;
   }
 
@@ -854,7 +995,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return true if it has zero entries, false if not.
    */
   public boolean isEmpty() {
-    return map.isEmpty();
+    return map().isEmpty();
   }
 
   @Override
@@ -868,13 +1009,13 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
       return true;
     if (o == null || getClass() != o.getClass())
       return false;
-    return objectEquals(map, o);
+    return objectEquals(map(), o);
   }
 
   static boolean objectEquals(Map<?, ?> m1, Object o2) {
     Map<?, ?> m2;
     if (o2 instanceof JsonObject) {
-      m2 = ((JsonObject) o2).map;
+      m2 = ((JsonObject) o2).map();
     } else if (o2 instanceof Map<?, ?>) {
       m2 = (Map<?, ?>) o2;
     } else {
@@ -901,7 +1042,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     if (o1 == o2)
       return true;
     if (o1 instanceof JsonObject) {
-      return objectEquals(((JsonObject) o1).map, o2);
+      return objectEquals(((JsonObject) o1).map(), o2);
     }
     if (o1 instanceof Map<?, ?>) {
       return objectEquals((Map<?, ?>) o1, o2);
@@ -926,11 +1067,16 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
 
   @Override
   public int hashCode() {
-    return map.hashCode();
+    return map().hashCode();
   }
 
   @Override
   public void writeToBuffer(Buffer buffer) {
+    if (this.encoded != null) {
+      buffer.appendInt(this.encoded.length());
+      buffer.appendBuffer(this.encoded);
+      return;
+    }
     String encoded = encode();
     byte[] bytes = encoded.getBytes(StandardCharsets.UTF_8);
     buffer.appendInt(bytes.length);
@@ -941,17 +1087,97 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   public int readFromBuffer(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
     int start = pos + 4;
-    String encoded = buffer.getString(start, start + length);
-    fromJson(encoded);
+    map = null;
+    encoded = buffer.getBuffer(start, start + length);
+    immutable = false;
+    shared = false;
     return pos + length + 4;
   }
 
+  /**
+   * @return the encoded form of this object when it is unmodified since it was lazily created, otherwise {@code null}
+   */
+  Buffer encoded() {
+    return encoded;
+  }
+
+  private Object lookup(String key) {
+    Object val = lookupOrAbsent(key);
+    return val == Json.ABSENT ? null : val;
+  }
+
+  /**
+   * Lookup a field with a single scan of the encoded form, the encoded form is decoded once it has been scanned
+   * {@link #MAX_SCANS} times.
+   *
+   * @return the value or {@link Json#ABSENT} when there is no such field
+   */
+  private Object lookupOrAbsent(String key) {
+    Object val;
+    if (map == null && ++scans <= MAX_SCANS) {
+      val = Json.lookupField(encoded, key);
+      if (val != Json.NESTED) {
+        return val;
+      }
+      val = map().get(key);
+    } else {
+      val = map().getOrDefault(key, Json.ABSENT);
+      if (val == Json.ABSENT) {
+        return val;
+      }
+    }
+    if (!immutable) {
+      if (Json.isImmutable(val)) {
+        // The caller can modify the nested value, replace it with a copy owned by this object
+        val = Json.checkAndCopy(val, true);
+        mutableMap().put(key, val);
+      } else if (encoded != null && (val instanceof Map || val instanceof List || val instanceof JsonObject || val instanceof JsonArray)) {
+        // The caller can modify the nested value, the encoded form cannot be trusted anymore
+        encoded = null;
+      }
+    }
+    return val;
+  }
+
+  Map<String, Object> map() {
+    if (map == null) {
+      Map<String, Object> decoded = Json.decodeValue(encoded, Map.class);
+      map = immutable ? Json.freeze(decoded) : decoded;
+    }
+    return map;
+  }
+
+  private Map<String, Object> mutableMap() {
+    if (immutable) {
+      throw new UnsupportedOperationException("Immutable JsonObject");
+    }
+    Map<String, Object> map = map();
+    if (shared) {
+      map = this.map = new LinkedHashMap<>(map);
+      shared = false;
+    }
+    encoded = null;
+    return map;
+  }
+
+  private Map<String, Object> ownedMap() {
+    Map<String, Object> map = mutableMap();
+    for (Map.Entry<String, Object> entry : map.entrySet()) {
+      if (Json.isImmutable(entry.getValue())) {
+        entry.setValue(Json.checkAndCopy(entry.getValue(), true));
+      }
+    }
+    return map;
+  }
+
   private void fromJson(String json) {
     map = Json.decodeValue(json, Map.class);
+    encoded = null;
   }
 
   private void fromBuffer(Buffer buf) {
     map = Json.decodeValue(buf, Map.class);
+    encoded = null;
   }
 
   private class Iter implements Iterator<Map.Entry<String, Object>> {
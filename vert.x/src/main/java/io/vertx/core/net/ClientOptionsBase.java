@@ -210,6 +210,26 @@ public abstract class ClientOptionsBase extends TCPSSLOptions {
     return (ClientOptionsBase) super.setTcpNoDelay(tcpNoDelay);
   }
 
+  @Override
+  public ClientOptionsBase setWriteBatching(boolean writeBatching) {
+    return (ClientOptionsBase) super.setWriteBatching(writeBatching);
+  }
+
+  @Override
+  public ClientOptionsBase setSslSessionCacheSize(int sslSessionCacheSize) {
+    return (ClientOptionsBase) super.setSslSessionCacheSize(sslSessionCacheSize);
+  }
+
+  @Override
+  public ClientOptionsBase setSslSessionTimeout(int sslSessionTimeout) {
+    return (ClientOptionsBase) super.setSslSessionTimeout(sslSessionTimeout);
+  }
+
+  @Override
+  public ClientOptionsBase setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    return (ClientOptionsBase) super.setSslHandshakePoolSize(sslHandshakePoolSize);
+  }
+
   @Override
   public ClientOptionsBase setTcpKeepAlive(boolean tcpKeepAlive) {
     return (ClientOptionsBase) super.setTcpKeepAlive(tcpKeepAlive);
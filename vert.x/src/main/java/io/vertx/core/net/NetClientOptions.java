@@ -117,6 +117,30 @@ public class NetClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public NetClientOptions setWriteBatching(boolean writeBatching) {
+    super.setWriteBatching(writeBatching);
+    return this;
+  }
+
+  @Override
+  public NetClientOptions setSslSessionCacheSize(int sslSessionCacheSize) {
+    super.setSslSessionCacheSize(sslSessionCacheSize);
+    return this;
+  }
+
+  @Override
+  public NetClientOptions setSslSessionTimeout(int sslSessionTimeout) {
+    super.setSslSessionTimeout(sslSessionTimeout);
+    return this;
+  }
+
+  @Override
+  public NetClientOptions setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    super.setSslHandshakePoolSize(sslHandshakePoolSize);
+    return this;
+  }
+
   @Override
   public NetClientOptions setTcpKeepAlive(boolean tcpKeepAlive) {
     super.setTcpKeepAlive(tcpKeepAlive);
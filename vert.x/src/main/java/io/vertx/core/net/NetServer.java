@@ -123,6 +123,16 @@ public interface NetServer extends Measured {
   @Fluent
   NetServer listen(int port, Handler<AsyncResult<NetServer>> listenHandler);
 
+  /**
+   * Read the key and trust stores of the server options again, e.g after a certificate has been renewed in
+   * its file. The new connections use the new certificates, the established connections are not affected.
+   *
+   * @param completionHandler  the handler notified when the stores have been read
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  NetServer reloadCertificates(@Nullable Handler<AsyncResult<Void>> completionHandler);
+
   /**
    * Close the server. This will close any currently open connections. The close may not complete until after this
    * method has returned.
@@ -56,11 +56,23 @@ public class NetServerOptions extends TCPSSLOptions {
    */
   public static final boolean DEFAULT_SNI = false;
 
+  /**
+   * Default max number of concurrent connections = -1 (unlimited)
+   */
+  public static final int DEFAULT_MAX_CONNECTIONS = -1;
+
+  /**
+   * Default SNI cache size = 1000
+   */
+  public static final int DEFAULT_SNI_CACHE_SIZE = 1000;
+
   private int port;
   private String host;
   private int acceptBacklog;
   private ClientAuth clientAuth;
   private boolean sni;
+  private int maxConnections;
+  private int sniCacheSize;
 
   /**
    * Default constructor
@@ -82,6 +94,8 @@ public class NetServerOptions extends TCPSSLOptions {
     this.acceptBacklog = other.getAcceptBacklog();
     this.clientAuth = other.getClientAuth();
     this.sni = other.isSni();
+    this.maxConnections = other.getMaxConnections();
+    this.sniCacheSize = other.getSniCacheSize();
   }
 
   /**
@@ -136,6 +150,30 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public NetServerOptions setWriteBatching(boolean writeBatching) {
+    super.setWriteBatching(writeBatching);
+    return this;
+  }
+
+  @Override
+  public NetServerOptions setSslSessionCacheSize(int sslSessionCacheSize) {
+    super.setSslSessionCacheSize(sslSessionCacheSize);
+    return this;
+  }
+
+  @Override
+  public NetServerOptions setSslSessionTimeout(int sslSessionTimeout) {
+    super.setSslSessionTimeout(sslSessionTimeout);
+    return this;
+  }
+
+  @Override
+  public NetServerOptions setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    super.setSslHandshakePoolSize(sslHandshakePoolSize);
+    return this;
+  }
+
   @Override
   public NetServerOptions setTcpKeepAlive(boolean tcpKeepAlive) {
     super.setTcpKeepAlive(tcpKeepAlive);
@@ -372,6 +410,54 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return the max number of concurrent connections
+   */
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  /**
+   * Set the max number of concurrent connections of the server, {@code -1} means unlimited.
+   * <p>
+   * The connections accepted above this number are closed immediately.
+   *
+   * @param maxConnections the max number of connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setMaxConnections(int maxConnections) {
+    if (maxConnections < 1 && maxConnections != -1) {
+      throw new IllegalArgumentException("maxConnections must be > 0 or -1 (unlimited)");
+    }
+    this.maxConnections = maxConnections;
+    return this;
+  }
+
+  /**
+   * @return the max number of SSL contexts of the server names kept by the server
+   */
+  public int getSniCacheSize() {
+    return sniCacheSize;
+  }
+
+  /**
+   * Set the max number of SSL contexts kept by the server for the server names indicated by the clients, the least recently
+   * used contexts are discarded beyond this number.
+   * <p>
+   * A context is created when a client indicates a server name whose certificate has no context yet, the certificate
+   * is given by {@link KeyCertOptions#keyManagerMapper}.
+   *
+   * @param sniCacheSize the max number of contexts
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setSniCacheSize(int sniCacheSize) {
+    if (sniCacheSize < 1) {
+      throw new IllegalArgumentException("sniCacheSize must be > 0");
+    }
+    this.sniCacheSize = sniCacheSize;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -385,6 +471,8 @@ public class NetServerOptions extends TCPSSLOptions {
     if (port != that.port) return false;
     if (host != null ? !host.equals(that.host) : that.host != null) return false;
     if (sni != that.sni) return false;
+    if (maxConnections != that.maxConnections) return false;
+    if (sniCacheSize != that.sniCacheSize) return false;
 
     return true;
   }
@@ -397,6 +485,8 @@ public class NetServerOptions extends TCPSSLOptions {
     result = 31 * result + acceptBacklog;
     result = 31 * result + clientAuth.hashCode();
     result = 31 * result + (sni ? 1 : 0);
+    result = 31 * result + maxConnections;
+    result = 31 * result + sniCacheSize;
     return result;
   }
 
@@ -406,5 +496,7 @@ public class NetServerOptions extends TCPSSLOptions {
     this.acceptBacklog = DEFAULT_ACCEPT_BACKLOG;
     this.clientAuth = DEFAULT_CLIENT_AUTH;
     this.sni = DEFAULT_SNI;
+    this.maxConnections = DEFAULT_MAX_CONNECTIONS;
+    this.sniCacheSize = DEFAULT_SNI_CACHE_SIZE;
   }
 }
@@ -2,8 +2,14 @@ package io.vertx.core.net;
 
 import io.netty.handler.ssl.OpenSsl;
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Configures a {@link TCPSSLOptions} to use OpenSsl.
  *
@@ -31,7 +37,13 @@ public class OpenSSLEngineOptions extends SSLEngineOptions {
    */
   public static final boolean DEFAULT_SESSION_CACHE_ENABLED = true;
 
+  /**
+   * The length of a session ticket key = 48 bytes
+   */
+  public static final int SESSION_TICKET_KEY_LENGTH = 48;
+
   private boolean sessionCacheEnabled;
+  private ArrayList<Buffer> sessionTicketKeys = new ArrayList<>();
 
   public OpenSSLEngineOptions() {
     sessionCacheEnabled = DEFAULT_SESSION_CACHE_ENABLED;
@@ -43,6 +55,7 @@ public class OpenSSLEngineOptions extends SSLEngineOptions {
 
   public OpenSSLEngineOptions(OpenSSLEngineOptions other) {
     this.sessionCacheEnabled = other.isSessionCacheEnabled();
+    this.sessionTicketKeys = new ArrayList<>(other.getSessionTicketKeys());
   }
 
   /**
@@ -65,6 +78,33 @@ public class OpenSSLEngineOptions extends SSLEngineOptions {
     return sessionCacheEnabled;
   }
 
+  /**
+   * @return the session ticket keys of the server context
+   */
+  public List<Buffer> getSessionTicketKeys() {
+    return sessionTicketKeys;
+  }
+
+  /**
+   * Add a session ticket key to the server context, a key is {@link #SESSION_TICKET_KEY_LENGTH} random bytes: the key
+   * name, the HMAC secret and the AES key, 16 bytes each.
+   * <p>
+   * The first key encrypts the new tickets, all the keys decrypt the tickets presented by the clients: the keys
+   * can be rotated by adding the new key first and keeping the previous keys until their tickets expire. Sharing
+   * the keys between the servers of a cluster lets a client resume its session on any of them. When no key is
+   * added, OpenSSL generates a random key per server context.
+   *
+   * @param sessionTicketKey the key
+   * @return a reference to this, so the API can be used fluently
+   * @throws NullPointerException
+   */
+  public OpenSSLEngineOptions addSessionTicketKey(Buffer sessionTicketKey) throws NullPointerException {
+    Objects.requireNonNull(sessionTicketKey, "No null session ticket key accepted");
+    Arguments.require(sessionTicketKey.length() == SESSION_TICKET_KEY_LENGTH, "session ticket key must be " + SESSION_TICKET_KEY_LENGTH + " bytes long");
+    sessionTicketKeys.add(sessionTicketKey);
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -73,13 +113,16 @@ public class OpenSSLEngineOptions extends SSLEngineOptions {
     OpenSSLEngineOptions that = (OpenSSLEngineOptions) o;
 
     if (sessionCacheEnabled != that.sessionCacheEnabled) return false;
+    if (!sessionTicketKeys.equals(that.sessionTicketKeys)) return false;
 
     return true;
   }
 
   @Override
   public int hashCode() {
-    return sessionCacheEnabled ? 1 : 0;
+    int result = sessionCacheEnabled ? 1 : 0;
+    result = 31 * result + sessionTicketKeys.hashCode();
+    return result;
   }
 
   public JsonObject toJson() {
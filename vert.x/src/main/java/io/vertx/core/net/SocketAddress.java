@@ -17,6 +17,7 @@
 package io.vertx.core.net;
 
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.net.impl.SocketAddressImpl;
 
 /**
  * The address of a socket
@@ -26,6 +27,17 @@ import io.vertx.codegen.annotations.VertxGen;
 @VertxGen
 public interface SocketAddress {
 
+  /**
+   * Create a inet socket address.
+   *
+   * @param port the address port
+   * @param host the address host
+   * @return the created socket address
+   */
+  static SocketAddress inetSocketAddress(int port, String host) {
+    return new SocketAddressImpl(port, host);
+  }
+
   String host();
 
   int port();
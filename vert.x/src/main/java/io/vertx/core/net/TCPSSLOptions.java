@@ -71,6 +71,26 @@ public abstract class TCPSSLOptions extends NetworkOptions {
    */
   public static final SSLEngineOptions DEFAULT_SSL_ENGINE = null;
 
+  /**
+   * Default write batching = false
+   */
+  public static final boolean DEFAULT_WRITE_BATCHING = false;
+
+  /**
+   * Default SSL session cache size = 0 (the default size of the SSL engine)
+   */
+  public static final int DEFAULT_SSL_SESSION_CACHE_SIZE = 0;
+
+  /**
+   * Default SSL session timeout = 0 (the default timeout of the SSL engine)
+   */
+  public static final int DEFAULT_SSL_SESSION_TIMEOUT = 0;
+
+  /**
+   * Default SSL handshake pool size = 0 (the handshake runs on the event loop)
+   */
+  public static final int DEFAULT_SSL_HANDSHAKE_POOL_SIZE = 0;
+
   private boolean tcpNoDelay;
   private boolean tcpKeepAlive;
   private int soLinger;
@@ -85,6 +105,10 @@ public abstract class TCPSSLOptions extends NetworkOptions {
   private boolean useAlpn;
   private SSLEngineOptions sslEngineOptions;
   private Set<String> enabledSecureTransportProtocols = new LinkedHashSet<>();
+  private boolean writeBatching;
+  private int sslSessionCacheSize;
+  private int sslSessionTimeout;
+  private int sslHandshakePoolSize;
 
   /**
    * Default constructor
@@ -115,6 +139,10 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     this.useAlpn = other.useAlpn;
     this.sslEngineOptions = other.sslEngineOptions != null ? other.sslEngineOptions.clone() : null;
     this.enabledSecureTransportProtocols = other.getEnabledSecureTransportProtocols() == null ? new LinkedHashSet<>() : new LinkedHashSet<>(other.getEnabledSecureTransportProtocols());
+    this.writeBatching = other.writeBatching;
+    this.sslSessionCacheSize = other.sslSessionCacheSize;
+    this.sslSessionTimeout = other.sslSessionTimeout;
+    this.sslHandshakePoolSize = other.sslHandshakePoolSize;
   }
 
   /**
@@ -150,6 +178,10 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     crlValues = new ArrayList<>();
     useAlpn = DEFAULT_USE_ALPN;
     sslEngineOptions = null;
+    writeBatching = DEFAULT_WRITE_BATCHING;
+    sslSessionCacheSize = DEFAULT_SSL_SESSION_CACHE_SIZE;
+    sslSessionTimeout = DEFAULT_SSL_SESSION_TIMEOUT;
+    sslHandshakePoolSize = DEFAULT_SSL_HANDSHAKE_POOL_SIZE;
   }
 
   /**
@@ -557,6 +589,102 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     return (TCPSSLOptions) super.setLogActivity(logEnabled);
   }
 
+  /**
+   * @return whether the writes made outside of a read are batched
+   */
+  public boolean isWriteBatching() {
+    return writeBatching;
+  }
+
+  /**
+   * Set whether the writes made on the event loop outside of a read are batched.
+   * <p>
+   * A write made while the connection reads, like a response written by a request handler, is flushed when the read ends.
+   * A write made from another task of the event loop, like a timer or an event bus reply handler, is flushed right away so
+   * writing many small chunks costs a system call per chunk. When batching is enabled, these writes are flushed once
+   * when the task ends instead.
+   * <p>
+   * Writes made outside of the event loop, like from a worker, are always flushed right away.
+   *
+   * @param writeBatching true to batch the writes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setWriteBatching(boolean writeBatching) {
+    this.writeBatching = writeBatching;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of SSL sessions cached for resumption
+   */
+  public int getSslSessionCacheSize() {
+    return sslSessionCacheSize;
+  }
+
+  /**
+   * Set the maximum number of SSL sessions cached for resumption, zero uses the default size of the SSL engine.
+   * <p>
+   * A client caches the sessions per server host and port, a server caches the sessions of its clients. A resumed session
+   * skips the certificate exchange and the key agreement of a full handshake.
+   *
+   * @param sslSessionCacheSize the number of sessions
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setSslSessionCacheSize(int sslSessionCacheSize) {
+    if (sslSessionCacheSize < 0) {
+      throw new IllegalArgumentException("sslSessionCacheSize must be >= 0");
+    }
+    this.sslSessionCacheSize = sslSessionCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the time in seconds a cached SSL session can be resumed
+   */
+  public int getSslSessionTimeout() {
+    return sslSessionTimeout;
+  }
+
+  /**
+   * Set the time in seconds a cached SSL session can be resumed, zero uses the default timeout of the SSL engine.
+   *
+   * @param sslSessionTimeout the time in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setSslSessionTimeout(int sslSessionTimeout) {
+    if (sslSessionTimeout < 0) {
+      throw new IllegalArgumentException("sslSessionTimeout must be >= 0");
+    }
+    this.sslSessionTimeout = sslSessionTimeout;
+    return this;
+  }
+
+  /**
+   * @return the number of threads running the CPU intensive tasks of the SSL handshakes
+   */
+  public int getSslHandshakePoolSize() {
+    return sslHandshakePoolSize;
+  }
+
+  /**
+   * Set the number of threads running the CPU intensive tasks of the SSL handshakes, such as the signatures and the key
+   * agreements, instead of the event loop: during a storm of new connections the handshakes do not delay the requests of the
+   * established connections. Zero runs the handshakes on the event loop.
+   * <p>
+   * The threads belong to the {@code vert.x-ssl-handshake} worker pool shared by the servers and clients of a Vert.x
+   * instance, the pool has the size of the first server or client using it. Only the JDK engine without ALPN has such tasks.
+   *
+   * @param sslHandshakePoolSize the number of threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    if (sslHandshakePoolSize < 0) {
+      throw new IllegalArgumentException("sslHandshakePoolSize must be >= 0");
+    }
+    this.sslHandshakePoolSize = sslHandshakePoolSize;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -580,6 +708,10 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     if (useAlpn != that.useAlpn) return false;
     if (sslEngineOptions != null ? !sslEngineOptions.equals(that.sslEngineOptions) : that.sslEngineOptions != null) return false;
     if (!enabledSecureTransportProtocols.equals(that.enabledSecureTransportProtocols)) return false;
+    if (writeBatching != that.writeBatching) return false;
+    if (sslSessionCacheSize != that.sslSessionCacheSize) return false;
+    if (sslSessionTimeout != that.sslSessionTimeout) return false;
+    if (sslHandshakePoolSize != that.sslHandshakePoolSize) return false;
 
     return true;
   }
@@ -602,6 +734,10 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     result = 31 * result + (sslEngineOptions != null ? sslEngineOptions.hashCode() : 0);
     result = 31 * result + (enabledSecureTransportProtocols != null ? enabledSecureTransportProtocols
         .hashCode() : 0);
+    result = 31 * result + (writeBatching ? 1 : 0);
+    result = 31 * result + sslSessionCacheSize;
+    result = 31 * result + sslSessionTimeout;
+    result = 31 * result + sslHandshakePoolSize;
     return result;
   }
 }
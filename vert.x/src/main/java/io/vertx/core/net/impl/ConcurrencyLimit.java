@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.core.net.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of concurrent operations of a server, like its connections or its in-flight requests, the
+ * limit is shared by the event loops of the server.
+ * <p/>
+ * An operation {@link #acquire() acquires} a permit before it starts and must {@link #release() release} it
+ * when it ends.
+ */
+public final class ConcurrencyLimit {
+
+  /**
+   * @return a limit for the given maximum, or {@code null} when the maximum is {@code -1} (unlimited)
+   */
+  public static ConcurrencyLimit create(int max) {
+    return max == -1 ? null : new ConcurrencyLimit(max);
+  }
+
+  private final int max;
+  private final AtomicInteger count = new AtomicInteger();
+
+  private ConcurrencyLimit(int max) {
+    this.max = max;
+  }
+
+  /**
+   * @return whether a permit was acquired, {@code false} when the limit is reached
+   */
+  public boolean acquire() {
+    while (true) {
+      int current = count.get();
+      if (current >= max) {
+        return false;
+      }
+      if (count.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void release() {
+    count.decrementAndGet();
+  }
+
+  /**
+   * @return the number of acquired permits
+   */
+  public int count() {
+    return count.get();
+  }
+}
@@ -57,6 +57,8 @@ public abstract class ConnectionBase {
   private boolean needsFlush;
   private Thread ctxThread;
   private boolean needsAsyncFlush;
+  private boolean writeBatching;
+  private boolean flushScheduled;
   private Object metric;
 
   protected ConnectionBase(VertxInternal vertx, ChannelHandlerContext chctx, ContextImpl context) {
@@ -117,11 +119,33 @@ public abstract class ConnectionBase {
   public synchronized void writeToChannel(Object obj, ChannelPromise promise) {
     if (read) {
       queueForWrite(obj, promise);
+    } else if (writeBatching && chctx.executor().inEventLoop()) {
+      // Flush once the current event loop task is done
+      chctx.write(encode(obj), promise);
+      if (!flushScheduled) {
+        flushScheduled = true;
+        chctx.executor().execute(this::flushBatchedWrites);
+      }
     } else {
       chctx.writeAndFlush(encode(obj), promise);
     }
   }
 
+  /**
+   * Set whether the writes made on the event loop outside of a read are flushed when the current event loop task
+   * ends instead of being flushed immediately.
+   */
+  public synchronized void writeBatching(boolean writeBatching) {
+    this.writeBatching = writeBatching;
+  }
+
+  private synchronized void flushBatchedWrites() {
+    if (flushScheduled) {
+      flushScheduled = false;
+      chctx.flush();
+    }
+  }
+
   // This is a volatile read inside the Netty channel implementation
   public boolean isNotWritable() {
     return !chctx.channel().isWritable();
@@ -133,6 +157,9 @@ public abstract class ConnectionBase {
   public void close() {
     // make sure everything is flushed out on close
     endReadAndFlush();
+    if (chctx.executor().inEventLoop()) {
+      flushBatchedWrites();
+    }
     chctx.channel().close();
   }
 
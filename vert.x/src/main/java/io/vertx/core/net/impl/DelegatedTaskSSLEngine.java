@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.net.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.impl.WorkerExecutorInternal;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import java.nio.ByteBuffer;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An {@link SSLEngine} running the delegated tasks of another engine on a worker pool instead of the event loop.
+ * <p>
+ * The Netty {@link io.netty.handler.ssl.SslHandler} runs the delegated tasks before it wraps or unwraps further, this
+ * engine hides them: the tasks are started on the pool and the engine tells the handler to wait for more data. The
+ * records received while the tasks run are kept and decoded by the {@link VertxSslHandler} once they are done.
+ */
+class DelegatedTaskSSLEngine extends SSLEngine {
+
+  private final SSLEngine engine;
+  private final WorkerExecutorInternal executor;
+  private VertxSslHandler handler;
+  private boolean running;
+  private ByteBuf pending;
+
+  DelegatedTaskSSLEngine(SSLEngine engine, WorkerExecutorInternal executor) {
+    super(engine.getPeerHost(), engine.getPeerPort());
+    this.engine = engine;
+    this.executor = executor;
+  }
+
+  void handler(VertxSslHandler handler) {
+    this.handler = handler;
+  }
+
+  /**
+   * @return whether the delegated tasks are running
+   */
+  boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * @return the records received while the delegated tasks were running or {@code null}
+   */
+  ByteBuf takePending() {
+    ByteBuf buf = pending;
+    pending = null;
+    return buf;
+  }
+
+  @Override
+  public SSLEngineResult wrap(ByteBuffer[] srcs, int offset, int length, ByteBuffer dst) throws SSLException {
+    if (running) {
+      return new SSLEngineResult(SSLEngineResult.Status.OK, SSLEngineResult.HandshakeStatus.NEED_UNWRAP, 0, 0);
+    }
+    return runDelegatedTasks(engine.wrap(srcs, offset, length, dst));
+  }
+
+  @Override
+  public SSLEngineResult unwrap(ByteBuffer src, ByteBuffer[] dsts, int offset, int length) throws SSLException {
+    if (running) {
+      // The handler has already discarded the records it gives to the engine
+      int consumed = src.remaining();
+      if (consumed > 0) {
+        if (pending == null) {
+          pending = handler.context().alloc().buffer(consumed);
+        }
+        pending.writeBytes(src);
+      }
+      return new SSLEngineResult(SSLEngineResult.Status.OK, SSLEngineResult.HandshakeStatus.NEED_UNWRAP, consumed, 0);
+    }
+    return runDelegatedTasks(engine.unwrap(src, dsts, offset, length));
+  }
+
+  private SSLEngineResult runDelegatedTasks(SSLEngineResult result) {
+    if (result.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NEED_TASK) {
+      return result;
+    }
+    running = true;
+    try {
+      executor.execute(() -> {
+        try {
+          Runnable task;
+          while ((task = engine.getDelegatedTask()) != null) {
+            task.run();
+          }
+        } finally {
+          handler.context().executor().execute(() -> {
+            running = false;
+            handler.delegatedTasksCompleted();
+          });
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // The pool is closed, run the tasks on the event loop
+      running = false;
+      return result;
+    }
+    return new SSLEngineResult(result.getStatus(), SSLEngineResult.HandshakeStatus.NEED_UNWRAP, result.bytesConsumed(), result.bytesProduced());
+  }
+
+  @Override
+  public Runnable getDelegatedTask() {
+    return running ? null : engine.getDelegatedTask();
+  }
+
+  @Override
+  public SSLEngineResult.HandshakeStatus getHandshakeStatus() {
+    return running ? SSLEngineResult.HandshakeStatus.NEED_UNWRAP : engine.getHandshakeStatus();
+  }
+
+  @Override
+  public void closeInbound() throws SSLException {
+    engine.closeInbound();
+  }
+
+  @Override
+  public boolean isInboundDone() {
+    return engine.isInboundDone();
+  }
+
+  @Override
+  public void closeOutbound() {
+    engine.closeOutbound();
+  }
+
+  @Override
+  public boolean isOutboundDone() {
+    return engine.isOutboundDone();
+  }
+
+  @Override
+  public String[] getSupportedCipherSuites() {
+    return engine.getSupportedCipherSuites();
+  }
+
+  @Override
+  public String[] getEnabledCipherSuites() {
+    return engine.getEnabledCipherSuites();
+  }
+
+  @Override
+  public void setEnabledCipherSuites(String[] suites) {
+    engine.setEnabledCipherSuites(suites);
+  }
+
+  @Override
+  public String[] getSupportedProtocols() {
+    return engine.getSupportedProtocols();
+  }
+
+  @Override
+  public String[] getEnabledProtocols() {
+    return engine.getEnabledProtocols();
+  }
+
+  @Override
+  public void setEnabledProtocols(String[] protocols) {
+    engine.setEnabledProtocols(protocols);
+  }
+
+  @Override
+  public SSLSession getSession() {
+    return engine.getSession();
+  }
+
+  @Override
+  public SSLSession getHandshakeSession() {
+    return engine.getHandshakeSession();
+  }
+
+  @Override
+  public void beginHandshake() throws SSLException {
+    engine.beginHandshake();
+  }
+
+  @Override
+  public void setUseClientMode(boolean mode) {
+    engine.setUseClientMode(mode);
+  }
+
+  @Override
+  public boolean getUseClientMode() {
+    return engine.getUseClientMode();
+  }
+
+  @Override
+  public void setNeedClientAuth(boolean need) {
+    engine.setNeedClientAuth(need);
+  }
+
+  @Override
+  public boolean getNeedClientAuth() {
+    return engine.getNeedClientAuth();
+  }
+
+  @Override
+  public void setWantClientAuth(boolean want) {
+    engine.setWantClientAuth(want);
+  }
+
+  @Override
+  public boolean getWantClientAuth() {
+    return engine.getWantClientAuth();
+  }
+
+  @Override
+  public void setEnableSessionCreation(boolean flag) {
+    engine.setEnableSessionCreation(flag);
+  }
+
+  @Override
+  public boolean getEnableSessionCreation() {
+    return engine.getEnableSessionCreation();
+  }
+
+  @Override
+  public SSLParameters getSSLParameters() {
+    return engine.getSSLParameters();
+  }
+
+  @Override
+  public void setSSLParameters(SSLParameters params) {
+    engine.setSSLParameters(params);
+  }
+}
@@ -50,12 +50,13 @@ import java.util.Base64;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -126,13 +127,20 @@ public class KeyStoreHelper {
 
   private final String password;
   private final KeyStore store;
-  private final Map<String, X509KeyManager> wildcardMgrMap = new HashMap<>();
-  private final Map<String, X509KeyManager> mgrMap = new HashMap<>();
+  private final Map<String, String> wildcardAliasMap = new HashMap<>();
+  private final Map<String, String> aliasMap = new HashMap<>();
+  private final String defaultAlias;
 
   public KeyStoreHelper(KeyStore ks, String password) throws Exception {
+    // The default SunX509 key manager picks the first key entry of a hash set of aliases, the default
+    // entry is chosen the same way so the certificate presented without server name does not change
+    Set<String> keyAliases = new HashSet<>();
     Enumeration<String> en = ks.aliases();
     while (en.hasMoreElements()) {
       String alias = en.nextElement();
+      if (ks.isKeyEntry(alias) && ks.getCertificateChain(alias) != null) {
+        keyAliases.add(alias);
+      }
       Certificate cert = ks.getCertificate(alias);
       if (cert instanceof X509Certificate) {
         X509Certificate x509Cert = (X509Certificate) cert;
@@ -155,56 +163,65 @@ public class KeyStoreHelper {
           }
         }
         if (domains.size() > 0) {
-          PrivateKey key = (PrivateKey) ks.getKey(alias, password != null ? password.toCharArray() : null);
-          Certificate[] tmp = ks.getCertificateChain(alias);
-          if (tmp == null) {
+          if (ks.getCertificateChain(alias) == null) {
             // It's a private key
             continue;
           }
-          List<X509Certificate> chain = Arrays.asList(tmp)
-              .stream()
-              .map(c -> (X509Certificate)c)
-              .collect(Collectors.toList());
-          X509KeyManager mgr = new X509KeyManager() {
-            @Override
-            public String[] getClientAliases(String s, Principal[] principals) {
-              throw new UnsupportedOperationException();
-            }
-            @Override
-            public String chooseClientAlias(String[] strings, Principal[] principals, Socket socket) {
-              throw new UnsupportedOperationException();
-            }
-            @Override
-            public String[] getServerAliases(String s, Principal[] principals) {
-              throw new UnsupportedOperationException();
-            }
-            @Override
-            public String chooseServerAlias(String s, Principal[] principals, Socket socket) {
-              throw new UnsupportedOperationException();
-            }
-            @Override
-            public X509Certificate[] getCertificateChain(String s) {
-              return chain.toArray(new X509Certificate[chain.size()]);
-            }
-            @Override
-            public PrivateKey getPrivateKey(String s) {
-              return key;
-            }
-          };
+          // The private key is only recovered when a context is created for one of the domains
           for (String domain : domains) {
             if (domain.startsWith("*.")) {
-              wildcardMgrMap.put(domain.substring(2), mgr);
+              wildcardAliasMap.put(domain.substring(2), alias);
             } else {
-              mgrMap.put(domain, mgr);
+              aliasMap.put(domain, alias);
             }
           }
         }
       }
     }
+    this.defaultAlias = keyAliases.isEmpty() ? null : keyAliases.iterator().next();
     this.store = ks;
     this.password = password;
   }
 
+  private X509KeyManager createKeyMgr(String alias) {
+    return new X509KeyManager() {
+      @Override
+      public String[] getClientAliases(String s, Principal[] principals) {
+        throw new UnsupportedOperationException();
+      }
+      @Override
+      public String chooseClientAlias(String[] strings, Principal[] principals, Socket socket) {
+        throw new UnsupportedOperationException();
+      }
+      @Override
+      public String[] getServerAliases(String s, Principal[] principals) {
+        throw new UnsupportedOperationException();
+      }
+      @Override
+      public String chooseServerAlias(String s, Principal[] principals, Socket socket) {
+        throw new UnsupportedOperationException();
+      }
+      @Override
+      public X509Certificate[] getCertificateChain(String s) {
+        try {
+          return Arrays.stream(store.getCertificateChain(alias))
+              .map(c -> (X509Certificate)c)
+              .toArray(X509Certificate[]::new);
+        } catch (Exception e) {
+          throw new VertxException(e);
+        }
+      }
+      @Override
+      public PrivateKey getPrivateKey(String s) {
+        try {
+          return (PrivateKey) store.getKey(alias, password != null ? password.toCharArray() : null);
+        } catch (Exception e) {
+          throw new VertxException(e);
+        }
+      }
+    };
+  }
+
   public KeyManagerFactory getKeyMgrFactory() throws Exception {
     KeyManagerFactory fact = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
     fact.init(store, password != null ? password.toCharArray(): null);
@@ -212,15 +229,23 @@ public class KeyStoreHelper {
   }
 
   public X509KeyManager getKeyMgr(String serverName) {
-    X509KeyManager mgr = mgrMap.get(serverName);
-    if (mgr == null && !wildcardMgrMap.isEmpty()) {
+    String alias = aliasMap.get(serverName);
+    if (alias == null && !wildcardAliasMap.isEmpty()) {
       int index = serverName.indexOf('.') + 1;
       if (index > 0) {
         String s = serverName.substring(index);
-        mgr = wildcardMgrMap.get(s);
+        alias = wildcardAliasMap.get(s);
       }
     }
-    return mgr;
+    return alias != null ? createKeyMgr(alias) : null;
+  }
+
+  /**
+   * @return the key manager of the default entry of the store, its private key is only recovered when a context
+   *         is created for it, or {@code null} when the store has no key entry
+   */
+  public X509KeyManager getDefaultKeyMgr() {
+    return defaultAlias != null ? createKeyMgr(defaultAlias) : null;
   }
 
   public KeyManager[] getKeyMgr() throws Exception {
@@ -134,6 +134,7 @@ public class NetClientImpl implements MetricsProvider, NetClient {
         creatingContext.removeCloseHook(closeHook);
       }
       closed = true;
+      sslHelper.close();
       if (metrics != null) {
         metrics.close();
       }
@@ -205,7 +206,7 @@ public class NetClientImpl implements MetricsProvider, NetClient {
 
     Handler<Channel> channelInitializer = ch -> {
       if (sslHelper.isSSL()) {
-        SslHandler sslHandler = new SslHandler(sslHelper.createEngine(vertx, host, port, serverName));
+        SslHandler sslHandler = sslHelper.createHandler(sslHelper.createEngine(vertx, host, port, serverName));
         ch.pipeline().addLast("ssl", sslHandler);
       }
     };
@@ -222,6 +223,7 @@ public class NetClientImpl implements MetricsProvider, NetClient {
           io.netty.util.concurrent.Future<Channel> fut = sslHandler.handshakeFuture();
           fut.addListener(future2 -> {
             if (future2.isSuccess()) {
+              sslHelper.handshakeCompleted(ch, metrics);
               connected(context, ch, connectHandler, host, port);
             } else {
               failed(context, ch, future2.cause(), connectHandler);
@@ -263,6 +265,7 @@ public class NetClientImpl implements MetricsProvider, NetClient {
     };
     handler.addHandler(sock -> {
       socketMap.put(ch, sock);
+      sock.writeBatching(options.isWriteBatching());
       context.executeFromIO(() -> {
         if (metrics != null) {
           sock.metric(metrics.connected(sock.remoteAddress(), sock.remoteName()));
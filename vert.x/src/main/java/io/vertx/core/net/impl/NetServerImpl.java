@@ -73,6 +73,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
   protected final ContextImpl creatingContext;
   protected final SSLHelper sslHelper;
   protected final boolean logEnabled;
+  private final ConcurrencyLimit connectionLimit;
   private final Map<Channel, NetSocketImpl> socketMap = new ConcurrentHashMap<>();
   private final VertxEventLoopGroup availableWorkers = new VertxEventLoopGroup();
   private final HandlerManager<Handler<NetSocket>> handlerManager = new HandlerManager<>(availableWorkers);
@@ -94,6 +95,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
     this.vertx = vertx;
     this.options = new NetServerOptions(options);
     this.sslHelper = new SSLHelper(options, options.getKeyCertOptions(), options.getTrustOptions());
+    this.connectionLimit = ConcurrencyLimit.create(options.getMaxConnections());
     this.creatingContext = vertx.getContext();
     this.logEnabled = options.getLogActivity();
     if (creatingContext != null) {
@@ -178,6 +180,16 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
               ch.close();
               return;
             }
+            if (connectionLimit != null) {
+              if (!connectionLimit.acquire()) {
+                if (metrics != null) {
+                  metrics.connectionRejected(new SocketAddressImpl((InetSocketAddress) ch.remoteAddress()));
+                }
+                ch.close();
+                return;
+              }
+              ch.closeFuture().addListener(future -> connectionLimit.release());
+            }
             if (sslHelper.isSSL()) {
               io.netty.util.concurrent.Future<Channel> handshakeFuture;
               if (options.isSni()) {
@@ -185,12 +197,13 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
                 handshakeFuture = sniHandler.handshakeFuture();
                 ch.pipeline().addFirst("ssl", sniHandler);
               } else {
-                SslHandler sslHandler = new SslHandler(sslHelper.createEngine(vertx));
+                SslHandler sslHandler = sslHelper.createHandler(sslHelper.createEngine(vertx));
                 handshakeFuture = sslHandler.handshakeFuture();
                 ch.pipeline().addFirst("ssl", sslHandler);
               }
               handshakeFuture.addListener(future -> {
                 if (future.isSuccess()) {
+                  sslHelper.handshakeCompleted(ch, metrics);
                   connected(ch);
                 } else {
                   log.error("Client from origin " + ch.remoteAddress() + " failed to connect over ssl: " + future.cause());
@@ -319,6 +332,17 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
     return connectStream;
   }
 
+  @Override
+  public synchronized NetServer reloadCertificates(Handler<AsyncResult<Void>> completionHandler) {
+    // Shared servers use the contexts of the actual server
+    SSLHelper helper = actualServer != null ? actualServer.sslHelper : sslHelper;
+    vertx.executeBlockingInternal(() -> {
+      helper.reloadCertificates(vertx);
+      return null;
+    }, completionHandler);
+    return this;
+  }
+
   @Override
   public synchronized void close(Handler<AsyncResult<Void>> done) {
     if (endHandler != null) {
@@ -395,6 +419,8 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
       throw new IllegalStateException("Context was changed");
     }
 
+    sslHelper.close();
+
     ChannelGroupFuture fut = serverChannelGroup.close();
     fut.addListener(cg -> {
       if (metrics != null) {
@@ -427,6 +453,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
     nh.removeHandler(conn -> socketMap.remove(ch));
     ch.pipeline().addLast("handler", nh);
     NetSocketImpl sock = nh.getConnection();
+    sock.writeBatching(options.isWriteBatching());
     handler.context.executeFromIO(() -> {
       if (metrics != null) {
         sock.metric(metrics.connected(sock.remoteAddress(), sock.remoteName()));
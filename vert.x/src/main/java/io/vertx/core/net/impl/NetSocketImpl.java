@@ -303,12 +303,12 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
     ChannelOutboundHandler sslHandler = (ChannelOutboundHandler) chctx.pipeline().get("ssl");
     if (sslHandler == null) {
       if (host != null) {
-        sslHandler = new SslHandler(helper.createEngine(vertx, host, port, serverName));
+        sslHandler = helper.createHandler(helper.createEngine(vertx, host, port, serverName));
       } else {
         if (helper.isSNI()) {
           sslHandler = new VertxSniHandler(helper, vertx);
         } else {
-          sslHandler = new SslHandler(helper.createEngine(vertx));
+          sslHandler = helper.createHandler(helper.createEngine(vertx));
         }
       }
       chctx.pipeline().addFirst("ssl", sslHandler);
@@ -321,6 +321,7 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
     }
     handshakeFuture.addListener(future -> context.executeFromIO(() -> {
       if (future.isSuccess()) {
+        helper.handshakeCompleted(chctx.channel(), metrics);
         handler.handle(null);
       } else {
         log.error(future.cause());
@@ -17,6 +17,8 @@
 package io.vertx.core.net.impl;
 
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
 import io.netty.handler.ssl.*;
 import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
@@ -25,6 +27,7 @@ import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.WorkerExecutorInternal;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.JdkSSLEngineOptions;
@@ -35,16 +38,18 @@ import io.vertx.core.net.OpenSSLEngineOptions;
 import io.vertx.core.net.SSLEngineOptions;
 import io.vertx.core.net.TCPSSLOptions;
 import io.vertx.core.net.TrustOptions;
+import io.vertx.core.spi.metrics.TCPMetrics;
 
 import javax.net.ssl.*;
 import java.io.ByteArrayInputStream;
+import java.net.InetSocketAddress;
 import java.security.cert.CRL;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -125,6 +130,12 @@ public class SSLHelper {
   // Make sure SSLv3 is NOT enabled due to POODLE vulnerability http://en.wikipedia.org/wiki/POODLE
   private static final String[] DEFAULT_ENABLED_PROTOCOLS = {"SSLv2Hello", "TLSv1", "TLSv1.1", "TLSv1.2"};
 
+  // The number of session ids remembered to report resumed handshakes, the default size of the JDK session cache
+  private static final int DEFAULT_HANDSHAKE_SESSIONS = 20480;
+
+  // The worker pool running the delegated tasks of the handshakes
+  private static final String HANDSHAKE_POOL_NAME = "vert.x-ssl-handshake";
+
   private boolean ssl;
   private boolean sni;
   private KeyCertOptions keyCertOptions;
@@ -142,9 +153,19 @@ public class SSLHelper {
 
   private String endpointIdentificationAlgorithm = "";
 
-  private SslContext sslContext;
-  private Map<Certificate, SslContext> sslContextMap = new ConcurrentHashMap<>();
+  private volatile SslContext sslContext;
+  private Function<String, X509KeyManager> keyManagerMapper;
+  // With SNI a built-in key store is read once for the default context and the server names
+  private KeyStoreHelper sniKeyStore;
+  private int sniCacheSize = NetServerOptions.DEFAULT_SNI_CACHE_SIZE;
+  private Map<Certificate, SslContext> sslContextMap;
   private boolean openSslSessionCacheEnabled = true;
+  private List<Buffer> openSslSessionTicketKeys = Collections.emptyList();
+  private int sessionCacheSize;
+  private int sessionTimeout;
+  private Map<String, Boolean> handshakeSessions;
+  private int handshakePoolSize;
+  private WorkerExecutorInternal handshakeExecutor;
 
   public SSLHelper(HttpClientOptions options, KeyCertOptions keyCertOptions, TrustOptions trustOptions) {
     SSLEngineOptions sslEngineOptions = resolveEngineOptions(options);
@@ -163,6 +184,10 @@ public class SSLHelper {
       this.endpointIdentificationAlgorithm = "HTTPS";
     }
     this.openSslSessionCacheEnabled = (sslEngineOptions instanceof OpenSSLEngineOptions) && ((OpenSSLEngineOptions) sslEngineOptions).isSessionCacheEnabled();
+    this.openSslSessionTicketKeys = (sslEngineOptions instanceof OpenSSLEngineOptions) ? new ArrayList<>(((OpenSSLEngineOptions) sslEngineOptions).getSessionTicketKeys()) : Collections.emptyList();
+    this.sessionCacheSize = options.getSslSessionCacheSize();
+    this.sessionTimeout = options.getSslSessionTimeout();
+    this.handshakePoolSize = options.getSslHandshakePoolSize();
   }
 
   public SSLHelper(HttpServerOptions options, KeyCertOptions keyCertOptions, TrustOptions trustOptions) {
@@ -179,7 +204,12 @@ public class SSLHelper {
     this.useAlpn = options.isUseAlpn();
     this.enabledProtocols = options.getEnabledSecureTransportProtocols();
     this.openSslSessionCacheEnabled = (sslEngineOptions instanceof OpenSSLEngineOptions) && ((OpenSSLEngineOptions) sslEngineOptions).isSessionCacheEnabled();
+    this.openSslSessionTicketKeys = (sslEngineOptions instanceof OpenSSLEngineOptions) ? new ArrayList<>(((OpenSSLEngineOptions) sslEngineOptions).getSessionTicketKeys()) : Collections.emptyList();
+    this.sessionCacheSize = options.getSslSessionCacheSize();
+    this.sessionTimeout = options.getSslSessionTimeout();
+    this.handshakePoolSize = options.getSslHandshakePoolSize();
     this.sni = options.isSni();
+    this.sniCacheSize = options.getSniCacheSize();
   }
 
   public SSLHelper(NetClientOptions options, KeyCertOptions keyCertOptions, TrustOptions trustOptions) {
@@ -197,6 +227,10 @@ public class SSLHelper {
     this.enabledProtocols = options.getEnabledSecureTransportProtocols();
     this.endpointIdentificationAlgorithm = options.getHostnameVerificationAlgorithm();
     this.openSslSessionCacheEnabled = (sslEngineOptions instanceof OpenSSLEngineOptions) && ((OpenSSLEngineOptions) sslEngineOptions).isSessionCacheEnabled();
+    this.openSslSessionTicketKeys = (sslEngineOptions instanceof OpenSSLEngineOptions) ? new ArrayList<>(((OpenSSLEngineOptions) sslEngineOptions).getSessionTicketKeys()) : Collections.emptyList();
+    this.sessionCacheSize = options.getSslSessionCacheSize();
+    this.sessionTimeout = options.getSslSessionTimeout();
+    this.handshakePoolSize = options.getSslHandshakePoolSize();
   }
 
   public SSLHelper(NetServerOptions options, KeyCertOptions keyCertOptions, TrustOptions trustOptions) {
@@ -213,7 +247,12 @@ public class SSLHelper {
     this.useAlpn = false;
     this.enabledProtocols = options.getEnabledSecureTransportProtocols();
     this.openSslSessionCacheEnabled = (options.getSslEngineOptions() instanceof OpenSSLEngineOptions) && ((OpenSSLEngineOptions) options.getSslEngineOptions()).isSessionCacheEnabled();
+    this.openSslSessionTicketKeys = (options.getSslEngineOptions() instanceof OpenSSLEngineOptions) ? new ArrayList<>(((OpenSSLEngineOptions) options.getSslEngineOptions()).getSessionTicketKeys()) : Collections.emptyList();
+    this.sessionCacheSize = options.getSslSessionCacheSize();
+    this.sessionTimeout = options.getSslSessionTimeout();
+    this.handshakePoolSize = options.getSslHandshakePoolSize();
     this.sni = options.isSni();
+    this.sniCacheSize = options.getSniCacheSize();
   }
 
   public boolean isSSL() {
@@ -292,12 +331,26 @@ public class SSLHelper {
             applicationProtocols.stream().map(PROTOCOL_NAME_MAPPING::get).collect(Collectors.toList())
         ));
       }
+      if (sessionCacheSize > 0) {
+        builder.sessionCacheSize(sessionCacheSize);
+      }
+      if (sessionTimeout > 0) {
+        builder.sessionTimeout(sessionTimeout);
+      }
       SslContext ctx = builder.build();
       if (ctx instanceof OpenSslServerContext){
         SSLSessionContext sslSessionContext = ctx.sessionContext();
         if (sslSessionContext instanceof OpenSslServerSessionContext){
           ((OpenSslServerSessionContext)sslSessionContext).setSessionCacheEnabled(openSslSessionCacheEnabled);
         }
+        if (sslSessionContext instanceof OpenSslSessionContext && openSslSessionTicketKeys.size() > 0) {
+          OpenSslSessionTicketKey[] keys = new OpenSslSessionTicketKey[openSslSessionTicketKeys.size()];
+          for (int i = 0;i < keys.length;i++) {
+            byte[] key = openSslSessionTicketKeys.get(i).getBytes();
+            keys[i] = new OpenSslSessionTicketKey(Arrays.copyOfRange(key, 0, 16), Arrays.copyOfRange(key, 16, 32), Arrays.copyOfRange(key, 32, 48));
+          }
+          ((OpenSslSessionContext) sslSessionContext).setTicketKeys(keys);
+        }
       }
       return ctx;
     } catch (Exception e) {
@@ -443,28 +496,184 @@ public class SSLHelper {
   public SslContext getContext(VertxInternal vertx, String serverName) {
     if (serverName == null) {
       if (sslContext == null) {
-        sslContext = createContext(vertx, null);
+        X509KeyManager defaultMgr;
+        try {
+          KeyStoreHelper store = getSniKeyStore(vertx);
+          defaultMgr = store != null ? store.getDefaultKeyMgr() : null;
+        } catch (Exception e) {
+          throw new VertxException(e);
+        }
+        sslContext = createContext(vertx, defaultMgr);
       }
       return sslContext;
     } else {
       X509KeyManager mgr;
       try {
-        mgr = keyCertOptions.keyManagerMapper(vertx).apply(serverName);
+        mgr = getKeyManagerMapper(vertx).apply(serverName);
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
       if (mgr == null) {
         return sslContext;
       }
-      return sslContextMap.computeIfAbsent(mgr.getCertificateChain(null)[0], s -> createContext(vertx, mgr));
+      // The contexts are keyed by certificate, a renewed certificate gets a new context
+      Certificate cert = mgr.getCertificateChain(null)[0];
+      SslContext context = getCachedContext(cert);
+      if (context == null) {
+        context = cacheContext(cert, createContext(vertx, mgr));
+      }
+      return context;
+    }
+  }
+
+  /**
+   * The key manager mapper is created once, it is then called for each server name until the certificates
+   * are reloaded.
+   */
+  private synchronized Function<String, X509KeyManager> getKeyManagerMapper(VertxInternal vertx) throws Exception {
+    if (keyManagerMapper == null) {
+      KeyStoreHelper store = getSniKeyStore(vertx);
+      keyManagerMapper = store != null ? store::getKeyMgr : keyCertOptions.keyManagerMapper(vertx);
+    }
+    return keyManagerMapper;
+  }
+
+  /**
+   * The key store of the built-in key cert options of a SNI server: the default context uses the key manager of
+   * its default entry instead of a key manager factory, so a private key is only recovered when a context is
+   * created for it.
+   *
+   * @return the key store or {@code null} for a client, without SNI or with custom key cert options
+   */
+  private synchronized KeyStoreHelper getSniKeyStore(VertxInternal vertx) throws Exception {
+    if (sniKeyStore == null) {
+      sniKeyStore = loadSniKeyStore(vertx);
+    }
+    return sniKeyStore;
+  }
+
+  private KeyStoreHelper loadSniKeyStore(VertxInternal vertx) throws Exception {
+    return !client && sni ? KeyStoreHelper.create(vertx, keyCertOptions) : null;
+  }
+
+  /**
+   * Read the key and trust stores again: the default context and the key manager mapper are replaced and
+   * the contexts of the server names are discarded, the established connections keep their context.
+   * <p>
+   * The stores are read with blocking calls, this must not be called from an event loop.
+   */
+  public void reloadCertificates(VertxInternal vertx) {
+    if (!ssl) {
+      return;
+    }
+    KeyStoreHelper store;
+    Function<String, X509KeyManager> mapper = null;
+    try {
+      store = loadSniKeyStore(vertx);
+      if (sni) {
+        mapper = store != null ? store::getKeyMgr : keyCertOptions.keyManagerMapper(vertx);
+      }
+    } catch (Exception e) {
+      throw new VertxException(e);
+    }
+    SslContext context = createContext(vertx, store != null ? store.getDefaultKeyMgr() : null);
+    synchronized (this) {
+      sniKeyStore = store;
+      sslContext = context;
+      keyManagerMapper = mapper;
+      sslContextMap = null;
     }
   }
 
+  private synchronized SslContext getCachedContext(Certificate cert) {
+    return sslContextMap != null ? sslContextMap.get(cert) : null;
+  }
+
+  private synchronized SslContext cacheContext(Certificate cert, SslContext context) {
+    if (sslContextMap == null) {
+      int maxSize = sniCacheSize;
+      sslContextMap = new LinkedHashMap<Certificate, SslContext>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Certificate, SslContext> eldest) {
+          return size() > maxSize;
+        }
+      };
+    }
+    // Another server name of the certificate may have created a context meanwhile
+    SslContext prev = sslContextMap.putIfAbsent(cert, context);
+    return prev != null ? prev : context;
+  }
+
   // This is called to validate some of the SSL params as that only happens when the context is created
   public synchronized void validate(VertxInternal vertx) {
     if (ssl) {
       getContext(vertx, null);
+      if (sni) {
+        try {
+          getKeyManagerMapper(vertx);
+        } catch (Exception e) {
+          throw new VertxException(e);
+        }
+      }
+      // OpenSSL runs the handshake without delegated tasks and ALPN needs the engine created by Netty
+      if (handshakePoolSize > 0 && handshakeExecutor == null && !openSsl && !useAlpn) {
+        handshakeExecutor = vertx.createSharedWorkerExecutor(HANDSHAKE_POOL_NAME, handshakePoolSize);
+      }
+    }
+  }
+
+  /**
+   * Release the handshake worker pool.
+   */
+  public synchronized void close() {
+    if (handshakeExecutor != null) {
+      handshakeExecutor.close();
+      handshakeExecutor = null;
+    }
+  }
+
+  /**
+   * Create the handler of an engine, the delegated tasks of the engine run on the handshake worker pool when
+   * there is one.
+   */
+  public SslHandler createHandler(SSLEngine engine) {
+    WorkerExecutorInternal executor = handshakeExecutor;
+    if (executor != null) {
+      engine = new DelegatedTaskSSLEngine(engine, executor);
+    }
+    return new VertxSslHandler(engine);
+  }
+
+  /**
+   * Report the successful handshake of a channel to the metrics, a handshake is resumed when its session was
+   * established by a previous handshake of this helper.
+   */
+  public void handshakeCompleted(Channel ch, TCPMetrics<?> metrics) {
+    if (metrics != null) {
+      SslHandler sslHandler = ch.pipeline().get(SslHandler.class);
+      if (sslHandler != null && ch.remoteAddress() instanceof InetSocketAddress) {
+        boolean resumed = isResumed(sslHandler.engine().getSession());
+        long handshakeTime = sslHandler instanceof VertxSslHandler ? ((VertxSslHandler) sslHandler).handshakeTime() : 0;
+        metrics.tlsHandshake(new SocketAddressImpl((InetSocketAddress) ch.remoteAddress()), resumed, handshakeTime);
+      }
+    }
+  }
+
+  private synchronized boolean isResumed(SSLSession session) {
+    byte[] id = session.getId();
+    if (id == null || id.length == 0) {
+      return false;
+    }
+    if (handshakeSessions == null) {
+      int maxSize = sessionCacheSize > 0 ? sessionCacheSize : DEFAULT_HANDSHAKE_SESSIONS;
+      handshakeSessions = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+          return size() > maxSize;
+        }
+      };
     }
+    return handshakeSessions.put(ByteBufUtil.hexDump(id), Boolean.TRUE) != null;
   }
 
   public SSLEngine createEngine(SslContext sslContext) {
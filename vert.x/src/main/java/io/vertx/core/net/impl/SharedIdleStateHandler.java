@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.core.net.impl;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Triggers an {@link IdleStateEvent} when a channel has neither read nor written data for a while, like Netty's
+ * {@link io.netty.handler.timeout.IdleStateHandler} with an all idle time.
+ * <p/>
+ * Instead of scheduling a task per channel, the channels of an event loop are linked together and checked by a
+ * single periodic task of the event loop, so a channel costs a few fields. The idle time is checked every second,
+ * this handler is meant for connections that remain idle most of their life, like WebSockets.
+ */
+public class SharedIdleStateHandler extends ChannelDuplexHandler {
+
+  private static final long CHECK_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private static final FastThreadLocal<Checker> checkers = new FastThreadLocal<>();
+
+  private final long idleTimeNanos;
+  private ChannelHandlerContext ctx;
+  private Checker checker;
+  private SharedIdleStateHandler prev;
+  private SharedIdleStateHandler next;
+  private long lastActivity;
+  private boolean first;
+
+  /**
+   * @param idleTimeSeconds the idle time in seconds
+   */
+  public SharedIdleStateHandler(int idleTimeSeconds) {
+    if (idleTimeSeconds <= 0) {
+      throw new IllegalArgumentException("Idle time must be > 0");
+    }
+    this.idleTimeNanos = TimeUnit.SECONDS.toNanos(idleTimeSeconds);
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    if (ctx.channel().isActive() && ctx.channel().isRegistered()) {
+      start(ctx);
+    }
+  }
+
+  @Override
+  public void channelActive(ChannelHandlerContext ctx) throws Exception {
+    start(ctx);
+    super.channelActive(ctx);
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    stop();
+    super.channelInactive(ctx);
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+    stop();
+  }
+
+  @Override
+  public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+    lastActivity = System.nanoTime();
+    first = true;
+    ctx.fireChannelReadComplete();
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+    lastActivity = System.nanoTime();
+    first = true;
+    ctx.write(msg, promise);
+  }
+
+  private void start(ChannelHandlerContext ctx) {
+    if (checker == null) {
+      this.ctx = ctx;
+      lastActivity = System.nanoTime();
+      first = true;
+      Checker checker = checkers.get();
+      if (checker == null) {
+        checker = new Checker(ctx.executor());
+        checkers.set(checker);
+      }
+      checker.add(this);
+    }
+  }
+
+  private void stop() {
+    if (checker != null) {
+      checker.remove(this);
+    }
+  }
+
+  private void check(long now) {
+    if (now - lastActivity >= idleTimeNanos) {
+      IdleStateEvent evt = first ? IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT : IdleStateEvent.ALL_IDLE_STATE_EVENT;
+      lastActivity = now;
+      first = false;
+      ctx.fireUserEventTriggered(evt);
+    }
+  }
+
+  /**
+   * The handlers of an event loop, only accessed from the event loop thread.
+   */
+  private static final class Checker implements Runnable {
+
+    private final EventExecutor executor;
+    private SharedIdleStateHandler head;
+    private ScheduledFuture<?> task;
+
+    Checker(EventExecutor executor) {
+      this.executor = executor;
+    }
+
+    void add(SharedIdleStateHandler handler) {
+      handler.checker = this;
+      handler.next = head;
+      if (head != null) {
+        head.prev = handler;
+      }
+      head = handler;
+      if (task == null) {
+        task = executor.scheduleAtFixedRate(this, CHECK_PERIOD_NANOS, CHECK_PERIOD_NANOS, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    void remove(SharedIdleStateHandler handler) {
+      if (handler.prev != null) {
+        handler.prev.next = handler.next;
+      } else {
+        head = handler.next;
+      }
+      if (handler.next != null) {
+        handler.next.prev = handler.prev;
+      }
+      handler.checker = null;
+      handler.prev = null;
+      handler.next = null;
+      if (head == null && task != null) {
+        task.cancel(false);
+        task = null;
+      }
+    }
+
+    @Override
+    public void run() {
+      long now = System.nanoTime();
+      SharedIdleStateHandler handler = head;
+      while (handler != null) {
+        // The handler can be removed when the event closes the channel
+        SharedIdleStateHandler next = handler.next;
+        handler.check(now);
+        handler = next;
+      }
+    }
+  }
+}
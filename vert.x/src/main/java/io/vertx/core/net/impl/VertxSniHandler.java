@@ -73,7 +73,7 @@ public class VertxSniHandler extends SniHandler {
     SslHandler sslHandler = null;
     try {
       SSLEngine engine = helper.createEngine(sslContext);
-      sslHandler = new SslHandler(engine);
+      sslHandler = helper.createHandler(engine);
       ctx.pipeline().replace(this, "ssl", sslHandler);
       Future<Channel> fut = sslHandler.handshakeFuture();
       fut.addListener(future -> {
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.net.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.ssl.SslHandler;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+
+/**
+ * The {@link SslHandler} of the Vert.x connections, it measures the handshake time and resumes the handshake once a
+ * {@link DelegatedTaskSSLEngine} has run the delegated tasks of its engine.
+ */
+class VertxSslHandler extends SslHandler {
+
+  private final DelegatedTaskSSLEngine delegatedTaskEngine;
+  private ChannelHandlerContext ctx;
+  private long handshakeStart;
+
+  VertxSslHandler(SSLEngine engine) {
+    super(engine);
+    if (engine instanceof DelegatedTaskSSLEngine) {
+      delegatedTaskEngine = (DelegatedTaskSSLEngine) engine;
+      delegatedTaskEngine.handler(this);
+    } else {
+      delegatedTaskEngine = null;
+    }
+  }
+
+  ChannelHandlerContext context() {
+    return ctx;
+  }
+
+  /**
+   * @return the time elapsed since the handshake began in nanoseconds
+   */
+  long handshakeTime() {
+    return System.nanoTime() - handshakeStart;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    this.ctx = ctx;
+    handshakeStart = System.nanoTime();
+    super.handlerAdded(ctx);
+  }
+
+  @Override
+  public void channelActive(ChannelHandlerContext ctx) throws Exception {
+    handshakeStart = System.nanoTime();
+    super.channelActive(ctx);
+  }
+
+  /**
+   * Called on the event loop when the delegated tasks are done: the handshake messages produced by the tasks are
+   * written and the records received meanwhile are decoded ahead of the bytes the decoder has accumulated.
+   */
+  void delegatedTasksCompleted() {
+    ByteBuf pending = null;
+    try {
+      if (ctx.isRemoved() || !ctx.channel().isActive()) {
+        pending = delegatedTaskEngine.takePending();
+        return;
+      }
+      do {
+        flush(ctx);
+      } while (!delegatedTaskEngine.isRunning() && engine().getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_WRAP);
+      if (delegatedTaskEngine.isRunning()) {
+        return;
+      }
+      ByteBuf received = delegatedTaskEngine.takePending();
+      if (received != null) {
+        ByteBuf cumulation = internalBuffer();
+        received.writeBytes(cumulation);
+        channelRead(ctx, received);
+        channelReadComplete(ctx);
+      } else if (!ctx.channel().config().isAutoRead()) {
+        ctx.read();
+      }
+    } catch (Throwable t) {
+      ctx.fireExceptionCaught(t);
+    } finally {
+      if (pending != null) {
+        pending.release();
+      }
+    }
+  }
+}
@@ -38,6 +38,9 @@
  * {@link examples.NetExamples#example2}
  * ----
  *
+ * The number of concurrent connections can be limited with {@link io.vertx.core.net.NetServerOptions#setMaxConnections},
+ * the connections accepted above this limit are closed immediately.
+ *
  * === Start the Server Listening
  *
  * To tell the server to listen for incoming requests you use one of the {@link io.vertx.core.net.NetServer#listen}
@@ -657,6 +660,47 @@
  * {@link examples.NetExamples#exampleSSLEngine}
  * ----
  *
+ * ==== TLS session resumption
+ *
+ * A resumed handshake reuses the session negotiated by a previous connection: it skips the certificate exchange and
+ * the key agreement of a full handshake, saving a round trip and most of the handshake CPU.
+ *
+ * A client caches its sessions per server host and port, a server caches the sessions of its clients. The size of
+ * the cache and the time a session can be resumed are configured with
+ * {@link io.vertx.core.net.TCPSSLOptions#setSslSessionCacheSize(int)} and
+ * {@link io.vertx.core.net.TCPSSLOptions#setSslSessionTimeout(int)}, zero keeps the default of the SSL engine.
+ *
+ * A server can also resume the sessions with tickets encrypted by the server and kept by the clients. With OpenSSL,
+ * {@link io.vertx.core.net.OpenSSLEngineOptions#addSessionTicketKey(io.vertx.core.buffer.Buffer)} configures the ticket
+ * keys, the first key encrypts the new tickets: sharing the keys between the servers behind a load balancer lets a
+ * client resume its session on any server. The JDK engine tickets are configured with the `jdk.tls.server.enableSessionTicketExtension`
+ * and `jdk.tls.client.enableSessionTicketExtension` system properties.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.NetExamples#exampleSSLSessionResumption}
+ * ----
+ *
+ * The metrics SPI reports each handshake and whether it was resumed, so the resumption rate can be monitored.
+ *
+ * ==== Handshake worker pool
+ *
+ * The signatures and the key agreement of a full handshake are CPU intensive: by default they run on the event loop
+ * and a burst of new connections delays the requests of the connections already established on the same event loop.
+ *
+ * {@link io.vertx.core.net.TCPSSLOptions#setSslHandshakePoolSize(int)} runs them on the `vert.x-ssl-handshake` worker
+ * pool instead, the event loop keeps serving the other connections meanwhile. The pool is shared by the servers and
+ * clients of a Vert.x instance and has the size of the first of them.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.NetExamples#exampleSSLHandshakePool}
+ * ----
+ *
+ * The metrics SPI reports the time of each handshake and the worker pool metrics report the time the handshakes
+ * waited for a thread of the pool. Only the JDK engine without ALPN runs the handshake with such tasks, the pool is
+ * not used by OpenSSL or HTTP/2.
+ *
  * ==== Server Name Indication (SNI)
  *
  * Server Name Indication (SNI) is a TLS extension by which a client specifies an hostname attempting to connect: during
@@ -686,6 +730,34 @@
  * {@link examples.NetExamples#configureSNIServerWithPems}
  * ----
  *
+ * The server creates the SSL context of a server name on the first handshake that indicates it and keeps the
+ * contexts of the {@link io.vertx.core.net.NetServerOptions#setSniCacheSize(int)} most recently used names. The
+ * private key of the default certificate is recovered when the server starts, the other private keys of a key
+ * store are only recovered for the server names that are indicated.
+ *
+ * A server with thousands of server names can instead look up the certificates in its own store with a
+ * {@link io.vertx.core.net.KeyCertOptions} implementation: the function returned by
+ * {@link io.vertx.core.net.KeyCertOptions#keyManagerMapper(io.vertx.core.Vertx)} is created once per server and
+ * called on each handshake, it should answer from memory as it runs on the event loop.
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.NetExamples#configureSNIServerWithProvider}
+ * ----
+ *
+ * The contexts are cached by certificate: when the function returns a renewed certificate for a server name the
+ * following handshakes use it, without restarting the server. The key stores of {@link io.vertx.core.net.JksOptions},
+ * {@link io.vertx.core.net.PfxOptions} and {@link io.vertx.core.net.PemKeyCertOptions} are read when the server
+ * starts, {@link io.vertx.core.net.NetServer#reloadCertificates(io.vertx.core.Handler)} reads them again after their
+ * files have been renewed:
+ *
+ * [source,$lang]
+ * ----
+ * {@link examples.NetExamples#reloadCertificates}
+ * ----
+ *
+ * The new handshakes use the reloaded certificates, the established connections are not affected.
+ *
  * The client implicitly sends the connecting host as an SNI server name for Fully Qualified Domain Name (FQDN).
  *
  * You can provide an explicit server name when connecting a socket
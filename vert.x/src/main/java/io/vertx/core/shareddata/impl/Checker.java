@@ -46,6 +46,19 @@ public class Checker {
     }
   }
 
+  /**
+   * JSON values are stored as immutable copies, so that getting them only costs a copy-on-write copy.
+   */
+  static <T> T immutableIfRequired(T obj) {
+    if (obj instanceof JsonObject) {
+      return (T) ((JsonObject) obj).immutableCopy();
+    } else if (obj instanceof JsonArray) {
+      return (T) ((JsonArray) obj).immutableCopy();
+    } else {
+      return obj;
+    }
+  }
+
   static <T> T copyIfRequired(T obj) {
     if (obj instanceof JsonObject) {
       return (T)((JsonObject)obj).copy();
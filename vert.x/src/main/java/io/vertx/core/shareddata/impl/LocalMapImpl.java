@@ -27,6 +27,7 @@ import java.util.function.Function;
 
 import static io.vertx.core.shareddata.impl.Checker.checkType;
 import static io.vertx.core.shareddata.impl.Checker.copyIfRequired;
+import static io.vertx.core.shareddata.impl.Checker.immutableIfRequired;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -51,7 +52,7 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
   public V put(K key, V value) {
     checkType(key);
     checkType(value);
-    return map.put(key, value);
+    return copyIfRequired(map.put(key, immutableIfRequired(value)));
   }
 
   @Override
@@ -78,7 +79,7 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
   public V putIfAbsent(K key, V value) {
     checkType(key);
     checkType(value);
-    return copyIfRequired(map.putIfAbsent(key, value));
+    return copyIfRequired(map.putIfAbsent(key, immutableIfRequired(value)));
   }
 
   @Override
@@ -88,7 +89,7 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
 
   @Override
   public boolean replace(K key, V oldValue, V newValue) {
-    return map.replace(key, oldValue, newValue);
+    return map.replace(key, oldValue, immutableIfRequired(newValue));
   }
 
   @Override
@@ -101,14 +102,14 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
     checkType(key);
     checkType(oldValue);
     checkType(newValue);
-    return map.replace(key, oldValue, newValue);
+    return map.replace(key, oldValue, immutableIfRequired(newValue));
   }
 
   @Override
   public V replace(K key, V value) {
     checkType(key);
     checkType(value);
-    return copyIfRequired(map.replace(key, value));
+    return copyIfRequired(map.replace(key, immutableIfRequired(value)));
   }
 
   @Override
@@ -116,9 +117,9 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
     map.replaceAll((k, v) -> {
       checkType(k);
       checkType(v);
-      V output = function.apply(k, v);
+      V output = function.apply(k, copyIfRequired(v));
       checkType(output);
-      return output;
+      return immutableIfRequired(output);
     });
   }
 
@@ -148,6 +149,8 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
   /**
    * Composes the given bi-function ({@code f(a,b)}) with a function checking the type of the output:
    * {@code checkType(f(a,b))}. So the output of the given function is checked to verify that it uses a valid type.
+   * The function is given a copy of the stored value and its output is stored as an immutable copy, like
+   * {@link #get(Object)} and {@link #put(Object, Object)} do.
    *
    * @param function the function
    * @return the composition
@@ -156,15 +159,15 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
                                                                         function) {
     return (k, v) -> {
       checkType(k);
-      V output = function.apply(k, v);
+      V output = function.apply(k, copyIfRequired(v));
       checkType(output);
-      return output;
+      return immutableIfRequired(output);
     };
   }
 
   /**
    * Composes the given function ({@code f(a)}) with a function checking the type of the output. So the output of the
-   * given function is checked to verify that is uses a valid type.
+   * given function is checked to verify that is uses a valid type. The output is stored as an immutable copy.
    *
    * @param function the function
    * @return the composition
@@ -175,23 +178,23 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
       checkType(k);
       V output = function.apply(k);
       checkType(output);
-      return output;
+      return immutableIfRequired(output);
     };
   }
 
   @Override
   public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
-    return map.compute(key, typeChecked(remappingFunction));
+    return copyIfRequired(map.compute(key, typeChecked(remappingFunction)));
   }
 
   @Override
   public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
-    return map.computeIfAbsent(key, typeChecked(mappingFunction));
+    return copyIfRequired(map.computeIfAbsent(key, typeChecked(mappingFunction)));
   }
 
   @Override
   public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
-    return map.computeIfPresent(key, typeChecked(remappingFunction));
+    return copyIfRequired(map.computeIfPresent(key, typeChecked(remappingFunction)));
   }
 
   @Override
@@ -246,12 +249,12 @@ class LocalMapImpl<K, V> implements LocalMap<K, V> {
   public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
     checkType(key);
     checkType(value);
-    return map.merge(key, value, (k, v) -> {
+    return copyIfRequired(map.merge(key, immutableIfRequired(value), (oldValue, v) -> {
       // No need to check the key, already check above.
-      V output = remappingFunction.apply(k, v);
+      V output = remappingFunction.apply(copyIfRequired(oldValue), value);
       checkType(output);
-      return output;
-    });
+      return immutableIfRequired(output);
+    }));
   }
 
   @Override
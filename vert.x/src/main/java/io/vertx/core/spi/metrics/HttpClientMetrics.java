@@ -167,4 +167,37 @@ public interface HttpClientMetrics<R, W, S, E, T> extends TCPMetrics<S> {
    * @param webSocketMetric the web socket metric
    */
   void disconnected(W webSocketMetric);
+
+  /**
+   * Called when the web socket has compressed a frame with the per-message deflate extension. By default,
+   * this method does nothing.
+   *
+   * @param webSocketMetric the web socket metric
+   * @param uncompressedBytes the size of the frame payload before compression
+   * @param compressedBytes the size of the frame payload sent on the wire
+   */
+  default void frameCompressed(W webSocketMetric, long uncompressedBytes, long compressedBytes) {
+    // Do nothing by default.
+  }
+
+  /**
+   * Called when a request is served by the response cache of the client, no request metric is created when
+   * the cached response is fresh. By default, this method does nothing.
+   *
+   * @param request the client request
+   * @param revalidated whether the cached response was revalidated with the server
+   */
+  default void responseCacheHit(HttpClientRequest request, boolean revalidated) {
+    // Do nothing by default.
+  }
+
+  /**
+   * Called when a cacheable request is not served by the response cache of the client. By default, this method does
+   * nothing.
+   *
+   * @param request the client request
+   */
+  default void responseCacheMiss(HttpClientRequest request) {
+    // Do nothing by default.
+  }
 }
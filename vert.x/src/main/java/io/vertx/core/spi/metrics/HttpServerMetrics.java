@@ -102,4 +102,49 @@ public interface HttpServerMetrics<R, W, S> extends TCPMetrics<S> {
    * @param serverWebSocketMetric the server web socket metric
    */
   void disconnected(W serverWebSocketMetric);
+
+  /**
+   * Called when the server web socket has compressed a frame with the per-message deflate extension. By default,
+   * this method does nothing.
+   *
+   * @param serverWebSocketMetric the server web socket metric
+   * @param uncompressedBytes the size of the frame payload before compression
+   * @param compressedBytes the size of the frame payload sent on the wire
+   */
+  default void frameCompressed(W serverWebSocketMetric, long uncompressedBytes, long compressedBytes) {
+    // Do nothing by default.
+  }
+
+  /**
+   * Called when the server does not handle a request because the server max number of concurrent requests is
+   * reached, the request is not reported with {@link #requestBegin}. By default, this method does nothing.
+   *
+   * @param socketMetric the socket metric of the connection
+   */
+  default void requestRejected(S socketMetric) {
+    // Do nothing by default.
+  }
+
+  /**
+   * Called when the server has compressed the body of an HTTP/1.x response. By default, this method does nothing.
+   *
+   * @param requestMetric the request metric
+   * @param uncompressedBytes the size of the response body before compression
+   * @param compressedBytes the size of the response body sent on the wire
+   * @param compressionTime the time spent compressing the response body in nanoseconds
+   */
+  default void responseCompressed(R requestMetric, long uncompressedBytes, long compressedBytes, long compressionTime) {
+    // Do nothing by default.
+  }
+
+  /**
+   * Called when the server rejects a request because its body exceeds the maximum request body size, the body is
+   * not read further. By default, this method does nothing.
+   *
+   * @param requestMetric the request metric
+   * @param bodySize the {@code Content-Length} of the request or the size of the body received so far
+   */
+  default void requestBodyRejected(R requestMetric, long bodySize) {
+    // Do nothing by default.
+  }
 }
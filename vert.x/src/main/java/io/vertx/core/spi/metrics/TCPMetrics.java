@@ -60,4 +60,26 @@ public interface TCPMetrics<S> extends NetworkMetrics<S> {
    */
   void disconnected(S socketMetric, SocketAddress remoteAddress);
 
+  /**
+   * Called when a server closes a connection as soon as it is accepted because the server max number of connections
+   * is reached. By default, this method does nothing.
+   *
+   * @param remoteAddress the remote address of the client
+   */
+  default void connectionRejected(SocketAddress remoteAddress) {
+    // Do nothing by default.
+  }
+
+  /**
+   * Called when the SSL/TLS handshake of a connection succeeds. By default, this method does nothing.
+   *
+   * @param remoteAddress the remote address of the connection
+   * @param resumed whether the handshake resumed a cached session instead of performing a full handshake
+   * @param handshakeTime the time of the handshake in nanoseconds, it includes the time the delegated tasks of the
+   *                      handshake waited for the handshake worker pool
+   */
+  default void tlsHandshake(SocketAddress remoteAddress, boolean resumed, long handshakeTime) {
+    // Do nothing by default.
+  }
+
 }
@@ -21,6 +21,9 @@ import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.EmptyHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpHeaderBlock;
+import io.vertx.core.http.impl.headers.HttpHeaderBlockImpl;
 import io.vertx.core.http.impl.headers.VertxHttpHeaders;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.CompilerControl;
@@ -28,7 +31,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
-import static io.vertx.benchmarks.HeadersUtils.setBaseHeaders;
+import static io.vertx.benchmarks.HeadersUtils.*;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -53,7 +56,8 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
   private ByteBuf byteBuf;
   private HttpHeaders emptyHeaders;
   private HttpHeaders nettySmallHeaders;
-  private HttpHeaders vertxSmallHeaders;
+  private VertxHttpHeaders vertxSmallHeaders;
+  private HttpHeaderBlockImpl block;
 
   @Setup
   public void setup() {
@@ -64,6 +68,10 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     vertxSmallHeaders = new VertxHttpHeaders();
     setBaseHeaders(nettySmallHeaders);
     setBaseHeaders(vertxSmallHeaders);
+    // The headers that do not change between responses
+    block = (HttpHeaderBlockImpl) HttpHeaderBlock.create(new CaseInsensitiveHeaders()
+      .add(io.vertx.core.http.HttpHeaders.CONTENT_TYPE, TEXT_PLAIN_HEADER)
+      .add(io.vertx.core.http.HttpHeaders.SERVER, VERTX_HEADER));
   }
 
   @Benchmark
@@ -86,4 +94,31 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     encoder.encodeHeaders(vertxSmallHeaders, byteBuf);
     consume(byteBuf);
   }
+
+  @Benchmark
+  public void vertxSmallEncode() throws Exception {
+    byteBuf.resetWriterIndex();
+    vertxSmallHeaders.encode(byteBuf);
+    consume(byteBuf);
+  }
+
+  @Benchmark
+  public void vertxSmallCreateAndEncode() throws Exception {
+    byteBuf.resetWriterIndex();
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    setBaseHeaders(headers);
+    headers.encode(byteBuf);
+    consume(byteBuf);
+  }
+
+  @Benchmark
+  public void vertxSmallBlockCreateAndEncode() throws Exception {
+    byteBuf.resetWriterIndex();
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.set(block);
+    headers.add(io.vertx.core.http.HttpHeaders.CONTENT_LENGTH, CONTENT_LENGTH_HEADER);
+    headers.add(io.vertx.core.http.HttpHeaders.DATE, DATE_HEADER);
+    headers.encode(byteBuf);
+    consume(byteBuf);
+  }
 }
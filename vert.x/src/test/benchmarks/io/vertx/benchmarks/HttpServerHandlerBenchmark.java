@@ -232,7 +232,7 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
       response.end(HELLO_WORLD_BUFFER);
     };
     HandlerHolder<HttpHandlers> holder = new HandlerHolder<>(context, new HttpHandlers(app, null, null));
-    ServerHandler handler = new ServerHandler(null, new HttpServerOptions(), "localhost", holder, null);
+    ServerHandler handler = new ServerHandler(null, new HttpServerOptions(), "localhost", holder, null, null, null);
     vertxChannel.pipeline().addLast("handler", handler);
 
     nettyChannel = new EmbeddedChannel(new HttpRequestDecoder(
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a chunked response streamed with small chunks written outside of the request read, like a response
+ * written after an event bus reply, with and without the write batching.
+ * <p>
+ * The client is a plain socket sending a request and reading the response until its last chunk.
+ */
+@State(Scope.Thread)
+public class HttpStreamingBenchmark extends BenchmarkBase {
+
+  private static final int PORT = 8080;
+  private static final byte[] REQUEST = ("GET / HTTP/1.1\r\n" +
+    "Host: localhost:" + PORT + "\r\n" +
+    "\r\n").getBytes(StandardCharsets.ISO_8859_1);
+  private static final byte[] LAST_CHUNK = "\r\n0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+
+  @Param({"true", "false"})
+  public boolean writeBatching;
+
+  @Param("64")
+  public int chunks;
+
+  @Param("32")
+  public int chunkSize;
+
+  private Vertx vertx;
+  private HttpServer server;
+  private SocketChannel socket;
+  private ByteBuffer buffer;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    byte[] bytes = new byte[chunkSize];
+    Arrays.fill(bytes, (byte) 'a');
+    Buffer chunk = Buffer.buffer(bytes);
+    server = vertx.createHttpServer(new HttpServerOptions().setWriteBatching(writeBatching))
+      .requestHandler(req -> {
+        HttpServerResponse resp = req.response().setChunked(true);
+        // Respond from another task of the event loop
+        vertx.runOnContext(v -> {
+          for (int i = 0;i < chunks;i++) {
+            resp.write(chunk);
+          }
+          resp.end();
+        });
+      });
+    CompletableFuture<Void> listen = new CompletableFuture<>();
+    server.listen(PORT, "localhost", ar -> {
+      if (ar.succeeded()) {
+        listen.complete(null);
+      } else {
+        listen.completeExceptionally(ar.cause());
+      }
+    });
+    listen.get(10, TimeUnit.SECONDS);
+    socket = SocketChannel.open(new InetSocketAddress("localhost", PORT));
+    buffer = ByteBuffer.allocate(8192);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    socket.close();
+    CompletableFuture<Void> close = new CompletableFuture<>();
+    vertx.close(ar -> close.complete(null));
+    close.get(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void streamResponse() throws Exception {
+    socket.write(ByteBuffer.wrap(REQUEST));
+    // Read the response until its last chunk
+    int matched = 0;
+    while (matched < LAST_CHUNK.length) {
+      buffer.clear();
+      if (socket.read(buffer) < 0) {
+        throw new IOException("Connection closed");
+      }
+      buffer.flip();
+      while (buffer.hasRemaining() && matched < LAST_CHUNK.length) {
+        byte b = buffer.get();
+        if (b == LAST_CHUNK[matched]) {
+          matched++;
+        } else {
+          matched = b == LAST_CHUNK[0] ? 1 : 0;
+        }
+      }
+    }
+  }
+}
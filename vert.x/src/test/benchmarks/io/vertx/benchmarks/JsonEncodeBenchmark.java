@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2013 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares text JSON and binary JSON (Smile) encoding and decoding of a {@link JsonObject}.
+ */
+@State(Scope.Thread)
+public class JsonEncodeBenchmark extends BenchmarkBase {
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final Object o) {
+  }
+
+  private JsonObject object;
+  private Buffer text;
+  private Buffer binary;
+
+  @Setup
+  public void setup() {
+    JsonArray items = new JsonArray();
+    for (int i = 0; i < 20; i++) {
+      items.add(new JsonObject()
+        .put("id", i)
+        .put("name", "item-" + i)
+        .put("price", i * 1.25d)
+        .put("available", i % 2 == 0)
+        .put("tags", new JsonArray().add("red").add("green").add("blue")));
+    }
+    object = new JsonObject()
+      .put("id", 1234567890123L)
+      .put("user", new JsonObject().put("name", "Julien").put("email", "julien@example.com"))
+      .put("items", items);
+    text = object.toBuffer();
+    binary = Json.encodeToBinary(object);
+    System.out.println("Text JSON size: " + text.length() + " bytes, binary JSON size: " + binary.length() + " bytes");
+  }
+
+  @Benchmark
+  public void encodeText() {
+    consume(object.toBuffer());
+  }
+
+  @Benchmark
+  public void encodeBinary() {
+    consume(Json.encodeToBinary(object));
+  }
+
+  @Benchmark
+  public void decodeText() {
+    consume(new JsonObject(text.toString()));
+  }
+
+  @Benchmark
+  public void decodeBinary() {
+    consume(Json.decodeBinary(binary, JsonObject.class));
+  }
+}
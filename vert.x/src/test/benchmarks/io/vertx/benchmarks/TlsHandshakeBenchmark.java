@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.JksOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of the requests of an established TLS connection while other clients perform new handshakes
+ * with the same server event loop, the sample mode reports the percentiles of the request time.
+ * <p>
+ * The handshakes are made by a distinct Vert.x instance so only the server side of the handshakes competes with the
+ * requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TlsHandshakeBenchmark extends BenchmarkBase {
+
+  private static final int PORT = 8443;
+
+  @Param({"0", "4"})
+  public int handshakePoolSize;
+
+  /**
+   * The number of handshakes in progress.
+   */
+  @Param("32")
+  public int handshakes;
+
+  private Vertx vertx;
+  private Vertx handshakeVertx;
+  private HttpServer server;
+  private HttpClient client;
+  private HttpClient handshakeClient;
+  private volatile boolean running;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(1));
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setSsl(true)
+      .setKeyStoreOptions(new JksOptions().setPath("tls/server-keystore.jks").setPassword("wibble"))
+      .setSslHandshakePoolSize(handshakePoolSize))
+      .requestHandler(req -> req.response().end("Hello World"));
+    CompletableFuture<Void> listen = new CompletableFuture<>();
+    server.listen(PORT, "localhost", ar -> {
+      if (ar.succeeded()) {
+        listen.complete(null);
+      } else {
+        listen.completeExceptionally(ar.cause());
+      }
+    });
+    listen.get(10, TimeUnit.SECONDS);
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setSsl(true)
+      .setTrustAll(true)
+      .setMaxPoolSize(1));
+    handshakeVertx = Vertx.vertx();
+    handshakeClient = handshakeVertx.createHttpClient(new HttpClientOptions()
+      .setSsl(true)
+      .setTrustAll(true)
+      .setKeepAlive(false)
+      .setMaxPoolSize(handshakes));
+    request().get(10, TimeUnit.SECONDS);
+    running = true;
+    for (int i = 0;i < handshakes;i++) {
+      handshake();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    running = false;
+    CompletableFuture<Void> close1 = new CompletableFuture<>();
+    handshakeVertx.close(ar -> close1.complete(null));
+    close1.get(10, TimeUnit.SECONDS);
+    CompletableFuture<Void> close2 = new CompletableFuture<>();
+    vertx.close(ar -> close2.complete(null));
+    close2.get(10, TimeUnit.SECONDS);
+  }
+
+  private void handshake() {
+    if (running) {
+      handshakeClient.getNow(PORT, "localhost", "/", resp -> resp.endHandler(v -> handshake()));
+    }
+  }
+
+  private CompletableFuture<Void> request() {
+    CompletableFuture<Void> fut = new CompletableFuture<>();
+    client.getNow(PORT, "localhost", "/", resp -> resp.endHandler(v -> fut.complete(null)));
+    return fut;
+  }
+
+  @Benchmark
+  public void requestDuringHandshakes() throws Exception {
+    request().get(10, TimeUnit.SECONDS);
+  }
+}
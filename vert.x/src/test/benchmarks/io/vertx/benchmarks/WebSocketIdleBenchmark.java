@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the heap retained by idle server WebSockets: the setup opens idle WebSockets to the server with plain
+ * sockets and prints the heap used per connection, the benchmark measures opening and closing a WebSocket while
+ * the idle WebSockets are kept open.
+ * <p>
+ * The heap per connection includes the client socket, it is the same for all the server configurations.
+ */
+@State(Scope.Thread)
+public class WebSocketIdleBenchmark extends BenchmarkBase {
+
+  private static final int PORT = 8080;
+  private static final byte[] HANDSHAKE = ("GET / HTTP/1.1\r\n" +
+    "Host: localhost:" + PORT + "\r\n" +
+    "Upgrade: websocket\r\n" +
+    "Connection: Upgrade\r\n" +
+    "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n" +
+    "Sec-WebSocket-Version: 13\r\n" +
+    "\r\n").getBytes(StandardCharsets.ISO_8859_1);
+
+  /**
+   * The number of idle connections, the file descriptors limit of the process must allow twice this number.
+   */
+  @Param("1000")
+  public int connections;
+
+  @Param({"true", "false"})
+  public boolean registerWriteHandlers;
+
+  @Param("60")
+  public int idleTimeout;
+
+  private final AtomicInteger connected = new AtomicInteger();
+  private Vertx vertx;
+  private HttpServer server;
+  private List<SocketChannel> idle;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setIdleTimeout(idleTimeout)
+      .setRegisterWebsocketWriteHandlers(registerWriteHandlers))
+      .websocketHandler(ws -> {
+        connected.incrementAndGet();
+        ws.closeHandler(v -> connected.decrementAndGet());
+      });
+    CompletableFuture<Void> listen = new CompletableFuture<>();
+    server.listen(PORT, "localhost", ar -> {
+      if (ar.succeeded()) {
+        listen.complete(null);
+      } else {
+        listen.completeExceptionally(ar.cause());
+      }
+    });
+    listen.get(10, TimeUnit.SECONDS);
+
+    // Warm up the server so its classes and caches are not accounted
+    connect().close();
+    awaitConnected(0);
+
+    long before = usedHeap();
+    idle = new ArrayList<>(connections);
+    for (int i = 0;i < connections;i++) {
+      idle.add(connect());
+    }
+    awaitConnected(connections);
+    long after = usedHeap();
+    System.out.println("Heap per idle WebSocket connection: " + (after - before) / connections + " bytes");
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    for (SocketChannel socket : idle) {
+      socket.close();
+    }
+    CompletableFuture<Void> close = new CompletableFuture<>();
+    vertx.close(ar -> close.complete(null));
+    close.get(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void connectAndClose() throws Exception {
+    connect().close();
+  }
+
+  private static SocketChannel connect() throws IOException {
+    SocketChannel socket = SocketChannel.open(new InetSocketAddress("localhost", PORT));
+    socket.write(ByteBuffer.wrap(HANDSHAKE));
+    // Read the handshake response until the end of the headers
+    ByteBuffer buffer = ByteBuffer.allocate(512);
+    int matched = 0;
+    while (matched < 4) {
+      buffer.clear();
+      if (socket.read(buffer) < 0) {
+        throw new IOException("Connection closed during the handshake");
+      }
+      buffer.flip();
+      while (buffer.hasRemaining() && matched < 4) {
+        byte b = buffer.get();
+        if (b == (matched % 2 == 0 ? '\r' : '\n')) {
+          matched++;
+        } else {
+          matched = b == '\r' ? 1 : 0;
+        }
+      }
+    }
+    return socket;
+  }
+
+  private void awaitConnected(int expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 30000;
+    while (connected.get() != expected) {
+      if (System.currentTimeMillis() > deadline) {
+        throw new IllegalStateException("Expected " + expected + " connections instead of " + connected.get());
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  private static long usedHeap() throws InterruptedException {
+    for (int i = 0;i < 5;i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
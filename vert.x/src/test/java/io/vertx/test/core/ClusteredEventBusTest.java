@@ -21,7 +21,10 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.eventbus.*;
+import io.vertx.core.eventbus.impl.CodecManager;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.test.fakecluster.FakeClusterManager;
 import org.junit.Test;
@@ -93,6 +96,30 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     testReply(pojo, pojo, null, new DeliveryOptions().setCodecName(codec.name()));
   }
 
+  @Test
+  public void testSendJsonObjectBinaryCodec() throws Exception {
+    startNodes(2);
+    JsonObject obj = new JsonObject().put(TestUtils.randomAlphaString(10), TestUtils.randomUnicodeString(100))
+      .put("nested", new JsonArray().add(TestUtils.randomInt()).add(TestUtils.randomBoolean()));
+    testSend(obj, obj, null, new DeliveryOptions().setCodecName(CodecManager.JSON_OBJECT_BINARY_MESSAGE_CODEC.name()));
+  }
+
+  @Test
+  public void testReplyJsonArrayBinaryCodec() throws Exception {
+    startNodes(2);
+    JsonArray arr = new JsonArray().add(TestUtils.randomUnicodeString(100)).add(new JsonObject().put("foo", TestUtils.randomLong()));
+    testReply(arr, arr, null, new DeliveryOptions().setCodecName(CodecManager.JSON_ARRAY_BINARY_MESSAGE_CODEC.name()));
+  }
+
+  @Test
+  public void testBinaryJsonOption() throws Exception {
+    startNodes(2, new VertxOptions().setEventBusOptions(new EventBusOptions().setBinaryJson(true)));
+    JsonObject obj = new JsonObject().put(TestUtils.randomAlphaString(10), TestUtils.randomUnicodeString(100));
+    testSend(obj, (received) -> {
+      assertEquals(obj, received);
+    });
+  }
+
   @Test
   public void testDefaultDecoderSendAsymmetric() throws Exception {
     startNodes(2);
@@ -28,8 +28,10 @@ import io.vertx.core.dns.DnsException;
 import io.vertx.core.dns.DnsResponseCode;
 import io.vertx.core.dns.MxRecord;
 import io.vertx.core.dns.SrvRecord;
+import io.vertx.core.http.EndpointGroup;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.test.fakedns.FakeDNSServer;
 import org.junit.Test;
 
@@ -216,6 +218,38 @@ public class DNSTest extends VertxTestBase {
     dnsServer.stop();
   }
 
+  @Test
+  public void testEndpointGroupA() throws Exception {
+    DnsClient dns = prepareDns(FakeDNSServer.testResolveA("10.0.0.1"));
+
+    EndpointGroup.dns(dns, "vertx.io", 8080).resolve(ar -> {
+      List<SocketAddress> result = ar.result();
+      assertNotNull(result);
+      assertEquals(1, result.size());
+      assertEquals("10.0.0.1", result.get(0).host());
+      assertEquals(8080, result.get(0).port());
+      testComplete();
+    });
+    await();
+    dnsServer.stop();
+  }
+
+  @Test
+  public void testEndpointGroupSRV() throws Exception {
+    DnsClient dns = prepareDns(FakeDNSServer.testResolveSRV(10, 1, 8080, "vertx.io"));
+
+    EndpointGroup.srv(dns, "_http._tcp.vertx.io").resolve(ar -> {
+      List<SocketAddress> result = ar.result();
+      assertNotNull(result);
+      assertEquals(1, result.size());
+      assertEquals("vertx.io", result.get(0).host());
+      assertEquals(8080, result.get(0).port());
+      testComplete();
+    });
+    await();
+    dnsServer.stop();
+  }
+
   @Test
   public void testLookup4() throws Exception {
     final String ip = "10.0.0.1";
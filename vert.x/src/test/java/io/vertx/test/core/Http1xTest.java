@@ -16,6 +16,7 @@
 
 package io.vertx.test.core;
 
+import io.netty.handler.codec.DateFormatter;
 import io.netty.handler.codec.TooLongFrameException;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Context;
@@ -26,11 +27,14 @@ import io.vertx.core.Vertx;
 import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
+import io.vertx.core.http.EndpointGroup;
+import io.vertx.core.http.EndpointGroupOptions;
 import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpHeaderBlock;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
@@ -40,6 +44,7 @@ import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.core.http.impl.HttpClientRequestImpl;
+import io.vertx.core.http.impl.HttpUtils;
 import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.VertxInternal;
@@ -60,17 +65,25 @@ import io.vertx.core.net.PemTrustOptions;
 import io.vertx.core.net.PfxOptions;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.core.net.SSLEngineOptions;
 import io.vertx.core.net.TrustOptions;
+import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.streams.Pump;
+import io.vertx.test.core.tls.Cert;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -85,12 +98,16 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static io.vertx.test.core.TestUtils.*;
 
@@ -299,6 +316,113 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setDecoderInitialBufferSize(256));
     assertEquals(256, options.getDecoderInitialBufferSize());
     assertIllegalArgumentException(() -> options.setDecoderInitialBufferSize(-1));
+
+    assertFalse(options.isTryUsePerMessageWebsocketCompression());
+    assertEquals(options, options.setTryUsePerMessageWebsocketCompression(true));
+    assertTrue(options.isTryUsePerMessageWebsocketCompression());
+
+    assertEquals(HttpClientOptions.DEFAULT_WEBSOCKET_COMPRESSION_LEVEL, options.getWebsocketCompressionLevel());
+    assertEquals(options, options.setWebsocketCompressionLevel(9));
+    assertEquals(9, options.getWebsocketCompressionLevel());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionLevel(10));
+
+    assertFalse(options.isWebsocketCompressionAllowClientNoContext());
+    assertEquals(options, options.setWebsocketCompressionAllowClientNoContext(true));
+    assertTrue(options.isWebsocketCompressionAllowClientNoContext());
+
+    assertFalse(options.isWebsocketCompressionRequestServerNoContext());
+    assertEquals(options, options.setWebsocketCompressionRequestServerNoContext(true));
+    assertTrue(options.isWebsocketCompressionRequestServerNoContext());
+
+    assertFalse(options.isWebsocketCompressionAllowClientWindowBits());
+    assertEquals(options, options.setWebsocketCompressionAllowClientWindowBits(true));
+    assertTrue(options.isWebsocketCompressionAllowClientWindowBits());
+
+    assertEquals(HttpClientOptions.DEFAULT_WEBSOCKET_COMPRESSION_REQUESTED_SERVER_WINDOW_BITS, options.getWebsocketCompressionRequestedServerWindowBits());
+    assertEquals(options, options.setWebsocketCompressionRequestedServerWindowBits(10));
+    assertEquals(10, options.getWebsocketCompressionRequestedServerWindowBits());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionRequestedServerWindowBits(7));
+
+    assertEquals(HttpClientOptions.DEFAULT_WEBSOCKET_COMPRESSION_MIN_FRAME_SIZE, options.getWebsocketCompressionMinFrameSize());
+    assertEquals(options, options.setWebsocketCompressionMinFrameSize(128));
+    assertEquals(128, options.getWebsocketCompressionMinFrameSize());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionMinFrameSize(-1));
+
+    assertFalse(options.isWriteBatching());
+    assertEquals(options, options.setWriteBatching(true));
+    assertTrue(options.isWriteBatching());
+
+    assertFalse(options.isPoolPerEventLoop());
+    assertEquals(options, options.setPoolPerEventLoop(true));
+    assertTrue(options.isPoolPerEventLoop());
+
+    assertEquals(HttpClientOptions.DEFAULT_MIN_IDLE_SIZE, options.getMinIdleSize());
+    assertEquals(options, options.setMinIdleSize(2));
+    assertEquals(2, options.getMinIdleSize());
+    assertIllegalArgumentException(() -> options.setMinIdleSize(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_KEEP_ALIVE_TIMEOUT, options.getKeepAliveTimeout());
+    assertEquals(options, options.setKeepAliveTimeout(30));
+    assertEquals(30, options.getKeepAliveTimeout());
+    assertIllegalArgumentException(() -> options.setKeepAliveTimeout(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_MAX_LIFETIME, options.getMaxLifetime());
+    assertEquals(options, options.setMaxLifetime(60));
+    assertEquals(60, options.getMaxLifetime());
+    assertIllegalArgumentException(() -> options.setMaxLifetime(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_POOL_CLEANER_PERIOD, options.getPoolCleanerPeriod());
+    assertEquals(options, options.setPoolCleanerPeriod(100));
+    assertEquals(100, options.getPoolCleanerPeriod());
+    assertIllegalArgumentException(() -> options.setPoolCleanerPeriod(0));
+
+    assertEquals(HttpClientOptions.DEFAULT_RESPONSE_CACHE_MAX_SIZE, options.getResponseCacheMaxSize());
+    assertEquals(options, options.setResponseCacheMaxSize(1024));
+    assertEquals(1024, options.getResponseCacheMaxSize());
+    assertIllegalArgumentException(() -> options.setResponseCacheMaxSize(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_RESPONSE_CACHE_DIR, options.getResponseCacheDir());
+    assertEquals(options, options.setResponseCacheDir("cache"));
+    assertEquals("cache", options.getResponseCacheDir());
+
+    assertFalse(options.isRequestCoalescing());
+    assertEquals(options, options.setRequestCoalescing(true));
+    assertTrue(options.isRequestCoalescing());
+
+    assertEquals(Collections.emptySet(), options.getCoalescingHeaders());
+    assertEquals(options, options.addCoalescingHeader("Authorization"));
+    assertEquals(Collections.singleton("Authorization"), options.getCoalescingHeaders());
+    assertNullPointerException(() -> options.addCoalescingHeader(null));
+
+    assertEquals(HttpClientOptions.DEFAULT_HEDGING_DELAY, options.getHedgingDelay());
+    assertEquals(options, options.setHedgingDelay(100));
+    assertEquals(100, options.getHedgingDelay());
+    assertIllegalArgumentException(() -> options.setHedgingDelay(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_HEDGING_PERCENTILE, options.getHedgingPercentile());
+    assertEquals(options, options.setHedgingPercentile(95));
+    assertEquals(95, options.getHedgingPercentile());
+    assertIllegalArgumentException(() -> options.setHedgingPercentile(100));
+
+    assertEquals(HttpClientOptions.DEFAULT_HEDGING_BUDGET, options.getHedgingBudget());
+    assertEquals(options, options.setHedgingBudget(50));
+    assertEquals(50, options.getHedgingBudget());
+    assertIllegalArgumentException(() -> options.setHedgingBudget(101));
+
+    assertEquals(HttpClientOptions.DEFAULT_SSL_SESSION_CACHE_SIZE, options.getSslSessionCacheSize());
+    assertEquals(options, options.setSslSessionCacheSize(1000));
+    assertEquals(1000, options.getSslSessionCacheSize());
+    assertIllegalArgumentException(() -> options.setSslSessionCacheSize(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_SSL_SESSION_TIMEOUT, options.getSslSessionTimeout());
+    assertEquals(options, options.setSslSessionTimeout(3600));
+    assertEquals(3600, options.getSslSessionTimeout());
+    assertIllegalArgumentException(() -> options.setSslSessionTimeout(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_SSL_HANDSHAKE_POOL_SIZE, options.getSslHandshakePoolSize());
+    assertEquals(options, options.setSslHandshakePoolSize(4));
+    assertEquals(4, options.getSslHandshakePoolSize());
+    assertIllegalArgumentException(() -> options.setSslHandshakePoolSize(-1));
   }
 
   @Test
@@ -446,6 +570,120 @@ public class Http1xTest extends HttpTest {
     assertEquals(256, options.getDecoderInitialBufferSize());
     assertIllegalArgumentException(() -> options.setDecoderInitialBufferSize(-1));
 
+    assertFalse(options.isPrecompressedFilesSupported());
+    assertEquals(options, options.setPrecompressedFilesSupported(true));
+    assertTrue(options.isPrecompressedFilesSupported());
+
+    assertEquals(HttpServerOptions.DEFAULT_FILE_CACHE_SIZE, options.getFileCacheSize());
+    assertEquals(options, options.setFileCacheSize(100));
+    assertEquals(100, options.getFileCacheSize());
+    assertIllegalArgumentException(() -> options.setFileCacheSize(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_FILE_CACHE_VALIDITY, options.getFileCacheValidity());
+    assertEquals(options, options.setFileCacheValidity(5000L));
+    assertEquals(5000L, options.getFileCacheValidity());
+    assertIllegalArgumentException(() -> options.setFileCacheValidity(-1));
+
+    assertFalse(options.isPerMessageWebsocketCompressionSupported());
+    assertEquals(options, options.setPerMessageWebsocketCompressionSupported(true));
+    assertTrue(options.isPerMessageWebsocketCompressionSupported());
+
+    assertEquals(HttpServerOptions.DEFAULT_WEBSOCKET_COMPRESSION_LEVEL, options.getWebsocketCompressionLevel());
+    assertEquals(options, options.setWebsocketCompressionLevel(9));
+    assertEquals(9, options.getWebsocketCompressionLevel());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionLevel(10));
+
+    assertFalse(options.isWebsocketAllowServerNoContext());
+    assertEquals(options, options.setWebsocketAllowServerNoContext(true));
+    assertTrue(options.isWebsocketAllowServerNoContext());
+
+    assertFalse(options.isWebsocketPreferredClientNoContext());
+    assertEquals(options, options.setWebsocketPreferredClientNoContext(true));
+    assertTrue(options.isWebsocketPreferredClientNoContext());
+
+    assertFalse(options.isWebsocketAllowServerWindowBits());
+    assertEquals(options, options.setWebsocketAllowServerWindowBits(true));
+    assertTrue(options.isWebsocketAllowServerWindowBits());
+
+    assertEquals(HttpServerOptions.DEFAULT_WEBSOCKET_PREFERRED_CLIENT_WINDOW_BITS, options.getWebsocketPreferredClientWindowBits());
+    assertEquals(options, options.setWebsocketPreferredClientWindowBits(10));
+    assertEquals(10, options.getWebsocketPreferredClientWindowBits());
+    assertIllegalArgumentException(() -> options.setWebsocketPreferredClientWindowBits(16));
+
+    assertEquals(HttpServerOptions.DEFAULT_WEBSOCKET_COMPRESSION_MIN_FRAME_SIZE, options.getWebsocketCompressionMinFrameSize());
+    assertEquals(options, options.setWebsocketCompressionMinFrameSize(128));
+    assertEquals(128, options.getWebsocketCompressionMinFrameSize());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionMinFrameSize(-1));
+
+    assertTrue(options.isRegisterWebsocketWriteHandlers());
+    assertEquals(options, options.setRegisterWebsocketWriteHandlers(false));
+    assertFalse(options.isRegisterWebsocketWriteHandlers());
+
+    assertEquals(HttpServerOptions.DEFAULT_MAX_CONCURRENT_REQUESTS, options.getMaxConcurrentRequests());
+    assertEquals(options, options.setMaxConcurrentRequests(100));
+    assertEquals(100, options.getMaxConcurrentRequests());
+    assertIllegalArgumentException(() -> options.setMaxConcurrentRequests(0));
+
+    assertEquals(HttpServerOptions.DEFAULT_COMPRESSION_MIN_SIZE, options.getCompressionMinSize());
+    assertEquals(options, options.setCompressionMinSize(1024));
+    assertEquals(1024, options.getCompressionMinSize());
+    assertIllegalArgumentException(() -> options.setCompressionMinSize(-1));
+
+    assertTrue(options.getCompressedContentTypes().isEmpty());
+    assertEquals(options, options.addCompressedContentType("text/*"));
+    assertEquals(Collections.singleton("text/*"), options.getCompressedContentTypes());
+
+    assertTrue(options.getUncompressedContentTypes().isEmpty());
+    assertEquals(options, options.addUncompressedContentType("image/*"));
+    assertEquals(Collections.singleton("image/*"), options.getUncompressedContentTypes());
+
+    assertFalse(options.isWriteBatching());
+    assertEquals(options, options.setWriteBatching(true));
+    assertTrue(options.isWriteBatching());
+
+    assertFalse(options.isSendDateHeader());
+    assertEquals(options, options.setSendDateHeader(true));
+    assertTrue(options.isSendDateHeader());
+
+    assertEquals(HttpServerOptions.DEFAULT_MAX_MULTIPART_PART_SIZE, options.getMaxMultipartPartSize());
+    assertEquals(options, options.setMaxMultipartPartSize(1024L));
+    assertEquals(1024L, options.getMaxMultipartPartSize());
+    assertIllegalArgumentException(() -> options.setMaxMultipartPartSize(-2));
+
+    assertEquals(HttpServerOptions.DEFAULT_MAX_MULTIPART_BODY_SIZE, options.getMaxMultipartBodySize());
+    assertEquals(options, options.setMaxMultipartBodySize(1024L));
+    assertEquals(1024L, options.getMaxMultipartBodySize());
+    assertIllegalArgumentException(() -> options.setMaxMultipartBodySize(-2));
+
+    assertEquals(HttpServerOptions.DEFAULT_MAX_REQUEST_BODY_SIZE, options.getMaxRequestBodySize());
+    assertEquals(options, options.setMaxRequestBodySize(1024L));
+    assertEquals(1024L, options.getMaxRequestBodySize());
+    assertIllegalArgumentException(() -> options.setMaxRequestBodySize(-2));
+
+    assertFalse(options.isRangeRequestsSupported());
+    assertEquals(options, options.setRangeRequestsSupported(true));
+    assertTrue(options.isRangeRequestsSupported());
+
+    assertEquals(HttpServerOptions.DEFAULT_SSL_SESSION_CACHE_SIZE, options.getSslSessionCacheSize());
+    assertEquals(options, options.setSslSessionCacheSize(1000));
+    assertEquals(1000, options.getSslSessionCacheSize());
+    assertIllegalArgumentException(() -> options.setSslSessionCacheSize(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_SSL_SESSION_TIMEOUT, options.getSslSessionTimeout());
+    assertEquals(options, options.setSslSessionTimeout(3600));
+    assertEquals(3600, options.getSslSessionTimeout());
+    assertIllegalArgumentException(() -> options.setSslSessionTimeout(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_SSL_HANDSHAKE_POOL_SIZE, options.getSslHandshakePoolSize());
+    assertEquals(options, options.setSslHandshakePoolSize(4));
+    assertEquals(4, options.getSslHandshakePoolSize());
+    assertIllegalArgumentException(() -> options.setSslHandshakePoolSize(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_SNI_CACHE_SIZE, options.getSniCacheSize());
+    assertEquals(options, options.setSniCacheSize(100));
+    assertEquals(100, options.getSniCacheSize());
+    assertIllegalArgumentException(() -> options.setSniCacheSize(0));
+
   }
 
   @Test
@@ -493,6 +731,29 @@ public class Http1xTest extends HttpTest {
     boolean sendUnmaskedFrame = rand.nextBoolean();
     String localAddress = TestUtils.randomAlphaString(10);
     int decoderInitialBufferSize = TestUtils.randomPositiveInt();
+    boolean tryUsePerMessageWebsocketCompression = TestUtils.randomBoolean();
+    int websocketCompressionLevel = TestUtils.randomPositiveInt() % 10;
+    boolean websocketCompressionAllowClientNoContext = TestUtils.randomBoolean();
+    boolean websocketCompressionRequestServerNoContext = TestUtils.randomBoolean();
+    boolean websocketCompressionAllowClientWindowBits = TestUtils.randomBoolean();
+    int websocketCompressionRequestedServerWindowBits = 8 + TestUtils.randomPositiveInt() % 8;
+    int websocketCompressionMinFrameSize = TestUtils.randomPositiveInt();
+    boolean writeBatching = TestUtils.randomBoolean();
+    boolean poolPerEventLoop = TestUtils.randomBoolean();
+    int minIdleSize = TestUtils.randomPositiveInt();
+    int keepAliveTimeout = TestUtils.randomPositiveInt();
+    int maxLifetime = TestUtils.randomPositiveInt();
+    int poolCleanerPeriod = TestUtils.randomPositiveInt();
+    int responseCacheMaxSize = TestUtils.randomPositiveInt();
+    String responseCacheDir = TestUtils.randomAlphaString(10);
+    boolean requestCoalescing = rand.nextBoolean();
+    String coalescingHeader = TestUtils.randomAlphaString(10);
+    int hedgingDelay = TestUtils.randomPositiveInt();
+    int hedgingPercentile = TestUtils.randomPositiveInt() % 100;
+    int hedgingBudget = TestUtils.randomPositiveInt() % 101;
+    int sslSessionCacheSize = TestUtils.randomPositiveInt();
+    int sslSessionTimeout = TestUtils.randomPositiveInt();
+    int sslHandshakePoolSize = TestUtils.randomPositiveInt();
 
     options.setSendBufferSize(sendBufferSize);
     options.setReceiveBufferSize(receiverBufferSize);
@@ -533,6 +794,29 @@ public class Http1xTest extends HttpTest {
     options.setLocalAddress(localAddress);
     options.setSendUnmaskedFrames(sendUnmaskedFrame);
     options.setDecoderInitialBufferSize(decoderInitialBufferSize);
+    options.setTryUsePerMessageWebsocketCompression(tryUsePerMessageWebsocketCompression);
+    options.setWebsocketCompressionLevel(websocketCompressionLevel);
+    options.setWebsocketCompressionAllowClientNoContext(websocketCompressionAllowClientNoContext);
+    options.setWebsocketCompressionRequestServerNoContext(websocketCompressionRequestServerNoContext);
+    options.setWebsocketCompressionAllowClientWindowBits(websocketCompressionAllowClientWindowBits);
+    options.setWebsocketCompressionRequestedServerWindowBits(websocketCompressionRequestedServerWindowBits);
+    options.setWebsocketCompressionMinFrameSize(websocketCompressionMinFrameSize);
+    options.setWriteBatching(writeBatching);
+    options.setPoolPerEventLoop(poolPerEventLoop);
+    options.setMinIdleSize(minIdleSize);
+    options.setKeepAliveTimeout(keepAliveTimeout);
+    options.setMaxLifetime(maxLifetime);
+    options.setPoolCleanerPeriod(poolCleanerPeriod);
+    options.setResponseCacheMaxSize(responseCacheMaxSize);
+    options.setResponseCacheDir(responseCacheDir);
+    options.setRequestCoalescing(requestCoalescing);
+    options.addCoalescingHeader(coalescingHeader);
+    options.setHedgingDelay(hedgingDelay);
+    options.setHedgingPercentile(hedgingPercentile);
+    options.setHedgingBudget(hedgingBudget);
+    options.setSslSessionCacheSize(sslSessionCacheSize);
+    options.setSslSessionTimeout(sslSessionTimeout);
+    options.setSslHandshakePoolSize(sslHandshakePoolSize);
     HttpClientOptions copy = new HttpClientOptions(options);
     checkCopyHttpClientOptions(options, copy);
     HttpClientOptions copy2 = new HttpClientOptions(options.toJson());
@@ -587,6 +871,29 @@ public class Http1xTest extends HttpTest {
     assertEquals(options.isHttp2ClearTextUpgrade(), copy.isHttp2ClearTextUpgrade());
     assertEquals(options.getLocalAddress(), copy.getLocalAddress());
     assertEquals(options.isSendUnmaskedFrames(), copy.isSendUnmaskedFrames());
+    assertEquals(options.isTryUsePerMessageWebsocketCompression(), copy.isTryUsePerMessageWebsocketCompression());
+    assertEquals(options.getWebsocketCompressionLevel(), copy.getWebsocketCompressionLevel());
+    assertEquals(options.isWebsocketCompressionAllowClientNoContext(), copy.isWebsocketCompressionAllowClientNoContext());
+    assertEquals(options.isWebsocketCompressionRequestServerNoContext(), copy.isWebsocketCompressionRequestServerNoContext());
+    assertEquals(options.isWebsocketCompressionAllowClientWindowBits(), copy.isWebsocketCompressionAllowClientWindowBits());
+    assertEquals(options.getWebsocketCompressionRequestedServerWindowBits(), copy.getWebsocketCompressionRequestedServerWindowBits());
+    assertEquals(options.getWebsocketCompressionMinFrameSize(), copy.getWebsocketCompressionMinFrameSize());
+    assertEquals(options.isWriteBatching(), copy.isWriteBatching());
+    assertEquals(options.isPoolPerEventLoop(), copy.isPoolPerEventLoop());
+    assertEquals(options.getMinIdleSize(), copy.getMinIdleSize());
+    assertEquals(options.getKeepAliveTimeout(), copy.getKeepAliveTimeout());
+    assertEquals(options.getMaxLifetime(), copy.getMaxLifetime());
+    assertEquals(options.getPoolCleanerPeriod(), copy.getPoolCleanerPeriod());
+    assertEquals(options.getResponseCacheMaxSize(), copy.getResponseCacheMaxSize());
+    assertEquals(options.getResponseCacheDir(), copy.getResponseCacheDir());
+    assertEquals(options.isRequestCoalescing(), copy.isRequestCoalescing());
+    assertEquals(options.getCoalescingHeaders(), copy.getCoalescingHeaders());
+    assertEquals(options.getHedgingDelay(), copy.getHedgingDelay());
+    assertEquals(options.getHedgingPercentile(), copy.getHedgingPercentile());
+    assertEquals(options.getHedgingBudget(), copy.getHedgingBudget());
+    assertEquals(options.getSslSessionCacheSize(), copy.getSslSessionCacheSize());
+    assertEquals(options.getSslSessionTimeout(), copy.getSslSessionTimeout());
+    assertEquals(options.getSslHandshakePoolSize(), copy.getSslHandshakePoolSize());
   }
 
   @Test
@@ -623,6 +930,29 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isHttp2ClearTextUpgrade(), json.isHttp2ClearTextUpgrade());
     assertEquals(def.getLocalAddress(), json.getLocalAddress());
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
+    assertEquals(def.isTryUsePerMessageWebsocketCompression(), json.isTryUsePerMessageWebsocketCompression());
+    assertEquals(def.getWebsocketCompressionLevel(), json.getWebsocketCompressionLevel());
+    assertEquals(def.isWebsocketCompressionAllowClientNoContext(), json.isWebsocketCompressionAllowClientNoContext());
+    assertEquals(def.isWebsocketCompressionRequestServerNoContext(), json.isWebsocketCompressionRequestServerNoContext());
+    assertEquals(def.isWebsocketCompressionAllowClientWindowBits(), json.isWebsocketCompressionAllowClientWindowBits());
+    assertEquals(def.getWebsocketCompressionRequestedServerWindowBits(), json.getWebsocketCompressionRequestedServerWindowBits());
+    assertEquals(def.getWebsocketCompressionMinFrameSize(), json.getWebsocketCompressionMinFrameSize());
+    assertEquals(def.isWriteBatching(), json.isWriteBatching());
+    assertEquals(def.isPoolPerEventLoop(), json.isPoolPerEventLoop());
+    assertEquals(def.getMinIdleSize(), json.getMinIdleSize());
+    assertEquals(def.getKeepAliveTimeout(), json.getKeepAliveTimeout());
+    assertEquals(def.getMaxLifetime(), json.getMaxLifetime());
+    assertEquals(def.getPoolCleanerPeriod(), json.getPoolCleanerPeriod());
+    assertEquals(def.getResponseCacheMaxSize(), json.getResponseCacheMaxSize());
+    assertEquals(def.getResponseCacheDir(), json.getResponseCacheDir());
+    assertEquals(def.isRequestCoalescing(), json.isRequestCoalescing());
+    assertEquals(def.getCoalescingHeaders(), json.getCoalescingHeaders());
+    assertEquals(def.getHedgingDelay(), json.getHedgingDelay());
+    assertEquals(def.getHedgingPercentile(), json.getHedgingPercentile());
+    assertEquals(def.getHedgingBudget(), json.getHedgingBudget());
+    assertEquals(def.getSslSessionCacheSize(), json.getSslSessionCacheSize());
+    assertEquals(def.getSslSessionTimeout(), json.getSslSessionTimeout());
+    assertEquals(def.getSslHandshakePoolSize(), json.getSslHandshakePoolSize());
   }
 
   @Test
@@ -674,6 +1004,29 @@ public class Http1xTest extends HttpTest {
     boolean openSslSessionCacheEnabled = rand.nextBoolean();
     String localAddress = TestUtils.randomAlphaString(10);
     int decoderInitialBufferSize = TestUtils.randomPositiveInt();
+    boolean tryUsePerMessageWebsocketCompression = TestUtils.randomBoolean();
+    int websocketCompressionLevel = TestUtils.randomPositiveInt() % 10;
+    boolean websocketCompressionAllowClientNoContext = TestUtils.randomBoolean();
+    boolean websocketCompressionRequestServerNoContext = TestUtils.randomBoolean();
+    boolean websocketCompressionAllowClientWindowBits = TestUtils.randomBoolean();
+    int websocketCompressionRequestedServerWindowBits = 8 + TestUtils.randomPositiveInt() % 8;
+    int websocketCompressionMinFrameSize = TestUtils.randomPositiveInt();
+    boolean writeBatching = TestUtils.randomBoolean();
+    boolean poolPerEventLoop = TestUtils.randomBoolean();
+    int minIdleSize = TestUtils.randomPositiveInt();
+    int keepAliveTimeout = TestUtils.randomPositiveInt();
+    int maxLifetime = TestUtils.randomPositiveInt();
+    int poolCleanerPeriod = TestUtils.randomPositiveInt();
+    int responseCacheMaxSize = TestUtils.randomPositiveInt();
+    String responseCacheDir = TestUtils.randomAlphaString(10);
+    boolean requestCoalescing = rand.nextBoolean();
+    String coalescingHeader = TestUtils.randomAlphaString(10);
+    int hedgingDelay = TestUtils.randomPositiveInt();
+    int hedgingPercentile = TestUtils.randomPositiveInt() % 100;
+    int hedgingBudget = TestUtils.randomPositiveInt() % 101;
+    int sslSessionCacheSize = TestUtils.randomPositiveInt();
+    int sslSessionTimeout = TestUtils.randomPositiveInt();
+    int sslHandshakePoolSize = TestUtils.randomPositiveInt();
 
     JsonObject json = new JsonObject();
     json.put("sendBufferSize", sendBufferSize)
@@ -719,7 +1072,30 @@ public class Http1xTest extends HttpTest {
       .put("http2ClearTextUpgrade", h2cUpgrade)
       .put("openSslSessionCacheEnabled", openSslSessionCacheEnabled)
       .put("localAddress", localAddress)
-      .put("decoderInitialBufferSize", decoderInitialBufferSize);
+      .put("decoderInitialBufferSize", decoderInitialBufferSize)
+      .put("tryUsePerMessageWebsocketCompression", tryUsePerMessageWebsocketCompression)
+      .put("websocketCompressionLevel", websocketCompressionLevel)
+      .put("websocketCompressionAllowClientNoContext", websocketCompressionAllowClientNoContext)
+      .put("websocketCompressionRequestServerNoContext", websocketCompressionRequestServerNoContext)
+      .put("websocketCompressionAllowClientWindowBits", websocketCompressionAllowClientWindowBits)
+      .put("websocketCompressionRequestedServerWindowBits", websocketCompressionRequestedServerWindowBits)
+      .put("websocketCompressionMinFrameSize", websocketCompressionMinFrameSize)
+      .put("writeBatching", writeBatching)
+      .put("poolPerEventLoop", poolPerEventLoop)
+      .put("minIdleSize", minIdleSize)
+      .put("keepAliveTimeout", keepAliveTimeout)
+      .put("maxLifetime", maxLifetime)
+      .put("poolCleanerPeriod", poolCleanerPeriod)
+      .put("responseCacheMaxSize", responseCacheMaxSize)
+      .put("responseCacheDir", responseCacheDir)
+      .put("requestCoalescing", requestCoalescing)
+      .put("coalescingHeaders", new JsonArray().add(coalescingHeader))
+      .put("hedgingDelay", hedgingDelay)
+      .put("hedgingPercentile", hedgingPercentile)
+      .put("hedgingBudget", hedgingBudget)
+      .put("sslSessionCacheSize", sslSessionCacheSize)
+      .put("sslSessionTimeout", sslSessionTimeout)
+      .put("sslHandshakePoolSize", sslHandshakePoolSize);
 
     HttpClientOptions options = new HttpClientOptions(json);
     assertEquals(sendBufferSize, options.getSendBufferSize());
@@ -775,6 +1151,29 @@ public class Http1xTest extends HttpTest {
     assertEquals(h2cUpgrade, options.isHttp2ClearTextUpgrade());
     assertEquals(localAddress, options.getLocalAddress());
     assertEquals(decoderInitialBufferSize, options.getDecoderInitialBufferSize());
+    assertEquals(tryUsePerMessageWebsocketCompression, options.isTryUsePerMessageWebsocketCompression());
+    assertEquals(websocketCompressionLevel, options.getWebsocketCompressionLevel());
+    assertEquals(websocketCompressionAllowClientNoContext, options.isWebsocketCompressionAllowClientNoContext());
+    assertEquals(websocketCompressionRequestServerNoContext, options.isWebsocketCompressionRequestServerNoContext());
+    assertEquals(websocketCompressionAllowClientWindowBits, options.isWebsocketCompressionAllowClientWindowBits());
+    assertEquals(websocketCompressionRequestedServerWindowBits, options.getWebsocketCompressionRequestedServerWindowBits());
+    assertEquals(websocketCompressionMinFrameSize, options.getWebsocketCompressionMinFrameSize());
+    assertEquals(writeBatching, options.isWriteBatching());
+    assertEquals(poolPerEventLoop, options.isPoolPerEventLoop());
+    assertEquals(minIdleSize, options.getMinIdleSize());
+    assertEquals(keepAliveTimeout, options.getKeepAliveTimeout());
+    assertEquals(maxLifetime, options.getMaxLifetime());
+    assertEquals(poolCleanerPeriod, options.getPoolCleanerPeriod());
+    assertEquals(responseCacheMaxSize, options.getResponseCacheMaxSize());
+    assertEquals(responseCacheDir, options.getResponseCacheDir());
+    assertEquals(requestCoalescing, options.isRequestCoalescing());
+    assertEquals(Collections.singleton(coalescingHeader), options.getCoalescingHeaders());
+    assertEquals(hedgingDelay, options.getHedgingDelay());
+    assertEquals(hedgingPercentile, options.getHedgingPercentile());
+    assertEquals(hedgingBudget, options.getHedgingBudget());
+    assertEquals(sslSessionCacheSize, options.getSslSessionCacheSize());
+    assertEquals(sslSessionTimeout, options.getSslSessionTimeout());
+    assertEquals(sslHandshakePoolSize, options.getSslHandshakePoolSize());
 
     // Test other keystore/truststore types
     json.remove("keyStoreOptions");
@@ -834,6 +1233,29 @@ public class Http1xTest extends HttpTest {
     boolean decompressionSupported = rand.nextBoolean();
     boolean acceptUnmaskedFrames = rand.nextBoolean();
     int decoderInitialBufferSize = TestUtils.randomPositiveInt();
+    boolean precompressedFilesSupported = TestUtils.randomBoolean();
+    int fileCacheSize = TestUtils.randomPositiveInt();
+    long fileCacheValidity = TestUtils.randomPositiveLong();
+    boolean perMessageWebsocketCompressionSupported = TestUtils.randomBoolean();
+    int websocketCompressionLevel = TestUtils.randomPositiveInt() % 10;
+    boolean websocketAllowServerNoContext = TestUtils.randomBoolean();
+    boolean websocketPreferredClientNoContext = TestUtils.randomBoolean();
+    boolean websocketAllowServerWindowBits = TestUtils.randomBoolean();
+    int websocketPreferredClientWindowBits = 8 + TestUtils.randomPositiveInt() % 8;
+    int websocketCompressionMinFrameSize = TestUtils.randomPositiveInt();
+    boolean registerWebsocketWriteHandlers = TestUtils.randomBoolean();
+    int maxConcurrentRequests = TestUtils.randomPositiveInt();
+    int compressionMinSize = TestUtils.randomPositiveInt();
+    boolean writeBatching = TestUtils.randomBoolean();
+    boolean sendDateHeader = TestUtils.randomBoolean();
+    long maxMultipartPartSize = TestUtils.randomPositiveLong();
+    long maxMultipartBodySize = TestUtils.randomPositiveLong();
+    long maxRequestBodySize = TestUtils.randomPositiveLong();
+    boolean rangeRequestsSupported = TestUtils.randomBoolean();
+    int sslSessionCacheSize = TestUtils.randomPositiveInt();
+    int sslSessionTimeout = TestUtils.randomPositiveInt();
+    int sslHandshakePoolSize = TestUtils.randomPositiveInt();
+    int sniCacheSize = TestUtils.randomPositiveInt();
 
     options.setSendBufferSize(sendBufferSize);
     options.setReceiveBufferSize(receiverBufferSize);
@@ -866,6 +1288,31 @@ public class Http1xTest extends HttpTest {
     options.setDecompressionSupported(decompressionSupported);
     options.setAcceptUnmaskedFrames(acceptUnmaskedFrames);
     options.setDecoderInitialBufferSize(decoderInitialBufferSize);
+    options.setPrecompressedFilesSupported(precompressedFilesSupported);
+    options.setFileCacheSize(fileCacheSize);
+    options.setFileCacheValidity(fileCacheValidity);
+    options.setPerMessageWebsocketCompressionSupported(perMessageWebsocketCompressionSupported);
+    options.setWebsocketCompressionLevel(websocketCompressionLevel);
+    options.setWebsocketAllowServerNoContext(websocketAllowServerNoContext);
+    options.setWebsocketPreferredClientNoContext(websocketPreferredClientNoContext);
+    options.setWebsocketAllowServerWindowBits(websocketAllowServerWindowBits);
+    options.setWebsocketPreferredClientWindowBits(websocketPreferredClientWindowBits);
+    options.setWebsocketCompressionMinFrameSize(websocketCompressionMinFrameSize);
+    options.setRegisterWebsocketWriteHandlers(registerWebsocketWriteHandlers);
+    options.setMaxConcurrentRequests(maxConcurrentRequests);
+    options.setCompressionMinSize(compressionMinSize);
+    options.addCompressedContentType("application/json");
+    options.addUncompressedContentType("image/*");
+    options.setWriteBatching(writeBatching);
+    options.setSendDateHeader(sendDateHeader);
+    options.setMaxMultipartPartSize(maxMultipartPartSize);
+    options.setMaxMultipartBodySize(maxMultipartBodySize);
+    options.setMaxRequestBodySize(maxRequestBodySize);
+    options.setRangeRequestsSupported(rangeRequestsSupported);
+    options.setSslSessionCacheSize(sslSessionCacheSize);
+    options.setSslSessionTimeout(sslSessionTimeout);
+    options.setSslHandshakePoolSize(sslHandshakePoolSize);
+    options.setSniCacheSize(sniCacheSize);
 
     HttpServerOptions copy = new HttpServerOptions(options);
     checkCopyHttpServerOptions(options, copy);
@@ -914,6 +1361,31 @@ public class Http1xTest extends HttpTest {
     assertEquals(options.isDecompressionSupported(), copy.isDecompressionSupported());
     assertEquals(options.isAcceptUnmaskedFrames(), copy.isAcceptUnmaskedFrames());
     assertEquals(options.getDecoderInitialBufferSize(), copy.getDecoderInitialBufferSize());
+    assertEquals(options.isPrecompressedFilesSupported(), copy.isPrecompressedFilesSupported());
+    assertEquals(options.getFileCacheSize(), copy.getFileCacheSize());
+    assertEquals(options.getFileCacheValidity(), copy.getFileCacheValidity());
+    assertEquals(options.isPerMessageWebsocketCompressionSupported(), copy.isPerMessageWebsocketCompressionSupported());
+    assertEquals(options.getWebsocketCompressionLevel(), copy.getWebsocketCompressionLevel());
+    assertEquals(options.isWebsocketAllowServerNoContext(), copy.isWebsocketAllowServerNoContext());
+    assertEquals(options.isWebsocketPreferredClientNoContext(), copy.isWebsocketPreferredClientNoContext());
+    assertEquals(options.isWebsocketAllowServerWindowBits(), copy.isWebsocketAllowServerWindowBits());
+    assertEquals(options.getWebsocketPreferredClientWindowBits(), copy.getWebsocketPreferredClientWindowBits());
+    assertEquals(options.getWebsocketCompressionMinFrameSize(), copy.getWebsocketCompressionMinFrameSize());
+    assertEquals(options.isRegisterWebsocketWriteHandlers(), copy.isRegisterWebsocketWriteHandlers());
+    assertEquals(options.getMaxConcurrentRequests(), copy.getMaxConcurrentRequests());
+    assertEquals(options.getCompressionMinSize(), copy.getCompressionMinSize());
+    assertEquals(options.getCompressedContentTypes(), copy.getCompressedContentTypes());
+    assertEquals(options.getUncompressedContentTypes(), copy.getUncompressedContentTypes());
+    assertEquals(options.isWriteBatching(), copy.isWriteBatching());
+    assertEquals(options.isSendDateHeader(), copy.isSendDateHeader());
+    assertEquals(options.getMaxMultipartPartSize(), copy.getMaxMultipartPartSize());
+    assertEquals(options.getMaxMultipartBodySize(), copy.getMaxMultipartBodySize());
+    assertEquals(options.getMaxRequestBodySize(), copy.getMaxRequestBodySize());
+    assertEquals(options.isRangeRequestsSupported(), copy.isRangeRequestsSupported());
+    assertEquals(options.getSslSessionCacheSize(), copy.getSslSessionCacheSize());
+    assertEquals(options.getSslSessionTimeout(), copy.getSslSessionTimeout());
+    assertEquals(options.getSslHandshakePoolSize(), copy.getSslHandshakePoolSize());
+    assertEquals(options.getSniCacheSize(), copy.getSniCacheSize());
   }
 
   @Test
@@ -946,6 +1418,31 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isDecompressionSupported(), json.isDecompressionSupported());
     assertEquals(def.isAcceptUnmaskedFrames(), json.isAcceptUnmaskedFrames());
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
+    assertEquals(def.isPrecompressedFilesSupported(), json.isPrecompressedFilesSupported());
+    assertEquals(def.getFileCacheSize(), json.getFileCacheSize());
+    assertEquals(def.getFileCacheValidity(), json.getFileCacheValidity());
+    assertEquals(def.isPerMessageWebsocketCompressionSupported(), json.isPerMessageWebsocketCompressionSupported());
+    assertEquals(def.getWebsocketCompressionLevel(), json.getWebsocketCompressionLevel());
+    assertEquals(def.isWebsocketAllowServerNoContext(), json.isWebsocketAllowServerNoContext());
+    assertEquals(def.isWebsocketPreferredClientNoContext(), json.isWebsocketPreferredClientNoContext());
+    assertEquals(def.isWebsocketAllowServerWindowBits(), json.isWebsocketAllowServerWindowBits());
+    assertEquals(def.getWebsocketPreferredClientWindowBits(), json.getWebsocketPreferredClientWindowBits());
+    assertEquals(def.getWebsocketCompressionMinFrameSize(), json.getWebsocketCompressionMinFrameSize());
+    assertEquals(def.isRegisterWebsocketWriteHandlers(), json.isRegisterWebsocketWriteHandlers());
+    assertEquals(def.getMaxConcurrentRequests(), json.getMaxConcurrentRequests());
+    assertEquals(def.getCompressionMinSize(), json.getCompressionMinSize());
+    assertEquals(def.getCompressedContentTypes(), json.getCompressedContentTypes());
+    assertEquals(def.getUncompressedContentTypes(), json.getUncompressedContentTypes());
+    assertEquals(def.isWriteBatching(), json.isWriteBatching());
+    assertEquals(def.isSendDateHeader(), json.isSendDateHeader());
+    assertEquals(def.getMaxMultipartPartSize(), json.getMaxMultipartPartSize());
+    assertEquals(def.getMaxMultipartBodySize(), json.getMaxMultipartBodySize());
+    assertEquals(def.getMaxRequestBodySize(), json.getMaxRequestBodySize());
+    assertEquals(def.isRangeRequestsSupported(), json.isRangeRequestsSupported());
+    assertEquals(def.getSslSessionCacheSize(), json.getSslSessionCacheSize());
+    assertEquals(def.getSslSessionTimeout(), json.getSslSessionTimeout());
+    assertEquals(def.getSslHandshakePoolSize(), json.getSslHandshakePoolSize());
+    assertEquals(def.getSniCacheSize(), json.getSniCacheSize());
   }
 
   @Test
@@ -993,6 +1490,29 @@ public class Http1xTest extends HttpTest {
     boolean decompressionSupported = TestUtils.randomBoolean();
     boolean acceptUnmaskedFrames = TestUtils.randomBoolean();
     int decoderInitialBufferSize = TestUtils.randomPositiveInt();
+    boolean precompressedFilesSupported = TestUtils.randomBoolean();
+    int fileCacheSize = TestUtils.randomPositiveInt();
+    long fileCacheValidity = TestUtils.randomPositiveLong();
+    boolean perMessageWebsocketCompressionSupported = TestUtils.randomBoolean();
+    int websocketCompressionLevel = TestUtils.randomPositiveInt() % 10;
+    boolean websocketAllowServerNoContext = TestUtils.randomBoolean();
+    boolean websocketPreferredClientNoContext = TestUtils.randomBoolean();
+    boolean websocketAllowServerWindowBits = TestUtils.randomBoolean();
+    int websocketPreferredClientWindowBits = 8 + TestUtils.randomPositiveInt() % 8;
+    int websocketCompressionMinFrameSize = TestUtils.randomPositiveInt();
+    boolean registerWebsocketWriteHandlers = TestUtils.randomBoolean();
+    int maxConcurrentRequests = TestUtils.randomPositiveInt();
+    int compressionMinSize = TestUtils.randomPositiveInt();
+    boolean writeBatching = TestUtils.randomBoolean();
+    boolean sendDateHeader = TestUtils.randomBoolean();
+    long maxMultipartPartSize = TestUtils.randomPositiveLong();
+    long maxMultipartBodySize = TestUtils.randomPositiveLong();
+    long maxRequestBodySize = TestUtils.randomPositiveLong();
+    boolean rangeRequestsSupported = TestUtils.randomBoolean();
+    int sslSessionCacheSize = TestUtils.randomPositiveInt();
+    int sslSessionTimeout = TestUtils.randomPositiveInt();
+    int sslHandshakePoolSize = TestUtils.randomPositiveInt();
+    int sniCacheSize = TestUtils.randomPositiveInt();
 
     JsonObject json = new JsonObject();
     json.put("sendBufferSize", sendBufferSize)
@@ -1034,7 +1554,32 @@ public class Http1xTest extends HttpTest {
       .put("openSslSessionCacheEnabled", openSslSessionCacheEnabled)
       .put("decompressionSupported", decompressionSupported)
       .put("acceptUnmaskedFrames", acceptUnmaskedFrames)
-      .put("decoderInitialBufferSize", decoderInitialBufferSize);
+      .put("decoderInitialBufferSize", decoderInitialBufferSize)
+      .put("precompressedFilesSupported", precompressedFilesSupported)
+      .put("fileCacheSize", fileCacheSize)
+      .put("fileCacheValidity", fileCacheValidity)
+      .put("perMessageWebsocketCompressionSupported", perMessageWebsocketCompressionSupported)
+      .put("websocketCompressionLevel", websocketCompressionLevel)
+      .put("websocketAllowServerNoContext", websocketAllowServerNoContext)
+      .put("websocketPreferredClientNoContext", websocketPreferredClientNoContext)
+      .put("websocketAllowServerWindowBits", websocketAllowServerWindowBits)
+      .put("websocketPreferredClientWindowBits", websocketPreferredClientWindowBits)
+      .put("websocketCompressionMinFrameSize", websocketCompressionMinFrameSize)
+      .put("registerWebsocketWriteHandlers", registerWebsocketWriteHandlers)
+      .put("maxConcurrentRequests", maxConcurrentRequests)
+      .put("compressionMinSize", compressionMinSize)
+      .put("compressedContentTypes", new JsonArray().add("application/json"))
+      .put("uncompressedContentTypes", new JsonArray().add("image/*"))
+      .put("writeBatching", writeBatching)
+      .put("sendDateHeader", sendDateHeader)
+      .put("maxMultipartPartSize", maxMultipartPartSize)
+      .put("maxMultipartBodySize", maxMultipartBodySize)
+      .put("maxRequestBodySize", maxRequestBodySize)
+      .put("rangeRequestsSupported", rangeRequestsSupported)
+      .put("sslSessionCacheSize", sslSessionCacheSize)
+      .put("sslSessionTimeout", sslSessionTimeout)
+      .put("sslHandshakePoolSize", sslHandshakePoolSize)
+      .put("sniCacheSize", sniCacheSize);
 
     HttpServerOptions options = new HttpServerOptions(json);
     assertEquals(sendBufferSize, options.getSendBufferSize());
@@ -1085,6 +1630,31 @@ public class Http1xTest extends HttpTest {
     assertEquals(decompressionSupported, options.isDecompressionSupported());
     assertEquals(acceptUnmaskedFrames, options.isAcceptUnmaskedFrames());
     assertEquals(decoderInitialBufferSize, options.getDecoderInitialBufferSize());
+    assertEquals(precompressedFilesSupported, options.isPrecompressedFilesSupported());
+    assertEquals(fileCacheSize, options.getFileCacheSize());
+    assertEquals(fileCacheValidity, options.getFileCacheValidity());
+    assertEquals(perMessageWebsocketCompressionSupported, options.isPerMessageWebsocketCompressionSupported());
+    assertEquals(websocketCompressionLevel, options.getWebsocketCompressionLevel());
+    assertEquals(websocketAllowServerNoContext, options.isWebsocketAllowServerNoContext());
+    assertEquals(websocketPreferredClientNoContext, options.isWebsocketPreferredClientNoContext());
+    assertEquals(websocketAllowServerWindowBits, options.isWebsocketAllowServerWindowBits());
+    assertEquals(websocketPreferredClientWindowBits, options.getWebsocketPreferredClientWindowBits());
+    assertEquals(websocketCompressionMinFrameSize, options.getWebsocketCompressionMinFrameSize());
+    assertEquals(registerWebsocketWriteHandlers, options.isRegisterWebsocketWriteHandlers());
+    assertEquals(maxConcurrentRequests, options.getMaxConcurrentRequests());
+    assertEquals(compressionMinSize, options.getCompressionMinSize());
+    assertEquals(Collections.singleton("application/json"), options.getCompressedContentTypes());
+    assertEquals(Collections.singleton("image/*"), options.getUncompressedContentTypes());
+    assertEquals(writeBatching, options.isWriteBatching());
+    assertEquals(sendDateHeader, options.isSendDateHeader());
+    assertEquals(maxMultipartPartSize, options.getMaxMultipartPartSize());
+    assertEquals(maxMultipartBodySize, options.getMaxMultipartBodySize());
+    assertEquals(maxRequestBodySize, options.getMaxRequestBodySize());
+    assertEquals(rangeRequestsSupported, options.isRangeRequestsSupported());
+    assertEquals(sslSessionCacheSize, options.getSslSessionCacheSize());
+    assertEquals(sslSessionTimeout, options.getSslSessionTimeout());
+    assertEquals(sslHandshakePoolSize, options.getSslHandshakePoolSize());
+    assertEquals(sniCacheSize, options.getSniCacheSize());
 
     // Test other keystore/truststore types
     json.remove("keyStoreOptions");
@@ -1903,6 +2473,762 @@ public class Http1xTest extends HttpTest {
     testClientContext();
   }
 
+  @Test
+  public void testPoolPerEventLoop() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setPoolPerEventLoop(true).setMaxPoolSize(1));
+    AtomicReference<HttpServerRequest> held = new AtomicReference<>();
+    server.requestHandler(req -> {
+      if (req.path().equals("/hold")) {
+        held.set(req);
+      } else {
+        req.response().end("" + req.remoteAddress().port());
+      }
+    });
+    startServer();
+    ContextImpl ctx1 = createEventLoopContext();
+    ContextImpl ctx2 = createEventLoopContext();
+    while (ctx2.nettyEventLoop() == ctx1.nettyEventLoop()) {
+      ctx2 = createEventLoopContext();
+    }
+    ContextImpl ctx3 = ctx2;
+    // Each event loop uses its own connection
+    CompletableFuture<String> port1 = new CompletableFuture<>();
+    CompletableFuture<String> port2 = new CompletableFuture<>();
+    ctx1.runOnContext(v -> client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> port1.complete(body.toString()))));
+    ctx3.runOnContext(v -> client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> port2.complete(body.toString()))));
+    assertFalse(port1.get(10, TimeUnit.SECONDS).equals(port2.get(10, TimeUnit.SECONDS)));
+    ctx3.runOnContext(v -> {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/hold", resp -> {});
+    });
+    waitUntil(() -> held.get() != null);
+    String heldPort = "" + held.get().remoteAddress().port();
+    ctx3.runOnContext(v -> {
+      // The busy connection is not waited for, the idle connection of the other event loop is borrowed
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> {
+        assertFalse(heldPort.equals(body.toString()));
+        assertTrue(body.toString().equals(port1.join()) || body.toString().equals(port2.join()));
+        held.get().response().end();
+        testComplete();
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testPoolPerEventLoopDoesNotLendClosedConnection() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setPoolPerEventLoop(true).setMaxPoolSize(1));
+    AtomicReference<HttpServerRequest> held = new AtomicReference<>();
+    server.requestHandler(req -> {
+      if (req.path().equals("/hold")) {
+        held.set(req);
+      } else {
+        req.response().end("" + req.remoteAddress().port());
+      }
+    });
+    startServer();
+    ContextImpl ctx1 = createEventLoopContext();
+    ContextImpl ctx2 = createEventLoopContext();
+    while (ctx2.nettyEventLoop() == ctx1.nettyEventLoop()) {
+      ctx2 = createEventLoopContext();
+    }
+    ContextImpl ctx3 = ctx2;
+    CompletableFuture<HttpConnection> conn1 = new CompletableFuture<>();
+    ctx1.runOnContext(v -> client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> conn1.complete(resp.request().connection()))));
+    conn1.get(10, TimeUnit.SECONDS);
+    ctx3.runOnContext(v -> client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/hold", resp -> {}));
+    waitUntil(() -> held.get() != null);
+    String heldPort = "" + held.get().remoteAddress().port();
+    CountDownLatch borrowed = new CountDownLatch(1);
+    ctx1.runOnContext(v -> {
+      // The idle connection is closed but remains in the pool until its close handler runs after this task
+      ((ConnectionBase) conn1.join()).channel().close();
+      ctx3.runOnContext(v2 -> {
+        // The closed connection is not borrowed, the request waits for the connection of its event loop
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> {
+          assertEquals(heldPort, body.toString());
+          testComplete();
+        }));
+        borrowed.countDown();
+      });
+      try {
+        awaitLatch(borrowed);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+    });
+    awaitLatch(borrowed);
+    held.get().response().end();
+    await();
+  }
+
+  @Test
+  public void testPreconnect() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(3));
+    List<NetSocket> sockets = Collections.synchronizedList(new ArrayList<>());
+    startPoolServer(sockets);
+    client.preconnect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, 5, onSuccess(v -> {
+      AtomicInteger responses = new AtomicInteger();
+      for (int i = 0;i < 3;i++) {
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> {
+          assertEquals(200, resp.statusCode());
+          if (responses.incrementAndGet() == 3) {
+            assertEquals(3, sockets.size());
+            testComplete();
+          }
+        });
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testPreconnectFailure() throws Exception {
+    client.preconnect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, 2, onFailure(err -> testComplete()));
+    await();
+  }
+
+  @Test
+  public void testKeepAliveTimeout() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAliveTimeout(1).setPoolCleanerPeriod(100));
+    AtomicLong responseTime = new AtomicLong();
+    server.connectionHandler(conn -> conn.closeHandler(v -> {
+      long elapsed = System.currentTimeMillis() - responseTime.get();
+      assertTrue(elapsed >= 1000);
+      testComplete();
+    }));
+    server.requestHandler(req -> req.response().end());
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.endHandler(v -> responseTime.set(System.currentTimeMillis())));
+    await();
+  }
+
+  @Test
+  public void testMaxLifetime() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(1).setMaxLifetime(1).setPoolCleanerPeriod(100));
+    server.requestHandler(req -> req.response().end("" + req.remoteAddress().port()));
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp1 -> resp1.bodyHandler(body1 -> {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp2 -> resp2.bodyHandler(body2 -> {
+        assertEquals(body1, body2);
+        vertx.setTimer(1200, id -> {
+          client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp3 -> resp3.bodyHandler(body3 -> {
+            assertFalse(body1.equals(body3));
+            testComplete();
+          }));
+        });
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testMinIdleSize() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setMinIdleSize(2).setMaxPoolSize(4).setPoolCleanerPeriod(50));
+    List<NetSocket> sockets = Collections.synchronizedList(new ArrayList<>());
+    startPoolServer(sockets);
+    CompletableFuture<Void> preconnected = new CompletableFuture<>();
+    client.preconnect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, 1, onSuccess(preconnected::complete));
+    preconnected.get(10, TimeUnit.SECONDS);
+    assertWaitUntil(() -> sockets.size() == 2, 10000);
+    Thread.sleep(200);
+    assertEquals(2, sockets.size());
+    // The closed connections are replaced
+    sockets.get(0).close();
+    sockets.get(1).close();
+    assertWaitUntil(() -> sockets.size() == 4, 10000);
+    Thread.sleep(200);
+    assertEquals(4, sockets.size());
+  }
+
+  @Test
+  public void testResponseCacheFreshResponse() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    server.requestHandler(req -> {
+      requests.incrementAndGet();
+      req.response().putHeader("Cache-Control", "max-age=60").end("the-body");
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setResponseCacheMaxSize(1024));
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp1 -> resp1.bodyHandler(body1 -> {
+      assertEquals("the-body", body1.toString());
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp2 -> {
+        assertEquals(200, resp2.statusCode());
+        assertEquals("max-age=60", resp2.getHeader("Cache-Control"));
+        resp2.bodyHandler(body2 -> {
+          assertEquals("the-body", body2.toString());
+          assertEquals(1, requests.get());
+          testComplete();
+        });
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testResponseCacheRevalidation() throws Exception {
+    List<String> validators = Collections.synchronizedList(new ArrayList<>());
+    server.requestHandler(req -> {
+      String ifNoneMatch = req.getHeader("If-None-Match");
+      validators.add(String.valueOf(ifNoneMatch));
+      if ("\"v1\"".equals(ifNoneMatch)) {
+        req.response().setStatusCode(304).putHeader("ETag", "\"v1\"").putHeader("X-Revalidated", "true").end();
+      } else {
+        req.response().putHeader("ETag", "\"v1\"").end("the-body");
+      }
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setResponseCacheMaxSize(1024));
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp1 -> resp1.bodyHandler(body1 -> {
+      // A request with max-age=0 always revalidates the cached response
+      client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp2 -> {
+        assertEquals(200, resp2.statusCode());
+        assertEquals("true", resp2.getHeader("X-Revalidated"));
+        resp2.bodyHandler(body2 -> {
+          assertEquals("the-body", body2.toString());
+          assertEquals(Arrays.asList("null", "\"v1\""), validators);
+          testComplete();
+        });
+      }).putHeader("Cache-Control", "max-age=0").end();
+    }));
+    await();
+  }
+
+  @Test
+  public void testResponseCacheNoStore() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    server.requestHandler(req -> {
+      requests.incrementAndGet();
+      req.response().putHeader("Cache-Control", "no-store, max-age=60").end("the-body");
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setResponseCacheMaxSize(1024));
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp1 -> resp1.bodyHandler(body1 -> {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp2 -> resp2.bodyHandler(body2 -> {
+        assertEquals("the-body", body2.toString());
+        assertEquals(2, requests.get());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testResponseCacheEviction() throws Exception {
+    List<String> requests = Collections.synchronizedList(new ArrayList<>());
+    server.requestHandler(req -> {
+      requests.add(req.path());
+      req.response().putHeader("Cache-Control", "max-age=60").end(TestUtils.randomAlphaString(400));
+    });
+    startServer();
+    client.close();
+    // Two responses fit in the cache
+    client = vertx.createHttpClient(new HttpClientOptions().setResponseCacheMaxSize(1000));
+    String[] paths = {"/1", "/2", "/1", "/3", "/1", "/2"};
+    AtomicInteger index = new AtomicInteger();
+    Handler<Void>[] next = new Handler[1];
+    next[0] = v -> {
+      if (index.get() == paths.length) {
+        assertEquals(Arrays.asList("/1", "/2", "/3", "/2"), requests);
+        testComplete();
+      } else {
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, paths[index.getAndIncrement()], resp -> resp.bodyHandler(body -> next[0].handle(null)));
+      }
+    };
+    next[0].handle(null);
+    await();
+  }
+
+  @Test
+  public void testResponseCacheInvalidation() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    server.requestHandler(req -> {
+      requests.incrementAndGet();
+      req.response().putHeader("Cache-Control", "max-age=60").end(req.method().name());
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setResponseCacheMaxSize(1024));
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp1 -> resp1.bodyHandler(body1 -> {
+      client.post(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp2 -> resp2.bodyHandler(body2 -> {
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp3 -> resp3.bodyHandler(body3 -> {
+          assertEquals("GET", body3.toString());
+          assertEquals(3, requests.get());
+          testComplete();
+        }));
+      })).end();
+    }));
+    await();
+  }
+
+  @Test
+  public void testResponseCacheDir() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    Buffer expected = TestUtils.randomBuffer(4096);
+    server.requestHandler(req -> {
+      requests.incrementAndGet();
+      req.response().putHeader("Cache-Control", "max-age=60").end(expected);
+    });
+    startServer();
+    client.close();
+    File dir = new File(testDir, "cache");
+    client = vertx.createHttpClient(new HttpClientOptions().setResponseCacheMaxSize(8192).setResponseCacheDir(dir.getAbsolutePath()));
+    CountDownLatch latch = new CountDownLatch(1);
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp1 -> resp1.bodyHandler(body1 -> latch.countDown()));
+    awaitLatch(latch);
+    // The response is cached once its file is written
+    assertWaitUntil(() -> dir.listFiles().length == 1 && dir.listFiles()[0].length() == expected.length());
+    Thread.sleep(200);
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp2 -> resp2.bodyHandler(body2 -> {
+      assertEquals(expected, body2);
+      assertEquals(1, requests.get());
+      client.close();
+      client = vertx.createHttpClient();
+      testComplete();
+    }));
+    await();
+    // The files are deleted when the client is closed
+    assertWaitUntil(() -> dir.list().length == 0);
+  }
+
+  @Test
+  public void testRequestCoalescing() throws Exception {
+    int num = 5;
+    waitFor(num);
+    AtomicInteger requests = new AtomicInteger();
+    server.requestHandler(req -> {
+      requests.incrementAndGet();
+      vertx.setTimer(100, id -> req.response().putHeader("X-Response", "the-value").end("the-body"));
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setRequestCoalescing(true));
+    for (int i = 0;i < num;i++) {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> {
+        assertEquals(200, resp.statusCode());
+        assertEquals("the-value", resp.getHeader("X-Response"));
+        resp.bodyHandler(body -> {
+          assertEquals("the-body", body.toString());
+          assertEquals(1, requests.get());
+          complete();
+        });
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testRequestCoalescingHeaders() throws Exception {
+    waitFor(4);
+    List<String> requests = Collections.synchronizedList(new ArrayList<>());
+    server.requestHandler(req -> {
+      requests.add(req.getHeader("X-Key"));
+      vertx.setTimer(100, id -> req.response().end(req.getHeader("X-Key")));
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setRequestCoalescing(true).addCoalescingHeader("X-Key"));
+    String[][] headers = {{"a", "1"}, {"a", "2"}, {"b", "1"}, {"b", "2"}};
+    for (String[] header : headers) {
+      client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> {
+        // Only the key headers identify a request
+        assertEquals(header[0], body.toString());
+        assertEquals(2, requests.size());
+        complete();
+      })).putHeader("X-Key", header[0]).putHeader("X-Other", header[1]).end();
+    }
+    await();
+  }
+
+  @Test
+  public void testRequestCoalescingDistinctHeaders() throws Exception {
+    waitFor(2);
+    AtomicInteger requests = new AtomicInteger();
+    server.requestHandler(req -> {
+      requests.incrementAndGet();
+      vertx.setTimer(100, id -> req.response().end(req.getHeader("Authorization")));
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setRequestCoalescing(true));
+    for (String authorization : Arrays.asList("user1", "user2")) {
+      client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> {
+        assertEquals(authorization, body.toString());
+        assertEquals(2, requests.get());
+        complete();
+      })).putHeader("Authorization", authorization).end();
+    }
+    await();
+  }
+
+  @Test
+  public void testRequestCoalescingFailure() throws Exception {
+    int num = 3;
+    waitFor(num);
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setRequestCoalescing(true));
+    for (int i = 0;i < num;i++) {
+      client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> fail()).exceptionHandler(err -> complete()).end();
+    }
+    await();
+  }
+
+  @Test
+  public void testRequestCoalescingLeaderReset() throws Exception {
+    waitFor(2);
+    server.requestHandler(req -> vertx.setTimer(100, id -> req.response().end("the-body")));
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setRequestCoalescing(true));
+    HttpClientRequest leader = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> fail());
+    leader.end();
+    for (int i = 0;i < 2;i++) {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> {
+        assertEquals("the-body", body.toString());
+        complete();
+      }));
+    }
+    // The coalesced requests are sent when the leader is reset
+    leader.reset();
+    await();
+  }
+
+  @Test
+  public void testEndpointGroupOptions() {
+    EndpointGroupOptions options = new EndpointGroupOptions();
+    assertEquals(EndpointGroupOptions.DEFAULT_REFRESH_PERIOD, options.getRefreshPeriod());
+    assertEquals(EndpointGroupOptions.DEFAULT_FAILURE_THRESHOLD, options.getFailureThreshold());
+    assertEquals(EndpointGroupOptions.DEFAULT_EJECTION_TIME, options.getEjectionTime());
+    assertEquals(EndpointGroupOptions.DEFAULT_LATENCY_DECAY, options.getLatencyDecay());
+    assertEquals(options, options.setRefreshPeriod(0));
+    assertEquals(0, options.getRefreshPeriod());
+    assertIllegalArgumentException(() -> options.setRefreshPeriod(-1));
+    assertEquals(options, options.setFailureThreshold(2));
+    assertEquals(2, options.getFailureThreshold());
+    assertIllegalArgumentException(() -> options.setFailureThreshold(-1));
+    assertEquals(options, options.setEjectionTime(500));
+    assertEquals(500, options.getEjectionTime());
+    assertIllegalArgumentException(() -> options.setEjectionTime(0));
+    assertEquals(options, options.setLatencyDecay(1000));
+    assertEquals(1000, options.getLatencyDecay());
+    assertIllegalArgumentException(() -> options.setLatencyDecay(0));
+    assertEquals(options, new EndpointGroupOptions(options));
+    JsonObject json = new JsonObject()
+      .put("refreshPeriod", 0)
+      .put("failureThreshold", 2)
+      .put("ejectionTime", 500)
+      .put("latencyDecay", 1000);
+    assertEquals(json, options.toJson());
+    assertEquals(options, new EndpointGroupOptions(json));
+  }
+
+  @Test
+  public void testEndpointGroup() throws Exception {
+    int num = 10;
+    Map<Integer, AtomicInteger> requests = new ConcurrentHashMap<>();
+    startEndpointServers(requests, 0, 0);
+    client.endpointGroup("backend", EndpointGroup.create(Arrays.asList(
+      SocketAddress.inetSocketAddress(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST),
+      SocketAddress.inetSocketAddress(DEFAULT_HTTP_PORT + 1, DEFAULT_HTTP_HOST))));
+    sendEndpointRequests(num, (ok, failed) -> {
+      assertEquals(num, (int) ok);
+      assertEquals(2, requests.size());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testEndpointGroupLatency() throws Exception {
+    int num = 10;
+    Map<Integer, AtomicInteger> requests = new ConcurrentHashMap<>();
+    startEndpointServers(requests, 0, 200);
+    client.endpointGroup("backend", EndpointGroup.create(Arrays.asList(
+      SocketAddress.inetSocketAddress(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST),
+      SocketAddress.inetSocketAddress(DEFAULT_HTTP_PORT + 1, DEFAULT_HTTP_HOST))));
+    sendEndpointRequests(num, (ok, failed) -> {
+      // The slow endpoint is avoided once its latency is known
+      assertTrue(requests.get(DEFAULT_HTTP_PORT + 1).get() <= 2);
+      assertEquals(num, requests.get(DEFAULT_HTTP_PORT).get() + requests.get(DEFAULT_HTTP_PORT + 1).get());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testEndpointGroupEjection() throws Exception {
+    int num = 10;
+    Map<Integer, AtomicInteger> requests = new ConcurrentHashMap<>();
+    server.requestHandler(req -> {
+      requests.computeIfAbsent(req.localAddress().port(), port -> new AtomicInteger()).incrementAndGet();
+      req.response().end();
+    });
+    startServer();
+    // Nothing listens on the second endpoint
+    client.endpointGroup("backend", EndpointGroup.create(Arrays.asList(
+      SocketAddress.inetSocketAddress(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST),
+      SocketAddress.inetSocketAddress(DEFAULT_HTTP_PORT + 1, DEFAULT_HTTP_HOST))),
+      new EndpointGroupOptions().setFailureThreshold(1));
+    sendEndpointRequests(num, (ok, failed) -> {
+      assertTrue(failed <= 1);
+      assertEquals(num - failed, requests.get(DEFAULT_HTTP_PORT).get());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testEndpointGroupResolver() throws Exception {
+    int num = 5;
+    Map<Integer, AtomicInteger> requests = new ConcurrentHashMap<>();
+    startEndpointServers(requests, 0, 0);
+    AtomicInteger resolutions = new AtomicInteger();
+    client.endpointGroup("backend", EndpointGroup.create(fut -> {
+      resolutions.incrementAndGet();
+      vertx.setTimer(10, id -> fut.complete(Collections.singletonList(SocketAddress.inetSocketAddress(DEFAULT_HTTP_PORT + 1, DEFAULT_HTTP_HOST))));
+    }), new EndpointGroupOptions().setRefreshPeriod(0));
+    client.endpointGroup("broken", EndpointGroup.create(fut -> fut.fail("the-failure")));
+    client.get(DEFAULT_HTTP_PORT, "broken", "/", resp -> fail()).exceptionHandler(err -> {
+      assertEquals("the-failure", err.getMessage());
+      sendEndpointRequests(num, (ok, failed) -> {
+        assertEquals(num, (int) ok);
+        assertEquals(num, requests.get(DEFAULT_HTTP_PORT + 1).get());
+        assertEquals(1, resolutions.get());
+        testComplete();
+      });
+    }).end();
+    await();
+  }
+
+  @Test
+  public void testHedging() throws Exception {
+    waitFor(2);
+    AtomicInteger requests = new AtomicInteger();
+    server.requestHandler(req -> {
+      if (requests.incrementAndGet() == 1) {
+        // The first request is stuck, its connection is closed when the hedge wins
+        req.connection().closeHandler(v -> complete());
+      } else {
+        req.response().end("the-hedge");
+      }
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setHedgingDelay(100).setHedgingBudget(100));
+    HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> {
+      assertEquals("the-hedge", body.toString());
+      assertEquals(2, requests.get());
+      complete();
+    }));
+    req.exceptionHandler(err -> fail(err));
+    req.end();
+    await();
+  }
+
+  @Test
+  public void testHedgingPrimaryWins() throws Exception {
+    waitFor(2);
+    AtomicInteger requests = new AtomicInteger();
+    server.requestHandler(req -> {
+      if (requests.incrementAndGet() == 1) {
+        vertx.setTimer(200, id -> req.response().end("the-primary"));
+      } else {
+        // The hedge is stuck, its connection is closed when the primary wins
+        req.connection().closeHandler(v -> complete());
+      }
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setHedgingDelay(50).setHedgingBudget(100));
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(body -> {
+      assertEquals("the-primary", body.toString());
+      assertEquals(2, requests.get());
+      complete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testHedgingDoesNotNestConnectionLocks() throws Exception {
+    // The primary and the hedge use the connections of different event loops, the primary gets its response while
+    // the connection of the hedge is locked by another thread
+    List<HttpServerResponse> warmups = new ArrayList<>();
+    List<HttpServerRequest> held = Collections.synchronizedList(new ArrayList<>());
+    server.requestHandler(req -> {
+      if (req.path().equals("/warmup")) {
+        warmups.add(req.response());
+        if (warmups.size() == 2) {
+          warmups.forEach(HttpServerResponse::end);
+        }
+      } else {
+        held.add(req);
+      }
+    });
+    startServer();
+    ContextImpl ctx1 = createEventLoopContext();
+    ContextImpl ctx2 = createEventLoopContext();
+    while (ctx2.nettyEventLoop() == ctx1.nettyEventLoop()) {
+      ctx2 = createEventLoopContext();
+    }
+    ContextImpl ctx3 = ctx2;
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(2).setHedgingDelay(500).setHedgingBudget(100));
+    CompletableFuture<HttpConnection> conn1 = new CompletableFuture<>();
+    CompletableFuture<HttpConnection> conn2 = new CompletableFuture<>();
+    ctx1.runOnContext(v -> client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/warmup", resp -> conn1.complete(resp.request().connection())));
+    ctx3.runOnContext(v -> client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/warmup", resp -> conn2.complete(resp.request().connection())));
+    HttpConnection connA = conn1.get(10, TimeUnit.SECONDS);
+    HttpConnection connB = conn2.get(10, TimeUnit.SECONDS);
+    CompletableFuture<String> body = new CompletableFuture<>();
+    AtomicReference<HttpClientRequest> primary = new AtomicReference<>();
+    ctx1.runOnContext(v -> {
+      HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.bodyHandler(buff -> body.complete(buff.toString())));
+      primary.set(req);
+      req.end();
+    });
+    waitUntil(() -> held.size() == 2);
+    HttpConnection hedgeConn = primary.get().connection() == connA ? connB : connA;
+    synchronized (hedgeConn) {
+      held.get(0).response().end("the-primary");
+      assertEquals("the-primary", body.get(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void testHedgingBudget() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    server.requestHandler(req -> {
+      requests.incrementAndGet();
+      vertx.setTimer(200, id -> req.response().end());
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setHedgingDelay(50).setHedgingBudget(0));
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.endHandler(v -> {
+      assertEquals(1, requests.get());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testHedgingNotIdempotent() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    server.requestHandler(req -> {
+      requests.incrementAndGet();
+      vertx.setTimer(200, id -> req.response().end());
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setHedgingDelay(50).setHedgingBudget(100));
+    client.post(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.endHandler(v -> {
+      assertEquals(1, requests.get());
+      testComplete();
+    })).end();
+    await();
+  }
+
+  @Test
+  public void testHedgingPercentile() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    int num = 16;
+    server.requestHandler(req -> {
+      // The request following the fast requests is stuck
+      if (requests.incrementAndGet() != num + 1) {
+        req.response().end();
+      }
+    });
+    startServer();
+    client.close();
+    // The hedging delay is only used until the latencies are known
+    client = vertx.createHttpClient(new HttpClientOptions().setHedgingDelay(60000).setHedgingPercentile(50).setHedgingBudget(100));
+    AtomicInteger count = new AtomicInteger();
+    Handler<Void>[] next = new Handler[1];
+    next[0] = v -> {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> resp.endHandler(v2 -> {
+        if (count.incrementAndGet() <= num) {
+          next[0].handle(null);
+        } else {
+          assertEquals(num + 2, requests.get());
+          testComplete();
+        }
+      }));
+    };
+    next[0].handle(null);
+    await();
+  }
+
+  private void startEndpointServers(Map<Integer, AtomicInteger> requests, long delay1, long delay2) throws Exception {
+    long[] delays = {delay1, delay2};
+    for (int i = 0;i < 2;i++) {
+      long delay = delays[i];
+      HttpServer endpoint = i == 0 ? server : vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT + 1).setHost(DEFAULT_HTTP_HOST));
+      endpoint.requestHandler(req -> {
+        // The request keeps the logical host
+        assertEquals("backend", req.host().substring(0, req.host().lastIndexOf(':')));
+        requests.computeIfAbsent(req.localAddress().port(), port -> new AtomicInteger()).incrementAndGet();
+        if (delay > 0) {
+          vertx.setTimer(delay, id -> req.response().end());
+        } else {
+          req.response().end();
+        }
+      });
+      startServer(endpoint);
+    }
+  }
+
+  /**
+   * Send requests one after the other to the {@code backend} group, the handler is called with the number of
+   * succeeded and failed requests.
+   */
+  private void sendEndpointRequests(int num, BiConsumer<Integer, Integer> handler) {
+    AtomicInteger ok = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    Handler<Void>[] next = new Handler[1];
+    next[0] = v -> {
+      if (ok.get() + failed.get() == num) {
+        handler.accept(ok.get(), failed.get());
+        return;
+      }
+      client.get(DEFAULT_HTTP_PORT, "backend", "/", resp -> {
+        assertEquals(200, resp.statusCode());
+        resp.endHandler(v2 -> {
+          ok.incrementAndGet();
+          next[0].handle(null);
+        });
+      }).exceptionHandler(err -> {
+        failed.incrementAndGet();
+        next[0].handle(null);
+      }).end();
+    };
+    next[0].handle(null);
+  }
+
+  private void startPoolServer(List<NetSocket> sockets) throws Exception {
+    // A net server sees the connections before the first request
+    server.close();
+    NetServer netServer = vertx.createNetServer(new NetServerOptions().setHost(DEFAULT_HTTP_HOST).setPort(DEFAULT_HTTP_PORT));
+    netServer.connectHandler(so -> {
+      sockets.add(so);
+      so.handler(buff -> so.write("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n"));
+    });
+    CountDownLatch latch = new CountDownLatch(1);
+    netServer.listen(onSuccess(s -> latch.countDown()));
+    awaitLatch(latch);
+  }
+
+  private ContextImpl createEventLoopContext() {
+    return ((VertxInternal) vertx).createEventLoopContext(null, null, new JsonObject(), Thread.currentThread().getContextClassLoader());
+  }
+
   private void testClientContext() throws Exception {
     CountDownLatch serverLatch = new CountDownLatch(1);
     server.requestHandler(req -> {
@@ -3712,4 +5038,313 @@ public class Http1xTest extends HttpTest {
     }));
     await();
   }
+
+  @Test
+  public void testSendFilePrecompressed() throws Exception {
+    String content = TestUtils.randomAlphaString(10000);
+    File file = setupFile("test-send-file.html", content);
+    File gz = new File(file.getAbsolutePath() + ".gz");
+    try (GZIPOutputStream out = new GZIPOutputStream(new FileOutputStream(gz))) {
+      out.write(content.getBytes("UTF-8"));
+    }
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setPrecompressedFilesSupported(true));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.request(HttpMethod.GET, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals("gzip", resp.getHeader("Content-Encoding"));
+      assertEquals("Accept-Encoding", resp.getHeader("Vary"));
+      assertEquals("text/html", resp.getHeader("Content-Type"));
+      assertEquals(gz.length(), Long.parseLong(resp.getHeader("Content-Length")));
+      resp.bodyHandler(buff -> {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(buff.getBytes()))) {
+          ByteArrayOutputStream out = new ByteArrayOutputStream();
+          byte[] b = new byte[1024];
+          for (int len = in.read(b);len != -1;len = in.read(b)) {
+            out.write(b, 0, len);
+          }
+          assertEquals(content, out.toString("UTF-8"));
+        } catch (IOException e) {
+          fail(e);
+        }
+        testComplete();
+      });
+    }).putHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=1.0, identity;q=0.5").end();
+    await();
+  }
+
+  @Test
+  public void testSendFilePrecompressedNotAccepted() throws Exception {
+    String content = TestUtils.randomAlphaString(10000);
+    File file = setupFile("test-send-file.html", content);
+    File gz = setupFile("test-send-file.html.gz", "not-gzip");
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setPrecompressedFilesSupported(true));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.request(HttpMethod.GET, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertNull(resp.getHeader("Content-Encoding"));
+      assertEquals(file.length(), Long.parseLong(resp.getHeader("Content-Length")));
+      resp.bodyHandler(buff -> {
+        assertEquals(content, buff.toString());
+        assertTrue(gz.delete());
+        testComplete();
+      });
+    }).putHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0").end();
+    await();
+  }
+
+  @Test
+  public void testAcceptsGzip() {
+    assertFalse(HttpUtils.acceptsGzip(null));
+    assertFalse(HttpUtils.acceptsGzip("identity"));
+    assertTrue(HttpUtils.acceptsGzip("gzip"));
+    assertTrue(HttpUtils.acceptsGzip("deflate, GZIP;q=0.5"));
+    assertFalse(HttpUtils.acceptsGzip("gzip;q=0"));
+    assertTrue(HttpUtils.acceptsGzip("*"));
+    assertFalse(HttpUtils.acceptsGzip("*;q=0"));
+    assertFalse(HttpUtils.acceptsGzip("*;q=1, gzip;q=0"));
+    assertFalse(HttpUtils.acceptsGzip("gzip;q=0, *"));
+    assertTrue(HttpUtils.acceptsGzip("*;q=0, gzip"));
+  }
+
+  @Test
+  public void testSendFileCached() throws Exception {
+    File file = setupFile("test-send-file.html", "first");
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setFileCacheSize(4).setFileCacheValidity(0));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+      resp1.bodyHandler(buff1 -> {
+        assertEquals("first", buff1.toString());
+        try {
+          setupFile("test-send-file.html", "second-version");
+        } catch (Exception e) {
+          fail(e);
+        }
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+          resp2.bodyHandler(buff2 -> {
+            assertEquals("second-version", buff2.toString());
+            testComplete();
+          });
+        });
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testSendFileCachedSSL() throws Exception {
+    // The chunks of a cached file are read without using the position of the shared file channel
+    String content = TestUtils.randomAlphaString(100000);
+    File file = setupFile("test-send-file.html", content);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+        .setPort(DEFAULT_HTTPS_PORT)
+        .setHost(DEFAULT_HTTPS_HOST)
+        .setSsl(true)
+        .setKeyStoreOptions(Cert.SERVER_JKS.get())
+        .setFileCacheSize(4));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setSsl(true).setTrustAll(true));
+    AtomicInteger count = new AtomicInteger();
+    AtomicReference<Runnable> request = new AtomicReference<>();
+    request.set(() -> client.getNow(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, DEFAULT_TEST_URI, resp -> {
+      resp.bodyHandler(buff -> {
+        assertEquals(content, buff.toString());
+        if (count.incrementAndGet() == 2) {
+          // Then after the concurrent transfers
+          request.get().run();
+        }
+        complete();
+      });
+    }));
+    waitFor(3);
+    // At the same time
+    request.get().run();
+    request.get().run();
+    await();
+  }
+
+  @Test
+  public void testSendFileRangePrecompressed() throws Exception {
+    String content = TestUtils.randomAlphaString(10000);
+    File file = setupFile("test-send-file.html", content);
+    File gz = new File(file.getAbsolutePath() + ".gz");
+    try (GZIPOutputStream out = new GZIPOutputStream(new FileOutputStream(gz))) {
+      out.write(content.getBytes("UTF-8"));
+    }
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST)
+      .setRangeRequestsSupported(true)
+      .setPrecompressedFilesSupported(true)
+      .setCompressionSupported(true)
+      .setFileCacheSize(4));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.request(HttpMethod.GET, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+      assertEquals(200, resp1.statusCode());
+      assertEquals("gzip", resp1.getHeader("Content-Encoding"));
+      // The entity tag of an encoded body is weak
+      assertTrue(resp1.getHeader("ETag").startsWith("W/"));
+      resp1.bodyHandler(buff1 -> {
+        // A range is served from the file as is
+        client.request(HttpMethod.GET, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+          assertEquals(206, resp2.statusCode());
+          assertNull(resp2.getHeader("Content-Encoding"));
+          resp2.bodyHandler(buff2 -> {
+            String boundary = resp2.getHeader("Content-Type").substring("multipart/byteranges; boundary=".length());
+            assertEquals(
+              "\r\n--" + boundary + "\r\n" +
+              "Content-Type: text/html\r\n" +
+              "Content-Range: bytes 0-99/10000\r\n" +
+              "\r\n" +
+              content.substring(0, 100) +
+              "\r\n--" + boundary + "\r\n" +
+              "Content-Type: text/html\r\n" +
+              "Content-Range: bytes 5000-5099/10000\r\n" +
+              "\r\n" +
+              content.substring(5000, 5100) +
+              "\r\n--" + boundary + "--\r\n", buff2.toString());
+            testComplete();
+          });
+        }).putHeader(HttpHeaders.ACCEPT_ENCODING, "gzip").putHeader("Range", "bytes=0-99,5000-5099").end();
+      });
+    }).putHeader(HttpHeaders.ACCEPT_ENCODING, "gzip").end();
+    await();
+  }
+
+  @Test
+  public void testWriteBatching() throws Exception {
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0;i < 100;i++) {
+      expected.append("chunk-").append(i).append(',');
+    }
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setWriteBatching(true));
+    server.requestHandler(req -> {
+      // Write outside of the read
+      vertx.setTimer(1, id -> {
+        HttpServerResponse resp = req.response().setChunked(true);
+        for (int i = 0;i < 100;i++) {
+          resp.write("chunk-" + i + ",");
+        }
+        resp.end();
+      });
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setWriteBatching(true));
+    vertx.runOnContext(v -> {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+        resp.bodyHandler(body -> {
+          assertEquals(expected.toString(), body.toString());
+          testComplete();
+        });
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testWriteBatchingFlushedOnClose() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setWriteBatching(true));
+    server.requestHandler(req -> {
+      vertx.setTimer(1, id -> {
+        req.response().end("the-body");
+        req.connection().close();
+      });
+    });
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      resp.bodyHandler(body -> {
+        assertEquals("the-body", body.toString());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testHeaderBlock() throws Exception {
+    HttpHeaderBlock block = HttpHeaderBlock.create(MultiMap.caseInsensitiveMultiMap()
+      .add("Content-Type", "text/plain")
+      .add("Server", "vert.x")
+      .add("X-Multi", "foo")
+      .add("X-Multi", "bar"));
+    server.requestHandler(req -> {
+      HttpServerResponse resp = req.response();
+      resp.putHeader("X-Multi", "juu");
+      resp.putHeaders(block);
+      assertEquals("text/plain", resp.headers().get("content-type"));
+      assertEquals(Arrays.asList("foo", "bar"), resp.headers().getAll("X-Multi"));
+      switch (req.path()) {
+        case "/override":
+          resp.putHeader("Server", "other");
+          break;
+        case "/remove":
+          resp.headers().remove("content-type");
+          break;
+      }
+      resp.end("the-body");
+    });
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> {
+      assertEquals("text/plain", resp.getHeader("Content-Type"));
+      assertEquals("vert.x", resp.getHeader("Server"));
+      assertEquals(Arrays.asList("foo", "bar"), resp.headers().getAll("X-Multi"));
+      assertEquals("8", resp.getHeader("Content-Length"));
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/override", resp2 -> {
+        assertEquals("text/plain", resp2.getHeader("Content-Type"));
+        assertEquals("other", resp2.getHeader("Server"));
+        assertEquals(Arrays.asList("foo", "bar"), resp2.headers().getAll("X-Multi"));
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/remove", resp3 -> {
+          assertNull(resp3.getHeader("Content-Type"));
+          assertEquals("vert.x", resp3.getHeader("Server"));
+          resp3.bodyHandler(body -> {
+            assertEquals("the-body", body.toString());
+            testComplete();
+          });
+        });
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testInvalidHeaderBlock() {
+    try {
+      HttpHeaderBlock.create(MultiMap.caseInsensitiveMultiMap().add("X-Foo", "foo\r\nX-Bar: bar"));
+      fail();
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+
+  @Test
+  public void testSendDateHeader() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setSendDateHeader(true));
+    server.requestHandler(req -> {
+      if (req.path().equals("/date")) {
+        req.response().putHeader("Date", "Thu, 01 Jan 1970 00:00:00 GMT");
+      }
+      req.response().end();
+    });
+    startServer();
+    long now = System.currentTimeMillis();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> {
+      Date date = DateFormatter.parseHttpDate(resp.getHeader("Date"));
+      assertNotNull(date);
+      assertTrue(Math.abs(date.getTime() - now) < 5000);
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/date", resp2 -> {
+        assertEquals(Collections.singletonList("Thu, 01 Jan 1970 00:00:00 GMT"), resp2.headers().getAll("Date"));
+        testComplete();
+      });
+    });
+    await();
+  }
 }
@@ -58,6 +58,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerOptions;
@@ -78,6 +79,7 @@ import java.net.ConnectException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -1707,6 +1709,68 @@ public class Http2ClientTest extends Http2TestBase {
     await();
   }
 
+  @Test
+  public void testStreamsOnLeastLoadedConnection() throws Exception {
+    List<HttpServerRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    startClearTextPoolServer(requests, conn -> {});
+    client = vertx.createHttpClient(clientOptions.setDefaultPort(DEFAULT_HTTP_PORT).setUseAlpn(false).setSsl(false)
+      .setHttp2ClearTextUpgrade(false).setHttp2MaxPoolSize(2));
+    CompletableFuture<Void> preconnected = new CompletableFuture<>();
+    client.preconnect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, 2, onSuccess(preconnected::complete));
+    preconnected.get(10, TimeUnit.SECONDS);
+    AtomicInteger responses = new AtomicInteger();
+    for (int i = 0;i < 4;i++) {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp -> {
+        if (responses.incrementAndGet() == 4) {
+          testComplete();
+        }
+      });
+    }
+    assertWaitUntil(() -> requests.size() == 4, 10000);
+    Map<HttpConnection, Integer> streams = new HashMap<>();
+    requests.forEach(req -> streams.merge(req.connection(), 1, Integer::sum));
+    assertEquals(2, streams.size());
+    assertEquals(Arrays.asList(2, 2), new ArrayList<>(streams.values()));
+    requests.forEach(req -> req.response().end());
+    await();
+  }
+
+  @Test
+  public void testPoolGrowsWhenConnectionsAreBusy() throws Exception {
+    List<HttpServerRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    Set<HttpConnection> serverConns = Collections.synchronizedSet(new HashSet<>());
+    startClearTextPoolServer(requests, serverConns::add);
+    client = vertx.createHttpClient(clientOptions.setDefaultPort(DEFAULT_HTTP_PORT).setUseAlpn(false).setSsl(false)
+      .setHttp2ClearTextUpgrade(false).setHttp2MaxPoolSize(2).setHttp2MultiplexingLimit(4));
+    AtomicInteger responses = new AtomicInteger();
+    Handler<HttpClientResponse> respHandler = resp -> {
+      if (responses.incrementAndGet() == 4) {
+        testComplete();
+      }
+    };
+    for (int i = 0;i < 3;i++) {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", respHandler);
+    }
+    assertWaitUntil(() -> requests.size() == 3, 10000);
+    // Three quarters of the streams of the connection are in flight, another connection is opened
+    assertWaitUntil(() -> serverConns.size() == 2, 10000);
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", respHandler);
+    assertWaitUntil(() -> requests.size() == 4, 10000);
+    assertSame(requests.get(0).connection(), requests.get(2).connection());
+    assertNotSame(requests.get(0).connection(), requests.get(3).connection());
+    requests.forEach(req -> req.response().end());
+    await();
+  }
+
+  private void startClearTextPoolServer(List<HttpServerRequest> requests, Handler<HttpConnection> connectionHandler) throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST));
+    server.connectionHandler(connectionHandler);
+    server.requestHandler(requests::add);
+    startServer();
+    client.close();
+  }
+
   @Test
   public void testMaxConcurrencySingleConnection() throws Exception {
     testMaxConcurrency(1, 5);
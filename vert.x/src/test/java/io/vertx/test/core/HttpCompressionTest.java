@@ -25,6 +25,8 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 
 import static io.vertx.test.core.HttpTestBase.DEFAULT_HTTP_HOST;
 import static io.vertx.test.core.HttpTestBase.DEFAULT_HTTP_PORT;
@@ -152,6 +154,110 @@ public class HttpCompressionTest extends HttpTestBase {
         }).putHeader(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.DEFLATE_GZIP).end();
   }
 
+  @Test
+  public void testCompressionMinSize() throws Exception {
+    testCompressionPolicy(new HttpServerOptions().setCompressionMinSize(COMPRESS_TEST_STRING.length() + 1),
+      resp -> resp.end(COMPRESS_TEST_STRING), false);
+  }
+
+  @Test
+  public void testCompressionAboveMinSize() throws Exception {
+    testCompressionPolicy(new HttpServerOptions().setCompressionMinSize(COMPRESS_TEST_STRING.length()),
+      resp -> resp.end(COMPRESS_TEST_STRING), true);
+  }
+
+  @Test
+  public void testCompressionMinSizeChunked() throws Exception {
+    testCompressionPolicy(new HttpServerOptions().setCompressionMinSize(COMPRESS_TEST_STRING.length() + 1),
+      resp -> resp.setChunked(true).end(COMPRESS_TEST_STRING), true);
+  }
+
+  @Test
+  public void testUncompressedContentType() throws Exception {
+    testCompressionPolicy(new HttpServerOptions().addUncompressedContentType("image/*"),
+      resp -> resp.putHeader(HttpHeaders.CONTENT_TYPE, "image/svg+xml").end(COMPRESS_TEST_STRING), false);
+  }
+
+  @Test
+  public void testCompressedContentType() throws Exception {
+    testCompressionPolicy(new HttpServerOptions().addCompressedContentType("text/plain"),
+      resp -> resp.putHeader(HttpHeaders.CONTENT_TYPE, "Text/Plain; charset=utf-8").end(COMPRESS_TEST_STRING), true);
+  }
+
+  @Test
+  public void testNotCompressedContentType() throws Exception {
+    testCompressionPolicy(new HttpServerOptions().addCompressedContentType("text/plain"),
+      resp -> resp.putHeader(HttpHeaders.CONTENT_TYPE, "application/octet-stream").end(COMPRESS_TEST_STRING), false);
+  }
+
+  @Test
+  public void testResponseDisablesCompression() throws Exception {
+    testCompressionPolicy(new HttpServerOptions(), resp -> resp.setCompressionLevel(0).end(COMPRESS_TEST_STRING), false);
+  }
+
+  @Test
+  public void testResponseForcesCompression() throws Exception {
+    testCompressionPolicy(new HttpServerOptions().setCompressionMinSize(COMPRESS_TEST_STRING.length() + 1),
+      resp -> resp.setCompressionLevel(9).end(COMPRESS_TEST_STRING), true);
+  }
+
+  @Test
+  public void testResponseCompressionLevel() throws Exception {
+    testCompressionPolicy(new HttpServerOptions(), resp -> resp.setCompressionLevel(1).end(COMPRESS_TEST_STRING), true);
+  }
+
+  @Test
+  public void testSetCompressionLevelAfterHeadWritten() throws Exception {
+    testCompressionPolicy(new HttpServerOptions(), resp -> {
+      resp.setChunked(true).write(COMPRESS_TEST_STRING);
+      try {
+        resp.setCompressionLevel(0);
+        fail();
+      } catch (IllegalStateException ignore) {
+      }
+      resp.end();
+    }, true);
+  }
+
+  @Test
+  public void testHttp2Compression() throws Exception {
+    testCompressionPolicy(HttpVersion.HTTP_2, new HttpServerOptions(), resp -> resp.end(COMPRESS_TEST_STRING), true);
+  }
+
+  @Test
+  public void testHttp2CompressionMinSize() throws Exception {
+    testCompressionPolicy(HttpVersion.HTTP_2, new HttpServerOptions().setCompressionMinSize(COMPRESS_TEST_STRING.length() + 1),
+      resp -> resp.end(COMPRESS_TEST_STRING), false);
+  }
+
+  @Test
+  public void testHttp2ResponseDisablesCompression() throws Exception {
+    testCompressionPolicy(HttpVersion.HTTP_2, new HttpServerOptions(), resp -> resp.setCompressionLevel(0).end(COMPRESS_TEST_STRING), false);
+  }
+
+  private void testCompressionPolicy(HttpServerOptions options, Handler<HttpServerResponse> handler, boolean compressed) throws Exception {
+    testCompressionPolicy(HttpVersion.HTTP_1_1, options, handler, compressed);
+  }
+
+  private void testCompressionPolicy(HttpVersion version, HttpServerOptions options, Handler<HttpServerResponse> handler, boolean compressed) throws Exception {
+    server.close();
+    server = vertx.createHttpServer(options.setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setCompressionSupported(true));
+    server.requestHandler(req -> handler.handle(req.response()));
+    startServer();
+    clientraw.close();
+    clientraw = vertx.createHttpClient(new HttpClientOptions().setProtocolVersion(version).setHttp2ClearTextUpgrade(false));
+    clientraw.request(HttpMethod.GET, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "some-uri", resp -> {
+      assertEquals(compressed ? "gzip" : null, resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+      resp.bodyHandler(body -> {
+        if (!compressed) {
+          assertEquals(COMPRESS_TEST_STRING, body.toString(CharsetUtil.UTF_8));
+        }
+        testComplete();
+      });
+    }).putHeader(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.DEFLATE_GZIP).end();
+    await();
+  }
+
   private void terminateTestWhenAllPassed() {
     if (maxCompressionTestPassed && minCompressionTestPassed
         && rawMinCompressionResponseByteCount != null && rawMaxCompressionResponseByteCount != null) {
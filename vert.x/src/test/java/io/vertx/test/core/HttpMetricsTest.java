@@ -27,15 +27,20 @@ import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.StreamResetException;
 import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.test.core.tls.Cert;
+import io.vertx.test.core.tls.Trust;
 import io.vertx.test.fakemetrics.FakeHttpClientMetrics;
 import io.vertx.test.fakemetrics.FakeHttpServerMetrics;
 import io.vertx.test.fakemetrics.FakeMetricsBase;
 import io.vertx.test.fakemetrics.FakeMetricsFactory;
+import io.vertx.test.fakemetrics.FakePoolMetrics;
 import io.vertx.test.fakemetrics.HttpClientMetric;
 import io.vertx.test.fakemetrics.HttpServerMetric;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -265,6 +270,259 @@ public class HttpMetricsTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testHttp1RequestRejected() throws Exception {
+    testRequestRejected(HttpVersion.HTTP_1_1);
+  }
+
+  @Test
+  public void testHttp2RequestRejected() throws Exception {
+    testRequestRejected(HttpVersion.HTTP_2);
+  }
+
+  private void testRequestRejected(HttpVersion protocol) throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setMaxConcurrentRequests(1));
+    AtomicReference<HttpServerResponse> pending = new AtomicReference<>();
+    server.requestHandler(req -> {
+      if (req.path().equals("/pending")) {
+        pending.set(req.response());
+      } else {
+        req.response().end();
+      }
+    });
+    startServer();
+    FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+    client = vertx.createHttpClient(new HttpClientOptions().setProtocolVersion(protocol));
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/pending", resp -> {
+      assertEquals(200, resp.statusCode());
+      // The request does not count anymore once its response has ended
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/other", resp2 -> {
+        assertEquals(200, resp2.statusCode());
+        assertEquals(1, metrics.rejectedRequests.get());
+        testComplete();
+      });
+    });
+    waitUntil(() -> pending.get() != null);
+    HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/other", resp -> {
+      assertEquals(HttpVersion.HTTP_1_1, protocol);
+      assertEquals(503, resp.statusCode());
+      pending.get().end();
+    });
+    req.exceptionHandler(err -> {
+      assertEquals(HttpVersion.HTTP_2, protocol);
+      assertTrue(err instanceof StreamResetException);
+      assertEquals(7, ((StreamResetException) err).getCode());
+      pending.get().end();
+    });
+    req.end();
+    await();
+  }
+
+  @Test
+  public void testHttp1RequestBodyRejected() throws Exception {
+    testRequestBodyRejected(HttpVersion.HTTP_1_1);
+  }
+
+  @Test
+  public void testHttp2RequestBodyRejected() throws Exception {
+    testRequestBodyRejected(HttpVersion.HTTP_2);
+  }
+
+  private void testRequestBodyRejected(HttpVersion protocol) throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setMaxRequestBodySize(16));
+    server.requestHandler(req -> {
+      req.endHandler(v -> req.response().end());
+    });
+    startServer();
+    FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+    client = vertx.createHttpClient(new HttpClientOptions().setProtocolVersion(protocol));
+    client.post(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp -> {
+      assertEquals(413, resp.statusCode());
+      assertEquals(1, metrics.rejectedBodies.get());
+      testComplete();
+    }).exceptionHandler(err -> {
+      // The connection or the stream may be closed while the body is sent
+    }).end(TestUtils.randomAlphaString(32));
+    await();
+  }
+
+  @Test
+  public void testResponseCompressed() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setCompressionSupported(true));
+    AtomicReference<HttpServerMetric> serverMetric = new AtomicReference<>();
+    String body = TestUtils.randomAlphaString(64) + String.join("", Collections.nCopies(100, "compressible "));
+    server.requestHandler(req -> {
+      FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+      serverMetric.set(metrics.getMetric(req));
+      req.response().end(body);
+    });
+    startServer();
+    client = vertx.createHttpClient(new HttpClientOptions().setTryUseCompression(true));
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp -> {
+      resp.bodyHandler(buff -> {
+        assertEquals(body, buff.toString());
+        // The compression is reported before the response is sent
+        HttpServerMetric metric = serverMetric.get();
+        assertEquals(body.length(), metric.uncompressedBytes.get());
+        assertTrue(metric.compressedBytes.get() > 0);
+        assertTrue(metric.compressedBytes.get() < metric.uncompressedBytes.get());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testConnectionRejected() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setMaxConnections(1));
+    server.requestHandler(req -> req.response().end());
+    startServer();
+    FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+    client = vertx.createHttpClient();
+    CountDownLatch latch = new CountDownLatch(1);
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp -> {
+      assertEquals(200, resp.statusCode());
+      latch.countDown();
+    });
+    awaitLatch(latch);
+    HttpClient client2 = vertx.createHttpClient();
+    client2.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp -> {
+      fail();
+    }).exceptionHandler(err -> {
+      assertEquals(1, metrics.rejectedConnections.get());
+      // The connection is accepted once the first connection is closed
+      client.close();
+      retryUntilAccepted(client2);
+    }).end();
+    await();
+  }
+
+  @Test
+  public void testTlsSessionResumed() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTPS_PORT)
+      .setHost(DEFAULT_HTTPS_HOST)
+      .setSsl(true)
+      .setKeyStoreOptions(Cert.SERVER_JKS.get())
+      .setSslSessionCacheSize(16));
+    server.requestHandler(req -> req.response().end());
+    startServer();
+    FakeHttpServerMetrics serverMetrics = FakeMetricsBase.getMetrics(server);
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setSsl(true)
+      .setTrustStoreOptions(Trust.SERVER_JKS.get())
+      .setKeepAlive(false)
+      .setSslSessionCacheSize(16));
+    FakeHttpClientMetrics clientMetrics = FakeMetricsBase.getMetrics(client);
+    client.getNow(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, "/somepath", resp1 -> {
+      assertEquals(200, resp1.statusCode());
+      assertEquals(1, clientMetrics.fullHandshakes());
+      assertEquals(0, clientMetrics.resumedHandshakes());
+      // A new connection resumes the session of the first connection
+      client.getNow(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, "/somepath", resp2 -> {
+        assertEquals(200, resp2.statusCode());
+        assertEquals(1, clientMetrics.fullHandshakes());
+        assertEquals(1, clientMetrics.resumedHandshakes());
+        assertEquals(1, serverMetrics.fullHandshakes.get());
+        assertEquals(1, serverMetrics.resumedHandshakes.get());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testTlsHandshakePool() throws Exception {
+    int numRequests = 20;
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTPS_PORT)
+      .setHost(DEFAULT_HTTPS_HOST)
+      .setSsl(true)
+      .setKeyStoreOptions(Cert.SERVER_JKS.get())
+      .setSslHandshakePoolSize(2));
+    server.requestHandler(req -> req.bodyHandler(body -> req.response().end(body)));
+    startServer();
+    FakeHttpServerMetrics serverMetrics = FakeMetricsBase.getMetrics(server);
+    FakePoolMetrics poolMetrics = (FakePoolMetrics) FakePoolMetrics.getPoolMetrics().get("vert.x-ssl-handshake");
+    assertNotNull(poolMetrics);
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setSsl(true)
+      .setTrustStoreOptions(Trust.SERVER_JKS.get())
+      .setKeepAlive(false)
+      .setMaxPoolSize(numRequests)
+      .setSslHandshakePoolSize(2));
+    FakeHttpClientMetrics clientMetrics = FakeMetricsBase.getMetrics(client);
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0;i < numRequests;i++) {
+      String body = TestUtils.randomAlphaString(1024);
+      client.post(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, "/somepath", resp -> {
+        assertEquals(200, resp.statusCode());
+        resp.bodyHandler(buff -> {
+          assertEquals(body, buff.toString());
+          if (count.incrementAndGet() == numRequests) {
+            assertEquals(numRequests, clientMetrics.fullHandshakes() + clientMetrics.resumedHandshakes());
+            assertTrue(clientMetrics.handshakeTime() > 0);
+            assertTrue(serverMetrics.handshakeTime.get() > 0);
+            assertTrue(poolMetrics.numberOfSubmittedTask() > 0);
+            testComplete();
+          }
+        });
+      }).end(body);
+    }
+    await();
+  }
+
+  @Test
+  public void testResponseCache() throws Exception {
+    server.requestHandler(req -> {
+      if ("\"v1\"".equals(req.getHeader("If-None-Match"))) {
+        req.response().setStatusCode(304).end();
+      } else {
+        req.response().putHeader("Cache-Control", "max-age=60").putHeader("ETag", "\"v1\"").end("the-body");
+      }
+    });
+    startServer();
+    client = vertx.createHttpClient(new HttpClientOptions().setResponseCacheMaxSize(1024));
+    FakeHttpClientMetrics metrics = FakeMetricsBase.getMetrics(client);
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp1 -> resp1.bodyHandler(body1 -> {
+      assertEquals(1, metrics.cacheMisses());
+      HttpClientRequest req2 = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp2 -> {
+        resp2.bodyHandler(body2 -> {
+          assertEquals(1, metrics.cacheHits());
+          assertEquals(0, metrics.cacheRevalidations());
+          client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp3 -> {
+            resp3.bodyHandler(body3 -> {
+              assertEquals("the-body", body3.toString());
+              assertEquals(2, metrics.cacheHits());
+              assertEquals(1, metrics.cacheRevalidations());
+              assertEquals(1, metrics.cacheMisses());
+              testComplete();
+            });
+          }).putHeader("Cache-Control", "no-cache").end();
+        });
+      });
+      req2.end();
+      // No request metric for a fresh cached response
+      assertNull(metrics.getMetric(req2));
+    }));
+    await();
+  }
+
+  private void retryUntilAccepted(HttpClient client) {
+    client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp -> {
+      assertEquals(200, resp.statusCode());
+      testComplete();
+    }).exceptionHandler(err -> {
+      vertx.setTimer(10, id -> retryUntilAccepted(client));
+    }).end();
+  }
+
   @Test
   public void testPushPromise() throws Exception {
     waitFor(2);
@@ -29,24 +29,47 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.ManagerFactoryParameters;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.TrustManagerFactorySpi;
+import javax.net.ssl.X509TrustManager;
+import javax.net.ssl.X509KeyManager;
 import javax.security.cert.X509Certificate;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.security.InvalidAlgorithmParameterException;
+import java.security.Key;
 import java.security.KeyPairGenerator;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
+import java.security.KeyStoreSpi;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
@@ -697,6 +720,302 @@ public abstract class HttpTLSTest extends HttpTestBase {
     assertEquals("host1", test.indicatedServerName);
   }
 
+  @Test
+  // Server certificates are provided per server name and can be renewed while the server is running
+  public void testSNIKeyCertProvider() throws Exception {
+    KeyCertOptions sniCerts = Cert.SNI_JKS.get();
+    AtomicInteger mappers = new AtomicInteger();
+    List<String> serverNames = Collections.synchronizedList(new ArrayList<>());
+    AtomicReference<String> alias = new AtomicReference<>("host2.com");
+    KeyCertOptions provider = new KeyCertOptions() {
+      @Override
+      public KeyCertOptions clone() {
+        return this;
+      }
+      @Override
+      public KeyManagerFactory getKeyManagerFactory(Vertx v) throws Exception {
+        return sniCerts.getKeyManagerFactory(v);
+      }
+      @Override
+      public Function<String, X509KeyManager> keyManagerMapper(Vertx v) throws Exception {
+        mappers.incrementAndGet();
+        Function<String, X509KeyManager> mapper = sniCerts.keyManagerMapper(v);
+        return serverName -> {
+          serverNames.add(serverName);
+          return mapper.apply(alias.get());
+        };
+      }
+    };
+    server = createHttpServer(new HttpServerOptions()
+        .setPort(4043)
+        .setSsl(true)
+        .setSni(true)
+        .setSniCacheSize(1)
+        .setKeyCertOptions(provider))
+        .requestHandler(req -> req.response().end());
+    startServer();
+    client = createHttpClient(new HttpClientOptions()
+        .setSsl(true)
+        .setTrustAll(true)
+        .setVerifyHost(false)
+        .setKeepAlive(false));
+    List<String> cns = Collections.synchronizedList(new ArrayList<>());
+    Runnable request = () -> client.get(4043, "host2.com", "/", resp -> {
+      try {
+        cns.add(TestUtils.cnOf(resp.request().connection().peerCertificateChain()[0]));
+      } catch (Exception e) {
+        fail(e);
+      }
+      complete();
+    }).end();
+    waitFor(2);
+    request.run();
+    waitUntil(() -> cns.size() == 1);
+    alias.set("host1");
+    request.run();
+    await();
+    assertEquals(Arrays.asList("host2.com", "host1"), cns);
+    assertEquals(Arrays.asList("host2.com", "host2.com"), serverNames);
+    assertEquals(1, mappers.get());
+  }
+
+  @Test
+  // Certificates of the built-in stores are read again when the server reloads them
+  public void testReloadCertificates() throws Exception {
+    Path store = testFolder.newFile("vertx" + UUID.randomUUID().toString() + ".jks").toPath();
+    Files.copy(Paths.get("src/test/resources/tls/server-keystore.jks"), store, StandardCopyOption.REPLACE_EXISTING);
+    server = createHttpServer(new HttpServerOptions()
+        .setPort(4043)
+        .setSsl(true)
+        .setSni(true)
+        .setKeyCertOptions(new JksOptions().setPath(store.toString()).setPassword("wibble")))
+        .requestHandler(req -> req.response().end());
+    startServer();
+    assertEquals(certificateOf("tls/server-keystore.jks", "test-store"), peerCertificateOf("localhost"));
+    assertEquals(certificateOf("tls/server-keystore.jks", "test-store"), peerCertificateOf("host2.com"));
+    // Renew the default certificate
+    Files.copy(Paths.get("src/test/resources/tls/server-keystore-root-ca.jks"), store, StandardCopyOption.REPLACE_EXISTING);
+    reloadCertificates();
+    assertEquals(certificateOf("tls/server-keystore-root-ca.jks", "test-store"), peerCertificateOf("localhost"));
+    // Add the certificates of the server names
+    Files.copy(Paths.get("src/test/resources/tls/sni-keystore.jks"), store, StandardCopyOption.REPLACE_EXISTING);
+    reloadCertificates();
+    assertEquals(certificateOf("tls/sni-keystore.jks", "test-host2"), peerCertificateOf("host2.com"));
+  }
+
+  private void reloadCertificates() throws Exception {
+    CompletableFuture<Void> reloaded = new CompletableFuture<>();
+    server.reloadCertificates(ar -> {
+      if (ar.succeeded()) {
+        reloaded.complete(null);
+      } else {
+        reloaded.completeExceptionally(ar.cause());
+      }
+    });
+    reloaded.get(10, TimeUnit.SECONDS);
+  }
+
+  private Certificate certificateOf(String path, String alias) throws Exception {
+    KeyStore ks = KeyStore.getInstance("JKS");
+    try (InputStream in = Files.newInputStream(Paths.get("src/test/resources", path))) {
+      ks.load(in, "wibble".toCharArray());
+    }
+    return ks.getCertificate(alias);
+  }
+
+  // The certificate is captured by the trust manager of the client, the test certificates may have expired
+  private Certificate peerCertificateOf(String host) throws Exception {
+    CompletableFuture<Certificate> peerCert = new CompletableFuture<>();
+    TrustManager trustMgr = new X509TrustManager() {
+      @Override
+      public void checkClientTrusted(java.security.cert.X509Certificate[] chain, String authType) {
+      }
+      @Override
+      public void checkServerTrusted(java.security.cert.X509Certificate[] chain, String authType) {
+        peerCert.complete(chain[0]);
+      }
+      @Override
+      public java.security.cert.X509Certificate[] getAcceptedIssuers() {
+        return new java.security.cert.X509Certificate[0];
+      }
+    };
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+        .setSsl(true)
+        .setVerifyHost(false)
+        .setKeepAlive(false)
+        .setTrustOptions(new TrustOptions() {
+          @Override
+          public TrustManagerFactory getTrustManagerFactory(Vertx v) throws Exception {
+            return new TrustManagerFactory(new TrustManagerFactorySpi() {
+              @Override
+              protected void engineInit(KeyStore keyStore) throws KeyStoreException {
+              }
+              @Override
+              protected void engineInit(ManagerFactoryParameters managerFactoryParameters) throws InvalidAlgorithmParameterException {
+              }
+              @Override
+              protected TrustManager[] engineGetTrustManagers() {
+                return new TrustManager[]{trustMgr};
+              }
+            }, KeyPairGenerator.getInstance("RSA").getProvider(), KeyPairGenerator.getInstance("RSA").getAlgorithm()) {
+            };
+          }
+          @Override
+          public TrustOptions clone() {
+            return this;
+          }
+        }));
+    try {
+      client.get(4043, host, "/", resp -> {}).exceptionHandler(peerCert::completeExceptionally).end();
+      return peerCert.get(10, TimeUnit.SECONDS);
+    } finally {
+      client.close();
+    }
+  }
+
+  @Test
+  // With SNI, only the private key of the default entry is recovered when the server starts
+  public void testSNIRecoversPrivateKeysOnDemand() throws Exception {
+    Provider provider = new Provider(CountingKeyStore.PROVIDER, 1.0, "JKS key store counting the recovered keys") {
+    };
+    provider.put("KeyStore.JKS", CountingKeyStore.class.getName());
+    Security.insertProviderAt(provider, 1);
+    CountingKeyStore.keys.set(0);
+    try {
+      server = createHttpServer(new HttpServerOptions()
+          .setPort(4043)
+          .setSsl(true)
+          .setSni(true)
+          .setKeyCertOptions(Cert.SNI_JKS.get()))
+          .requestHandler(req -> req.response().end());
+      startServer();
+      assertEquals(1, CountingKeyStore.keys.get());
+      assertEquals(certificateOf("tls/sni-keystore.jks", "test-host2"), peerCertificateOf("host2.com"));
+      assertEquals(2, CountingKeyStore.keys.get());
+      assertEquals(certificateOf("tls/sni-keystore.jks", "test-host2"), peerCertificateOf("host2.com"));
+      assertEquals(2, CountingKeyStore.keys.get());
+    } finally {
+      Security.removeProvider(CountingKeyStore.PROVIDER);
+    }
+  }
+
+  /**
+   * A JKS key store counting the private keys recovered from the stores it loads, Netty copies the key of a
+   * context in an empty store of its own which is not counted.
+   */
+  public static class CountingKeyStore extends KeyStoreSpi {
+
+    static final String PROVIDER = "VertxCountingKeyStore";
+    static final AtomicInteger keys = new AtomicInteger();
+
+    private final KeyStore delegate;
+    private boolean counted;
+
+    public CountingKeyStore() throws Exception {
+      delegate = KeyStore.getInstance("JKS", "SUN");
+    }
+
+    @Override
+    public Key engineGetKey(String alias, char[] password) throws NoSuchAlgorithmException, UnrecoverableKeyException {
+      if (counted) {
+        keys.incrementAndGet();
+      }
+      try {
+        return delegate.getKey(alias, password);
+      } catch (KeyStoreException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    public Certificate[] engineGetCertificateChain(String alias) {
+      return call(() -> delegate.getCertificateChain(alias));
+    }
+
+    @Override
+    public Certificate engineGetCertificate(String alias) {
+      return call(() -> delegate.getCertificate(alias));
+    }
+
+    @Override
+    public Date engineGetCreationDate(String alias) {
+      return call(() -> delegate.getCreationDate(alias));
+    }
+
+    @Override
+    public void engineSetKeyEntry(String alias, Key key, char[] password, Certificate[] chain) throws KeyStoreException {
+      delegate.setKeyEntry(alias, key, password, chain);
+    }
+
+    @Override
+    public void engineSetKeyEntry(String alias, byte[] key, Certificate[] chain) throws KeyStoreException {
+      delegate.setKeyEntry(alias, key, chain);
+    }
+
+    @Override
+    public void engineSetCertificateEntry(String alias, Certificate cert) throws KeyStoreException {
+      delegate.setCertificateEntry(alias, cert);
+    }
+
+    @Override
+    public void engineDeleteEntry(String alias) throws KeyStoreException {
+      delegate.deleteEntry(alias);
+    }
+
+    @Override
+    public Enumeration<String> engineAliases() {
+      return call(delegate::aliases);
+    }
+
+    @Override
+    public boolean engineContainsAlias(String alias) {
+      return call(() -> delegate.containsAlias(alias));
+    }
+
+    @Override
+    public int engineSize() {
+      return call(delegate::size);
+    }
+
+    @Override
+    public boolean engineIsKeyEntry(String alias) {
+      return call(() -> delegate.isKeyEntry(alias));
+    }
+
+    @Override
+    public boolean engineIsCertificateEntry(String alias) {
+      return call(() -> delegate.isCertificateEntry(alias));
+    }
+
+    @Override
+    public String engineGetCertificateAlias(Certificate cert) {
+      return call(() -> delegate.getCertificateAlias(cert));
+    }
+
+    @Override
+    public void engineStore(OutputStream stream, char[] password) throws IOException, NoSuchAlgorithmException, CertificateException {
+      try {
+        delegate.store(stream, password);
+      } catch (KeyStoreException e) {
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public void engineLoad(InputStream stream, char[] password) throws IOException, NoSuchAlgorithmException, CertificateException {
+      delegate.load(stream, password);
+      counted = stream != null;
+    }
+
+    private static <T> T call(Callable<T> call) {
+      try {
+        return call.call();
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
   // Other tests
 
   @Test
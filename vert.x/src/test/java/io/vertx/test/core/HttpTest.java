@@ -16,6 +16,7 @@
 
 package io.vertx.test.core;
 
+import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -68,6 +69,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -1743,6 +1745,166 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testSendFileRange() throws Exception {
+    String content = TestUtils.randomAlphaString(100);
+    File file = setupFile("test-send-file.html", content);
+    startRangeServer(file);
+    HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(206, resp.statusCode());
+      assertEquals("bytes 10-19/100", resp.getHeader("Content-Range"));
+      assertEquals("bytes", resp.getHeader("Accept-Ranges"));
+      assertEquals("text/html", resp.getHeader("Content-Type"));
+      assertNotNull(resp.getHeader("ETag"));
+      assertNotNull(resp.getHeader("Last-Modified"));
+      resp.bodyHandler(body -> {
+        assertEquals(content.substring(10, 20), body.toString());
+        assertEquals("10", resp.getHeader("Content-Length"));
+        testComplete();
+      });
+    });
+    req.putHeader("Range", "bytes=10-19").end();
+    await();
+  }
+
+  @Test
+  public void testSendFileSuffixRange() throws Exception {
+    String content = TestUtils.randomAlphaString(100);
+    File file = setupFile("test-send-file.html", content);
+    startRangeServer(file);
+    HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(206, resp.statusCode());
+      assertEquals("bytes 70-99/100", resp.getHeader("Content-Range"));
+      resp.bodyHandler(body -> {
+        assertEquals(content.substring(70), body.toString());
+        testComplete();
+      });
+    });
+    req.putHeader("Range", "bytes=-30").end();
+    await();
+  }
+
+  @Test
+  public void testSendFileMultipleRanges() throws Exception {
+    String content = TestUtils.randomAlphaString(100);
+    File file = setupFile("test-send-file.html", content);
+    startRangeServer(file);
+    HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(206, resp.statusCode());
+      assertNull(resp.getHeader("Content-Range"));
+      String contentType = resp.getHeader("Content-Type");
+      assertTrue(contentType.startsWith("multipart/byteranges; boundary="));
+      String boundary = contentType.substring(contentType.indexOf('=') + 1);
+      resp.bodyHandler(body -> {
+        assertEquals(body.length(), Integer.parseInt(resp.getHeader("Content-Length")));
+        // Overlapping ranges are merged
+        String expected =
+          "\r\n--" + boundary + "\r\n" +
+          "Content-Type: text/html\r\n" +
+          "Content-Range: bytes 0-9/100\r\n" +
+          "\r\n" +
+          content.substring(0, 10) +
+          "\r\n--" + boundary + "\r\n" +
+          "Content-Type: text/html\r\n" +
+          "Content-Range: bytes 50-99/100\r\n" +
+          "\r\n" +
+          content.substring(50) +
+          "\r\n--" + boundary + "--\r\n";
+        assertEquals(expected, body.toString());
+        testComplete();
+      });
+    });
+    req.putHeader("Range", "bytes=50-, 0-4, 3-9, 60-70").end();
+    await();
+  }
+
+  @Test
+  public void testSendFileRangeNotSatisfiable() throws Exception {
+    File file = setupFile("test-send-file.html", TestUtils.randomAlphaString(100));
+    startRangeServer(file);
+    HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(416, resp.statusCode());
+      assertEquals("bytes */100", resp.getHeader("Content-Range"));
+      testComplete();
+    });
+    req.putHeader("Range", "bytes=100-").end();
+    await();
+  }
+
+  @Test
+  public void testSendFileInvalidRange() throws Exception {
+    String content = TestUtils.randomAlphaString(100);
+    File file = setupFile("test-send-file.html", content);
+    startRangeServer(file);
+    HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(200, resp.statusCode());
+      resp.bodyHandler(body -> {
+        assertEquals(content, body.toString());
+        testComplete();
+      });
+    });
+    req.putHeader("Range", "bytes=20-10").end();
+    await();
+  }
+
+  @Test
+  public void testSendFileIfRange() throws Exception {
+    String content = TestUtils.randomAlphaString(100);
+    File file = setupFile("test-send-file.html", content);
+    startRangeServer(file);
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+      assertEquals(200, resp1.statusCode());
+      String etag = resp1.getHeader("ETag");
+      HttpClientRequest req2 = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+        assertEquals(206, resp2.statusCode());
+        // The file has changed
+        HttpClientRequest req3 = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp3 -> {
+          assertEquals(200, resp3.statusCode());
+          resp3.bodyHandler(body -> {
+            assertEquals(content, body.toString());
+            testComplete();
+          });
+        });
+        req3.putHeader("Range", "bytes=0-9").putHeader("If-Range", "\"other\"").end();
+      });
+      req2.putHeader("Range", "bytes=0-9").putHeader("If-Range", etag).end();
+    });
+    await();
+  }
+
+  @Test
+  public void testSendFileNotModified() throws Exception {
+    File file = setupFile("test-send-file.html", TestUtils.randomAlphaString(100));
+    startRangeServer(file);
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+      assertEquals(200, resp1.statusCode());
+      String etag = resp1.getHeader("ETag");
+      String lastModified = resp1.getHeader("Last-Modified");
+      HttpClientRequest req2 = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+        assertEquals(304, resp2.statusCode());
+        assertEquals(etag, resp2.getHeader("ETag"));
+        HttpClientRequest req3 = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp3 -> {
+          assertEquals(304, resp3.statusCode());
+          HttpClientRequest req4 = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp4 -> {
+            assertEquals(200, resp4.statusCode());
+            testComplete();
+          });
+          req4.putHeader("If-None-Match", "\"other\"").putHeader("If-Modified-Since", lastModified).end();
+        });
+        req3.putHeader("If-Modified-Since", lastModified).end();
+      });
+      req2.putHeader("If-None-Match", "\"other\", " + etag).end();
+    });
+    await();
+  }
+
+  private void startRangeServer(File file) throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setRangeRequestsSupported(true));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+  }
+
   @Test
   public void testSendFileDirectoryWithHandler() throws Exception {
 
@@ -1883,6 +2045,121 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testRequestBodyTooLarge() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setMaxRequestBodySize(16));
+    server.requestHandler(req -> {
+      assertEquals(16, req.getMaxBodySize());
+      req.exceptionHandler(err -> {
+        assertTrue(err instanceof TooLongFrameException);
+        complete();
+      });
+      req.handler(data -> fail("body should not be received"));
+    });
+    startServer();
+    HttpClientRequest req = client.request(HttpMethod.PUT, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(413, resp.statusCode());
+      complete();
+    });
+    req.exceptionHandler(err -> {
+      // The body may be cut by the server
+    });
+    waitFor(2);
+    req.end(TestUtils.randomBuffer(32));
+    await();
+  }
+
+  @Test
+  public void testChunkedRequestBodyTooLarge() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setMaxRequestBodySize(16));
+    AtomicInteger received = new AtomicInteger();
+    server.requestHandler(req -> {
+      req.exceptionHandler(err -> {
+        assertTrue(err instanceof TooLongFrameException);
+        assertTrue(received.get() <= 16);
+        complete();
+      });
+      req.handler(data -> received.addAndGet(data.length()));
+      req.endHandler(v -> fail("request should not end"));
+    });
+    startServer();
+    HttpClientRequest req = client.request(HttpMethod.PUT, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(413, resp.statusCode());
+      complete();
+    });
+    req.exceptionHandler(err -> {
+      // The body may be cut by the server
+    });
+    waitFor(2);
+    req.setChunked(true);
+    for (int i = 0;i < 4;i++) {
+      req.write(TestUtils.randomBuffer(8));
+    }
+    req.end();
+    await();
+  }
+
+  @Test
+  public void testRequestMaxBodySizeOverride() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setMaxRequestBodySize(16));
+    Buffer toSend = TestUtils.randomBuffer(32);
+    server.requestHandler(req -> {
+      req.setMaxBodySize(-1);
+      req.bodyHandler(data -> {
+        assertEquals(toSend, data);
+        req.response().end();
+      });
+    });
+    startServer();
+    client.put(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(200, resp.statusCode());
+      testComplete();
+    }).end(toSend);
+    await();
+  }
+
+  @Test
+  public void test100ContinueRequestBodyTooLarge() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setMaxRequestBodySize(16));
+    server.requestHandler(req -> {
+      req.handler(data -> fail("body should not be received"));
+    });
+    startServer();
+    HttpClientRequest req = client.request(HttpMethod.PUT, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(413, resp.statusCode());
+      testComplete();
+    });
+    req.headers().set("Expect", "100-continue");
+    req.putHeader("Content-Length", "32");
+    req.continueHandler(v -> fail("should not be called"));
+    req.sendHead();
+    await();
+  }
+
+  @Test
+  public void test100ContinueRequestBodyTooLargeForRequest() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setHandle100ContinueAutomatically(true));
+    server.requestHandler(req -> {
+      req.setMaxBodySize(16);
+      req.handler(data -> fail("body should not be received"));
+    });
+    startServer();
+    HttpClientRequest req = client.request(HttpMethod.PUT, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(413, resp.statusCode());
+      testComplete();
+    });
+    req.headers().set("Expect", "100-continue");
+    req.putHeader("Content-Length", "32");
+    req.continueHandler(v -> fail("should not be called"));
+    req.sendHead();
+    await();
+  }
+
   @Test
   public void testClientDrainHandler() {
     pausingServer(resumeFuture -> {
@@ -2478,6 +2755,165 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testFormUploadMultipleParts() throws Exception {
+    String boundary = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+    // Content with line breaks and partial delimiters
+    Buffer content1 = Buffer.buffer();
+    for (int i = 0;i < 20;i++) {
+      content1.appendBuffer(TestUtils.randomBuffer(1000)).appendString("\r\n--" + boundary.substring(0, i));
+    }
+    Buffer content2 = TestUtils.randomBuffer(100);
+    Map<String, Buffer> received = new ConcurrentHashMap<>();
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      req.uploadHandler(upload -> {
+        Buffer tot = Buffer.buffer();
+        upload.handler(tot::appendBuffer);
+        upload.endHandler(v -> received.put(upload.filename(), tot));
+      });
+      req.endHandler(v -> {
+        assertEquals("vert x", req.getFormAttribute("framework"));
+        assertEquals("", req.getFormAttribute("empty"));
+        req.response().end();
+      });
+    });
+    startServer();
+    Buffer body = Buffer.buffer("preamble\r\n--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"framework\"\r\n" +
+      "\r\n" +
+      "vert x\r\n" +
+      "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-1.bin\"\r\n" +
+      "Content-Type: application/octet-stream\r\n" +
+      "\r\n")
+      .appendBuffer(content1)
+      .appendString("\r\n--" + boundary + "\r\n" +
+        "Content-Disposition: form-data; name=\"empty\"\r\n" +
+        "\r\n" +
+        "\r\n--" + boundary + "\r\n" +
+        "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-2.bin\"\r\n" +
+        "\r\n")
+      .appendBuffer(content2)
+      .appendString("\r\n--" + boundary + "--\r\n");
+    HttpClientRequest req = client.request(HttpMethod.POST, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/form", resp -> {
+      assertEquals(200, resp.statusCode());
+      assertEquals(content1, received.get("tmp-1.bin"));
+      assertEquals(content2, received.get("tmp-2.bin"));
+      testComplete();
+    });
+    req.putHeader("content-length", String.valueOf(body.length()));
+    req.putHeader("content-type", "multipart/form-data; boundary=\"" + boundary + "\"");
+    // Split the delimiters between the chunks
+    int chunkSize = 7;
+    for (int i = 0;i < body.length();) {
+      int end = Math.min(body.length(), i + chunkSize);
+      req.write(body.slice(i, end));
+      i = end;
+      chunkSize = 1 + (chunkSize * 31) % 97;
+    }
+    req.end();
+    await();
+  }
+
+  @Test
+  public void testFormUploadMultipartMixed() throws Exception {
+    String boundary = "AaB03x";
+    String mixedBoundary = "BbC04y";
+    Map<String, String> received = new ConcurrentHashMap<>();
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      req.uploadHandler(upload -> {
+        assertEquals("files", upload.name());
+        Buffer tot = Buffer.buffer();
+        upload.handler(tot::appendBuffer);
+        upload.endHandler(v -> received.put(upload.filename(), upload.contentType() + ":" + tot));
+      });
+      req.endHandler(v -> {
+        assertEquals("Larry", req.getFormAttribute("submit-name"));
+        assertEquals("after", req.getFormAttribute("other"));
+        req.response().end();
+      });
+    });
+    startServer();
+    Buffer body = Buffer.buffer("--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"submit-name\"\r\n" +
+      "\r\n" +
+      "Larry\r\n" +
+      "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"files\"\r\n" +
+      "Content-Type: multipart/mixed; boundary=" + mixedBoundary + "\r\n" +
+      "\r\n" +
+      "--" + mixedBoundary + "\r\n" +
+      "Content-Disposition: file; filename=\"file1.txt\"\r\n" +
+      "Content-Type: text/plain\r\n" +
+      "\r\n" +
+      "contents of file1.txt\r\n" +
+      "--" + mixedBoundary + "\r\n" +
+      "Content-Disposition: file; filename=\"file2.gif\"\r\n" +
+      "Content-Type: image/gif\r\n" +
+      "\r\n" +
+      "contents of file2.gif\r\n" +
+      "--" + mixedBoundary + "--\r\n" +
+      "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"other\"\r\n" +
+      "\r\n" +
+      "after\r\n" +
+      "--" + boundary + "--\r\n");
+    HttpClientRequest req = client.request(HttpMethod.POST, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/form", resp -> {
+      assertEquals(200, resp.statusCode());
+      assertEquals("text/plain:contents of file1.txt", received.get("file1.txt"));
+      assertEquals("image/gif:contents of file2.gif", received.get("file2.gif"));
+      testComplete();
+    });
+    req.putHeader("content-length", String.valueOf(body.length()));
+    req.putHeader("content-type", "multipart/form-data; boundary=" + boundary);
+    for (int i = 0;i < body.length();i += 5) {
+      req.write(body.slice(i, Math.min(body.length(), i + 5)));
+    }
+    req.end();
+    await();
+  }
+
+  @Test
+  public void testFormUploadMaxPartSize() throws Exception {
+    testFormUploadMaxSize(createBaseServerOptions().setMaxMultipartPartSize(1000));
+  }
+
+  @Test
+  public void testFormUploadMaxBodySize() throws Exception {
+    testFormUploadMaxSize(createBaseServerOptions().setMaxMultipartBodySize(1000));
+  }
+
+  private void testFormUploadMaxSize(HttpServerOptions options) throws Exception {
+    server.close();
+    server = vertx.createHttpServer(options);
+    waitFor(2);
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      req.uploadHandler(upload -> {
+        upload.exceptionHandler(err -> complete());
+      });
+      req.exceptionHandler(err -> req.response().setStatusCode(413).end());
+    });
+    startServer();
+    String boundary = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+    Buffer body = Buffer.buffer("--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-0.txt\"\r\n" +
+      "Content-Type: image/gif\r\n" +
+      "\r\n" +
+      TestUtils.randomAlphaString(2000) + "\r\n" +
+      "--" + boundary + "--\r\n");
+    HttpClientRequest req = client.request(HttpMethod.POST, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/form", resp -> {
+      assertEquals(413, resp.statusCode());
+      complete();
+    });
+    req.putHeader("content-length", String.valueOf(body.length()));
+    req.putHeader("content-type", "multipart/form-data; boundary=" + boundary);
+    req.end(body);
+    await();
+  }
+
   @Test
   public void testFormUploadAttributes() throws Exception {
     AtomicInteger attributeCount = new AtomicInteger();
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -118,4 +119,27 @@ public class JSONEventBusTest extends VertxTestBase {
     list.add("uhwqdiuh");
     await();
   }
+
+  @Test
+  public void testPublishChangesNotVisibleObject() {
+    JsonObject obj = new JsonObject().put("nested", new JsonObject().put("a", 1));
+    int num = 3;
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0; i < num; i++) {
+      eb.<JsonObject>consumer("foo").handler((Message<JsonObject> msg) -> {
+        JsonObject nested = msg.body().getJsonObject("nested");
+        assertFalse(msg.body().isImmutable());
+        assertEquals(Integer.valueOf(1), nested.getInteger("a"));
+        nested.put("a", 2);
+        msg.body().put("b", "blurrgg");
+        if (count.incrementAndGet() == num) {
+          assertFalse(obj.containsKey("b"));
+          testComplete();
+        }
+      });
+    }
+    eb.publish("foo", obj);
+    obj.getJsonObject("nested").put("a", 2);
+    await();
+  }
 }
@@ -1110,6 +1110,52 @@ public class JsonArrayTest {
     assertEquals(((JsonArray) removed).getDouble(0), 1.0, 0.0);
   }
 
+  @Test
+  public void testImmutableCopy() {
+    JsonArray arr = new JsonArray().add("foo").add(new JsonObject().put("a", 1)).add(new JsonArray().add(1));
+    JsonArray immutable = arr.immutableCopy();
+    assertTrue(immutable.isImmutable());
+    assertSame(immutable, immutable.immutableCopy());
+    assertEquals(arr, immutable);
+    assertTrue(immutable.getJsonObject(1).isImmutable());
+    assertTrue(immutable.getJsonArray(2).isImmutable());
+    arr.getJsonObject(1).put("a", 2);
+    assertEquals(Integer.valueOf(1), immutable.getJsonObject(1).getInteger("a"));
+    assertUnsupported(() -> immutable.add("bar"));
+    assertUnsupported(() -> immutable.remove(0));
+    assertUnsupported(() -> immutable.clear());
+    assertUnsupported(() -> immutable.getList().add("bar"));
+    assertUnsupported(() -> immutable.getJsonArray(2).add(2));
+  }
+
+  @Test
+  public void testCopyOfImmutableIsCopyOnWrite() {
+    JsonArray immutable = new JsonArray().add("foo").add(new JsonObject().put("a", 1)).immutableCopy();
+    JsonArray copy1 = immutable.copy();
+    JsonArray copy2 = immutable.copy();
+    assertFalse(copy1.isImmutable());
+    copy1.add("bar");
+    copy1.getJsonObject(1).put("a", 2);
+    assertEquals("[\"foo\",{\"a\":2},\"bar\"]", copy1.encode());
+    assertEquals("[\"foo\",{\"a\":1}]", immutable.encode());
+    for (Object val : copy2) {
+      if (val instanceof JsonObject) {
+        ((JsonObject) val).put("b", 2);
+      }
+    }
+    assertEquals("[\"foo\",{\"a\":1,\"b\":2}]", copy2.encode());
+    assertEquals("[\"foo\",{\"a\":1}]", immutable.encode());
+  }
+
+  private void assertUnsupported(Runnable runnable) {
+    try {
+      runnable.run();
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // OK
+    }
+  }
+
   private void testStreamCorrectTypes(JsonObject object) {
     object.getJsonArray("object1").stream().forEach(innerMap -> {
       assertTrue("Expecting JsonObject, found: " + innerMap.getClass().getCanonicalName(), innerMap instanceof JsonObject);
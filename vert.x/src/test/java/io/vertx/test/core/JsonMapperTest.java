@@ -20,7 +20,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import org.junit.Test;
 
 import java.time.Instant;
@@ -123,6 +126,48 @@ public class JsonMapperTest extends VertxTestBase {
     assertEquals(original.value, ((Map)(incorrect.get(0))).get("value"));
   }
 
+  @Test
+  public void testEncodeDecodeBinary() {
+    JsonObject obj = new JsonObject()
+      .put("string", "hello")
+      .put("int", 3)
+      .put("long", Long.MAX_VALUE)
+      .put("double", 3.5d)
+      .put("bool", true)
+      .putNull("null")
+      .put("object", new JsonObject().put("foo", "bar"))
+      .put("array", new JsonArray().add(1).add("two").add(new JsonObject()));
+    Buffer binary = Json.encodeToBinary(obj);
+    assertFalse(binary.toString().startsWith("{"));
+    assertEquals(obj, Json.decodeBinary(binary, JsonObject.class));
+    JsonArray arr = obj.getJsonArray("array");
+    assertEquals(arr, Json.decodeBinary(Json.encodeToBinary(arr), JsonArray.class));
+  }
+
+  @Test
+  public void testEncodeDecodeBinaryPojo() {
+    Pojo original = new Pojo();
+    original.value = "test";
+    Pojo decoded = Json.decodeBinary(Json.encodeToBinary(original), Pojo.class);
+    assertEquals(original.value, decoded.value);
+  }
+
+  @Test
+  public void testEncodeBinaryLazyObject() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer("{\"foo\":\"bar\",\"nested\":{\"num\":1}}"));
+    assertEquals(new JsonObject().put("foo", "bar").put("nested", new JsonObject().put("num", 1)),
+      Json.decodeBinary(Json.encodeToBinary(obj), JsonObject.class));
+  }
+
+  @Test
+  public void testDecodeInvalidBinary() {
+    try {
+      Json.decodeBinary(Buffer.buffer("{\"foo\":\"bar\"}"), JsonObject.class);
+      fail();
+    } catch (DecodeException ignore) {
+    }
+  }
+
   private static class Pojo {
     @JsonProperty
     String value;
@@ -1758,6 +1758,212 @@ public class JsonObjectTest {
     assertEquals(expectedKeys, keys);
   }
 
+  @Test
+  public void testLazyGetScalars() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer("{\"str\":\"bar\",\"int\":123,\"long\":" + Long.MAX_VALUE + ",\"double\":1.5,\"bool\":true,\"null\":null,\"obj\":{\"a\":1}}"));
+    assertEquals("bar", obj.getString("str"));
+    assertEquals(Integer.valueOf(123), obj.getInteger("int"));
+    assertEquals(Long.valueOf(Long.MAX_VALUE), obj.getLong("long"));
+    assertEquals(Double.valueOf(1.5), obj.getDouble("double"));
+    assertEquals(Boolean.TRUE, obj.getBoolean("bool"));
+    assertNull(obj.getString("null"));
+    assertEquals("def", obj.getString("missing", "def"));
+    assertNull(obj.getString("null", "def"));
+    assertTrue(obj.containsKey("null"));
+    assertFalse(obj.containsKey("missing"));
+    assertEquals(7, obj.size());
+    assertEquals(new JsonObject().put("a", 1), obj.getJsonObject("obj"));
+  }
+
+  @Test
+  public void testLazyGetWithDefault() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer("{\"str\":\"bar\",\"int\":123,\"null\":null,\"obj\":{\"a\":1},\"arr\":[1]}"));
+    assertEquals("bar", obj.getString("str", "def"));
+    assertEquals("def", obj.getString("missing", "def"));
+    assertNull(obj.getString("null", "def"));
+    assertEquals(Integer.valueOf(123), obj.getInteger("int", 4));
+    assertEquals(Long.valueOf(123), obj.getLong("int", 4L));
+    assertEquals(Double.valueOf(123), obj.getDouble("int", 4d));
+    assertEquals(Float.valueOf(123), obj.getFloat("int", 4f));
+    assertEquals(Integer.valueOf(4), obj.getInteger("missing", 4));
+    assertNull(obj.getInteger("null", 4));
+    assertEquals(Boolean.TRUE, obj.getBoolean("missing", true));
+    assertNull(obj.getBoolean("null", true));
+    assertEquals(new JsonObject().put("a", 1), obj.getJsonObject("obj", new JsonObject()));
+    assertEquals(new JsonArray().add(1), obj.getJsonArray("arr", new JsonArray()));
+    assertEquals("def", obj.getValue("missing", "def"));
+    assertNull(obj.getValue("null", "def"));
+    try {
+      obj.getString("int", "def");
+      fail();
+    } catch (ClassCastException e) {
+      // OK
+    }
+  }
+
+  @Test
+  public void testLazyDecodedAfterRepeatedLookups() {
+    String json = "{\"foo\":\"bar\",\"num\":1}";
+    Buffer buff = Buffer.buffer(json);
+    JsonObject obj = JsonObject.lazy(buff);
+    for (int i = 0;i < 4;i++) {
+      assertEquals("bar", obj.getString("foo"));
+    }
+    // The object does not scan the buffer anymore
+    buff.setString(json.indexOf("bar"), "baz");
+    assertEquals("bar", obj.getString("foo"));
+    assertEquals(Integer.valueOf(1), obj.getInteger("num"));
+    assertTrue(obj.containsKey("num"));
+    assertFalse(obj.containsKey("missing"));
+    // The encoded form is still emitted while the object is unmodified
+    assertEquals(buff.toString(), obj.encode());
+  }
+
+  @Test
+  public void testLazyEncodeVerbatim() {
+    String json = "{ \"foo\" : \"bar\",  \"nested\" : { \"a\" : [ 1, 2 ] } }";
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(json));
+    assertEquals("bar", obj.getString("foo"));
+    assertEquals(json, obj.encode());
+    assertEquals(Buffer.buffer(json), obj.toBuffer());
+    assertEquals(json, obj.copy().encode());
+    assertEquals(json, new JsonObject().put("wrapped", obj).getJsonObject("wrapped").encode());
+    assertEquals(new JsonObject(json), obj);
+  }
+
+  @Test
+  public void testLazyModification() {
+    String json = "{\"foo\":\"bar\",\"nested\":{\"a\":1}}";
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(json));
+    obj.put("quux", 3);
+    assertEquals("{\"foo\":\"bar\",\"nested\":{\"a\":1},\"quux\":3}", obj.encode());
+    obj = JsonObject.lazy(Buffer.buffer(json));
+    obj.getJsonObject("nested").put("b", 2);
+    assertEquals("{\"foo\":\"bar\",\"nested\":{\"a\":1,\"b\":2}}", obj.encode());
+    obj = JsonObject.lazy(Buffer.buffer(json));
+    obj.getMap().remove("foo");
+    assertEquals("{\"nested\":{\"a\":1}}", obj.encode());
+    obj = JsonObject.lazy(Buffer.buffer(json));
+    JsonObject copy = obj.copy();
+    copy.put("foo", "juu");
+    assertEquals("bar", obj.getString("foo"));
+    assertEquals("juu", copy.getString("foo"));
+    obj = JsonObject.lazy(Buffer.buffer(json));
+    obj.clear();
+    assertEquals("{}", obj.encode());
+  }
+
+  @Test
+  public void testLazyInvalidJson() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer("{\"foo\":"));
+    try {
+      obj.getString("foo");
+      fail();
+    } catch (DecodeException e) {
+      // OK
+    }
+    obj = JsonObject.lazy(Buffer.buffer("[1,2]"));
+    try {
+      obj.getString("foo");
+      fail();
+    } catch (DecodeException e) {
+      // OK
+    }
+  }
+
+  @Test
+  public void testLazyClusterSerializable() {
+    String json = "{ \"foo\" : \"bar\" }";
+    Buffer buff = Buffer.buffer();
+    JsonObject.lazy(Buffer.buffer(json)).writeToBuffer(buff);
+    JsonObject deserialized = new JsonObject();
+    assertEquals(buff.length(), deserialized.readFromBuffer(0, buff));
+    assertEquals("bar", deserialized.getString("foo"));
+    assertEquals(json, deserialized.encode());
+  }
+
+  @Test
+  public void testImmutableCopy() {
+    JsonObject obj = new JsonObject().put("foo", "bar").put("nested", new JsonObject().put("a", 1)).put("arr", new JsonArray().add(1));
+    JsonObject immutable = obj.immutableCopy();
+    assertTrue(immutable.isImmutable());
+    assertFalse(obj.isImmutable());
+    assertSame(immutable, immutable.immutableCopy());
+    assertEquals(obj, immutable);
+    assertEquals(obj.encode(), immutable.encode());
+    assertTrue(immutable.getJsonObject("nested").isImmutable());
+    assertTrue(immutable.getJsonArray("arr").isImmutable());
+    obj.getJsonObject("nested").put("a", 2);
+    assertEquals(Integer.valueOf(1), immutable.getJsonObject("nested").getInteger("a"));
+    assertUnsupported(() -> immutable.put("foo", "juu"));
+    assertUnsupported(() -> immutable.remove("foo"));
+    assertUnsupported(() -> immutable.clear());
+    assertUnsupported(() -> immutable.getMap().put("foo", "juu"));
+    assertUnsupported(() -> immutable.fieldNames().remove("foo"));
+    assertUnsupported(() -> immutable.getJsonObject("nested").put("a", 2));
+    assertUnsupported(() -> immutable.getJsonArray("arr").add(2));
+    JsonObject merged = new JsonObject().mergeIn(immutable);
+    merged.getJsonObject("nested").put("a", 3);
+    assertEquals(Integer.valueOf(3), merged.getJsonObject("nested").getInteger("a"));
+    assertEquals(Integer.valueOf(1), immutable.getJsonObject("nested").getInteger("a"));
+  }
+
+  @Test
+  public void testCopyOfImmutableIsCopyOnWrite() {
+    JsonObject immutable = new JsonObject().put("foo", "bar").put("nested", new JsonObject().put("a", 1)).immutableCopy();
+    JsonObject copy1 = immutable.copy();
+    JsonObject copy2 = immutable.copy();
+    assertFalse(copy1.isImmutable());
+    assertEquals(immutable, copy1);
+    copy1.put("foo", "juu");
+    copy1.getJsonObject("nested").put("a", 2);
+    assertEquals("juu", copy1.getString("foo"));
+    assertEquals(Integer.valueOf(2), copy1.getJsonObject("nested").getInteger("a"));
+    assertEquals("bar", immutable.getString("foo"));
+    assertEquals(Integer.valueOf(1), immutable.getJsonObject("nested").getInteger("a"));
+    assertEquals("bar", copy2.getString("foo"));
+    assertEquals(Integer.valueOf(1), copy2.getJsonObject("nested").getInteger("a"));
+    copy2.getMap().remove("foo");
+    ((JsonObject) copy2.getMap().get("nested")).put("b", 2);
+    assertEquals("{\"nested\":{\"a\":1,\"b\":2}}", copy2.encode());
+    assertEquals("{\"foo\":\"bar\",\"nested\":{\"a\":1}}", immutable.encode());
+    JsonObject copy3 = immutable.copy();
+    copy3.forEach(entry -> {
+      if (entry.getValue() instanceof JsonObject) {
+        ((JsonObject) entry.getValue()).put("c", 3);
+      }
+    });
+    assertEquals("{\"foo\":\"bar\",\"nested\":{\"a\":1,\"c\":3}}", copy3.encode());
+    assertEquals("{\"foo\":\"bar\",\"nested\":{\"a\":1}}", immutable.encode());
+    JsonObject copy4 = immutable.copy().mergeIn(new JsonObject().put("nested", new JsonObject().put("d", 4)), true);
+    assertEquals("{\"foo\":\"bar\",\"nested\":{\"a\":1,\"d\":4}}", copy4.encode());
+    assertEquals("{\"foo\":\"bar\",\"nested\":{\"a\":1}}", immutable.encode());
+  }
+
+  @Test
+  public void testImmutableCopyOfLazy() {
+    String json = "{ \"foo\" : \"bar\", \"nested\" : { \"a\" : 1 } }";
+    JsonObject immutable = JsonObject.lazy(Buffer.buffer(json)).immutableCopy();
+    assertTrue(immutable.isImmutable());
+    assertEquals("bar", immutable.getString("foo"));
+    assertEquals(json, immutable.encode());
+    assertTrue(immutable.getJsonObject("nested").isImmutable());
+    assertUnsupported(() -> immutable.getJsonObject("nested").put("a", 2));
+    JsonObject copy = immutable.copy();
+    copy.getJsonObject("nested").put("a", 2);
+    assertEquals(Integer.valueOf(2), copy.getJsonObject("nested").getInteger("a"));
+    assertEquals(json, immutable.encode());
+  }
+
+  private void assertUnsupported(Runnable runnable) {
+    try {
+      runnable.run();
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // OK
+    }
+  }
+
   private void testStreamCorrectTypes(JsonObject object) {
     object.stream().forEach(entry -> {
       String key = entry.getKey();
@@ -24,7 +24,10 @@ import java.util.List;
 
 import org.junit.Test;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
+import io.vertx.test.codegen.TestDataObject;
 
 import static org.junit.Assert.*;
 
@@ -110,4 +113,23 @@ public class JsonPOJOMapperTest {
     // and that the parsing succeeded (the object is of type byte[] and not null)
     assertNotNull(json.getBinary("base64"));
   }
+
+  @Test
+  public void testDataObjectUsesGeneratedConverter() {
+    TestDataObject obj = new TestDataObject()
+      .setStringValue("foo")
+      .setIntValue(3)
+      .setBuffer(Buffer.buffer("Hello World!"))
+      .setHttpMethod(HttpMethod.PUT);
+    JsonObject json = JsonObject.mapFrom(obj);
+    assertEquals("foo", json.getString("stringValue"));
+    assertEquals(3, (int) json.getInteger("intValue"));
+    assertEquals("PUT", json.getString("httpMethod"));
+    assertEquals(Buffer.buffer("Hello World!"), Buffer.buffer(json.getBinary("buffer")));
+    TestDataObject roundtrip = json.mapTo(TestDataObject.class);
+    assertEquals("foo", roundtrip.getStringValue());
+    assertEquals(3, roundtrip.getIntValue());
+    assertEquals(Buffer.buffer("Hello World!"), roundtrip.getBuffer());
+    assertEquals(HttpMethod.PUT, roundtrip.getHttpMethod());
+  }
 }
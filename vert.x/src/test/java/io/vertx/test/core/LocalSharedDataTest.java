@@ -222,6 +222,60 @@ public class LocalSharedDataTest extends VertxTestBase {
     assertNotSame(arr, otherArr); // Should be copied
   }
 
+  @Test
+  public void testJsonValuesCopiedOnPut() {
+    LocalMap<String, JsonObject> map = sharedData.getLocalMap("foo");
+    JsonObject obj = new JsonObject().put("foo", "bar").put("nested", new JsonObject().put("a", 1));
+    map.put("obj", obj);
+    obj.put("foo", "juu");
+    obj.getJsonObject("nested").put("a", 2);
+    JsonObject got1 = map.get("obj");
+    assertFalse(got1.isImmutable());
+    assertEquals("bar", got1.getString("foo"));
+    assertEquals(Integer.valueOf(1), got1.getJsonObject("nested").getInteger("a"));
+    got1.getJsonObject("nested").put("a", 3);
+    JsonObject got2 = map.get("obj");
+    assertNotSame(got1, got2);
+    assertEquals(Integer.valueOf(1), got2.getJsonObject("nested").getInteger("a"));
+  }
+
+  @Test
+  public void testJsonValuesCopiedOnReplace() {
+    LocalMap<String, JsonObject> map = sharedData.getLocalMap("foo");
+    map.put("obj", new JsonObject().put("foo", "bar"));
+    JsonObject obj = new JsonObject().put("foo", "juu");
+    assertTrue(map.replace("obj", new JsonObject().put("foo", "bar"), obj));
+    obj.put("foo", "daa");
+    assertEquals("juu", map.get("obj").getString("foo"));
+  }
+
+  @Test
+  public void testJsonValuesCopiedByRemappingFunctions() {
+    LocalMap<String, JsonObject> map = sharedData.getLocalMap("foo");
+    map.put("obj", new JsonObject().put("count", 0));
+    JsonObject computed = map.compute("obj", (k, v) -> v.put("count", v.getInteger("count") + 1));
+    assertEquals(Integer.valueOf(1), computed.getInteger("count"));
+    computed.put("count", 10);
+    assertEquals(Integer.valueOf(1), map.get("obj").getInteger("count"));
+    computed = map.computeIfPresent("obj", (k, v) -> v.put("count", v.getInteger("count") + 1));
+    computed.put("count", 10);
+    assertEquals(Integer.valueOf(2), map.get("obj").getInteger("count"));
+    computed = map.merge("obj", new JsonObject().put("count", 5), (v1, v2) -> v1.put("count", v1.getInteger("count") + v2.getInteger("count")));
+    computed.put("count", 10);
+    assertEquals(Integer.valueOf(7), map.get("obj").getInteger("count"));
+    map.replaceAll((k, v) -> v.put("count", v.getInteger("count") + 1));
+    assertEquals(Integer.valueOf(8), map.get("obj").getInteger("count"));
+    JsonObject obj = new JsonObject().put("count", 0);
+    computed = map.computeIfAbsent("other", k -> obj);
+    assertNotSame(obj, computed);
+    obj.put("count", 10);
+    computed.put("count", 10);
+    assertEquals(Integer.valueOf(0), map.get("other").getInteger("count"));
+    computed = map.computeIfAbsent("other", k -> null);
+    computed.put("count", 10);
+    assertEquals(Integer.valueOf(0), map.get("other").getInteger("count"));
+  }
+
   @Test
   public void testKeys() {
     LocalMap<String, String> map = sharedData.getLocalMap("foo");
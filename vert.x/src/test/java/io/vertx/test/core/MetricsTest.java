@@ -37,6 +37,7 @@ import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.NetSocket;
@@ -592,6 +593,53 @@ public class MetricsTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWebSocketCompression() throws Exception {
+    String message = TestUtils.randomAlphaString(100);
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0;i < 100;i++) {
+      sb.append(message);
+    }
+    String large = sb.toString();
+    HttpServer server = vertx.createHttpServer(new HttpServerOptions()
+      .setPerMessageWebsocketCompressionSupported(true)
+      .setWebsocketCompressionMinFrameSize(64));
+    server.websocketHandler(ws -> {
+      FakeHttpServerMetrics metrics = FakeMetricsBase.getMetrics(server);
+      WebSocketMetric metric = metrics.getMetric(ws);
+      ws.writeFinalTextFrame("small");
+      ws.writeFinalTextFrame(large);
+      ws.handler(buffer -> {
+        assertEquals(1, metric.compressedFrames.get());
+        assertEquals(large.length(), metric.uncompressedBytes.get());
+        assertTrue(metric.compressedBytes.get() < large.length() / 10);
+        ws.close();
+      });
+    });
+    server.listen(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, onSuccess(s -> {
+      HttpClient client = vertx.createHttpClient(new HttpClientOptions().setTryUsePerMessageWebsocketCompression(true));
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+        FakeHttpClientMetrics metrics = FakeMetricsBase.getMetrics(client);
+        WebSocketMetric metric = metrics.getMetric(ws);
+        List<String> received = new ArrayList<>();
+        ws.textMessageHandler(msg -> {
+          received.add(msg);
+          if (received.size() == 2) {
+            assertEquals(Arrays.asList("small", large), received);
+            ws.writeFinalTextFrame(large);
+          }
+        });
+        ws.closeHandler(v -> {
+          assertEquals(1, metric.compressedFrames.get());
+          assertEquals(large.length(), metric.uncompressedBytes.get());
+          assertTrue(metric.compressedBytes.get() < large.length() / 10);
+          testComplete();
+        });
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testHttpClientName() throws Exception {
     HttpClient client1 = vertx.createHttpClient();
@@ -80,6 +80,7 @@ import io.vertx.core.net.ProxyType;
 import io.vertx.core.net.SSLEngineOptions;
 import io.vertx.core.net.SelfSignedCertificate;
 import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.TCPSSLOptions;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.test.core.tls.Cert;
@@ -198,6 +199,25 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setTcpNoDelay(false));
     assertFalse(options.isTcpNoDelay());
 
+    assertFalse(options.isWriteBatching());
+    assertEquals(options, options.setWriteBatching(true));
+    assertTrue(options.isWriteBatching());
+
+    assertEquals(TCPSSLOptions.DEFAULT_SSL_SESSION_CACHE_SIZE, options.getSslSessionCacheSize());
+    assertEquals(options, options.setSslSessionCacheSize(1000));
+    assertEquals(1000, options.getSslSessionCacheSize());
+    assertIllegalArgumentException(() -> options.setSslSessionCacheSize(-1));
+
+    assertEquals(TCPSSLOptions.DEFAULT_SSL_SESSION_TIMEOUT, options.getSslSessionTimeout());
+    assertEquals(options, options.setSslSessionTimeout(3600));
+    assertEquals(3600, options.getSslSessionTimeout());
+    assertIllegalArgumentException(() -> options.setSslSessionTimeout(-1));
+
+    assertEquals(TCPSSLOptions.DEFAULT_SSL_HANDSHAKE_POOL_SIZE, options.getSslHandshakePoolSize());
+    assertEquals(options, options.setSslHandshakePoolSize(4));
+    assertEquals(4, options.getSslHandshakePoolSize());
+    assertIllegalArgumentException(() -> options.setSslHandshakePoolSize(-1));
+
     boolean tcpKeepAlive = false;
     assertEquals(tcpKeepAlive, options.isTcpKeepAlive());
     assertEquals(options, options.setTcpKeepAlive(!tcpKeepAlive));
@@ -305,6 +325,25 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setTcpNoDelay(false));
     assertFalse(options.isTcpNoDelay());
 
+    assertFalse(options.isWriteBatching());
+    assertEquals(options, options.setWriteBatching(true));
+    assertTrue(options.isWriteBatching());
+
+    assertEquals(TCPSSLOptions.DEFAULT_SSL_SESSION_CACHE_SIZE, options.getSslSessionCacheSize());
+    assertEquals(options, options.setSslSessionCacheSize(1000));
+    assertEquals(1000, options.getSslSessionCacheSize());
+    assertIllegalArgumentException(() -> options.setSslSessionCacheSize(-1));
+
+    assertEquals(TCPSSLOptions.DEFAULT_SSL_SESSION_TIMEOUT, options.getSslSessionTimeout());
+    assertEquals(options, options.setSslSessionTimeout(3600));
+    assertEquals(3600, options.getSslSessionTimeout());
+    assertIllegalArgumentException(() -> options.setSslSessionTimeout(-1));
+
+    assertEquals(TCPSSLOptions.DEFAULT_SSL_HANDSHAKE_POOL_SIZE, options.getSslHandshakePoolSize());
+    assertEquals(options, options.setSslHandshakePoolSize(4));
+    assertEquals(4, options.getSslHandshakePoolSize());
+    assertIllegalArgumentException(() -> options.setSslHandshakePoolSize(-1));
+
     boolean tcpKeepAlive = false;
     assertEquals(tcpKeepAlive, options.isTcpKeepAlive());
     assertEquals(options, options.setTcpKeepAlive(!tcpKeepAlive));
@@ -346,6 +385,19 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setAcceptBacklog(rand));
     assertEquals(rand, options.getAcceptBacklog());
 
+    assertEquals(NetServerOptions.DEFAULT_MAX_CONNECTIONS, options.getMaxConnections());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setMaxConnections(rand));
+    assertEquals(rand, options.getMaxConnections());
+    assertEquals(options, options.setMaxConnections(-1));
+    assertIllegalArgumentException(() -> options.setMaxConnections(0));
+
+    assertEquals(NetServerOptions.DEFAULT_SNI_CACHE_SIZE, options.getSniCacheSize());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setSniCacheSize(rand));
+    assertEquals(rand, options.getSniCacheSize());
+    assertIllegalArgumentException(() -> options.setSniCacheSize(0));
+
     assertEquals(0, options.getPort());
     assertEquals(options, options.setPort(1234));
     assertEquals(1234, options.getPort());
@@ -625,6 +677,8 @@ public class NetTest extends VertxTestBase {
     int port = 1234;
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
+    int maxConnections = TestUtils.randomPositiveInt();
+    int sniCacheSize = TestUtils.randomPositiveInt();
     boolean useAlpn = TestUtils.randomBoolean();
     boolean openSslSessionCacheEnabled = rand.nextBoolean();
     SSLEngineOptions sslEngine = TestUtils.randomBoolean() ? new JdkSSLEngineOptions() : new OpenSSLEngineOptions();
@@ -648,6 +702,8 @@ public class NetTest extends VertxTestBase {
     options.setPort(port);
     options.setHost(host);
     options.setAcceptBacklog(acceptBacklog);
+    options.setMaxConnections(maxConnections);
+    options.setSniCacheSize(sniCacheSize);
     options.setUseAlpn(useAlpn);
     options.setSslEngineOptions(sslEngine);
     options.setSni(sni);
@@ -676,6 +732,8 @@ public class NetTest extends VertxTestBase {
     assertEquals(port, copy.getPort());
     assertEquals(host, copy.getHost());
     assertEquals(acceptBacklog, copy.getAcceptBacklog());
+    assertEquals(maxConnections, copy.getMaxConnections());
+    assertEquals(sniCacheSize, copy.getSniCacheSize());
     assertEquals(useAlpn, copy.isUseAlpn());
     assertEquals(sslEngine, copy.getSslEngineOptions());
     assertEquals(sni, copy.isSni());
@@ -695,6 +753,8 @@ public class NetTest extends VertxTestBase {
     assertEquals(def.getCrlPaths(), json.getCrlPaths());
     assertEquals(def.getCrlValues(), json.getCrlValues());
     assertEquals(def.getAcceptBacklog(), json.getAcceptBacklog());
+    assertEquals(def.getMaxConnections(), json.getMaxConnections());
+    assertEquals(def.getSniCacheSize(), json.getSniCacheSize());
     assertEquals(def.getPort(), json.getPort());
     assertEquals(def.getHost(), json.getHost());
     assertEquals(def.isTcpNoDelay(), json.isTcpNoDelay());
@@ -735,6 +795,8 @@ public class NetTest extends VertxTestBase {
     int port = 1234;
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
+    int maxConnections = TestUtils.randomPositiveInt();
+    int sniCacheSize = TestUtils.randomPositiveInt();
     boolean useAlpn = TestUtils.randomBoolean();
     boolean openSslSessionCacheEnabled = rand.nextBoolean();
     String sslEngine = TestUtils.randomBoolean() ? "jdkSslEngineOptions" : "openSslEngineOptions";
@@ -758,6 +820,8 @@ public class NetTest extends VertxTestBase {
       .put("port", port)
       .put("host", host)
       .put("acceptBacklog", acceptBacklog)
+      .put("maxConnections", maxConnections)
+      .put("sniCacheSize", sniCacheSize)
       .put("useAlpn", useAlpn)
       .put(sslEngine, new JsonObject())
       .put("openSslSessionCacheEnabled", openSslSessionCacheEnabled)
@@ -787,6 +851,8 @@ public class NetTest extends VertxTestBase {
     assertEquals(port, options.getPort());
     assertEquals(host, options.getHost());
     assertEquals(acceptBacklog, options.getAcceptBacklog());
+    assertEquals(maxConnections, options.getMaxConnections());
+    assertEquals(sniCacheSize, options.getSniCacheSize());
     assertEquals(useAlpn, options.isUseAlpn());
     switch (sslEngine) {
       case "jdkSslEngineOptions":
@@ -2285,6 +2351,32 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testMaxConnections() {
+    server.close();
+    server = vertx.createNetServer(new NetServerOptions().setMaxConnections(1).setPort(1234).setHost("localhost"));
+    AtomicInteger accepted = new AtomicInteger();
+    server.connectHandler(so -> {
+      accepted.incrementAndGet();
+      so.handler(so::write);
+    });
+    server.listen(onSuccess(s -> {
+      client.connect(1234, "localhost", onSuccess(so1 -> {
+        so1.handler(buff -> {
+          client.connect(1234, "localhost", onSuccess(so2 -> {
+            // The connection is closed by the server without being handled
+            so2.closeHandler(v -> {
+              assertEquals(1, accepted.get());
+              testComplete();
+            });
+          }));
+        });
+        so1.write("ping");
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testReadStreamPauseResume() {
     server.close();
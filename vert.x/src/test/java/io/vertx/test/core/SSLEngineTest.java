@@ -1,9 +1,16 @@
 package io.vertx.test.core;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.OpenSSLEngineOptions;
 import org.junit.Test;
 
+import java.util.Collections;
+
+import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+import static io.vertx.test.core.TestUtils.assertNullPointerException;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -17,6 +24,13 @@ public class SSLEngineTest extends VertxTestBase {
     assertEquals(true, options.isSessionCacheEnabled());
     assertEquals(options, options.setSessionCacheEnabled(false));
     assertEquals(false, options.isSessionCacheEnabled());
+
+    assertEquals(0, options.getSessionTicketKeys().size());
+    Buffer key = TestUtils.randomBuffer(OpenSSLEngineOptions.SESSION_TICKET_KEY_LENGTH);
+    assertEquals(options, options.addSessionTicketKey(key));
+    assertEquals(Collections.singletonList(key), options.getSessionTicketKeys());
+    assertNullPointerException(() -> options.addSessionTicketKey(null));
+    assertIllegalArgumentException(() -> options.addSessionTicketKey(TestUtils.randomBuffer(32)));
   }
 
   @Test
@@ -25,10 +39,15 @@ public class SSLEngineTest extends VertxTestBase {
 
     boolean sessionCacheEnabled = TestUtils.randomBoolean();
     options.setSessionCacheEnabled(sessionCacheEnabled);
+    Buffer sessionTicketKey = TestUtils.randomBuffer(OpenSSLEngineOptions.SESSION_TICKET_KEY_LENGTH);
+    options.addSessionTicketKey(sessionTicketKey);
 
     OpenSSLEngineOptions copy = new OpenSSLEngineOptions(options);
 
     assertEquals(sessionCacheEnabled, copy.isSessionCacheEnabled());
+    assertEquals(Collections.singletonList(sessionTicketKey), copy.getSessionTicketKeys());
+    options.addSessionTicketKey(TestUtils.randomBuffer(OpenSSLEngineOptions.SESSION_TICKET_KEY_LENGTH));
+    assertEquals(1, copy.getSessionTicketKeys().size());
   }
 
   @Test
@@ -36,17 +55,22 @@ public class SSLEngineTest extends VertxTestBase {
     OpenSSLEngineOptions def = new OpenSSLEngineOptions();
     OpenSSLEngineOptions json = new OpenSSLEngineOptions(def.toJson());
     assertEquals(def.isSessionCacheEnabled(), json.isSessionCacheEnabled());
+    assertEquals(def.getSessionTicketKeys(), json.getSessionTicketKeys());
   }
 
   @Test
   public void testOpenSslOptionsJson() {
     boolean sessionCacheEnabled = TestUtils.randomBoolean();
+    Buffer sessionTicketKey = TestUtils.randomBuffer(OpenSSLEngineOptions.SESSION_TICKET_KEY_LENGTH);
 
     JsonObject json = new JsonObject();
     json.put("sessionCacheEnabled", sessionCacheEnabled);
+    json.put("sessionTicketKeys", new JsonArray().add(sessionTicketKey.getBytes()));
 
     OpenSSLEngineOptions optins = new OpenSSLEngineOptions(json);
 
     assertEquals(sessionCacheEnabled, optins.isSessionCacheEnabled());
+    assertEquals(Collections.singletonList(sessionTicketKey), optins.getSessionTicketKeys());
+    assertEquals(json.getJsonArray("sessionTicketKeys"), optins.toJson().getJsonArray("sessionTicketKeys"));
   }
 }
@@ -1,7 +1,18 @@
 package io.vertx.test.core;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaderBlock;
+import io.vertx.core.http.impl.headers.HttpHeaderBlockImpl;
 import io.vertx.core.http.impl.headers.VertxHttpHeaders;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -12,4 +23,64 @@ public class VertxHttpHeadersTest extends CaseInsensitiveHeadersTest {
   protected MultiMap newMultiMap() {
     return new VertxHttpHeaders();
   }
+
+  private static HttpHeaderBlockImpl block() {
+    return (HttpHeaderBlockImpl) HttpHeaderBlock.create(MultiMap.caseInsensitiveMultiMap()
+      .add("Content-Type", "text/plain")
+      .add("X-Multi", "foo")
+      .add("X-Multi", "bar"));
+  }
+
+  @Test
+  public void testSetBlock() {
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.add("Content-Type", "text/html");
+    headers.add("Server", "vert.x");
+    headers.set(block());
+    assertEquals(3, headers.size());
+    assertEquals("text/plain", headers.get("content-type"));
+    assertEquals(Arrays.asList("foo", "bar"), headers.getAll("x-multi"));
+    assertTrue(headers.contains("X-Multi"));
+    assertEquals(new HashSet<>(Arrays.asList("Server", "Content-Type", "X-Multi")), headers.names());
+    assertEquals("Server: vert.x\r\nContent-Type: text/plain\r\nX-Multi: foo\r\nX-Multi: bar\r\n", encode(headers));
+  }
+
+  @Test
+  public void testRemoveBlockHeader() {
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.set(block());
+    headers.remove("x-multi");
+    assertFalse(headers.contains("X-Multi"));
+    assertEquals("text/plain", headers.get("Content-Type"));
+    headers.set("Content-Type", "text/html");
+    assertEquals("text/html", headers.get("Content-Type"));
+    assertEquals(1, headers.size());
+    assertEquals("Content-Type: text/html\r\n", encode(headers));
+  }
+
+  @Test
+  public void testClearBlock() {
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.set(block());
+    assertFalse(headers.isEmpty());
+    headers.clear();
+    assertTrue(headers.isEmpty());
+    assertNull(headers.get("Content-Type"));
+    assertEquals("", encode(headers));
+  }
+
+  @Test
+  public void testBlockHeaders() {
+    HttpHeaderBlock block = block();
+    MultiMap copy = block.headers();
+    assertEquals(Arrays.asList("foo", "bar"), copy.getAll("X-Multi"));
+    copy.remove("X-Multi");
+    assertEquals(Arrays.asList("foo", "bar"), block.headers().getAll("X-Multi"));
+  }
+
+  private static String encode(VertxHttpHeaders headers) {
+    ByteBuf buf = Unpooled.buffer();
+    headers.encode(buf);
+    return buf.toString(CharsetUtil.US_ASCII);
+  }
 }
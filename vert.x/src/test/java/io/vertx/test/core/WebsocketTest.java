@@ -101,6 +101,247 @@ public class WebsocketTest extends VertxTestBase {
     return options;
   }
 
+  @Test
+  public void testPerMessageDeflate() throws Exception {
+    testPerMessageDeflate(new HttpServerOptions(), new HttpClientOptions());
+  }
+
+  @Test
+  public void testPerMessageDeflateNoContextTakeover() throws Exception {
+    testPerMessageDeflate(
+      new HttpServerOptions().setWebsocketAllowServerNoContext(true).setWebsocketPreferredClientNoContext(true),
+      new HttpClientOptions().setWebsocketCompressionRequestServerNoContext(true).setWebsocketCompressionAllowClientNoContext(true));
+  }
+
+  @Test
+  public void testPerMessageDeflateMinFrameSize() throws Exception {
+    testPerMessageDeflate(new HttpServerOptions().setWebsocketCompressionMinFrameSize(1024),
+      new HttpClientOptions().setWebsocketCompressionMinFrameSize(1024));
+  }
+
+  private void testPerMessageDeflate(HttpServerOptions serverOptions, HttpClientOptions clientOptions) throws Exception {
+    String text = TestUtils.randomAlphaString(100);
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0;i < 50;i++) {
+      sb.append(text);
+    }
+    String large = sb.toString();
+    Buffer binary = TestUtils.randomBuffer(100);
+    server = vertx.createHttpServer(serverOptions.setPort(HttpTestBase.DEFAULT_HTTP_PORT).setPerMessageWebsocketCompressionSupported(true))
+      .websocketHandler(ws -> {
+        assertTrue(ws.headers().get("Sec-WebSocket-Extensions").contains("permessage-deflate"));
+        ws.frameHandler(ws::writeFrame);
+      });
+    server.listen(onSuccess(s -> {
+      client = vertx.createHttpClient(clientOptions.setTryUsePerMessageWebsocketCompression(true));
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+        List<Object> received = new ArrayList<>();
+        Buffer fragmented = Buffer.buffer();
+        ws.frameHandler(frame -> {
+          if (frame.isText()) {
+            received.add(frame.textData());
+          } else {
+            fragmented.appendBuffer(frame.binaryData());
+            if (frame.isFinal()) {
+              received.add(fragmented);
+            }
+          }
+          if (received.size() == 4) {
+            assertEquals(Arrays.asList(large, "small", large, Buffer.buffer().appendBuffer(binary).appendBuffer(binary)), received);
+            testComplete();
+          }
+        });
+        ws.writeFinalTextFrame(large);
+        ws.writeFinalTextFrame("small");
+        ws.writeFinalTextFrame(large);
+        ws.writeFrame(WebSocketFrame.binaryFrame(binary, false));
+        ws.writeFrame(WebSocketFrame.continuationFrame(binary, true));
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testPerMessageDeflateUpgrade() throws Exception {
+    String text = TestUtils.randomAlphaString(1000);
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT).setPerMessageWebsocketCompressionSupported(true))
+      .requestHandler(req -> {
+        ServerWebSocket ws = req.upgrade();
+        ws.textMessageHandler(ws::writeTextMessage);
+      });
+    server.listen(onSuccess(s -> {
+      client = vertx.createHttpClient(new HttpClientOptions().setTryUsePerMessageWebsocketCompression(true));
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+        ws.textMessageHandler(msg -> {
+          assertEquals(text, msg);
+          testComplete();
+        });
+        ws.writeTextMessage(text);
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testPerMessageDeflateNotSupportedByServer() throws Exception {
+    String text = TestUtils.randomAlphaString(1000);
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT))
+      .websocketHandler(ws -> {
+        ws.textMessageHandler(ws::writeTextMessage);
+      });
+    server.listen(onSuccess(s -> {
+      client = vertx.createHttpClient(new HttpClientOptions().setTryUsePerMessageWebsocketCompression(true));
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+        ws.textMessageHandler(msg -> {
+          assertEquals(text, msg);
+          testComplete();
+        });
+        ws.writeTextMessage(text);
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testBroadcast() throws Exception {
+    int numClients = 5;
+    String text = TestUtils.randomUnicodeString(1000);
+    Buffer binary = TestUtils.randomBuffer(1000);
+    List<ServerWebSocket> sockets = Collections.synchronizedList(new ArrayList<>());
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT).setMaxWebsocketFrameSize(256))
+      .websocketHandler(ws -> {
+        sockets.add(ws);
+        if (sockets.size() == numClients) {
+          WebSocketBroadcast broadcast = WebSocketBroadcast.create();
+          broadcast.writeTextMessage(text, sockets);
+          broadcast.writeBinaryMessage(binary, sockets);
+        }
+      });
+    server.listen(onSuccess(s -> {
+      AtomicInteger count = new AtomicInteger();
+      for (int i = 0;i < numClients;i++) {
+        client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+          AtomicBoolean receivedText = new AtomicBoolean();
+          ws.textMessageHandler(msg -> {
+            assertEquals(text, msg);
+            assertFalse(receivedText.getAndSet(true));
+          });
+          ws.binaryMessageHandler(msg -> {
+            assertTrue(receivedText.get());
+            assertEquals(binary, msg);
+            if (count.incrementAndGet() == numClients) {
+              testComplete();
+            }
+          });
+        });
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testBroadcastDropWhenWriteQueueFull() throws Exception {
+    Buffer chunk = TestUtils.randomBuffer(16 * 1024);
+    List<ServerWebSocket> sockets = Collections.synchronizedList(new ArrayList<>());
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT))
+      .websocketHandler(ws -> {
+        sockets.add(ws);
+        if (sockets.size() == 2) {
+          // The first client is paused, fill its write queue
+          ServerWebSocket slow = sockets.get(0);
+          slow.setWriteQueueMaxSize(1024);
+          while (!slow.writeQueueFull()) {
+            slow.writeBinaryMessage(chunk);
+          }
+          WebSocketBroadcast broadcast = WebSocketBroadcast.create(WebSocketBroadcastPolicy.DROP);
+          broadcast.writeTextMessage("dropped", sockets);
+          slow.writeTextMessage("end");
+        }
+      });
+    server.listen(onSuccess(s -> {
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", slow -> {
+        slow.pause();
+        slow.binaryMessageHandler(msg -> {});
+        slow.textMessageHandler(msg -> {
+          assertEquals("end", msg);
+          testComplete();
+        });
+        client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", fast -> {
+          fast.textMessageHandler(msg -> {
+            assertEquals("dropped", msg);
+            slow.resume();
+          });
+        });
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testServerWebSocketIdleTimeout() {
+    testServerWebSocketIdleTimeout(false);
+  }
+
+  @Test
+  public void testServerWebSocketIdleTimeoutAfterUpgrade() {
+    testServerWebSocketIdleTimeout(true);
+  }
+
+  private void testServerWebSocketIdleTimeout(boolean upgrade) {
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT).setIdleTimeout(1));
+    if (upgrade) {
+      server.requestHandler(req -> req.upgrade());
+    } else {
+      server.websocketHandler(ws -> {});
+    }
+    server.listen(onSuccess(s -> {
+      long now = System.currentTimeMillis();
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+        ws.closeHandler(v -> {
+          assertTrue(System.currentTimeMillis() - now >= 1000);
+          testComplete();
+        });
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testWriteHandlerIDs() {
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT))
+      .websocketHandler(ws -> {
+        vertx.eventBus().send(ws.textHandlerID(), "hello");
+      });
+    server.listen(onSuccess(s -> {
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+        ws.handler(buff -> {
+          assertEquals("hello", buff.toString());
+          testComplete();
+        });
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testWriteHandlersNotRegistered() {
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT).setRegisterWebsocketWriteHandlers(false))
+      .websocketHandler(ws -> {
+        assertNull(ws.textHandlerID());
+        assertNull(ws.binaryHandlerID());
+        ws.writeTextMessage("hello");
+        ws.close();
+      });
+    server.listen(onSuccess(s -> {
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+        ws.textMessageHandler(msg -> {
+          assertEquals("hello", msg);
+          ws.closeHandler(v -> testComplete());
+        });
+      });
+    }));
+    await();
+  }
   @Test
   public void testRejectHybi00() throws Exception {
     testReject(WebsocketVersion.V00);
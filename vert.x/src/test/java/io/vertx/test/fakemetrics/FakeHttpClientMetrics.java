@@ -28,6 +28,8 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -38,6 +40,12 @@ public class FakeHttpClientMetrics extends FakeMetricsBase implements HttpClient
   private final ConcurrentMap<WebSocketBase, WebSocketMetric> webSockets = new ConcurrentHashMap<>();
   private final ConcurrentMap<HttpClientRequest, HttpClientMetric> requests = new ConcurrentHashMap<>();
   private final ConcurrentHashMap<String, EndpointMetric> endpoints = new ConcurrentHashMap<>();
+  private final AtomicInteger cacheHits = new AtomicInteger();
+  private final AtomicInteger cacheRevalidations = new AtomicInteger();
+  private final AtomicInteger cacheMisses = new AtomicInteger();
+  private final AtomicInteger fullHandshakes = new AtomicInteger();
+  private final AtomicInteger resumedHandshakes = new AtomicInteger();
+  private final AtomicLong handshakeTime = new AtomicLong();
 
   public FakeHttpClientMetrics(Measured measured, String name) {
     super(measured);
@@ -74,6 +82,30 @@ public class FakeHttpClientMetrics extends FakeMetricsBase implements HttpClient
     return server != null ? server.connectionCount.get() : null;
   }
 
+  public int cacheHits() {
+    return cacheHits.get();
+  }
+
+  public int cacheRevalidations() {
+    return cacheRevalidations.get();
+  }
+
+  public int cacheMisses() {
+    return cacheMisses.get();
+  }
+
+  public int fullHandshakes() {
+    return fullHandshakes.get();
+  }
+
+  public int resumedHandshakes() {
+    return resumedHandshakes.get();
+  }
+
+  public long handshakeTime() {
+    return handshakeTime.get();
+  }
+
   @Override
   public EndpointMetric createEndpoint(String host, int port, int maxPoolSize) {
     EndpointMetric metric = new EndpointMetric();
@@ -118,6 +150,13 @@ public class FakeHttpClientMetrics extends FakeMetricsBase implements HttpClient
   public void disconnected(WebSocketMetric webSocketMetric) {
     webSockets.remove(webSocketMetric.ws);
   }
+  @Override
+  public void frameCompressed(WebSocketMetric webSocketMetric, long uncompressedBytes, long compressedBytes) {
+    webSocketMetric.compressedFrames.incrementAndGet();
+    webSocketMetric.uncompressedBytes.addAndGet(uncompressedBytes);
+    webSocketMetric.compressedBytes.addAndGet(compressedBytes);
+  }
+
 
   @Override
   public HttpClientMetric requestBegin(EndpointMetric endpointMetric, SocketMetric socketMetric, SocketAddress localAddress, SocketAddress remoteAddress, HttpClientRequest request) {
@@ -176,6 +215,12 @@ public class FakeHttpClientMetrics extends FakeMetricsBase implements HttpClient
     socketMetric.bytesWritten.addAndGet(numberOfBytes);
   }
 
+  @Override
+  public void tlsHandshake(SocketAddress remoteAddress, boolean resumed, long handshakeTime) {
+    (resumed ? resumedHandshakes : fullHandshakes).incrementAndGet();
+    this.handshakeTime.addAndGet(handshakeTime);
+  }
+
   @Override
   public void exceptionOccurred(SocketMetric socketMetric, SocketAddress remoteAddress, Throwable t) {
   }
@@ -188,4 +233,17 @@ public class FakeHttpClientMetrics extends FakeMetricsBase implements HttpClient
   @Override
   public void close() {
   }
+
+  @Override
+  public void responseCacheHit(HttpClientRequest request, boolean revalidated) {
+    cacheHits.incrementAndGet();
+    if (revalidated) {
+      cacheRevalidations.incrementAndGet();
+    }
+  }
+
+  @Override
+  public void responseCacheMiss(HttpClientRequest request) {
+    cacheMisses.incrementAndGet();
+  }
 }
@@ -28,6 +28,8 @@ import io.vertx.core.spi.metrics.HttpServerMetrics;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -37,6 +39,12 @@ public class FakeHttpServerMetrics extends FakeMetricsBase implements HttpServer
   private final ConcurrentMap<WebSocketBase, WebSocketMetric> webSockets = new ConcurrentHashMap<>();
   private final ConcurrentHashSet<HttpServerMetric> requests = new ConcurrentHashSet<>();
   public final HttpServer server;
+  public final AtomicInteger rejectedConnections = new AtomicInteger();
+  public final AtomicInteger rejectedRequests = new AtomicInteger();
+  public final AtomicInteger rejectedBodies = new AtomicInteger();
+  public final AtomicInteger fullHandshakes = new AtomicInteger();
+  public final AtomicInteger resumedHandshakes = new AtomicInteger();
+  public final AtomicLong handshakeTime = new AtomicLong();
 
   public FakeHttpServerMetrics(HttpServer server) {
     super(server);
@@ -70,6 +78,16 @@ public class FakeHttpServerMetrics extends FakeMetricsBase implements HttpServer
     return requestMetric;
   }
 
+  @Override
+  public void requestRejected(SocketMetric socketMetric) {
+    rejectedRequests.incrementAndGet();
+  }
+
+  @Override
+  public void requestBodyRejected(HttpServerMetric requestMetric, long bodySize) {
+    rejectedBodies.incrementAndGet();
+  }
+
   @Override
   public void requestReset(HttpServerMetric requestMetric) {
     requestMetric.failed.set(true);
@@ -81,6 +99,13 @@ public class FakeHttpServerMetrics extends FakeMetricsBase implements HttpServer
     requests.remove(requestMetric);
   }
 
+  @Override
+  public void responseCompressed(HttpServerMetric requestMetric, long uncompressedBytes, long compressedBytes, long compressionTime) {
+    requestMetric.uncompressedBytes.addAndGet(uncompressedBytes);
+    requestMetric.compressedBytes.addAndGet(compressedBytes);
+    requestMetric.compressionTime.addAndGet(compressionTime);
+  }
+
   @Override
   public WebSocketMetric upgrade(HttpServerMetric requestMetric, ServerWebSocket serverWebSocket) {
     requests.remove(requestMetric);
@@ -101,11 +126,29 @@ public class FakeHttpServerMetrics extends FakeMetricsBase implements HttpServer
     webSockets.remove(serverWebSocketMetric.ws);
   }
 
+  @Override
+  public void frameCompressed(WebSocketMetric serverWebSocketMetric, long uncompressedBytes, long compressedBytes) {
+    serverWebSocketMetric.compressedFrames.incrementAndGet();
+    serverWebSocketMetric.uncompressedBytes.addAndGet(uncompressedBytes);
+    serverWebSocketMetric.compressedBytes.addAndGet(compressedBytes);
+  }
+
   @Override
   public SocketMetric connected(SocketAddress remoteAddress, String remoteName) {
     return new SocketMetric(remoteAddress, remoteName);
   }
 
+  @Override
+  public void connectionRejected(SocketAddress remoteAddress) {
+    rejectedConnections.incrementAndGet();
+  }
+
+  @Override
+  public void tlsHandshake(SocketAddress remoteAddress, boolean resumed, long handshakeTime) {
+    (resumed ? resumedHandshakes : fullHandshakes).incrementAndGet();
+    this.handshakeTime.addAndGet(handshakeTime);
+  }
+
   @Override
   public void disconnected(SocketMetric socketMetric, SocketAddress remoteAddress) {
     socketMetric.connected.set(false);
@@ -20,6 +20,7 @@ import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -31,6 +32,9 @@ public class HttpServerMetric {
   public final SocketMetric socket;
   public final AtomicBoolean failed = new AtomicBoolean();
   public final AtomicReference<HttpServerResponse> response = new AtomicReference<>();
+  public final AtomicLong uncompressedBytes = new AtomicLong();
+  public final AtomicLong compressedBytes = new AtomicLong();
+  public final AtomicLong compressionTime = new AtomicLong();
 
   public HttpServerMetric(HttpServerRequest request, SocketMetric socket) {
     this.request = request;
@@ -18,6 +18,8 @@ package io.vertx.test.fakemetrics;
 
 import io.vertx.core.http.WebSocketBase;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -25,6 +27,9 @@ public class WebSocketMetric {
 
   public final SocketMetric soMetric;
   public final WebSocketBase ws;
+  public final AtomicLong compressedFrames = new AtomicLong();
+  public final AtomicLong uncompressedBytes = new AtomicLong();
+  public final AtomicLong compressedBytes = new AtomicLong();
 
   public WebSocketMetric(SocketMetric soMetric, WebSocketBase ws) {
     this.soMetric = soMetric;